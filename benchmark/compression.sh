@@ -0,0 +1,68 @@
+#!/bin/sh
+#Compares response compression per end point and media type: bytes of body as is and gzipped,
+#and CPU time of application per request without and with Accept-Encoding: gzip.
+#Start application on Linux and run against it:
+#
+#  APP_PID=$(pgrep -f news_app.jar) benchmark/compression.sh
+#
+#Needs wrk (https://github.com/wg/wrk) and curl. CPU time is read from /proc of application process,
+#so client must not run inside application process namespace with other load.
+#Bodies below server.compression.min-response-size are never compressed, their gzip columns equal identity ones.
+set -e
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+BENCH_USER=${BENCH_USER:-admin}
+BENCH_PASSWORD=${BENCH_PASSWORD:-admin}
+CONNECTIONS=${CONNECTIONS:-32}
+WRK_THREADS=${WRK_THREADS:-4}
+DURATION=${DURATION:-20s}
+ENDPOINTS=${ENDPOINTS:-"
+/api/news?page=0&size=100 application/x-protobuf
+/api/news?page=0&size=100 application/json
+/api/news/1 application/x-protobuf
+/api/news/1 application/json
+/api/comment?page=0&size=100 application/x-protobuf
+/api/comment?page=0&size=100 application/json
+/api/user application/x-protobuf
+/api/user/1 application/x-protobuf
+"}
+
+if [ -z "$APP_PID" ]; then
+    echo "APP_PID of application is required" >&2
+    exit 1
+fi
+
+AUTH="Authorization: Basic $(printf '%s:%s' "$BENCH_USER" "$BENCH_PASSWORD" | base64)"
+TICKS=$(getconf CLK_TCK)
+WRK_OUT=$(mktemp)
+trap 'rm -f "$WRK_OUT"' EXIT
+
+#User and system CPU time of application in clock ticks
+cpu_ticks() {
+    awk '{ print $14 + $15 }' "/proc/$APP_PID/stat"
+}
+
+body_bytes() {
+    curl -s -o /dev/null -w '%{size_download}' -H "$AUTH" -H "Accept: $2" ${3:+-H "Accept-Encoding: $3"} "$BASE_URL$1"
+}
+
+#Prints CPU microseconds of application per request
+cpu_per_request() {
+    BEFORE=$(cpu_ticks)
+    wrk -t"$WRK_THREADS" -c"$CONNECTIONS" -d"$DURATION" -H "$AUTH" -H "Accept: $2" \
+        ${3:+-H "Accept-Encoding: $3"} "$BASE_URL$1" > "$WRK_OUT"
+    AFTER=$(cpu_ticks)
+    REQUESTS=$(sed -n 's/^ *\([0-9]*\) requests in.*/\1/p' "$WRK_OUT")
+    awk -v t="$((AFTER - BEFORE))" -v hz="$TICKS" -v n="$REQUESTS" 'BEGIN { printf "%.0f", t * 1000000 / hz / n }'
+}
+
+echo "end_point media_type identity_bytes gzip_bytes ratio identity_cpu_us gzip_cpu_us"
+echo "$ENDPOINTS" | while read -r ENDPOINT MEDIA_TYPE; do
+    [ -z "$ENDPOINT" ] && continue
+    IDENTITY=$(body_bytes "$ENDPOINT" "$MEDIA_TYPE")
+    GZIP=$(body_bytes "$ENDPOINT" "$MEDIA_TYPE" gzip)
+    RATIO=$(awk -v i="$IDENTITY" -v g="$GZIP" 'BEGIN { printf "%.2f", g > 0 ? i / g : 0 }')
+    IDENTITY_CPU=$(cpu_per_request "$ENDPOINT" "$MEDIA_TYPE")
+    GZIP_CPU=$(cpu_per_request "$ENDPOINT" "$MEDIA_TYPE" gzip)
+    echo "$ENDPOINT $MEDIA_TYPE $IDENTITY $GZIP $RATIO $IDENTITY_CPU $GZIP_CPU"
+done
@@ -0,0 +1,77 @@
+#!/bin/sh
+#Compares request execution on platform threads and on virtual threads at many concurrent connections.
+#Start application on Java 21+ once with default profile and once with profile virtual-threads,
+#with the same connection limits and pool size, so only thread mode differs between runs:
+#
+#  java -jar news_app.jar --server.tomcat.max-connections=20000 --server.tomcat.accept-count=1000 \
+#      --spring.datasource.hikari.maximum-pool-size=20
+#  java -jar news_app.jar --spring.profiles.active=virtual-threads --server.tomcat.max-connections=20000 \
+#      --server.tomcat.accept-count=1000 --spring.datasource.hikari.maximum-pool-size=20
+#
+#run this script against each start and compare printed lines:
+#
+#  APP_PID=$(pgrep -f news_app.jar) benchmark/thread-modes.sh platform
+#  APP_PID=$(pgrep -f news_app.jar) benchmark/thread-modes.sh virtual
+#
+#Needs wrk (https://github.com/wg/wrk) and curl, open files limit of both sides must exceed count of connections.
+#Credentials are checked once, load is sent with session cookie, so BCrypt of Basic authentication
+#is not measured instead of thread mode.
+#Memory is peak resident set of application process (with thread stacks), heap is peak used heap by actuator.
+set -e
+
+LABEL=${1:-run}
+BASE_URL=${BASE_URL:-http://localhost:8080}
+BENCH_USER=${BENCH_USER:-admin}
+BENCH_PASSWORD=${BENCH_PASSWORD:-admin}
+CONNECTIONS=${CONNECTIONS:-10000}
+WRK_THREADS=${WRK_THREADS:-16}
+DURATION=${DURATION:-60s}
+ENDPOINT=${ENDPOINT:-/api/news?page=0&size=10}
+
+AUTH="Authorization: Basic $(printf '%s:%s' "$BENCH_USER" "$BENCH_PASSWORD" | base64)"
+SAMPLES=$(mktemp)
+trap 'rm -f "$SAMPLES" "$SAMPLES.wrk"' EXIT
+
+SESSION=$(curl -s -o /dev/null -c - -H "$AUTH" "$BASE_URL$ENDPOINT" | awk '$6 == "JSESSIONID" { print $7 }')
+if [ -z "$SESSION" ]; then
+    echo "no session cookie returned for $BENCH_USER, check credentials" >&2
+    exit 1
+fi
+COOKIE="Cookie: JSESSIONID=$SESSION"
+
+metric() {
+    curl -s -H "$COOKIE" "$BASE_URL/actuator/metrics/$1" \
+        | sed -n 's/.*"statistic":"VALUE","value":\([0-9.E+-]*\).*/\1/p'
+}
+
+rss() {
+    if [ -n "$APP_PID" ]; then
+        ps -o rss= -p "$APP_PID" | tr -d ' '
+    else
+        echo 0
+    fi
+}
+
+#Samples are taken every second while load runs
+(
+    while true; do
+        echo "$(metric jvm.threads.live) $(rss) $(metric 'jvm.memory.used?tag=area:heap')" >> "$SAMPLES"
+        sleep 1
+    done
+) &
+SAMPLER=$!
+
+wrk -t"$WRK_THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency -H "$COOKIE" "$BASE_URL$ENDPOINT" > "$SAMPLES.wrk"
+kill "$SAMPLER"
+
+RPS=$(sed -n 's/^Requests\/sec: *\([0-9.]*\).*/\1/p' "$SAMPLES.wrk")
+P99=$(sed -n 's/^ *99% *\([0-9.a-z]*\).*/\1/p' "$SAMPLES.wrk")
+ERRORS=$(sed -n 's/^ *Socket errors: \(.*\)/\1/p' "$SAMPLES.wrk")
+PEAKS=$(awk '{ if ($1 > t) t = $1; if ($2 > r) r = $2; if ($3 > h) h = $3 }
+    END { printf "%d %d %d", t, r / 1024, h / 1048576 }' "$SAMPLES")
+
+echo "mode connections requests/sec p99 peak_threads peak_rss_mb peak_heap_mb"
+echo "$LABEL $CONNECTIONS $RPS $P99 $PEAKS"
+if [ -n "$ERRORS" ]; then
+    echo "socket errors: $ERRORS"
+fi
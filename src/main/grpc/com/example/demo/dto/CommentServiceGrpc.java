@@ -0,0 +1,475 @@
+package com.example.demo.dto;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.41.0)",
+    comments = "Source: Rpc.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class CommentServiceGrpc {
+
+  private CommentServiceGrpc() {}
+
+  public static final String SERVICE_NAME = "proto.CommentService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdRequest,
+      com.example.demo.dto.CommentProto.CommentDto> getGetCommentMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetComment",
+      requestType = com.example.demo.dto.RpcProto.IdRequest.class,
+      responseType = com.example.demo.dto.CommentProto.CommentDto.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdRequest,
+      com.example.demo.dto.CommentProto.CommentDto> getGetCommentMethod() {
+    io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdRequest, com.example.demo.dto.CommentProto.CommentDto> getGetCommentMethod;
+    if ((getGetCommentMethod = CommentServiceGrpc.getGetCommentMethod) == null) {
+      synchronized (CommentServiceGrpc.class) {
+        if ((getGetCommentMethod = CommentServiceGrpc.getGetCommentMethod) == null) {
+          CommentServiceGrpc.getGetCommentMethod = getGetCommentMethod =
+              io.grpc.MethodDescriptor.<com.example.demo.dto.RpcProto.IdRequest, com.example.demo.dto.CommentProto.CommentDto>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "GetComment"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.RpcProto.IdRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.CommentProto.CommentDto.getDefaultInstance()))
+              .setSchemaDescriptor(new CommentServiceMethodDescriptorSupplier("GetComment"))
+              .build();
+        }
+      }
+    }
+    return getGetCommentMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdsRequest,
+      com.example.demo.dto.CommentProto.CommentSimpleDtoList> getGetCommentsByIdsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetCommentsByIds",
+      requestType = com.example.demo.dto.RpcProto.IdsRequest.class,
+      responseType = com.example.demo.dto.CommentProto.CommentSimpleDtoList.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdsRequest,
+      com.example.demo.dto.CommentProto.CommentSimpleDtoList> getGetCommentsByIdsMethod() {
+    io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdsRequest, com.example.demo.dto.CommentProto.CommentSimpleDtoList> getGetCommentsByIdsMethod;
+    if ((getGetCommentsByIdsMethod = CommentServiceGrpc.getGetCommentsByIdsMethod) == null) {
+      synchronized (CommentServiceGrpc.class) {
+        if ((getGetCommentsByIdsMethod = CommentServiceGrpc.getGetCommentsByIdsMethod) == null) {
+          CommentServiceGrpc.getGetCommentsByIdsMethod = getGetCommentsByIdsMethod =
+              io.grpc.MethodDescriptor.<com.example.demo.dto.RpcProto.IdsRequest, com.example.demo.dto.CommentProto.CommentSimpleDtoList>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "GetCommentsByIds"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.RpcProto.IdsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.CommentProto.CommentSimpleDtoList.getDefaultInstance()))
+              .setSchemaDescriptor(new CommentServiceMethodDescriptorSupplier("GetCommentsByIds"))
+              .build();
+        }
+      }
+    }
+    return getGetCommentsByIdsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.NewsCommentsRequest,
+      com.example.demo.dto.CommentProto.CommentSimpleDto> getListCommentsOfNewsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ListCommentsOfNews",
+      requestType = com.example.demo.dto.RpcProto.NewsCommentsRequest.class,
+      responseType = com.example.demo.dto.CommentProto.CommentSimpleDto.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.NewsCommentsRequest,
+      com.example.demo.dto.CommentProto.CommentSimpleDto> getListCommentsOfNewsMethod() {
+    io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.NewsCommentsRequest, com.example.demo.dto.CommentProto.CommentSimpleDto> getListCommentsOfNewsMethod;
+    if ((getListCommentsOfNewsMethod = CommentServiceGrpc.getListCommentsOfNewsMethod) == null) {
+      synchronized (CommentServiceGrpc.class) {
+        if ((getListCommentsOfNewsMethod = CommentServiceGrpc.getListCommentsOfNewsMethod) == null) {
+          CommentServiceGrpc.getListCommentsOfNewsMethod = getListCommentsOfNewsMethod =
+              io.grpc.MethodDescriptor.<com.example.demo.dto.RpcProto.NewsCommentsRequest, com.example.demo.dto.CommentProto.CommentSimpleDto>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ListCommentsOfNews"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.RpcProto.NewsCommentsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.CommentProto.CommentSimpleDto.getDefaultInstance()))
+              .setSchemaDescriptor(new CommentServiceMethodDescriptorSupplier("ListCommentsOfNews"))
+              .build();
+        }
+      }
+    }
+    return getListCommentsOfNewsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.example.demo.dto.CommentProto.CommentSimpleDto,
+      com.example.demo.dto.CommentProto.CommentBatchResult> getIngestCommentsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "IngestComments",
+      requestType = com.example.demo.dto.CommentProto.CommentSimpleDto.class,
+      responseType = com.example.demo.dto.CommentProto.CommentBatchResult.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+  public static io.grpc.MethodDescriptor<com.example.demo.dto.CommentProto.CommentSimpleDto,
+      com.example.demo.dto.CommentProto.CommentBatchResult> getIngestCommentsMethod() {
+    io.grpc.MethodDescriptor<com.example.demo.dto.CommentProto.CommentSimpleDto, com.example.demo.dto.CommentProto.CommentBatchResult> getIngestCommentsMethod;
+    if ((getIngestCommentsMethod = CommentServiceGrpc.getIngestCommentsMethod) == null) {
+      synchronized (CommentServiceGrpc.class) {
+        if ((getIngestCommentsMethod = CommentServiceGrpc.getIngestCommentsMethod) == null) {
+          CommentServiceGrpc.getIngestCommentsMethod = getIngestCommentsMethod =
+              io.grpc.MethodDescriptor.<com.example.demo.dto.CommentProto.CommentSimpleDto, com.example.demo.dto.CommentProto.CommentBatchResult>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "IngestComments"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.CommentProto.CommentSimpleDto.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.CommentProto.CommentBatchResult.getDefaultInstance()))
+              .setSchemaDescriptor(new CommentServiceMethodDescriptorSupplier("IngestComments"))
+              .build();
+        }
+      }
+    }
+    return getIngestCommentsMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static CommentServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<CommentServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<CommentServiceStub>() {
+        @java.lang.Override
+        public CommentServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new CommentServiceStub(channel, callOptions);
+        }
+      };
+    return CommentServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static CommentServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<CommentServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<CommentServiceBlockingStub>() {
+        @java.lang.Override
+        public CommentServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new CommentServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return CommentServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static CommentServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<CommentServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<CommentServiceFutureStub>() {
+        @java.lang.Override
+        public CommentServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new CommentServiceFutureStub(channel, callOptions);
+        }
+      };
+    return CommentServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class CommentServiceImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void getComment(com.example.demo.dto.RpcProto.IdRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.CommentProto.CommentDto> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetCommentMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getCommentsByIds(com.example.demo.dto.RpcProto.IdsRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.CommentProto.CommentSimpleDtoList> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetCommentsByIdsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void listCommentsOfNews(com.example.demo.dto.RpcProto.NewsCommentsRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.CommentProto.CommentSimpleDto> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListCommentsOfNewsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<com.example.demo.dto.CommentProto.CommentSimpleDto> ingestComments(
+        io.grpc.stub.StreamObserver<com.example.demo.dto.CommentProto.CommentBatchResult> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getIngestCommentsMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getGetCommentMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.example.demo.dto.RpcProto.IdRequest,
+                com.example.demo.dto.CommentProto.CommentDto>(
+                  this, METHODID_GET_COMMENT)))
+          .addMethod(
+            getGetCommentsByIdsMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.example.demo.dto.RpcProto.IdsRequest,
+                com.example.demo.dto.CommentProto.CommentSimpleDtoList>(
+                  this, METHODID_GET_COMMENTS_BY_IDS)))
+          .addMethod(
+            getListCommentsOfNewsMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.example.demo.dto.RpcProto.NewsCommentsRequest,
+                com.example.demo.dto.CommentProto.CommentSimpleDto>(
+                  this, METHODID_LIST_COMMENTS_OF_NEWS)))
+          .addMethod(
+            getIngestCommentsMethod(),
+            io.grpc.stub.ServerCalls.asyncClientStreamingCall(
+              new MethodHandlers<
+                com.example.demo.dto.CommentProto.CommentSimpleDto,
+                com.example.demo.dto.CommentProto.CommentBatchResult>(
+                  this, METHODID_INGEST_COMMENTS)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class CommentServiceStub extends io.grpc.stub.AbstractAsyncStub<CommentServiceStub> {
+    private CommentServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected CommentServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new CommentServiceStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void getComment(com.example.demo.dto.RpcProto.IdRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.CommentProto.CommentDto> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetCommentMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getCommentsByIds(com.example.demo.dto.RpcProto.IdsRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.CommentProto.CommentSimpleDtoList> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetCommentsByIdsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void listCommentsOfNews(com.example.demo.dto.RpcProto.NewsCommentsRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.CommentProto.CommentSimpleDto> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getListCommentsOfNewsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<com.example.demo.dto.CommentProto.CommentSimpleDto> ingestComments(
+        io.grpc.stub.StreamObserver<com.example.demo.dto.CommentProto.CommentBatchResult> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncClientStreamingCall(
+          getChannel().newCall(getIngestCommentsMethod(), getCallOptions()), responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class CommentServiceBlockingStub extends io.grpc.stub.AbstractBlockingStub<CommentServiceBlockingStub> {
+    private CommentServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected CommentServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new CommentServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.example.demo.dto.CommentProto.CommentDto getComment(com.example.demo.dto.RpcProto.IdRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetCommentMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.example.demo.dto.CommentProto.CommentSimpleDtoList getCommentsByIds(com.example.demo.dto.RpcProto.IdsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetCommentsByIdsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.example.demo.dto.CommentProto.CommentSimpleDto> listCommentsOfNews(
+        com.example.demo.dto.RpcProto.NewsCommentsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getListCommentsOfNewsMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class CommentServiceFutureStub extends io.grpc.stub.AbstractFutureStub<CommentServiceFutureStub> {
+    private CommentServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected CommentServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new CommentServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.example.demo.dto.CommentProto.CommentDto> getComment(
+        com.example.demo.dto.RpcProto.IdRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetCommentMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.example.demo.dto.CommentProto.CommentSimpleDtoList> getCommentsByIds(
+        com.example.demo.dto.RpcProto.IdsRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetCommentsByIdsMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_GET_COMMENT = 0;
+  private static final int METHODID_GET_COMMENTS_BY_IDS = 1;
+  private static final int METHODID_LIST_COMMENTS_OF_NEWS = 2;
+  private static final int METHODID_INGEST_COMMENTS = 3;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final CommentServiceImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(CommentServiceImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_GET_COMMENT:
+          serviceImpl.getComment((com.example.demo.dto.RpcProto.IdRequest) request,
+              (io.grpc.stub.StreamObserver<com.example.demo.dto.CommentProto.CommentDto>) responseObserver);
+          break;
+        case METHODID_GET_COMMENTS_BY_IDS:
+          serviceImpl.getCommentsByIds((com.example.demo.dto.RpcProto.IdsRequest) request,
+              (io.grpc.stub.StreamObserver<com.example.demo.dto.CommentProto.CommentSimpleDtoList>) responseObserver);
+          break;
+        case METHODID_LIST_COMMENTS_OF_NEWS:
+          serviceImpl.listCommentsOfNews((com.example.demo.dto.RpcProto.NewsCommentsRequest) request,
+              (io.grpc.stub.StreamObserver<com.example.demo.dto.CommentProto.CommentSimpleDto>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_INGEST_COMMENTS:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.ingestComments(
+              (io.grpc.stub.StreamObserver<com.example.demo.dto.CommentProto.CommentBatchResult>) responseObserver);
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class CommentServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    CommentServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.example.demo.dto.RpcProto.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("CommentService");
+    }
+  }
+
+  private static final class CommentServiceFileDescriptorSupplier
+      extends CommentServiceBaseDescriptorSupplier {
+    CommentServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class CommentServiceMethodDescriptorSupplier
+      extends CommentServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    CommentServiceMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (CommentServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new CommentServiceFileDescriptorSupplier())
+              .addMethod(getGetCommentMethod())
+              .addMethod(getGetCommentsByIdsMethod())
+              .addMethod(getListCommentsOfNewsMethod())
+              .addMethod(getIngestCommentsMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
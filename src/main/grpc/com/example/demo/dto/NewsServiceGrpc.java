@@ -0,0 +1,491 @@
+package com.example.demo.dto;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.41.0)",
+    comments = "Source: Rpc.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class NewsServiceGrpc {
+
+  private NewsServiceGrpc() {}
+
+  public static final String SERVICE_NAME = "proto.NewsService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdRequest,
+      com.example.demo.dto.NewsProto.NewsDto> getGetNewsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetNews",
+      requestType = com.example.demo.dto.RpcProto.IdRequest.class,
+      responseType = com.example.demo.dto.NewsProto.NewsDto.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdRequest,
+      com.example.demo.dto.NewsProto.NewsDto> getGetNewsMethod() {
+    io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdRequest, com.example.demo.dto.NewsProto.NewsDto> getGetNewsMethod;
+    if ((getGetNewsMethod = NewsServiceGrpc.getGetNewsMethod) == null) {
+      synchronized (NewsServiceGrpc.class) {
+        if ((getGetNewsMethod = NewsServiceGrpc.getGetNewsMethod) == null) {
+          NewsServiceGrpc.getGetNewsMethod = getGetNewsMethod =
+              io.grpc.MethodDescriptor.<com.example.demo.dto.RpcProto.IdRequest, com.example.demo.dto.NewsProto.NewsDto>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "GetNews"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.RpcProto.IdRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.NewsProto.NewsDto.getDefaultInstance()))
+              .setSchemaDescriptor(new NewsServiceMethodDescriptorSupplier("GetNews"))
+              .build();
+        }
+      }
+    }
+    return getGetNewsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdsRequest,
+      com.example.demo.dto.NewsProto.NewsSimpleDtoList> getGetNewsByIdsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetNewsByIds",
+      requestType = com.example.demo.dto.RpcProto.IdsRequest.class,
+      responseType = com.example.demo.dto.NewsProto.NewsSimpleDtoList.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdsRequest,
+      com.example.demo.dto.NewsProto.NewsSimpleDtoList> getGetNewsByIdsMethod() {
+    io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdsRequest, com.example.demo.dto.NewsProto.NewsSimpleDtoList> getGetNewsByIdsMethod;
+    if ((getGetNewsByIdsMethod = NewsServiceGrpc.getGetNewsByIdsMethod) == null) {
+      synchronized (NewsServiceGrpc.class) {
+        if ((getGetNewsByIdsMethod = NewsServiceGrpc.getGetNewsByIdsMethod) == null) {
+          NewsServiceGrpc.getGetNewsByIdsMethod = getGetNewsByIdsMethod =
+              io.grpc.MethodDescriptor.<com.example.demo.dto.RpcProto.IdsRequest, com.example.demo.dto.NewsProto.NewsSimpleDtoList>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "GetNewsByIds"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.RpcProto.IdsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.NewsProto.NewsSimpleDtoList.getDefaultInstance()))
+              .setSchemaDescriptor(new NewsServiceMethodDescriptorSupplier("GetNewsByIds"))
+              .build();
+        }
+      }
+    }
+    return getGetNewsByIdsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.ListRequest,
+      com.example.demo.dto.NewsProto.NewsSimpleDto> getListNewsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ListNews",
+      requestType = com.example.demo.dto.RpcProto.ListRequest.class,
+      responseType = com.example.demo.dto.NewsProto.NewsSimpleDto.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.ListRequest,
+      com.example.demo.dto.NewsProto.NewsSimpleDto> getListNewsMethod() {
+    io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.ListRequest, com.example.demo.dto.NewsProto.NewsSimpleDto> getListNewsMethod;
+    if ((getListNewsMethod = NewsServiceGrpc.getListNewsMethod) == null) {
+      synchronized (NewsServiceGrpc.class) {
+        if ((getListNewsMethod = NewsServiceGrpc.getListNewsMethod) == null) {
+          NewsServiceGrpc.getListNewsMethod = getListNewsMethod =
+              io.grpc.MethodDescriptor.<com.example.demo.dto.RpcProto.ListRequest, com.example.demo.dto.NewsProto.NewsSimpleDto>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ListNews"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.RpcProto.ListRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.NewsProto.NewsSimpleDto.getDefaultInstance()))
+              .setSchemaDescriptor(new NewsServiceMethodDescriptorSupplier("ListNews"))
+              .build();
+        }
+      }
+    }
+    return getListNewsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.ChangesRequest,
+      com.example.demo.dto.NewsProto.NewsChanges> getGetChangesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetChanges",
+      requestType = com.example.demo.dto.RpcProto.ChangesRequest.class,
+      responseType = com.example.demo.dto.NewsProto.NewsChanges.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.ChangesRequest,
+      com.example.demo.dto.NewsProto.NewsChanges> getGetChangesMethod() {
+    io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.ChangesRequest, com.example.demo.dto.NewsProto.NewsChanges> getGetChangesMethod;
+    if ((getGetChangesMethod = NewsServiceGrpc.getGetChangesMethod) == null) {
+      synchronized (NewsServiceGrpc.class) {
+        if ((getGetChangesMethod = NewsServiceGrpc.getGetChangesMethod) == null) {
+          NewsServiceGrpc.getGetChangesMethod = getGetChangesMethod =
+              io.grpc.MethodDescriptor.<com.example.demo.dto.RpcProto.ChangesRequest, com.example.demo.dto.NewsProto.NewsChanges>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "GetChanges"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.RpcProto.ChangesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.NewsProto.NewsChanges.getDefaultInstance()))
+              .setSchemaDescriptor(new NewsServiceMethodDescriptorSupplier("GetChanges"))
+              .build();
+        }
+      }
+    }
+    return getGetChangesMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static NewsServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<NewsServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<NewsServiceStub>() {
+        @java.lang.Override
+        public NewsServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new NewsServiceStub(channel, callOptions);
+        }
+      };
+    return NewsServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static NewsServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<NewsServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<NewsServiceBlockingStub>() {
+        @java.lang.Override
+        public NewsServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new NewsServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return NewsServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static NewsServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<NewsServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<NewsServiceFutureStub>() {
+        @java.lang.Override
+        public NewsServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new NewsServiceFutureStub(channel, callOptions);
+        }
+      };
+    return NewsServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class NewsServiceImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void getNews(com.example.demo.dto.RpcProto.IdRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.NewsProto.NewsDto> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetNewsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getNewsByIds(com.example.demo.dto.RpcProto.IdsRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.NewsProto.NewsSimpleDtoList> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetNewsByIdsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void listNews(com.example.demo.dto.RpcProto.ListRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.NewsProto.NewsSimpleDto> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListNewsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getChanges(com.example.demo.dto.RpcProto.ChangesRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.NewsProto.NewsChanges> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetChangesMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getGetNewsMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.example.demo.dto.RpcProto.IdRequest,
+                com.example.demo.dto.NewsProto.NewsDto>(
+                  this, METHODID_GET_NEWS)))
+          .addMethod(
+            getGetNewsByIdsMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.example.demo.dto.RpcProto.IdsRequest,
+                com.example.demo.dto.NewsProto.NewsSimpleDtoList>(
+                  this, METHODID_GET_NEWS_BY_IDS)))
+          .addMethod(
+            getListNewsMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.example.demo.dto.RpcProto.ListRequest,
+                com.example.demo.dto.NewsProto.NewsSimpleDto>(
+                  this, METHODID_LIST_NEWS)))
+          .addMethod(
+            getGetChangesMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.example.demo.dto.RpcProto.ChangesRequest,
+                com.example.demo.dto.NewsProto.NewsChanges>(
+                  this, METHODID_GET_CHANGES)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class NewsServiceStub extends io.grpc.stub.AbstractAsyncStub<NewsServiceStub> {
+    private NewsServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected NewsServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new NewsServiceStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void getNews(com.example.demo.dto.RpcProto.IdRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.NewsProto.NewsDto> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetNewsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getNewsByIds(com.example.demo.dto.RpcProto.IdsRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.NewsProto.NewsSimpleDtoList> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetNewsByIdsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void listNews(com.example.demo.dto.RpcProto.ListRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.NewsProto.NewsSimpleDto> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getListNewsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getChanges(com.example.demo.dto.RpcProto.ChangesRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.NewsProto.NewsChanges> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetChangesMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class NewsServiceBlockingStub extends io.grpc.stub.AbstractBlockingStub<NewsServiceBlockingStub> {
+    private NewsServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected NewsServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new NewsServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.example.demo.dto.NewsProto.NewsDto getNews(com.example.demo.dto.RpcProto.IdRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetNewsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.example.demo.dto.NewsProto.NewsSimpleDtoList getNewsByIds(com.example.demo.dto.RpcProto.IdsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetNewsByIdsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.example.demo.dto.NewsProto.NewsSimpleDto> listNews(
+        com.example.demo.dto.RpcProto.ListRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getListNewsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.example.demo.dto.NewsProto.NewsChanges getChanges(com.example.demo.dto.RpcProto.ChangesRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetChangesMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class NewsServiceFutureStub extends io.grpc.stub.AbstractFutureStub<NewsServiceFutureStub> {
+    private NewsServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected NewsServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new NewsServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.example.demo.dto.NewsProto.NewsDto> getNews(
+        com.example.demo.dto.RpcProto.IdRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetNewsMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.example.demo.dto.NewsProto.NewsSimpleDtoList> getNewsByIds(
+        com.example.demo.dto.RpcProto.IdsRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetNewsByIdsMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.example.demo.dto.NewsProto.NewsChanges> getChanges(
+        com.example.demo.dto.RpcProto.ChangesRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetChangesMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_GET_NEWS = 0;
+  private static final int METHODID_GET_NEWS_BY_IDS = 1;
+  private static final int METHODID_LIST_NEWS = 2;
+  private static final int METHODID_GET_CHANGES = 3;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final NewsServiceImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(NewsServiceImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_GET_NEWS:
+          serviceImpl.getNews((com.example.demo.dto.RpcProto.IdRequest) request,
+              (io.grpc.stub.StreamObserver<com.example.demo.dto.NewsProto.NewsDto>) responseObserver);
+          break;
+        case METHODID_GET_NEWS_BY_IDS:
+          serviceImpl.getNewsByIds((com.example.demo.dto.RpcProto.IdsRequest) request,
+              (io.grpc.stub.StreamObserver<com.example.demo.dto.NewsProto.NewsSimpleDtoList>) responseObserver);
+          break;
+        case METHODID_LIST_NEWS:
+          serviceImpl.listNews((com.example.demo.dto.RpcProto.ListRequest) request,
+              (io.grpc.stub.StreamObserver<com.example.demo.dto.NewsProto.NewsSimpleDto>) responseObserver);
+          break;
+        case METHODID_GET_CHANGES:
+          serviceImpl.getChanges((com.example.demo.dto.RpcProto.ChangesRequest) request,
+              (io.grpc.stub.StreamObserver<com.example.demo.dto.NewsProto.NewsChanges>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class NewsServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    NewsServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.example.demo.dto.RpcProto.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("NewsService");
+    }
+  }
+
+  private static final class NewsServiceFileDescriptorSupplier
+      extends NewsServiceBaseDescriptorSupplier {
+    NewsServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class NewsServiceMethodDescriptorSupplier
+      extends NewsServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    NewsServiceMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (NewsServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new NewsServiceFileDescriptorSupplier())
+              .addMethod(getGetNewsMethod())
+              .addMethod(getGetNewsByIdsMethod())
+              .addMethod(getListNewsMethod())
+              .addMethod(getGetChangesMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
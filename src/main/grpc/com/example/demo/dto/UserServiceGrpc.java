@@ -0,0 +1,484 @@
+package com.example.demo.dto;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.41.0)",
+    comments = "Source: Rpc.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class UserServiceGrpc {
+
+  private UserServiceGrpc() {}
+
+  public static final String SERVICE_NAME = "proto.UserService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdRequest,
+      com.example.demo.dto.UserProto.UserDto> getGetUserMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetUser",
+      requestType = com.example.demo.dto.RpcProto.IdRequest.class,
+      responseType = com.example.demo.dto.UserProto.UserDto.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdRequest,
+      com.example.demo.dto.UserProto.UserDto> getGetUserMethod() {
+    io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdRequest, com.example.demo.dto.UserProto.UserDto> getGetUserMethod;
+    if ((getGetUserMethod = UserServiceGrpc.getGetUserMethod) == null) {
+      synchronized (UserServiceGrpc.class) {
+        if ((getGetUserMethod = UserServiceGrpc.getGetUserMethod) == null) {
+          UserServiceGrpc.getGetUserMethod = getGetUserMethod =
+              io.grpc.MethodDescriptor.<com.example.demo.dto.RpcProto.IdRequest, com.example.demo.dto.UserProto.UserDto>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "GetUser"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.RpcProto.IdRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.UserProto.UserDto.getDefaultInstance()))
+              .setSchemaDescriptor(new UserServiceMethodDescriptorSupplier("GetUser"))
+              .build();
+        }
+      }
+    }
+    return getGetUserMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdsRequest,
+      com.example.demo.dto.UserProto.UserSimpleDtoList> getGetUsersByIdsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetUsersByIds",
+      requestType = com.example.demo.dto.RpcProto.IdsRequest.class,
+      responseType = com.example.demo.dto.UserProto.UserSimpleDtoList.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdsRequest,
+      com.example.demo.dto.UserProto.UserSimpleDtoList> getGetUsersByIdsMethod() {
+    io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.IdsRequest, com.example.demo.dto.UserProto.UserSimpleDtoList> getGetUsersByIdsMethod;
+    if ((getGetUsersByIdsMethod = UserServiceGrpc.getGetUsersByIdsMethod) == null) {
+      synchronized (UserServiceGrpc.class) {
+        if ((getGetUsersByIdsMethod = UserServiceGrpc.getGetUsersByIdsMethod) == null) {
+          UserServiceGrpc.getGetUsersByIdsMethod = getGetUsersByIdsMethod =
+              io.grpc.MethodDescriptor.<com.example.demo.dto.RpcProto.IdsRequest, com.example.demo.dto.UserProto.UserSimpleDtoList>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "GetUsersByIds"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.RpcProto.IdsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.UserProto.UserSimpleDtoList.getDefaultInstance()))
+              .setSchemaDescriptor(new UserServiceMethodDescriptorSupplier("GetUsersByIds"))
+              .build();
+        }
+      }
+    }
+    return getGetUsersByIdsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.ListRequest,
+      com.example.demo.dto.UserProto.UserSimpleDto> getListUsersMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ListUsers",
+      requestType = com.example.demo.dto.RpcProto.ListRequest.class,
+      responseType = com.example.demo.dto.UserProto.UserSimpleDto.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.ListRequest,
+      com.example.demo.dto.UserProto.UserSimpleDto> getListUsersMethod() {
+    io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.ListRequest, com.example.demo.dto.UserProto.UserSimpleDto> getListUsersMethod;
+    if ((getListUsersMethod = UserServiceGrpc.getListUsersMethod) == null) {
+      synchronized (UserServiceGrpc.class) {
+        if ((getListUsersMethod = UserServiceGrpc.getListUsersMethod) == null) {
+          UserServiceGrpc.getListUsersMethod = getListUsersMethod =
+              io.grpc.MethodDescriptor.<com.example.demo.dto.RpcProto.ListRequest, com.example.demo.dto.UserProto.UserSimpleDto>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ListUsers"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.RpcProto.ListRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.UserProto.UserSimpleDto.getDefaultInstance()))
+              .setSchemaDescriptor(new UserServiceMethodDescriptorSupplier("ListUsers"))
+              .build();
+        }
+      }
+    }
+    return getListUsersMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.UserNewsRequest,
+      com.example.demo.dto.NewsProto.NewsSimpleDto> getListNewsOfUserMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ListNewsOfUser",
+      requestType = com.example.demo.dto.RpcProto.UserNewsRequest.class,
+      responseType = com.example.demo.dto.NewsProto.NewsSimpleDto.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.UserNewsRequest,
+      com.example.demo.dto.NewsProto.NewsSimpleDto> getListNewsOfUserMethod() {
+    io.grpc.MethodDescriptor<com.example.demo.dto.RpcProto.UserNewsRequest, com.example.demo.dto.NewsProto.NewsSimpleDto> getListNewsOfUserMethod;
+    if ((getListNewsOfUserMethod = UserServiceGrpc.getListNewsOfUserMethod) == null) {
+      synchronized (UserServiceGrpc.class) {
+        if ((getListNewsOfUserMethod = UserServiceGrpc.getListNewsOfUserMethod) == null) {
+          UserServiceGrpc.getListNewsOfUserMethod = getListNewsOfUserMethod =
+              io.grpc.MethodDescriptor.<com.example.demo.dto.RpcProto.UserNewsRequest, com.example.demo.dto.NewsProto.NewsSimpleDto>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ListNewsOfUser"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.RpcProto.UserNewsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.demo.dto.NewsProto.NewsSimpleDto.getDefaultInstance()))
+              .setSchemaDescriptor(new UserServiceMethodDescriptorSupplier("ListNewsOfUser"))
+              .build();
+        }
+      }
+    }
+    return getListNewsOfUserMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static UserServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<UserServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<UserServiceStub>() {
+        @java.lang.Override
+        public UserServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new UserServiceStub(channel, callOptions);
+        }
+      };
+    return UserServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static UserServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<UserServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<UserServiceBlockingStub>() {
+        @java.lang.Override
+        public UserServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new UserServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return UserServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static UserServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<UserServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<UserServiceFutureStub>() {
+        @java.lang.Override
+        public UserServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new UserServiceFutureStub(channel, callOptions);
+        }
+      };
+    return UserServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class UserServiceImplBase implements io.grpc.BindableService {
+
+    /**
+     */
+    public void getUser(com.example.demo.dto.RpcProto.IdRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.UserProto.UserDto> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetUserMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getUsersByIds(com.example.demo.dto.RpcProto.IdsRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.UserProto.UserSimpleDtoList> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetUsersByIdsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void listUsers(com.example.demo.dto.RpcProto.ListRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.UserProto.UserSimpleDto> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListUsersMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void listNewsOfUser(com.example.demo.dto.RpcProto.UserNewsRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.NewsProto.NewsSimpleDto> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListNewsOfUserMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getGetUserMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.example.demo.dto.RpcProto.IdRequest,
+                com.example.demo.dto.UserProto.UserDto>(
+                  this, METHODID_GET_USER)))
+          .addMethod(
+            getGetUsersByIdsMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                com.example.demo.dto.RpcProto.IdsRequest,
+                com.example.demo.dto.UserProto.UserSimpleDtoList>(
+                  this, METHODID_GET_USERS_BY_IDS)))
+          .addMethod(
+            getListUsersMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.example.demo.dto.RpcProto.ListRequest,
+                com.example.demo.dto.UserProto.UserSimpleDto>(
+                  this, METHODID_LIST_USERS)))
+          .addMethod(
+            getListNewsOfUserMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                com.example.demo.dto.RpcProto.UserNewsRequest,
+                com.example.demo.dto.NewsProto.NewsSimpleDto>(
+                  this, METHODID_LIST_NEWS_OF_USER)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class UserServiceStub extends io.grpc.stub.AbstractAsyncStub<UserServiceStub> {
+    private UserServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected UserServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new UserServiceStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void getUser(com.example.demo.dto.RpcProto.IdRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.UserProto.UserDto> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetUserMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getUsersByIds(com.example.demo.dto.RpcProto.IdsRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.UserProto.UserSimpleDtoList> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetUsersByIdsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void listUsers(com.example.demo.dto.RpcProto.ListRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.UserProto.UserSimpleDto> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getListUsersMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void listNewsOfUser(com.example.demo.dto.RpcProto.UserNewsRequest request,
+        io.grpc.stub.StreamObserver<com.example.demo.dto.NewsProto.NewsSimpleDto> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getListNewsOfUserMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class UserServiceBlockingStub extends io.grpc.stub.AbstractBlockingStub<UserServiceBlockingStub> {
+    private UserServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected UserServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new UserServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.example.demo.dto.UserProto.UserDto getUser(com.example.demo.dto.RpcProto.IdRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetUserMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public com.example.demo.dto.UserProto.UserSimpleDtoList getUsersByIds(com.example.demo.dto.RpcProto.IdsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetUsersByIdsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.example.demo.dto.UserProto.UserSimpleDto> listUsers(
+        com.example.demo.dto.RpcProto.ListRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getListUsersMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<com.example.demo.dto.NewsProto.NewsSimpleDto> listNewsOfUser(
+        com.example.demo.dto.RpcProto.UserNewsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getListNewsOfUserMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class UserServiceFutureStub extends io.grpc.stub.AbstractFutureStub<UserServiceFutureStub> {
+    private UserServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected UserServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new UserServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.example.demo.dto.UserProto.UserDto> getUser(
+        com.example.demo.dto.RpcProto.IdRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetUserMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.example.demo.dto.UserProto.UserSimpleDtoList> getUsersByIds(
+        com.example.demo.dto.RpcProto.IdsRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetUsersByIdsMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_GET_USER = 0;
+  private static final int METHODID_GET_USERS_BY_IDS = 1;
+  private static final int METHODID_LIST_USERS = 2;
+  private static final int METHODID_LIST_NEWS_OF_USER = 3;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final UserServiceImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(UserServiceImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_GET_USER:
+          serviceImpl.getUser((com.example.demo.dto.RpcProto.IdRequest) request,
+              (io.grpc.stub.StreamObserver<com.example.demo.dto.UserProto.UserDto>) responseObserver);
+          break;
+        case METHODID_GET_USERS_BY_IDS:
+          serviceImpl.getUsersByIds((com.example.demo.dto.RpcProto.IdsRequest) request,
+              (io.grpc.stub.StreamObserver<com.example.demo.dto.UserProto.UserSimpleDtoList>) responseObserver);
+          break;
+        case METHODID_LIST_USERS:
+          serviceImpl.listUsers((com.example.demo.dto.RpcProto.ListRequest) request,
+              (io.grpc.stub.StreamObserver<com.example.demo.dto.UserProto.UserSimpleDto>) responseObserver);
+          break;
+        case METHODID_LIST_NEWS_OF_USER:
+          serviceImpl.listNewsOfUser((com.example.demo.dto.RpcProto.UserNewsRequest) request,
+              (io.grpc.stub.StreamObserver<com.example.demo.dto.NewsProto.NewsSimpleDto>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class UserServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    UserServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.example.demo.dto.RpcProto.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("UserService");
+    }
+  }
+
+  private static final class UserServiceFileDescriptorSupplier
+      extends UserServiceBaseDescriptorSupplier {
+    UserServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class UserServiceMethodDescriptorSupplier
+      extends UserServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    UserServiceMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (UserServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new UserServiceFileDescriptorSupplier())
+              .addMethod(getGetUserMethod())
+              .addMethod(getGetUsersByIdsMethod())
+              .addMethod(getListUsersMethod())
+              .addMethod(getListNewsOfUserMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
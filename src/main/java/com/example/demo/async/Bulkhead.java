@@ -0,0 +1,104 @@
+package com.example.demo.async;
+
+import com.example.demo.config.BulkheadProperties;
+import com.example.demo.exception.request.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool, that executes one kind of expensive requests apart from servlet threads.
+ * Requests over threads and queue capacity are rejected at once, so expensive requests
+ * never take servlet threads and database connections, needed by cheap ones.
+ * Pool publishes {@code executor.*} metrics and counts of rejected and timed out requests with tag of it's name
+ */
+public class Bulkhead implements DisposableBean {
+    private final String name;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Duration timeout;
+
+    private final Counter rejected;
+
+    private final Counter timedOut;
+
+    public Bulkhead(String name, BulkheadProperties.Pool properties, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.timeout = properties.getTimeout();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(name + "-bulkhead-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()), threadFactory);
+
+        new ExecutorServiceMetrics(executor, name, Tags.empty()).bindTo(meterRegistry);
+        this.rejected = Counter.builder("app.bulkhead.rejected")
+                .tag("name", name)
+                .description("Requests, rejected because pool and it's queue were full")
+                .register(meterRegistry);
+        this.timedOut = Counter.builder("app.bulkhead.timeouts")
+                .tag("name", name)
+                .description("Requests, that were not completed in time")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Method which executes request in pool with security context of caller
+     *
+     * @param request request, it's exceptions are handled as exceptions of controller
+     * @param <T>     type of result
+     * @return {@link DeferredResult} of request, completed by {@link ServiceUnavailableException} after timeout
+     * @throws ServiceUnavailableException if pool and it's queue are full
+     */
+    public <T> DeferredResult<T> submit(Supplier<T> request) {
+        DeferredResult<T> result = new DeferredResult<>(timeout.toMillis());
+        Future<?> future;
+        try {
+            future = executor.submit(new DelegatingSecurityContextRunnable(() -> {
+                try {
+                    result.setResult(request.get());
+                } catch (RuntimeException e) {
+                    result.setErrorResult(e);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many " + name + " requests, try later");
+        }
+        result.onTimeout(() -> {
+            //Waiting request is dropped from queue, executed one is interrupted, but it's query is cancelled
+            //only by transaction timeout of request, see BulkheadConfig.SEARCH_TRANSACTION_TIMEOUT
+            timedOut.increment();
+            future.cancel(true);
+            result.setErrorResult(new ServiceUnavailableException("Timeout of " + name + " request"));
+        });
+        return result;
+    }
+
+    /**
+     * Method which returns time, after which request is answered by {@link ServiceUnavailableException}
+     *
+     * @return timeout of requests
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
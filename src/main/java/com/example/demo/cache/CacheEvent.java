@@ -0,0 +1,102 @@
+package com.example.demo.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Change of object, that could be cached by any node.
+ * Version is id of transaction, that made change, so later changes of object usually have greater version
+ */
+public final class CacheEvent {
+    /**
+     * Types of objects, which changes are published
+     */
+    public enum Entity {
+        NEWS, COMMENT, USER
+    }
+
+    private static final String SEPARATOR = ":";
+
+    private static final String ID_SEPARATOR = ",";
+
+    private final Entity entity;
+
+    private final Long id;
+
+    private final long version;
+
+    public CacheEvent(Entity entity, Long id, long version) {
+        this.entity = entity;
+        this.id = id;
+        this.version = version;
+    }
+
+    /**
+     * Encodes changes of objects of one type into compact payload without version,
+     * version is appended by data storage
+     *
+     * @param entity type of changed objects
+     * @param ids    ids of changed objects
+     * @return payload in format {@code NEWS:1,2,3}
+     */
+    public static String encode(Entity entity, Collection<Long> ids) {
+        return entity + SEPARATOR + ids.stream().map(String::valueOf).collect(Collectors.joining(ID_SEPARATOR));
+    }
+
+    /**
+     * Parses payload of notification
+     *
+     * @param payload payload in format {@code NEWS:1,2,3:version}
+     * @return {@link CacheEvent} for each id of payload
+     * @throws IllegalArgumentException when payload is malformed
+     */
+    public static List<CacheEvent> decode(String payload) {
+        String[] parts = payload.split(SEPARATOR);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed cache event '" + payload + "'");
+        }
+        Entity entity = Entity.valueOf(parts[0]);
+        long version = Long.parseLong(parts[2]);
+        List<CacheEvent> events = new ArrayList<>();
+        for (String id : parts[1].split(ID_SEPARATOR)) {
+            events.add(new CacheEvent(entity, Long.valueOf(id), version));
+        }
+        return events;
+    }
+
+    public Entity getEntity() {
+        return entity;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CacheEvent that = (CacheEvent) o;
+        return version == that.version && entity == that.entity && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * entity.hashCode() + id.hashCode()) + Long.hashCode(version);
+    }
+
+    @Override
+    public String toString() {
+        return entity + SEPARATOR + id + SEPARATOR + version;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.cache;
+
+import java.util.Collection;
+
+/**
+ * Local cache of node, that evicts objects changed on any node.
+ * All beans of this type receive events of {@link InvalidationBus}
+ */
+public interface CacheInvalidationListener {
+    /**
+     * Method which evicts changed objects
+     *
+     * @param events coalesced {@link CacheEvent}, at most one event for each object
+     */
+    void evict(Collection<CacheEvent> events);
+
+    /**
+     * Method which evicts all objects, is called when events could be lost
+     */
+    void evictAll();
+}
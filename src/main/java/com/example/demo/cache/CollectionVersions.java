@@ -0,0 +1,62 @@
+package com.example.demo.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.demo.cache.CacheEvent.Entity;
+
+/**
+ * Versions of lists of news and comments, which are increased by any change of their objects.
+ * Counters live in memory of node, so versions contain random epoch of node
+ * and versions of different nodes or of restarted node never match
+ */
+@Component
+public class CollectionVersions implements CacheInvalidationListener {
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+
+    private final Map<Entity, AtomicLong> counters = new EnumMap<>(Entity.class);
+
+    public CollectionVersions() {
+        for (Entity entity : Entity.values()) {
+            counters.put(entity, new AtomicLong());
+        }
+    }
+
+    /**
+     * Method which returns current version of list of objects
+     *
+     * @param entity type of objects
+     * @return version of list
+     */
+    public String versionOf(Entity entity) {
+        return epoch + "-" + counters.get(entity).get();
+    }
+
+    @Override
+    public void evict(Collection<CacheEvent> events) {
+        for (CacheEvent event : events) {
+            switch (event.getEntity()) {
+                case NEWS:
+                    //Comments of deleted news are deleted by cascade
+                    counters.get(Entity.NEWS).incrementAndGet();
+                    counters.get(Entity.COMMENT).incrementAndGet();
+                    break;
+                case COMMENT:
+                    counters.get(Entity.COMMENT).incrementAndGet();
+                    break;
+                default:
+                    evictAll();
+            }
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        counters.values().forEach(AtomicLong::incrementAndGet);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.cache;
+
+import com.example.demo.entity.News;
+import com.example.demo.entity.User;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Collection;
+
+/**
+ * Evicts changed objects from second-level cache of Hibernate.
+ * Hibernate keeps its cache consistent only with writes of own node
+ */
+@Component
+public class HibernateCacheInvalidationListener implements CacheInvalidationListener {
+    private static final String USER_ROLES = User.class.getName() + ".roles";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public HibernateCacheInvalidationListener(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void evict(Collection<CacheEvent> events) {
+        Cache cache = cache();
+        boolean usersChanged = false;
+        for (CacheEvent event : events) {
+            switch (event.getEntity()) {
+                case NEWS:
+                    cache.evictEntityData(News.class, event.getId());
+                    break;
+                case USER:
+                    cache.evictEntityData(User.class, event.getId());
+                    cache.evictCollectionData(USER_ROLES, event.getId());
+                    usersChanged = true;
+                    break;
+                default:
+                    //Comments are not cached
+            }
+        }
+        if (usersChanged) {
+            //Cached query results contain users by username, and news of deleted user are deleted by cascade
+            cache.evictDefaultQueryRegion();
+            cache.evictEntityData(News.class);
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        cache().evictAllRegions();
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
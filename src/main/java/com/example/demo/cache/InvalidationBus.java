@@ -0,0 +1,308 @@
+package com.example.demo.cache;
+
+import com.example.demo.config.InvalidationProperties;
+import com.example.demo.config.ReplicaProperties;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.demo.cache.CacheEvent.Entity;
+
+/**
+ * Delivers changes of objects to {@link CacheInvalidationListener} of all nodes.
+ * Changes are published by {@code pg_notify} in transaction, that made them, so they are delivered
+ * only after commit and are lost along with rolled back transaction.
+ * Every node listens channel by dedicated connection, collects events during batch window
+ * and passes them to listeners without duplicates. Node, that made changes, passes them to listeners
+ * right after commit as well.
+ * When read replicas are configured, events are passed to listeners once more after read-your-writes window,
+ * because read right after eviction could load old state from lagging replica and cache it again
+ */
+@Component
+public class InvalidationBus implements SmartLifecycle {
+    public static final String CHANNEL = "cache_invalidation";
+
+    //Payload of notification is limited by 8000 bytes
+    private static final int IDS_PER_NOTIFICATION = 300;
+
+    private static final int POLL_TIMEOUT_MILLIS = 500;
+
+    private static final String NOTIFY = "select pg_notify(?, ? || ':' || txid_current())";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final DataSourceProperties dataSourceProperties;
+
+    private final InvalidationProperties properties;
+
+    private final List<CacheInvalidationListener> listeners;
+
+    //Delay of repeated eviction, 0 when there are no replicas
+    private final long replicaLagMillis;
+
+    private final ScheduledExecutorService repeatedEvictions;
+
+    private volatile boolean running;
+
+    private Thread listenerThread;
+
+    @Autowired
+    public InvalidationBus(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties,
+                           InvalidationProperties properties, List<CacheInvalidationListener> listeners,
+                           ObjectProvider<ReplicaProperties> replicaProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.properties = properties;
+        this.listeners = listeners;
+        ReplicaProperties replicas = replicaProperties.getIfAvailable();
+        this.replicaLagMillis = replicas == null || replicas.getReplicas().isEmpty()
+                ? 0 : replicas.getReadYourWritesWindow().toMillis();
+        if (replicaLagMillis > 0) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cache-invalidation-repeat-");
+            threadFactory.setDaemon(true);
+            this.repeatedEvictions = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        } else {
+            this.repeatedEvictions = null;
+        }
+    }
+
+    /**
+     * Method which publishes change of object
+     *
+     * @param entity type of changed object
+     * @param id     id of changed object
+     */
+    public void publish(Entity entity, Long id) {
+        publish(entity, Collections.singleton(id));
+    }
+
+    /**
+     * Method which publishes changes of objects.
+     * Inside transaction changes are collected and published once before commit
+     *
+     * @param entity type of changed objects
+     * @param ids    ids of changed objects
+     */
+    public void publish(Entity entity, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Map<Entity, Set<Long>> changes = new EnumMap<>(Entity.class);
+            changes.put(entity, new LinkedHashSet<>(ids));
+            if (properties.isEnabled()) {
+                notify(changes);
+            } else {
+                dispatch(toEvents(changes));
+            }
+            return;
+        }
+        pendingChanges().computeIfAbsent(entity, key -> new LinkedHashSet<>()).addAll(ids);
+    }
+
+    @Override
+    public void start() {
+        if (properties.isEnabled()) {
+            running = true;
+            listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+            listenerThread.setDaemon(true);
+            listenerThread.start();
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (repeatedEvictions != null) {
+            repeatedEvictions.shutdownNow();
+        }
+        if (listenerThread != null) {
+            try {
+                listenerThread.join(POLL_TIMEOUT_MILLIS * 2L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Method which leaves only latest event of each object
+     *
+     * @param events received events
+     * @return events without duplicates in order of first receiving
+     */
+    public static Collection<CacheEvent> coalesce(Collection<CacheEvent> events) {
+        Map<String, CacheEvent> latest = new LinkedHashMap<>();
+        for (CacheEvent event : events) {
+            latest.merge(event.getEntity() + ":" + event.getId(), event,
+                    (previous, next) -> previous.getVersion() >= next.getVersion() ? previous : next);
+        }
+        return latest.values();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Entity, Set<Long>> pendingChanges() {
+        Map<Entity, Set<Long>> changes = (Map<Entity, Set<Long>>) TransactionSynchronizationManager.getResource(this);
+        if (changes != null) {
+            return changes;
+        }
+        Map<Entity, Set<Long>> created = new EnumMap<>(Entity.class);
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (properties.isEnabled()) {
+                    InvalidationBus.this.notify(created);
+                }
+            }
+
+            @Override
+            public void afterCommit() {
+                //Writing node evicts at once, so its next read doesn't wait for notification of own change
+                dispatch(toEvents(created));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(InvalidationBus.this);
+            }
+        });
+        return created;
+    }
+
+    private void notify(Map<Entity, Set<Long>> changes) {
+        changes.forEach((entity, ids) -> {
+            List<Long> chunk = new ArrayList<>(IDS_PER_NOTIFICATION);
+            for (Long id : ids) {
+                chunk.add(id);
+                if (chunk.size() == IDS_PER_NOTIFICATION) {
+                    jdbcTemplate.query(NOTIFY, rs -> {
+                    }, CHANNEL, CacheEvent.encode(entity, chunk));
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                jdbcTemplate.query(NOTIFY, rs -> {
+                }, CHANNEL, CacheEvent.encode(entity, chunk));
+            }
+        });
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+                 Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                //Events, published while node didn't listen, are lost, so whole cache could be stale
+                repeatAfterReplicaLag(() -> listeners.forEach(CacheInvalidationListener::evictAll));
+                while (running) {
+                    List<CacheEvent> batch = receive(pgConnection);
+                    if (!batch.isEmpty()) {
+                        dispatch(coalesce(batch));
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    logger.error("Cache invalidation listener lost connection", e);
+                    sleep(properties.getReconnectDelay().toMillis());
+                }
+            }
+        }
+    }
+
+    private List<CacheEvent> receive(PGConnection connection) throws SQLException {
+        PGNotification[] notifications = connection.getNotifications(POLL_TIMEOUT_MILLIS);
+        long deadline = System.currentTimeMillis() + properties.getBatchWindow().toMillis();
+        List<CacheEvent> batch = new ArrayList<>();
+        while (notifications != null) {
+            for (PGNotification notification : notifications) {
+                try {
+                    batch.addAll(CacheEvent.decode(notification.getParameter()));
+                } catch (IllegalArgumentException e) {
+                    logger.warn(e.getMessage());
+                }
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            //Zero timeout means waiting without limit
+            notifications = remaining > 0 ? connection.getNotifications((int) remaining) : null;
+        }
+        return batch;
+    }
+
+    private void dispatch(Collection<CacheEvent> events) {
+        repeatAfterReplicaLag(() -> evict(events));
+    }
+
+    private void repeatAfterReplicaLag(Runnable eviction) {
+        eviction.run();
+        if (repeatedEvictions != null) {
+            try {
+                repeatedEvictions.schedule(eviction, replicaLagMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                //Node is stopping, its caches are not used anymore
+            }
+        }
+    }
+
+    private void evict(Collection<CacheEvent> events) {
+        for (CacheInvalidationListener listener : listeners) {
+            try {
+                listener.evict(events);
+            } catch (RuntimeException e) {
+                logger.error("Cache invalidation listener failed", e);
+            }
+        }
+    }
+
+    private static List<CacheEvent> toEvents(Map<Entity, Set<Long>> changes) {
+        List<CacheEvent> events = new ArrayList<>();
+        changes.forEach((entity, ids) -> ids.forEach(id -> events.add(new CacheEvent(entity, id, 0))));
+        return events;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+import static com.example.demo.cache.NegativeCaches.EMPTY_COMMENT_SEARCHES;
+import static com.example.demo.cache.NegativeCaches.EMPTY_NEWS_SEARCHES;
+import static com.example.demo.cache.NegativeCaches.MISSING_COMMENTS;
+import static com.example.demo.cache.NegativeCaches.MISSING_NEWS;
+
+/**
+ * Evicts absence of created objects from {@link NegativeCaches}.
+ * Any created or updated object could match cached empty search, so such searches are evicted entirely
+ */
+@Component
+public class NegativeCacheInvalidationListener implements CacheInvalidationListener {
+    private final CacheManager cacheManager;
+
+    @Autowired
+    public NegativeCacheInvalidationListener(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void evict(Collection<CacheEvent> events) {
+        boolean newsChanged = false;
+        boolean commentsChanged = false;
+        for (CacheEvent event : events) {
+            switch (event.getEntity()) {
+                case NEWS:
+                    cache(MISSING_NEWS).evict(event.getId());
+                    newsChanged = true;
+                    break;
+                case COMMENT:
+                    cache(MISSING_COMMENTS).evict(event.getId());
+                    commentsChanged = true;
+                    break;
+                default:
+                    //Changes of users can't make missing news or comments exist
+            }
+        }
+        if (newsChanged) {
+            cache(EMPTY_NEWS_SEARCHES).clear();
+        }
+        if (commentsChanged) {
+            cache(EMPTY_COMMENT_SEARCHES).clear();
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        cache(MISSING_NEWS).clear();
+        cache(MISSING_COMMENTS).clear();
+        cache(EMPTY_NEWS_SEARCHES).clear();
+        cache(EMPTY_COMMENT_SEARCHES).clear();
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+}
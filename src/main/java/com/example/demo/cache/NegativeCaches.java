@@ -0,0 +1,18 @@
+package com.example.demo.cache;
+
+/**
+ * Names of caches, which keep only absence of objects: ids of missing objects and empty results of searches.
+ * Entries live for short time and are evicted by {@link NegativeCacheInvalidationListener} on changes
+ */
+public final class NegativeCaches {
+    public static final String MISSING_NEWS = "missingNews";
+
+    public static final String MISSING_COMMENTS = "missingComments";
+
+    public static final String EMPTY_NEWS_SEARCHES = "emptyNewsSearches";
+
+    public static final String EMPTY_COMMENT_SEARCHES = "emptyCommentSearches";
+
+    private NegativeCaches() {
+    }
+}
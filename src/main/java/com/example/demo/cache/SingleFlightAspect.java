@@ -0,0 +1,40 @@
+package com.example.demo.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Coalesces concurrent calls of methods marked by {@link SingleFlight}.
+ * Aspect wraps transaction, so waiting calls hold no connection of pool,
+ * and runs after cache interceptor, so cached results are returned without coalescing
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class SingleFlightAspect {
+    private final SingleFlightGroup group = new SingleFlightGroup();
+
+    @Autowired
+    public SingleFlightAspect(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("app.single.flight.shared", group, SingleFlightGroup::getSharedCount)
+                .description("Calls, that received result of concurrent call with equal arguments")
+                .register(meterRegistry);
+    }
+
+    @Around("@annotation(com.example.demo.cache.SingleFlight)")
+    public Object coalesce(ProceedingJoinPoint jp) throws Throwable {
+        //Methods of different classes can have equal signatures, so target class is a part of key
+        Object key = Arrays.asList(jp.getTarget().getClass(), jp.getSignature().toLongString(),
+                Arrays.asList(jp.getArgs()));
+        return group.execute(key, jp::proceed);
+    }
+}
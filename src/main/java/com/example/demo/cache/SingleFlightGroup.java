@@ -0,0 +1,73 @@
+package com.example.demo.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executes loads, so that only one load of each key is in flight at any moment.
+ * Callers, that come while load is in flight, wait for it and receive its result or exception
+ */
+public class SingleFlightGroup {
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * Load of value, that can throw any exception of loaded method
+     *
+     * @param <T> type of value
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws Throwable;
+    }
+
+    /**
+     * Method which returns result of load in flight with equal key or executes load itself
+     *
+     * @param key    key of load, calls with equal keys are coalesced
+     * @param loader load of value
+     * @param <T>    type of value
+     * @return loaded value
+     * @throws Throwable exception of load
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Loader<T> loader) throws Throwable {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            shared.increment();
+            return (T) await(existing);
+        }
+        try {
+            T value = loader.load();
+            created.complete(value);
+            return value;
+        } catch (Throwable e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * Method which returns count of calls, that received result of other call
+     *
+     * @return count of shared results
+     */
+    public long getSharedCount() {
+        return shared.sum();
+    }
+
+    private static Object await(CompletableFuture<Object> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.cache;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Runs inline loads of {@link StaleWhileRevalidateAspect} in read-only transaction with timeout of latency budget,
+ * which is applied to each statement. Aspect runs after {@link SingleFlightAspect}, so waiting calls hold
+ * no connection of pool, and before transaction interceptor, so transaction of method joins this one.
+ * Query timeouts of JDBC are whole seconds, so budget is rounded up to seconds
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class StaleReadTimeoutAspect {
+    private final PlatformTransactionManager transactionManager;
+
+    @Autowired
+    public StaleReadTimeoutAspect(PlatformTransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    @Around("@annotation(com.example.demo.cache.StaleWhileRevalidate)")
+    public Object limit(ProceedingJoinPoint jp) throws Throwable {
+        Duration budget = StaleWhileRevalidateAspect.currentBudget();
+        if (budget == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return jp.proceed();
+        }
+
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setReadOnly(true);
+        definition.setTimeout((int) Math.max(1, (budget.toMillis() + 999) / 1000));
+        TransactionStatus status = transactionManager.getTransaction(definition);
+        Object result;
+        try {
+            result = jp.proceed();
+        } catch (Throwable e) {
+            transactionManager.rollback(status);
+            throw e;
+        }
+        transactionManager.commit(status);
+        return result;
+    }
+}
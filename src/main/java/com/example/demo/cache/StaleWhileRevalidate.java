@@ -0,0 +1,24 @@
+package com.example.demo.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks read method, which last result is kept and returned instead of fresh one,
+ * when data storage is slow or unavailable. Result must be immutable, as the same object is returned many times
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StaleWhileRevalidate {
+    /**
+     * Type of object, which id is the first argument of method.
+     * Kept results are evicted by {@link CacheEvent} of this object
+     *
+     * @return type of read object
+     */
+    CacheEvent.Entity value();
+}
@@ -0,0 +1,233 @@
+package com.example.demo.cache;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletResponse;
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps last results of methods marked by {@link StaleWhileRevalidate} and serves them,
+ * when connection pool is saturated, load exceeds latency budget or data storage fails.
+ * Load runs in calling thread under query timeout of latency budget, applied by {@link StaleReadTimeoutAspect}.
+ * Stale result is marked by {@code Warning: 110} header and is refreshed by background load.
+ * Without kept result method is called as usual. Results of changed objects are evicted by events of
+ * {@link InvalidationBus}, so deleted or updated objects are not served in place of failed load
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class StaleWhileRevalidateAspect implements CacheInvalidationListener, DisposableBean {
+    /**
+     * Name of cache with last results
+     */
+    public static final String STALE_READS = "staleReads";
+
+    /**
+     * Value of {@code Warning} header of stale result
+     */
+    public static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    //Request attribute of response, that contains stale result
+    private static final String STALE_ATTRIBUTE = StaleWhileRevalidateAspect.class.getName() + ".STALE";
+
+    //Kept results are indexed by changed object, index is purged, when count of objects exceeds this size
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    //Latency budget of inline load, read by StaleReadTimeoutAspect inside of single flight
+    private static final ThreadLocal<Duration> BUDGET = new ThreadLocal<>();
+
+    private final Cache cache;
+
+    private final DataSource dataSource;
+
+    private final ExecutorService executor;
+
+    private final Duration latencyBudget;
+
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+
+    //Type and id of object and keys of its kept results, e.g. of different field masks
+    private final ConcurrentMap<List<Object>, Set<Object>> keysByObject = new ConcurrentHashMap<>();
+
+    @Autowired
+    public StaleWhileRevalidateAspect(CacheManager cacheManager, DataSource dataSource,
+                                      @Value("${app.cache.stale.latency-budget}") Duration latencyBudget,
+                                      @Value("${app.cache.stale.refresh-threads}") int refreshThreads) {
+        this(cacheManager.getCache(STALE_READS), dataSource, new ThreadPoolExecutor(refreshThreads, refreshThreads,
+                        1, TimeUnit.MINUTES, new ArrayBlockingQueue<>(refreshThreads * 10),
+                        new CustomizableThreadFactory("stale-refresh-")),
+                latencyBudget);
+    }
+
+    public StaleWhileRevalidateAspect(Cache cache, DataSource dataSource, ExecutorService executor,
+                                      Duration latencyBudget) {
+        this.cache = cache;
+        this.dataSource = dataSource;
+        this.executor = executor;
+        this.latencyBudget = latencyBudget;
+    }
+
+    /**
+     * Method which checks, that current request received stale result.
+     * Version of stale result is unknown, so its response must not have entity tag
+     *
+     * @return true when stale result was served in current request
+     */
+    public static boolean servedStale() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null && attributes.getAttribute(STALE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+
+    /**
+     * Method which returns latency budget of inline load in current thread
+     *
+     * @return latency budget or {@code null}, when current thread doesn't load in place of kept result
+     */
+    public static Duration currentBudget() {
+        return BUDGET.get();
+    }
+
+    @Around("@annotation(com.example.demo.cache.StaleWhileRevalidate)")
+    public Object serve(ProceedingJoinPoint jp) throws Throwable {
+        Object key = Arrays.asList(jp.getTarget().getClass(), jp.getSignature().toLongString(),
+                Arrays.asList(jp.getArgs()));
+        Cache.ValueWrapper stale = cache.get(key);
+        if (stale == null) {
+            return keep(jp, key, jp.proceed());
+        }
+        if (poolSaturated()) {
+            return serveStale(key, jp, stale);
+        }
+
+        Duration previous = BUDGET.get();
+        BUDGET.set(latencyBudget);
+        try {
+            return keep(jp, key, jp.proceed());
+        } catch (DataAccessException | TransactionException e) {
+            //Query timeout of budget is reported as data access or transaction timeout exception
+            return serveStale(key, jp, stale);
+        } finally {
+            BUDGET.set(previous);
+        }
+    }
+
+    @Override
+    public void evict(Collection<CacheEvent> events) {
+        for (CacheEvent event : events) {
+            Set<Object> keys = keysByObject.remove(Arrays.asList(event.getEntity(), event.getId()));
+            if (keys != null) {
+                keys.forEach(cache::evict);
+            }
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        keysByObject.clear();
+        cache.clear();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    //Only calls, that served stale result, refresh it, and concurrent calls share one background load
+    private void refresh(Object key, ProceedingJoinPoint jp) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            //Refresh reads with identity of caller, so data source routes writer of news to primary
+            executor.execute(DelegatingSecurityContextRunnable.create(() -> {
+                try {
+                    keep(jp, key, jp.proceed());
+                } catch (Throwable e) {
+                    //Kept result is served again and next stale call repeats refresh
+                } finally {
+                    refreshing.remove(key);
+                }
+            }, null));
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private Object keep(ProceedingJoinPoint jp, Object key, Object value) {
+        //Missing object must not be served from stale result
+        if (value == null || (value instanceof Optional && !((Optional<?>) value).isPresent())) {
+            cache.evict(key);
+            return value;
+        }
+        cache.put(key, value);
+        CacheEvent.Entity entity = ((MethodSignature) jp.getSignature()).getMethod()
+                .getAnnotation(StaleWhileRevalidate.class).value();
+        keysByObject.computeIfAbsent(Arrays.asList(entity, jp.getArgs()[0]), object -> ConcurrentHashMap.newKeySet())
+                .add(key);
+        if (keysByObject.size() > PURGE_THRESHOLD) {
+            //Expired results leave their keys in index
+            keysByObject.values().forEach(keys -> keys.removeIf(kept -> cache.get(kept) == null));
+            keysByObject.values().removeIf(Set::isEmpty);
+        }
+        return value;
+    }
+
+    private boolean poolSaturated() {
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return false;
+            }
+            HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            return pool != null && pool.getThreadsAwaitingConnection() > 0;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private Object serveStale(Object key, ProceedingJoinPoint jp, Cache.ValueWrapper stale) {
+        refresh(key, jp);
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes) {
+            HttpServletResponse response = ((ServletRequestAttributes) attributes).getResponse();
+            if (response != null) {
+                response.setHeader("Warning", STALE_WARNING);
+            }
+            attributes.setAttribute(STALE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+        return stale.get();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.demo.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+import static com.example.demo.cache.VersionCaches.COMMENT_VERSIONS;
+import static com.example.demo.cache.VersionCaches.NEWS_VERSIONS;
+
+/**
+ * Evicts versions of changed objects from {@link VersionCaches}.
+ * Version of comment does not depend on it's news, so change of news evicts only version of that news
+ */
+@Component
+public class VersionCacheInvalidationListener implements CacheInvalidationListener {
+    private final CacheManager cacheManager;
+
+    @Autowired
+    public VersionCacheInvalidationListener(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void evict(Collection<CacheEvent> events) {
+        for (CacheEvent event : events) {
+            switch (event.getEntity()) {
+                case NEWS:
+                    cache(NEWS_VERSIONS).evict(event.getId());
+                    break;
+                case COMMENT:
+                    cache(COMMENT_VERSIONS).evict(event.getId());
+                    break;
+                default:
+                    //News and comments of deleted user are deleted by cascade
+                    evictAll();
+                    return;
+            }
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        cache(NEWS_VERSIONS).clear();
+        cache(COMMENT_VERSIONS).clear();
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+}
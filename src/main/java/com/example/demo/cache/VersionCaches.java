@@ -0,0 +1,14 @@
+package com.example.demo.cache;
+
+/**
+ * Names of caches with versions of objects, which let conditional requests be answered without data storage.
+ * Entries are evicted by {@link VersionCacheInvalidationListener} on changes
+ */
+public final class VersionCaches {
+    public static final String NEWS_VERSIONS = "newsVersions";
+
+    public static final String COMMENT_VERSIONS = "commentVersions";
+
+    private VersionCaches() {
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.config;
+
+import com.example.demo.async.Bulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig {
+    /**
+     * Timeout in seconds of transactions of searches, equal to timeout of search bulkhead.
+     * Interrupt of timed out search doesn't cancel it's query, so query is cancelled by own timeout
+     */
+    public static final String SEARCH_TRANSACTION_TIMEOUT = "#{@searchBulkhead.timeout.seconds}";
+
+    @Bean
+    public Bulkhead searchBulkhead(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        return new Bulkhead("search", properties.getSearch(), meterRegistry);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of bounded thread pools, that isolate expensive requests from cheap ones
+ */
+@Data
+@ConfigurationProperties(prefix = "app.bulkhead")
+public class BulkheadProperties {
+    //Pool of full-text searches of news and comments
+    private Pool search = new Pool();
+
+    @Data
+    public static class Pool {
+        //Threads, that execute requests, and so max count of database connections taken by pool
+        private int threads = 4;
+
+        //Count of requests, that could wait for thread, other requests are rejected at once
+        private int queueCapacity = 20;
+
+        //Time after which waiting or executed request is answered by SERVICE_UNAVAILABLE(503)
+        private Duration timeout = Duration.ofSeconds(10);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Enables caches of facade results, configured in ehcache.xml.
+ * Cache interceptor runs before coalescing of reads and before transaction,
+ * so cached result costs neither waiting nor connection
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+}
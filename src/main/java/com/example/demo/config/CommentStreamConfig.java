@@ -0,0 +1,9 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CommentStreamProperties.class)
+public class CommentStreamConfig {
+}
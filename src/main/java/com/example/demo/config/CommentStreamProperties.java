@@ -0,0 +1,39 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of live streams of new comments, that are sent to subscribers by Server-Sent Events,
+ * and of long-polling requests, that wait for new comments
+ */
+@Data
+@ConfigurationProperties(prefix = "app.stream.comments")
+public class CommentStreamProperties {
+    //Count of comments, that could wait for sending to one subscriber
+    private int bufferSize = 64;
+
+    //What happens to comment, that doesn't fit buffer of slow subscriber
+    private SlowConsumerPolicy slowConsumerPolicy = SlowConsumerPolicy.DROP_OLDEST;
+
+    //Time after which stream is closed, client reconnects with id of last received comment
+    private Duration timeout = Duration.ofMinutes(30);
+
+    //Interval of empty events, that keep idle connections open through proxies
+    private Duration heartbeat = Duration.ofSeconds(15);
+
+    //Threads, that write comments to subscribers and check new comments for waiting requests
+    private int senderThreads = 4;
+
+    //Longest time, that request could wait for new comments
+    private Duration maxWait = Duration.ofSeconds(60);
+
+    public enum SlowConsumerPolicy {
+        //Oldest waiting comment is dropped, client can read it from comments end point
+        DROP_OLDEST,
+        //Stream is closed, client reconnects and receives missed comments
+        DISCONNECT
+    }
+}
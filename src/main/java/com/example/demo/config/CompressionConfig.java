@@ -0,0 +1,32 @@
+package com.example.demo.config;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.ProtocolHandler;
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http11.AbstractHttp11Protocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.boot.web.embedded.tomcat.TomcatConnectorCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Compression of responses with strong entity tags, which Tomcat skips by default on HTTP/1.1 and HTTP/2.
+ * Tags of news and comments are strong for If-Match, gzip and identity bodies of one version share the tag
+ */
+@Configuration
+public class CompressionConfig {
+    @Bean
+    public TomcatConnectorCustomizer strongETagCompressionCustomizer() {
+        return (Connector connector) -> {
+            ProtocolHandler protocolHandler = connector.getProtocolHandler();
+            if (protocolHandler instanceof AbstractHttp11Protocol) {
+                ((AbstractHttp11Protocol<?>) protocolHandler).setNoCompressionStrongETag(false);
+            }
+            for (UpgradeProtocol upgradeProtocol : connector.findUpgradeProtocols()) {
+                if (upgradeProtocol instanceof Http2Protocol) {
+                    ((Http2Protocol) upgradeProtocol).setNoCompressionStrongETag(false);
+                }
+            }
+        };
+    }
+}
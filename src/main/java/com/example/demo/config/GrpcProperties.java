@@ -0,0 +1,34 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of gRPC server, that serves internal services on own port over HTTP/2
+ */
+@Data
+@ConfigurationProperties(prefix = "app.grpc")
+public class GrpcProperties {
+    //Whether gRPC server is started
+    private boolean enabled = true;
+
+    //Port of gRPC server, 0 for random port
+    private int port = 9090;
+
+    //Count of threads, that execute calls, calls over it wait in queue
+    private int threads = 16;
+
+    //Max count of concurrent calls multiplexed over one connection
+    private int maxConcurrentCallsPerConnection = 100;
+
+    //Max size of one received message
+    private int maxInboundMessageSize = 4 * 1024 * 1024;
+
+    //Min interval of keepalive pings, that client may send on idle persistent channel
+    private Duration permitKeepAliveTime = Duration.ofSeconds(30);
+
+    //How long verified credentials are trusted without password check, hashing of password costs more than most calls
+    private Duration credentialsTtl = Duration.ofMinutes(1);
+}
@@ -0,0 +1,22 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of cache invalidation bus, that delivers changes to all nodes by LISTEN/NOTIFY of PostgreSQL
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache.invalidation")
+public class InvalidationProperties {
+    //When disabled, changes are delivered only to caches of own node
+    private boolean enabled = true;
+
+    //Time, during which received events are collected before eviction
+    private Duration batchWindow = Duration.ofMillis(50);
+
+    //Time between attempts to restore listener connection
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+}
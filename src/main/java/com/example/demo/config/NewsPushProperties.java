@@ -0,0 +1,32 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+
+import java.time.Duration;
+
+/**
+ * Settings of WebSocket channel, that pushes changes of news to connected clients
+ */
+@Data
+@ConfigurationProperties(prefix = "app.stream.news")
+public class NewsPushProperties {
+    //Changes, made during this window, are sent to clients by one message
+    private Duration batchWindow = Duration.ofMillis(100);
+
+    //Interval of checks without published changes, picks up changes not yet visible on read replica
+    private Duration pollInterval = Duration.ofSeconds(5);
+
+    //Time, that one message could take to be sent to slow client
+    private Duration sendTimeLimit = Duration.ofSeconds(5);
+
+    //Bytes of messages, that could wait for sending to one client
+    private int bufferSizeLimit = 512 * 1024;
+
+    //What happens to message, that doesn't fit buffer of slow client
+    private OverflowStrategy overflowStrategy = OverflowStrategy.TERMINATE;
+
+    //Threads, that write messages to clients
+    private int senderThreads = 4;
+}
@@ -1,13 +1,25 @@
 package com.example.demo.config;
 
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.util.FieldMaskUtil;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
 import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
-public class ProtobufConfig {
+public class ProtobufConfig implements WebMvcConfigurer {
     @Bean
     public ProtobufHttpMessageConverter protobufHttpMessageConverter() {
-        return new ProtobufHttpMessageConverter();
+        return new SizedProtobufHttpMessageConverter();
+    }
+
+    /**
+     * Allows to bind request parameters like {@code fields=id,title} to {@link FieldMask}
+     */
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, FieldMask.class, FieldMaskUtil::fromString);
     }
 }
@@ -0,0 +1,54 @@
+package com.example.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Replaces single data source by {@link ReplicaRoutingDataSource}, when at least one replica is configured.
+ * Pools of primary and of each replica are configured by {@code spring.datasource.hikari} as single data source
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas[0].url")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaDataSourceConfig {
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, ReplicaProperties replicaProperties,
+                                 Environment environment) {
+        Binder binder = Binder.get(environment);
+        DataSource primary = pool(binder, dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build());
+        List<DataSource> replicas = replicaProperties.getReplicas().stream()
+                .map(replica -> pool(binder, DataSourceBuilder.create()
+                        .type(HikariDataSource.class)
+                        .driverClassName(dataSourceProperties.determineDriverClassName())
+                        .url(replica.getUrl())
+                        .username(replica.getUsername())
+                        .password(replica.getPassword())
+                        .build()))
+                .collect(Collectors.toList());
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas,
+                replicaProperties.getReadYourWritesWindow());
+        routing.afterPropertiesSet();
+        //Target is chosen on first statement, when read-only flag of transaction is already set
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static HikariDataSource pool(Binder binder, HikariDataSource dataSource) {
+        return binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource)).orElse(dataSource);
+    }
+}
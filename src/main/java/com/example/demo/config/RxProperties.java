@@ -0,0 +1,30 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of reactive read API, that is served by event loop server on own port
+ */
+@Data
+@ConfigurationProperties(prefix = "app.rx")
+public class RxProperties {
+    //Whether reactive server is started
+    private boolean enabled = true;
+
+    //Port of reactive server, 0 for random port
+    private int port = 8081;
+
+    //R2DBC url of database, for example r2dbc:postgresql://localhost:5432/newsdb
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    //Max count of R2DBC connections, they are not taken from JDBC pool
+    private int poolSize = 10;
+
+    //Count of rows, that are fetched from database by one round trip while client reads stream
+    private int fetchSize = 100;
+}
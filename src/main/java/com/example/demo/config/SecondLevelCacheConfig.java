@@ -0,0 +1,31 @@
+package com.example.demo.config;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+@Configuration
+@EnableConfigurationProperties(InvalidationProperties.class)
+public class SecondLevelCacheConfig {
+    /**
+     * Passes location of cache configuration to Hibernate as absolute URI,
+     * as JCache provider of Hibernate doesn't resolve classpath locations
+     */
+    @Bean
+    public HibernatePropertiesCustomizer cacheConfigCustomizer(@Value("${app.cache.config}") Resource config) {
+        return properties -> {
+            try {
+                properties.put(ConfigSettings.CONFIG_URI, config.getURI().toString());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
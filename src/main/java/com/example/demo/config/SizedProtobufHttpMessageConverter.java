@@ -0,0 +1,50 @@
+package com.example.demo.config;
+
+import com.google.protobuf.Message;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Converter of protobuf messages, that sends Content-Length with every message.
+ * Servlet container compresses only responses not smaller than {@code server.compression.min-response-size},
+ * but it can compare only known length, responses of unknown length are always compressed
+ */
+public class SizedProtobufHttpMessageConverter extends ProtobufHttpMessageConverter {
+    @Override
+    protected Long getContentLength(Message message, MediaType contentType) {
+        //Size of binary message is computed once and memoized by message
+        return contentType == null || PROTOBUF.isCompatibleWith(contentType)
+                ? (long) message.getSerializedSize()
+                : null;
+    }
+
+    @Override
+    protected void writeInternal(Message message, HttpOutputMessage outputMessage) throws IOException {
+        MediaType contentType = outputMessage.getHeaders().getContentType();
+        if (contentType == null || PROTOBUF.isCompatibleWith(contentType)) {
+            super.writeInternal(message, outputMessage);
+            return;
+        }
+        //Text formats are printed to buffer first, so their length is known before body is sent
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        super.writeInternal(message, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        outputMessage.getHeaders().setContentLength(body.size());
+        body.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.demo.config;
+
+import com.example.demo.util.VirtualThreads;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Runs requests on virtual threads instead of pool of Tomcat threads, is enabled by profile {@code virtual-threads}.
+ * Controllers, facades and services run on thread of request, so blocked request takes no platform thread,
+ * concurrency of database access is limited only by connection pool ({@code spring.datasource.hikari}).
+ * Bounded pools of searches and streams stay on platform threads
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadConfig {
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadExecutorCustomizer() {
+        //Fails start on runtime without virtual threads, so profile is never silently ignored
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("request-"));
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.demo.config;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+    /**
+     * Allows to bind request parameters like {@code wait=30s} to {@link Duration}, as in application properties
+     */
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, Duration.class, DurationStyle::detectAndParse);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.config;
+
+import com.example.demo.stream.NewsPushHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@EnableConfigurationProperties(NewsPushProperties.class)
+public class WebSocketConfig implements WebSocketConfigurer {
+    private final NewsPushHandler newsPushHandler;
+
+    @Autowired
+    public WebSocketConfig(NewsPushHandler newsPushHandler) {
+        this.newsPushHandler = newsPushHandler;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        //Handshake is authenticated by security filters as any other request
+        registry.addHandler(newsPushHandler, "/ws/news");
+    }
+}
@@ -1,10 +1,16 @@
 package com.example.demo.controller;
 
+import com.example.demo.async.Bulkhead;
+import com.example.demo.cache.StaleWhileRevalidateAspect;
 import com.example.demo.entity.Comment;
 import com.example.demo.entity.User;
 import com.example.demo.facade.CommentCrudFacade;
+import com.example.demo.util.ETags;
+import com.google.protobuf.FieldMask;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -14,84 +20,186 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.demo.dto.CommentProto.CommentBatch;
+import static com.example.demo.dto.CommentProto.CommentBatchResult;
 import static com.example.demo.dto.CommentProto.CommentDto;
 import static com.example.demo.dto.CommentProto.CommentSimpleDto;
 import static com.example.demo.dto.CommentProto.CommentSimpleDtoList;
 
 /**
- * Rest controller for operations with {@link Comment}
+ * Rest controller for operations with {@link Comment}.
+ * Searches are executed by bounded search pool, so they never take servlet threads of other requests
  */
 @RestController
 @RequestMapping(value = "/api/comment")
 public class CommentController {
     private final CommentCrudFacade commentFacade;
 
+    private final Bulkhead searchBulkhead;
+
     @Autowired
-    public CommentController(CommentCrudFacade commentFacade) {
+    public CommentController(CommentCrudFacade commentFacade, Bulkhead searchBulkhead) {
         this.commentFacade = commentFacade;
+        this.searchBulkhead = searchBulkhead;
     }
 
     /**
      * Method which shows all available {@link Comment}
      *
+     * @param fields list of requested fields, separated by comma
      * @return {@link CommentSimpleDtoList} of {@link CommentSimpleDto}
      */
     @GetMapping
-    public ResponseEntity<CommentSimpleDtoList> findAllComment() {
-        return new ResponseEntity<>(commentFacade.findAll(), HttpStatus.OK);
+    public ResponseEntity<CommentSimpleDtoList> findAllComment(@RequestParam(defaultValue = "") FieldMask fields) {
+        return new ResponseEntity<>(commentFacade.findAll(fields), HttpStatus.OK);
     }
 
     /**
      * Method which shows all available {@link Comment} with page format
      *
-     * @param page page number
-     * @param size page size
+     * @param page   page number
+     * @param size   page size
+     * @param fields list of requested fields, separated by comma
      * @return {@link CommentSimpleDtoList} of {@link CommentSimpleDto}
      */
     @GetMapping(params = {"page", "size"})
     public ResponseEntity<CommentSimpleDtoList> findAllComment(@RequestParam Integer page,
-                                                               @RequestParam Integer size) {
-        return new ResponseEntity<>(commentFacade.findAll(page, size), HttpStatus.OK);
+                                                               @RequestParam Integer size,
+                                                               @RequestParam(defaultValue = "") FieldMask fields) {
+        return new ResponseEntity<>(commentFacade.findAll(page, size, fields), HttpStatus.OK);
     }
 
     /**
-     * Method which shows {@link Comment} with specified id
+     * Method which shows {@link Comment} with specified id.
+     * Response has ETag of comment version, comment is not loaded when client has actual version
      *
-     * @param id {@link Comment} objects id for search
-     * @return {@link CommentDto} object or Http Code NOT_FOUND(404)
+     * @param id      {@link Comment} objects id for search
+     * @param fields  list of requested fields, separated by comma
+     * @param request request with conditional headers
+     * @return {@link CommentDto} object, Http Code NOT_MODIFIED(304) or NOT_FOUND(404)
      */
     @GetMapping(value = "/{id}")
-    public ResponseEntity<CommentDto> findCommentById(@PathVariable Long id) {
-        return commentFacade.findById(id)
-                .map(value -> new ResponseEntity<>(value, HttpStatus.OK))
+    public ResponseEntity<CommentDto> findCommentById(@PathVariable Long id,
+                                                      @RequestParam(defaultValue = "") FieldMask fields,
+                                                      WebRequest request) {
+        Optional<Long> version = commentFacade.findVersion(id);
+        if (!version.isPresent()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        //Stale version or comment don't match each other, so they are sent without tag
+        String etag = ETags.of(version.get());
+        if (!StaleWhileRevalidateAspect.servedStale()
+                && ETags.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return commentFacade.findById(id, fields)
+                .map(value -> StaleWhileRevalidateAspect.servedStale()
+                        ? new ResponseEntity<>(value, HttpStatus.OK)
+                        : ResponseEntity.ok().eTag(etag).body(value))
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Method which shows {@link Comment} objects with specified ids
+     *
+     * @param ids    {@link Comment} objects ids for search
+     * @param fields list of requested fields, separated by comma
+     * @return {@link CommentSimpleDtoList} in order of requested ids, with ids of not found comments
+     */
+    @GetMapping(params = {"ids"})
+    public ResponseEntity<CommentSimpleDtoList> findCommentByIds(@RequestParam List<Long> ids,
+                                                                 @RequestParam(defaultValue = "") FieldMask fields) {
+        return new ResponseEntity<>(commentFacade.findByIds(ids, fields), HttpStatus.OK);
+    }
+
+    /**
+     * Method which streams new {@link Comment} objects of news by Server-Sent Events.
+     * Reconnected client receives comments missed after Last-Event-ID first
+     *
+     * @param newsId      id of news
+     * @param lastEventId id of last received comment, sent by client on reconnection
+     * @return stream of {@link CommentSimpleDto} in JSON
+     */
+    @GetMapping(value = "/stream", params = {"newsId"}, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamCommentsByNewsId(@RequestParam Long newsId,
+                                                            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return new ResponseEntity<>(commentFacade.subscribe(newsId, lastEventId), HttpStatus.OK);
+    }
+
+    /**
+     * Method which shows {@link Comment} objects of news from newest to oldest by cursor pages
+     *
+     * @param newsId id of news
+     * @param cursor cursor of next page, returned with previous page
+     * @param size   page size
+     * @param fields list of requested fields, separated by comma
+     * @return {@link CommentSimpleDtoList} of {@link CommentSimpleDto} with cursor of next page
+     */
+    @GetMapping(params = {"newsId"})
+    public ResponseEntity<CommentSimpleDtoList> findCommentByNewsId(@RequestParam Long newsId,
+                                                                    @RequestParam(defaultValue = "") String cursor,
+                                                                    @RequestParam(defaultValue = "10") Integer size,
+                                                                    @RequestParam(defaultValue = "") FieldMask fields) {
+        return new ResponseEntity<>(commentFacade.findByNewsId(newsId, cursor, size, fields), HttpStatus.OK);
+    }
 
+    /**
+     * Method which waits for {@link Comment} objects of news, created after provided one.
+     * Request returns at once if such comments exist, otherwise it waits for new comments up to provided time
+     *
+     * @param newsId id of news
+     * @param after  id of last received comment
+     * @param size   max count of comments
+     * @param wait   time to wait for new comments, for example 30s
+     * @param fields list of requested fields, separated by comma
+     * @return {@link CommentSimpleDtoList} of {@link CommentSimpleDto} from oldest to newest, empty after wait
+     */
+    @GetMapping(params = {"newsId", "after"})
+    public DeferredResult<CommentSimpleDtoList> waitForCommentByNewsId(@RequestParam Long newsId,
+                                                                       @RequestParam Long after,
+                                                                       @RequestParam(defaultValue = "10") Integer size,
+                                                                       @RequestParam(defaultValue = "30s") Duration wait,
+                                                                       @RequestParam(defaultValue = "") FieldMask fields) {
+        return commentFacade.waitForNewerByNewsId(newsId, after, size, wait, fields);
     }
 
     /**
      * Method which finds {@link Comment} objects by text
      *
-     * @param text {@link Comment} object to find object by text
+     * @param text   {@link Comment} object to find object by text
+     * @param fields list of requested fields, separated by comma
      * @return {@link CommentSimpleDtoList} that have provided text
      */
     @GetMapping(params = {"text"})
-    public ResponseEntity<CommentSimpleDtoList> findCommentByText(@RequestParam String text) {
-        return new ResponseEntity<>(commentFacade.findByText(text), HttpStatus.OK);
+    public DeferredResult<ResponseEntity<CommentSimpleDtoList>> findCommentByText(@RequestParam String text,
+                                                                                  @RequestParam(defaultValue = "") FieldMask fields) {
+        return searchBulkhead.submit(() -> new ResponseEntity<>(commentFacade.findByText(text, fields), HttpStatus.OK));
     }
 
     /**
      * Method which finds {@link Comment} objects by text partially contains param
      *
      * @param textLike {@link Comment} object to find object by text
+     * @param fields   list of requested fields, separated by comma
      * @return {@link CommentSimpleDtoList} that have provided text
      */
     @GetMapping(params = {"textLike"})
-    public ResponseEntity<CommentSimpleDtoList> findCommentByTextLike(@RequestParam String textLike) {
-        return new ResponseEntity<>(commentFacade.findByTextContains(textLike), HttpStatus.OK);
+    public DeferredResult<ResponseEntity<CommentSimpleDtoList>> findCommentByTextLike(@RequestParam String textLike,
+                                                                                      @RequestParam(defaultValue = "") FieldMask fields) {
+        return searchBulkhead.submit(() ->
+                new ResponseEntity<>(commentFacade.findByTextContains(textLike, fields), HttpStatus.OK));
     }
 
     /**
@@ -109,18 +217,35 @@ public class CommentController {
     }
 
     /**
-     * Method which updates {@link Comment}
+     * Method which applies batch of create, update and delete operations with {@link Comment}
+     *
+     * @param batch {@link CommentBatch} of operations
+     * @param user  {@link User} that call method
+     * @return {@link CommentBatchResult} with result of each operation
+     */
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'JOURNALIST', 'SUBSCRIBER')")
+    @PostMapping(value = "/batch")
+    public ResponseEntity<CommentBatchResult> applyCommentBatch(@RequestBody CommentBatch batch,
+                                                                @AuthenticationPrincipal User user) {
+        return new ResponseEntity<>(commentFacade.applyBatch(batch, user), HttpStatus.OK);
+    }
+
+    /**
+     * Method which updates {@link Comment}.
+     * When If-Match header is provided, comment is updated only if it has the same version
      *
      * @param id      {@link Comment} from request url
      * @param comment {@link CommentSimpleDto} object dto to update
      * @param user    {@link User} that call method
+     * @param ifMatch ETag of expected comment version, may be missing
      */
     @PreAuthorize("hasAnyAuthority('ADMIN', 'JOURNALIST', 'SUBSCRIBER')")
     @PutMapping(value = "/{id}")
     public ResponseEntity<Void> updateComment(@PathVariable Long id,
                                               @RequestBody CommentSimpleDto comment,
-                                              @AuthenticationPrincipal User user) {
-        commentFacade.update(id, comment, user);
+                                              @AuthenticationPrincipal User user,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        commentFacade.update(id, comment, user, ETags.parseVersion(ifMatch));
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
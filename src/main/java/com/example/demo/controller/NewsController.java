@@ -1,10 +1,16 @@
 package com.example.demo.controller;
 
 
+import com.example.demo.async.Bulkhead;
+import com.example.demo.cache.StaleWhileRevalidateAspect;
 import com.example.demo.entity.News;
 import com.example.demo.entity.User;
 import com.example.demo.facade.NewsCrudFacade;
+import com.example.demo.repo.projection.NewsVersion;
+import com.example.demo.util.ETags;
+import com.google.protobuf.FieldMask;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,123 +21,181 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.example.demo.dto.NewsProto.NewsChanges;
 import static com.example.demo.dto.NewsProto.NewsDto;
 import static com.example.demo.dto.NewsProto.NewsSimpleDto;
 import static com.example.demo.dto.NewsProto.NewsSimpleDtoList;
 
 /**
- * Rest controller for operations with {@link News}
+ * Rest controller for operations with {@link News}.
+ * Searches are executed by bounded search pool, so they never take servlet threads of other requests
  */
 @RestController
 @RequestMapping(value = "/api/news")
 public class NewsController {
     private final NewsCrudFacade newsFacade;
 
+    private final Bulkhead searchBulkhead;
+
     @Autowired
-    public NewsController(NewsCrudFacade newsFacade) {
+    public NewsController(NewsCrudFacade newsFacade, Bulkhead searchBulkhead) {
         this.newsFacade = newsFacade;
+        this.searchBulkhead = searchBulkhead;
     }
 
     /**
      * Method which shows all available {@link News}
      *
+     * @param fields list of requested fields, separated by comma
      * @return {@link NewsSimpleDtoList} of {@link NewsSimpleDto}.
      */
     @GetMapping
-    public ResponseEntity<NewsSimpleDtoList> findAllNews() {
-        return new ResponseEntity<>(newsFacade.findAll(), HttpStatus.OK);
+    public ResponseEntity<NewsSimpleDtoList> findAllNews(@RequestParam(defaultValue = "") FieldMask fields) {
+        return new ResponseEntity<>(newsFacade.findAll(fields), HttpStatus.OK);
     }
 
     /**
      * Method which shows all available {@link News} with page format
      *
-     * @param page page number
-     * @param size page size
+     * @param page   page number
+     * @param size   page size
+     * @param fields list of requested fields, separated by comma
      * @return {@link NewsSimpleDtoList} of {@link NewsSimpleDto}
      */
     @GetMapping(params = {"page", "size"})
     public ResponseEntity<NewsSimpleDtoList> findAllNews(@RequestParam Integer page,
-                                                         @RequestParam Integer size) {
-        return new ResponseEntity<>(newsFacade.findAll(page, size), HttpStatus.OK);
+                                                         @RequestParam Integer size,
+                                                         @RequestParam(defaultValue = "") FieldMask fields) {
+        return new ResponseEntity<>(newsFacade.findAll(page, size, fields), HttpStatus.OK);
     }
 
     /**
-     * Method which shows {@link News} with specified id
+     * Method which shows {@link News} with specified id.
+     * Response has ETag of news versions, news is not loaded when client has actual versions
      *
-     * @param id {@link News} objects id for search
-     * @return {@link NewsDto} object or Http Code NOT_FOUND(404)
+     * @param id      {@link News} objects id for search
+     * @param fields  list of requested fields, separated by comma
+     * @param request request with conditional headers
+     * @return {@link NewsDto} object, Http Code NOT_MODIFIED(304) or NOT_FOUND(404)
      */
     @GetMapping(value = "/{id}")
-    public ResponseEntity<NewsDto> findNewsById(@PathVariable Long id) {
-        return newsFacade.findById(id)
-                .map(value -> new ResponseEntity<>(value, HttpStatus.OK))
-                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    public ResponseEntity<NewsDto> findNewsById(@PathVariable Long id,
+                                                @RequestParam(defaultValue = "") FieldMask fields,
+                                                WebRequest request) {
+        return conditional(id, request, () -> newsFacade.findById(id, fields));
+    }
+
+    /**
+     * Method which shows {@link News} objects with specified ids
+     *
+     * @param ids    {@link News} objects ids for search
+     * @param fields list of requested fields, separated by comma
+     * @return {@link NewsSimpleDtoList} in order of requested ids, with ids of not found news
+     */
+    @GetMapping(params = {"ids"})
+    public ResponseEntity<NewsSimpleDtoList> findNewsByIds(@RequestParam List<Long> ids,
+                                                           @RequestParam(defaultValue = "") FieldMask fields) {
+        return new ResponseEntity<>(newsFacade.findByIds(ids, fields), HttpStatus.OK);
+    }
 
+    /**
+     * Method which shows changes of {@link News} made after provided token.
+     * Client passes token of previous response to receive only following changes
+     *
+     * @param since  token of previous changes, 0 for all news
+     * @param size   max count of changes
+     * @param fields list of requested fields, separated by comma
+     * @return {@link NewsChanges} with inserted, updated and deleted news and new token
+     */
+    @GetMapping(value = "/changes")
+    public ResponseEntity<NewsChanges> findNewsChanges(@RequestParam(defaultValue = "0") Long since,
+                                                       @RequestParam(defaultValue = "100") Integer size,
+                                                       @RequestParam(defaultValue = "") FieldMask fields) {
+        return new ResponseEntity<>(newsFacade.findChanges(since, size, fields), HttpStatus.OK);
     }
 
     /**
      * Method which shows {@link News} with specified id and pageable comments
      *
-     * @param id   {@link News} objects id for search
-     * @param page page number for comments
-     * @param size page size for comments
-     * @return {@link NewsDto} object or Http Code NOT_FOUND(404)
+     * @param id      {@link News} objects id for search
+     * @param page    page number for comments
+     * @param size    page size for comments
+     * @param fields  list of requested fields, separated by comma
+     * @param request request with conditional headers
+     * @return {@link NewsDto} object, Http Code NOT_MODIFIED(304) or NOT_FOUND(404)
      */
     @GetMapping(value = "/{id}", params = {"page", "size"})
     public ResponseEntity<NewsDto> findNewsByIdWithPageComment(@PathVariable Long id,
                                                                @RequestParam Integer page,
-                                                               @RequestParam Integer size) {
-        return newsFacade.findByIdWithPageComment(id, page, size)
-                .map(value -> new ResponseEntity<>(value, HttpStatus.OK))
-                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+                                                               @RequestParam Integer size,
+                                                               @RequestParam(defaultValue = "") FieldMask fields,
+                                                               WebRequest request) {
+        return conditional(id, request, () -> newsFacade.findByIdWithPageComment(id, page, size, fields));
     }
 
     /**
      * Method which finds {@link News} objects by text
      *
-     * @param text {@link News} object to find object by text
+     * @param text   {@link News} object to find object by text
+     * @param fields list of requested fields, separated by comma
      * @return {@link NewsSimpleDtoList} that have provided text
      */
     @GetMapping(params = {"text"})
-    public ResponseEntity<NewsSimpleDtoList> findNewsByText(@RequestParam String text) {
-        return new ResponseEntity<>(newsFacade.findByText(text), HttpStatus.OK);
+    public DeferredResult<ResponseEntity<NewsSimpleDtoList>> findNewsByText(@RequestParam String text,
+                                                                            @RequestParam(defaultValue = "") FieldMask fields) {
+        return searchBulkhead.submit(() -> new ResponseEntity<>(newsFacade.findByText(text, fields), HttpStatus.OK));
     }
 
     /**
      * Method which finds {@link News} objects by text partially contains param
      *
      * @param textLike {@link News} object to find object by text
+     * @param fields   list of requested fields, separated by comma
      * @return {@link NewsSimpleDtoList} that have provided text
      */
     @GetMapping(params = {"textLike"})
-    public ResponseEntity<NewsSimpleDtoList> findNewsByTextLike(@RequestParam String textLike) {
-        return new ResponseEntity<>(newsFacade.findByTextContains(textLike), HttpStatus.OK);
+    public DeferredResult<ResponseEntity<NewsSimpleDtoList>> findNewsByTextLike(@RequestParam String textLike,
+                                                                                @RequestParam(defaultValue = "") FieldMask fields) {
+        return searchBulkhead.submit(() ->
+                new ResponseEntity<>(newsFacade.findByTextContains(textLike, fields), HttpStatus.OK));
     }
 
     /**
      * Method which finds {@link News} objects by text
      *
-     * @param title {@link News} object to find object by text
+     * @param title  {@link News} object to find object by text
+     * @param fields list of requested fields, separated by comma
      * @return {@link NewsSimpleDtoList} that have provided text
      */
     @GetMapping(params = {"title"})
-    public ResponseEntity<NewsSimpleDtoList> findNewsByTitle(@RequestParam String title) {
-        return new ResponseEntity<>(newsFacade.findByTitle(title), HttpStatus.OK);
+    public DeferredResult<ResponseEntity<NewsSimpleDtoList>> findNewsByTitle(@RequestParam String title,
+                                                                             @RequestParam(defaultValue = "") FieldMask fields) {
+        return searchBulkhead.submit(() -> new ResponseEntity<>(newsFacade.findByTitle(title, fields), HttpStatus.OK));
     }
 
     /**
      * Method which finds {@link News} objects by text partially contains param
      *
      * @param titleLike {@link News} object to find object by title
+     * @param fields    list of requested fields, separated by comma
      * @return {@link NewsSimpleDtoList} that have provided text
      */
     @GetMapping(params = {"titleLike"})
-    public ResponseEntity<NewsSimpleDtoList> findNewsByTitleLike(@RequestParam String titleLike) {
-        return new ResponseEntity<>(newsFacade.findByTitleContains(titleLike), HttpStatus.OK);
+    public DeferredResult<ResponseEntity<NewsSimpleDtoList>> findNewsByTitleLike(@RequestParam String titleLike,
+                                                                                 @RequestParam(defaultValue = "") FieldMask fields) {
+        return searchBulkhead.submit(() ->
+                new ResponseEntity<>(newsFacade.findByTitleContains(titleLike, fields), HttpStatus.OK));
     }
 
     /**
@@ -149,18 +213,22 @@ public class NewsController {
     }
 
     /**
-     * Method which updates {@link News}
+     * Method which updates {@link News}.
+     * When If-Match header is provided, news is updated only if it has the same edit version,
+     * so comments, created after news was read, don't fail update
      *
-     * @param id   {@link News} from request url
-     * @param news {@link NewsSimpleDto} object dto to update
-     * @param user {@link User} that call method
+     * @param id      {@link News} from request url
+     * @param news    {@link NewsSimpleDto} object dto to update
+     * @param user    {@link User} that call method
+     * @param ifMatch ETag of expected news version, may be missing
      */
     @PreAuthorize("hasAnyAuthority('ADMIN', 'JOURNALIST')")
     @PutMapping(value = "/{id}")
     public ResponseEntity<Void> updateNews(@PathVariable Long id,
                                            @RequestBody NewsSimpleDto news,
-                                           @AuthenticationPrincipal User user) {
-        newsFacade.update(id, news, user);
+                                           @AuthenticationPrincipal User user,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        newsFacade.update(id, news, user, ETags.parseEditVersion(ifMatch));
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
@@ -177,4 +245,23 @@ public class NewsController {
         newsFacade.deleteById(id, user);
         return new ResponseEntity<>(HttpStatus.OK);
     }
+
+    //Version is cached, so actual client gets NOT_MODIFIED without loading of news.
+    //Stale version or news don't match each other, so they are sent without tag
+    private ResponseEntity<NewsDto> conditional(Long id, WebRequest request, Supplier<Optional<NewsDto>> loader) {
+        Optional<NewsVersion> version = newsFacade.findVersion(id);
+        if (!version.isPresent()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        String etag = ETags.of(version.get().getEditVersion(), version.get().getVersion());
+        if (!StaleWhileRevalidateAspect.servedStale()
+                && ETags.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return loader.get()
+                .map(value -> StaleWhileRevalidateAspect.servedStale()
+                        ? new ResponseEntity<>(value, HttpStatus.OK)
+                        : ResponseEntity.ok().eTag(etag).body(value))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
 }
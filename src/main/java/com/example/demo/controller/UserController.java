@@ -2,6 +2,7 @@ package com.example.demo.controller;
 
 import com.example.demo.entity.User;
 import com.example.demo.facade.UserCrudFacade;
+import com.google.protobuf.FieldMask;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -14,8 +15,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
+import static com.example.demo.dto.CommentProto.CommentSimpleDtoList;
+import static com.example.demo.dto.NewsProto.NewsSimpleDtoList;
 import static com.example.demo.dto.UserProto.UserDto;
 import static com.example.demo.dto.UserProto.UserSimpleDto;
 import static com.example.demo.dto.UserProto.UserSimpleDtoList;
@@ -37,27 +43,77 @@ public class UserController {
     /**
      * Method which shows all available {@link User}
      *
+     * @param fields list of requested fields, separated by comma
      * @return {@link UserSimpleDtoList} of {@link UserSimpleDto}
      */
     @GetMapping
-    public ResponseEntity<UserSimpleDtoList> findAllUser() {
-        return new ResponseEntity<>(userFacade.findAll(), HttpStatus.OK);
+    public ResponseEntity<UserSimpleDtoList> findAllUser(@RequestParam(defaultValue = "") FieldMask fields) {
+        return new ResponseEntity<>(userFacade.findAll(fields), HttpStatus.OK);
     }
 
     /**
      * Method which shows {@link User} with specified id
      *
-     * @param id {@link User} objects id for search
+     * @param id     {@link User} objects id for search
+     * @param fields list of requested fields, separated by comma
      * @return {@link UserDto} object or Http Code NOT_FOUND(404)
      */
     @GetMapping(value = "/{id}")
-    public ResponseEntity<UserDto> findUserById(@PathVariable Long id) {
-        return userFacade.findById(id)
+    public ResponseEntity<UserDto> findUserById(@PathVariable Long id,
+                                                @RequestParam(defaultValue = "") FieldMask fields) {
+        return userFacade.findById(id, fields)
                 .map(value -> new ResponseEntity<>(value, HttpStatus.OK))
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
 
     }
 
+    /**
+     * Method which shows news of {@link User} from newest to oldest by cursor pages
+     *
+     * @param id     {@link User} objects id
+     * @param cursor cursor, returned with previous page, empty for first page
+     * @param size   page size
+     * @param fields list of requested fields, separated by comma
+     * @return {@link NewsSimpleDtoList} with cursor of next page
+     */
+    @GetMapping(value = "/{id}/news")
+    public ResponseEntity<NewsSimpleDtoList> findUserNews(@PathVariable Long id,
+                                                          @RequestParam(defaultValue = "") String cursor,
+                                                          @RequestParam(defaultValue = "10") Integer size,
+                                                          @RequestParam(defaultValue = "") FieldMask fields) {
+        return new ResponseEntity<>(userFacade.findNews(id, cursor, size, fields), HttpStatus.OK);
+    }
+
+    /**
+     * Method which shows comments of {@link User} from newest to oldest by cursor pages
+     *
+     * @param id     {@link User} objects id
+     * @param cursor cursor, returned with previous page, empty for first page
+     * @param size   page size
+     * @param fields list of requested fields, separated by comma
+     * @return {@link CommentSimpleDtoList} with cursor of next page
+     */
+    @GetMapping(value = "/{id}/comments")
+    public ResponseEntity<CommentSimpleDtoList> findUserComments(@PathVariable Long id,
+                                                                 @RequestParam(defaultValue = "") String cursor,
+                                                                 @RequestParam(defaultValue = "10") Integer size,
+                                                                 @RequestParam(defaultValue = "") FieldMask fields) {
+        return new ResponseEntity<>(userFacade.findComments(id, cursor, size, fields), HttpStatus.OK);
+    }
+
+    /**
+     * Method which shows {@link User} objects with specified ids
+     *
+     * @param ids    {@link User} objects ids for search
+     * @param fields list of requested fields, separated by comma
+     * @return {@link UserSimpleDtoList} in order of requested ids, with ids of not found users
+     */
+    @GetMapping(params = {"ids"})
+    public ResponseEntity<UserSimpleDtoList> findUserByIds(@RequestParam List<Long> ids,
+                                                           @RequestParam(defaultValue = "") FieldMask fields) {
+        return new ResponseEntity<>(userFacade.findByIds(ids, fields), HttpStatus.OK);
+    }
+
     /**
      * Method which creates new {@link User}
      *
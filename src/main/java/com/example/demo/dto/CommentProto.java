@@ -2740,6 +2740,29 @@ public final class CommentProto {
      */
     com.example.demo.dto.CommentProto.CommentSimpleDtoOrBuilder getCommentDtoOrBuilder(
         int index);
+
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     */
+    java.util.List<java.lang.Long> getMissingIdsList();
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     */
+    int getMissingIdsCount();
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     */
+    long getMissingIds(int index);
+
+    /**
+     * <code>optional string next_cursor = 3;</code>
+     */
+    java.lang.String getNextCursor();
+    /**
+     * <code>optional string next_cursor = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getNextCursorBytes();
   }
   /**
    * Protobuf type {@code proto.CommentSimpleDtoList}
@@ -2754,6 +2777,8 @@ public final class CommentProto {
     }
     private CommentSimpleDtoList() {
       commentDto_ = java.util.Collections.emptyList();
+      missingIds_ = java.util.Collections.emptyList();
+      nextCursor_ = "";
     }
 
     @java.lang.Override
@@ -2790,6 +2815,33 @@ public final class CommentProto {
                   input.readMessage(com.example.demo.dto.CommentProto.CommentSimpleDto.parser(), extensionRegistry));
               break;
             }
+            case 16: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                missingIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              missingIds_.add(input.readInt64());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+                missingIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                missingIds_.add(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              nextCursor_ = s;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2801,6 +2853,9 @@ public final class CommentProto {
         if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
           commentDto_ = java.util.Collections.unmodifiableList(commentDto_);
         }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          missingIds_ = java.util.Collections.unmodifiableList(missingIds_);
+        }
         makeExtensionsImmutable();
       }
     }
@@ -2816,6 +2871,7 @@ public final class CommentProto {
               com.example.demo.dto.CommentProto.CommentSimpleDtoList.class, com.example.demo.dto.CommentProto.CommentSimpleDtoList.Builder.class);
     }
 
+    private int bitField0_;
     public static final int COMMENTDTO_FIELD_NUMBER = 1;
     private java.util.List<com.example.demo.dto.CommentProto.CommentSimpleDto> commentDto_;
     /**
@@ -2851,6 +2907,63 @@ public final class CommentProto {
       return commentDto_.get(index);
     }
 
+    public static final int MISSING_IDS_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Long> missingIds_;
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     */
+    public java.util.List<java.lang.Long>
+        getMissingIdsList() {
+      return missingIds_;
+    }
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     */
+    public int getMissingIdsCount() {
+      return missingIds_.size();
+    }
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     */
+    public long getMissingIds(int index) {
+      return missingIds_.get(index);
+    }
+    private int missingIdsMemoizedSerializedSize = -1;
+
+    public static final int NEXT_CURSOR_FIELD_NUMBER = 3;
+    private volatile java.lang.Object nextCursor_;
+    /**
+     * <code>optional string next_cursor = 3;</code>
+     */
+    public java.lang.String getNextCursor() {
+      java.lang.Object ref = nextCursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        nextCursor_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string next_cursor = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNextCursorBytes() {
+      java.lang.Object ref = nextCursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nextCursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -2863,9 +2976,20 @@ public final class CommentProto {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      getSerializedSize();
       for (int i = 0; i < commentDto_.size(); i++) {
         output.writeMessage(1, commentDto_.get(i));
       }
+      if (getMissingIdsList().size() > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(missingIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < missingIds_.size(); i++) {
+        output.writeInt64NoTag(missingIds_.get(i));
+      }
+      if (!getNextCursorBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, nextCursor_);
+      }
     }
 
     public int getSerializedSize() {
@@ -2877,6 +3001,23 @@ public final class CommentProto {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, commentDto_.get(i));
       }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < missingIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(missingIds_.get(i));
+        }
+        size += dataSize;
+        if (!getMissingIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        missingIdsMemoizedSerializedSize = dataSize;
+      }
+      if (!getNextCursorBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, nextCursor_);
+      }
       memoizedSize = size;
       return size;
     }
@@ -2895,6 +3036,10 @@ public final class CommentProto {
       boolean result = true;
       result = result && getCommentDtoList()
           .equals(other.getCommentDtoList());
+      result = result && getMissingIdsList()
+          .equals(other.getMissingIdsList());
+      result = result && getNextCursor()
+          .equals(other.getNextCursor());
       return result;
     }
 
@@ -2909,6 +3054,12 @@ public final class CommentProto {
         hash = (37 * hash) + COMMENTDTO_FIELD_NUMBER;
         hash = (53 * hash) + getCommentDtoList().hashCode();
       }
+      if (getMissingIdsCount() > 0) {
+        hash = (37 * hash) + MISSING_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getMissingIdsList().hashCode();
+      }
+      hash = (37 * hash) + NEXT_CURSOR_FIELD_NUMBER;
+      hash = (53 * hash) + getNextCursor().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -3034,6 +3185,10 @@ public final class CommentProto {
         } else {
           commentDtoBuilder_.clear();
         }
+        missingIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        nextCursor_ = "";
+
         return this;
       }
 
@@ -3057,6 +3212,7 @@ public final class CommentProto {
       public com.example.demo.dto.CommentProto.CommentSimpleDtoList buildPartial() {
         com.example.demo.dto.CommentProto.CommentSimpleDtoList result = new com.example.demo.dto.CommentProto.CommentSimpleDtoList(this);
         int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
         if (commentDtoBuilder_ == null) {
           if (((bitField0_ & 0x00000001) == 0x00000001)) {
             commentDto_ = java.util.Collections.unmodifiableList(commentDto_);
@@ -3066,6 +3222,13 @@ public final class CommentProto {
         } else {
           result.commentDto_ = commentDtoBuilder_.build();
         }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          missingIds_ = java.util.Collections.unmodifiableList(missingIds_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.missingIds_ = missingIds_;
+        result.nextCursor_ = nextCursor_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -3133,6 +3296,20 @@ public final class CommentProto {
             }
           }
         }
+        if (!other.missingIds_.isEmpty()) {
+          if (missingIds_.isEmpty()) {
+            missingIds_ = other.missingIds_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureMissingIdsIsMutable();
+            missingIds_.addAll(other.missingIds_);
+          }
+          onChanged();
+        }
+        if (!other.getNextCursor().isEmpty()) {
+          nextCursor_ = other.nextCursor_;
+          onChanged();
+        }
         onChanged();
         return this;
       }
@@ -3399,6 +3576,141 @@ public final class CommentProto {
         }
         return commentDtoBuilder_;
       }
+
+      private java.util.List<java.lang.Long> missingIds_ = java.util.Collections.emptyList();
+      private void ensureMissingIdsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          missingIds_ = new java.util.ArrayList<java.lang.Long>(missingIds_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public java.util.List<java.lang.Long>
+          getMissingIdsList() {
+        return java.util.Collections.unmodifiableList(missingIds_);
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public int getMissingIdsCount() {
+        return missingIds_.size();
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public long getMissingIds(int index) {
+        return missingIds_.get(index);
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public Builder setMissingIds(
+          int index, long value) {
+        ensureMissingIdsIsMutable();
+        missingIds_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public Builder addMissingIds(long value) {
+        ensureMissingIdsIsMutable();
+        missingIds_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public Builder addAllMissingIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureMissingIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, missingIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public Builder clearMissingIds() {
+        missingIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object nextCursor_ = "";
+      /**
+       * <code>optional string next_cursor = 3;</code>
+       */
+      public java.lang.String getNextCursor() {
+        java.lang.Object ref = nextCursor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          nextCursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string next_cursor = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNextCursorBytes() {
+        java.lang.Object ref = nextCursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nextCursor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string next_cursor = 3;</code>
+       */
+      public Builder setNextCursor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        nextCursor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string next_cursor = 3;</code>
+       */
+      public Builder clearNextCursor() {
+        
+        nextCursor_ = getDefaultInstance().getNextCursor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string next_cursor = 3;</code>
+       */
+      public Builder setNextCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        nextCursor_ = value;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return this;
@@ -3448,53 +3760,3090 @@ public final class CommentProto {
 
   }
 
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_proto_CommentDto_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_proto_CommentDto_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_proto_CommentNews_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_proto_CommentNews_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_proto_CommentSimpleDto_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_proto_CommentSimpleDto_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_proto_CommentSimpleDtoList_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_proto_CommentSimpleDtoList_fieldAccessorTable;
+  public interface CommentOperationOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.CommentOperation)
+      com.google.protobuf.MessageOrBuilder {
 
-  public static com.google.protobuf.Descriptors.FileDescriptor
-      getDescriptor() {
-    return descriptor;
+    /**
+     * <code>optional .proto.CommentOperation.Type type = 1;</code>
+     */
+    int getTypeValue();
+    /**
+     * <code>optional .proto.CommentOperation.Type type = 1;</code>
+     */
+    com.example.demo.dto.CommentProto.CommentOperation.Type getType();
+
+    /**
+     * <code>optional .proto.CommentSimpleDto comment = 2;</code>
+     */
+    boolean hasComment();
+    /**
+     * <code>optional .proto.CommentSimpleDto comment = 2;</code>
+     */
+    com.example.demo.dto.CommentProto.CommentSimpleDto getComment();
+    /**
+     * <code>optional .proto.CommentSimpleDto comment = 2;</code>
+     */
+    com.example.demo.dto.CommentProto.CommentSimpleDtoOrBuilder getCommentOrBuilder();
   }
-  private static  com.google.protobuf.Descriptors.FileDescriptor
-      descriptor;
-  static {
-    java.lang.String[] descriptorData = {
-      "\n\rComment.proto\022\005proto\"g\n\nCommentDto\022\n\n\002" +
-      "id\030\001 \001(\003\022\014\n\004date\030\002 \001(\t\022\014\n\004text\030\003 \001(\t\022\017\n\007" +
-      "user_id\030\004 \001(\003\022 \n\004news\030\005 \001(\0132\022.proto.Comm" +
-      "entNews\"U\n\013CommentNews\022\n\n\002id\030\001 \001(\003\022\014\n\004da" +
-      "te\030\002 \001(\t\022\r\n\005title\030\003 \001(\t\022\014\n\004text\030\004 \001(\t\022\017\n" +
-      "\007user_id\030\005 \001(\003\"\\\n\020CommentSimpleDto\022\n\n\002id" +
-      "\030\001 \001(\003\022\014\n\004date\030\002 \001(\t\022\014\n\004text\030\003 \001(\t\022\017\n\007us" +
-      "er_id\030\004 \001(\003\022\017\n\007news_id\030\005 \001(\003\"C\n\024CommentS" +
-      "impleDtoList\022+\n\ncommentDto\030\001 \003(\0132\027.proto" +
-      ".CommentSimpleDtoB$\n\024com.example.demo.dt",
-      "oB\014CommentProtob\006proto3"
-    };
-    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
-        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
-          public com.google.protobuf.ExtensionRegistry assignDescriptors(
-              com.google.protobuf.Descriptors.FileDescriptor root) {
-            descriptor = root;
-            return null;
+  /**
+   * Protobuf type {@code proto.CommentOperation}
+   */
+  public  static final class CommentOperation extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.CommentOperation)
+      CommentOperationOrBuilder {
+    // Use CommentOperation.newBuilder() to construct.
+    private CommentOperation(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CommentOperation() {
+      type_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private CommentOperation(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              int rawValue = input.readEnum();
+
+              type_ = rawValue;
+              break;
+            }
+            case 18: {
+              com.example.demo.dto.CommentProto.CommentSimpleDto.Builder subBuilder = null;
+              if (comment_ != null) {
+                subBuilder = comment_.toBuilder();
+              }
+              comment_ = input.readMessage(com.example.demo.dto.CommentProto.CommentSimpleDto.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(comment_);
+                comment_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.example.demo.dto.CommentProto.internal_static_proto_CommentOperation_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.example.demo.dto.CommentProto.internal_static_proto_CommentOperation_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.example.demo.dto.CommentProto.CommentOperation.class, com.example.demo.dto.CommentProto.CommentOperation.Builder.class);
+    }
+
+    /**
+     * Protobuf enum {@code proto.CommentOperation.Type}
+     */
+    public enum Type
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>CREATE = 0;</code>
+       */
+      CREATE(0),
+      /**
+       * <code>UPDATE = 1;</code>
+       */
+      UPDATE(1),
+      /**
+       * <code>DELETE = 2;</code>
+       */
+      DELETE(2),
+      UNRECOGNIZED(-1),
+      ;
+
+      /**
+       * <code>CREATE = 0;</code>
+       */
+      public static final int CREATE_VALUE = 0;
+      /**
+       * <code>UPDATE = 1;</code>
+       */
+      public static final int UPDATE_VALUE = 1;
+      /**
+       * <code>DELETE = 2;</code>
+       */
+      public static final int DELETE_VALUE = 2;
+
+
+      public final int getNumber() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalArgumentException(
+              "Can't get the number of an unknown enum value.");
+        }
+        return value;
+      }
+
+      /**
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static Type valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static Type forNumber(int value) {
+        switch (value) {
+          case 0: return CREATE;
+          case 1: return UPDATE;
+          case 2: return DELETE;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<Type>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          Type> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<Type>() {
+              public Type findValueByNumber(int number) {
+                return Type.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return com.example.demo.dto.CommentProto.CommentOperation.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final Type[] VALUES = values();
+
+      public static Type valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        if (desc.getIndex() == -1) {
+          return UNRECOGNIZED;
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int value;
+
+      private Type(int value) {
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:proto.CommentOperation.Type)
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 1;
+    private int type_;
+    /**
+     * <code>optional .proto.CommentOperation.Type type = 1;</code>
+     */
+    public int getTypeValue() {
+      return type_;
+    }
+    /**
+     * <code>optional .proto.CommentOperation.Type type = 1;</code>
+     */
+    public com.example.demo.dto.CommentProto.CommentOperation.Type getType() {
+      com.example.demo.dto.CommentProto.CommentOperation.Type result = com.example.demo.dto.CommentProto.CommentOperation.Type.valueOf(type_);
+      return result == null ? com.example.demo.dto.CommentProto.CommentOperation.Type.UNRECOGNIZED : result;
+    }
+
+    public static final int COMMENT_FIELD_NUMBER = 2;
+    private com.example.demo.dto.CommentProto.CommentSimpleDto comment_;
+    /**
+     * <code>optional .proto.CommentSimpleDto comment = 2;</code>
+     */
+    public boolean hasComment() {
+      return comment_ != null;
+    }
+    /**
+     * <code>optional .proto.CommentSimpleDto comment = 2;</code>
+     */
+    public com.example.demo.dto.CommentProto.CommentSimpleDto getComment() {
+      return comment_ == null ? com.example.demo.dto.CommentProto.CommentSimpleDto.getDefaultInstance() : comment_;
+    }
+    /**
+     * <code>optional .proto.CommentSimpleDto comment = 2;</code>
+     */
+    public com.example.demo.dto.CommentProto.CommentSimpleDtoOrBuilder getCommentOrBuilder() {
+      return getComment();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (type_ != com.example.demo.dto.CommentProto.CommentOperation.Type.CREATE.getNumber()) {
+        output.writeEnum(1, type_);
+      }
+      if (comment_ != null) {
+        output.writeMessage(2, getComment());
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (type_ != com.example.demo.dto.CommentProto.CommentOperation.Type.CREATE.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, type_);
+      }
+      if (comment_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getComment());
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.example.demo.dto.CommentProto.CommentOperation)) {
+        return super.equals(obj);
+      }
+      com.example.demo.dto.CommentProto.CommentOperation other = (com.example.demo.dto.CommentProto.CommentOperation) obj;
+
+      boolean result = true;
+      result = result && type_ == other.type_;
+      result = result && (hasComment() == other.hasComment());
+      if (hasComment()) {
+        result = result && getComment()
+            .equals(other.getComment());
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + type_;
+      if (hasComment()) {
+        hash = (37 * hash) + COMMENT_FIELD_NUMBER;
+        hash = (53 * hash) + getComment().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.example.demo.dto.CommentProto.CommentOperation parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperation parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperation parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperation parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperation parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperation parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperation parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperation parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperation parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperation parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.example.demo.dto.CommentProto.CommentOperation prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code proto.CommentOperation}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.CommentOperation)
+        com.example.demo.dto.CommentProto.CommentOperationOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.example.demo.dto.CommentProto.internal_static_proto_CommentOperation_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.example.demo.dto.CommentProto.internal_static_proto_CommentOperation_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.example.demo.dto.CommentProto.CommentOperation.class, com.example.demo.dto.CommentProto.CommentOperation.Builder.class);
+      }
+
+      // Construct using com.example.demo.dto.CommentProto.CommentOperation.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        type_ = 0;
+
+        if (commentBuilder_ == null) {
+          comment_ = null;
+        } else {
+          comment_ = null;
+          commentBuilder_ = null;
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.example.demo.dto.CommentProto.internal_static_proto_CommentOperation_descriptor;
+      }
+
+      public com.example.demo.dto.CommentProto.CommentOperation getDefaultInstanceForType() {
+        return com.example.demo.dto.CommentProto.CommentOperation.getDefaultInstance();
+      }
+
+      public com.example.demo.dto.CommentProto.CommentOperation build() {
+        com.example.demo.dto.CommentProto.CommentOperation result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.example.demo.dto.CommentProto.CommentOperation buildPartial() {
+        com.example.demo.dto.CommentProto.CommentOperation result = new com.example.demo.dto.CommentProto.CommentOperation(this);
+        result.type_ = type_;
+        if (commentBuilder_ == null) {
+          result.comment_ = comment_;
+        } else {
+          result.comment_ = commentBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.example.demo.dto.CommentProto.CommentOperation) {
+          return mergeFrom((com.example.demo.dto.CommentProto.CommentOperation)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.example.demo.dto.CommentProto.CommentOperation other) {
+        if (other == com.example.demo.dto.CommentProto.CommentOperation.getDefaultInstance()) return this;
+        if (other.type_ != 0) {
+          setTypeValue(other.getTypeValue());
+        }
+        if (other.hasComment()) {
+          mergeComment(other.getComment());
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.example.demo.dto.CommentProto.CommentOperation parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.example.demo.dto.CommentProto.CommentOperation) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int type_ = 0;
+      /**
+       * <code>optional .proto.CommentOperation.Type type = 1;</code>
+       */
+      public int getTypeValue() {
+        return type_;
+      }
+      /**
+       * <code>optional .proto.CommentOperation.Type type = 1;</code>
+       */
+      public Builder setTypeValue(int value) {
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .proto.CommentOperation.Type type = 1;</code>
+       */
+      public com.example.demo.dto.CommentProto.CommentOperation.Type getType() {
+        com.example.demo.dto.CommentProto.CommentOperation.Type result = com.example.demo.dto.CommentProto.CommentOperation.Type.valueOf(type_);
+        return result == null ? com.example.demo.dto.CommentProto.CommentOperation.Type.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>optional .proto.CommentOperation.Type type = 1;</code>
+       */
+      public Builder setType(com.example.demo.dto.CommentProto.CommentOperation.Type value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        type_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .proto.CommentOperation.Type type = 1;</code>
+       */
+      public Builder clearType() {
+        
+        type_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.example.demo.dto.CommentProto.CommentSimpleDto comment_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.example.demo.dto.CommentProto.CommentSimpleDto, com.example.demo.dto.CommentProto.CommentSimpleDto.Builder, com.example.demo.dto.CommentProto.CommentSimpleDtoOrBuilder> commentBuilder_;
+      /**
+       * <code>optional .proto.CommentSimpleDto comment = 2;</code>
+       */
+      public boolean hasComment() {
+        return commentBuilder_ != null || comment_ != null;
+      }
+      /**
+       * <code>optional .proto.CommentSimpleDto comment = 2;</code>
+       */
+      public com.example.demo.dto.CommentProto.CommentSimpleDto getComment() {
+        if (commentBuilder_ == null) {
+          return comment_ == null ? com.example.demo.dto.CommentProto.CommentSimpleDto.getDefaultInstance() : comment_;
+        } else {
+          return commentBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .proto.CommentSimpleDto comment = 2;</code>
+       */
+      public Builder setComment(com.example.demo.dto.CommentProto.CommentSimpleDto value) {
+        if (commentBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          comment_ = value;
+          onChanged();
+        } else {
+          commentBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .proto.CommentSimpleDto comment = 2;</code>
+       */
+      public Builder setComment(
+          com.example.demo.dto.CommentProto.CommentSimpleDto.Builder builderForValue) {
+        if (commentBuilder_ == null) {
+          comment_ = builderForValue.build();
+          onChanged();
+        } else {
+          commentBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .proto.CommentSimpleDto comment = 2;</code>
+       */
+      public Builder mergeComment(com.example.demo.dto.CommentProto.CommentSimpleDto value) {
+        if (commentBuilder_ == null) {
+          if (comment_ != null) {
+            comment_ =
+              com.example.demo.dto.CommentProto.CommentSimpleDto.newBuilder(comment_).mergeFrom(value).buildPartial();
+          } else {
+            comment_ = value;
+          }
+          onChanged();
+        } else {
+          commentBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .proto.CommentSimpleDto comment = 2;</code>
+       */
+      public Builder clearComment() {
+        if (commentBuilder_ == null) {
+          comment_ = null;
+          onChanged();
+        } else {
+          comment_ = null;
+          commentBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .proto.CommentSimpleDto comment = 2;</code>
+       */
+      public com.example.demo.dto.CommentProto.CommentSimpleDto.Builder getCommentBuilder() {
+        
+        onChanged();
+        return getCommentFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .proto.CommentSimpleDto comment = 2;</code>
+       */
+      public com.example.demo.dto.CommentProto.CommentSimpleDtoOrBuilder getCommentOrBuilder() {
+        if (commentBuilder_ != null) {
+          return commentBuilder_.getMessageOrBuilder();
+        } else {
+          return comment_ == null ?
+              com.example.demo.dto.CommentProto.CommentSimpleDto.getDefaultInstance() : comment_;
+        }
+      }
+      /**
+       * <code>optional .proto.CommentSimpleDto comment = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.example.demo.dto.CommentProto.CommentSimpleDto, com.example.demo.dto.CommentProto.CommentSimpleDto.Builder, com.example.demo.dto.CommentProto.CommentSimpleDtoOrBuilder> 
+          getCommentFieldBuilder() {
+        if (commentBuilder_ == null) {
+          commentBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.example.demo.dto.CommentProto.CommentSimpleDto, com.example.demo.dto.CommentProto.CommentSimpleDto.Builder, com.example.demo.dto.CommentProto.CommentSimpleDtoOrBuilder>(
+                  getComment(),
+                  getParentForChildren(),
+                  isClean());
+          comment_ = null;
+        }
+        return commentBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.CommentOperation)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.CommentOperation)
+    private static final com.example.demo.dto.CommentProto.CommentOperation DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.example.demo.dto.CommentProto.CommentOperation();
+    }
+
+    public static com.example.demo.dto.CommentProto.CommentOperation getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CommentOperation>
+        PARSER = new com.google.protobuf.AbstractParser<CommentOperation>() {
+      public CommentOperation parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new CommentOperation(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CommentOperation> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CommentOperation> getParserForType() {
+      return PARSER;
+    }
+
+    public com.example.demo.dto.CommentProto.CommentOperation getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CommentBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.CommentBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .proto.CommentOperation operations = 1;</code>
+     */
+    java.util.List<com.example.demo.dto.CommentProto.CommentOperation> 
+        getOperationsList();
+    /**
+     * <code>repeated .proto.CommentOperation operations = 1;</code>
+     */
+    com.example.demo.dto.CommentProto.CommentOperation getOperations(int index);
+    /**
+     * <code>repeated .proto.CommentOperation operations = 1;</code>
+     */
+    int getOperationsCount();
+    /**
+     * <code>repeated .proto.CommentOperation operations = 1;</code>
+     */
+    java.util.List<? extends com.example.demo.dto.CommentProto.CommentOperationOrBuilder> 
+        getOperationsOrBuilderList();
+    /**
+     * <code>repeated .proto.CommentOperation operations = 1;</code>
+     */
+    com.example.demo.dto.CommentProto.CommentOperationOrBuilder getOperationsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code proto.CommentBatch}
+   */
+  public  static final class CommentBatch extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.CommentBatch)
+      CommentBatchOrBuilder {
+    // Use CommentBatch.newBuilder() to construct.
+    private CommentBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CommentBatch() {
+      operations_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private CommentBatch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                operations_ = new java.util.ArrayList<com.example.demo.dto.CommentProto.CommentOperation>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              operations_.add(
+                  input.readMessage(com.example.demo.dto.CommentProto.CommentOperation.parser(), extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          operations_ = java.util.Collections.unmodifiableList(operations_);
+        }
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.example.demo.dto.CommentProto.internal_static_proto_CommentBatch_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.example.demo.dto.CommentProto.internal_static_proto_CommentBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.example.demo.dto.CommentProto.CommentBatch.class, com.example.demo.dto.CommentProto.CommentBatch.Builder.class);
+    }
+
+    public static final int OPERATIONS_FIELD_NUMBER = 1;
+    private java.util.List<com.example.demo.dto.CommentProto.CommentOperation> operations_;
+    /**
+     * <code>repeated .proto.CommentOperation operations = 1;</code>
+     */
+    public java.util.List<com.example.demo.dto.CommentProto.CommentOperation> getOperationsList() {
+      return operations_;
+    }
+    /**
+     * <code>repeated .proto.CommentOperation operations = 1;</code>
+     */
+    public java.util.List<? extends com.example.demo.dto.CommentProto.CommentOperationOrBuilder> 
+        getOperationsOrBuilderList() {
+      return operations_;
+    }
+    /**
+     * <code>repeated .proto.CommentOperation operations = 1;</code>
+     */
+    public int getOperationsCount() {
+      return operations_.size();
+    }
+    /**
+     * <code>repeated .proto.CommentOperation operations = 1;</code>
+     */
+    public com.example.demo.dto.CommentProto.CommentOperation getOperations(int index) {
+      return operations_.get(index);
+    }
+    /**
+     * <code>repeated .proto.CommentOperation operations = 1;</code>
+     */
+    public com.example.demo.dto.CommentProto.CommentOperationOrBuilder getOperationsOrBuilder(
+        int index) {
+      return operations_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < operations_.size(); i++) {
+        output.writeMessage(1, operations_.get(i));
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < operations_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, operations_.get(i));
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.example.demo.dto.CommentProto.CommentBatch)) {
+        return super.equals(obj);
+      }
+      com.example.demo.dto.CommentProto.CommentBatch other = (com.example.demo.dto.CommentProto.CommentBatch) obj;
+
+      boolean result = true;
+      result = result && getOperationsList()
+          .equals(other.getOperationsList());
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (getOperationsCount() > 0) {
+        hash = (37 * hash) + OPERATIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getOperationsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.example.demo.dto.CommentProto.CommentBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.example.demo.dto.CommentProto.CommentBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code proto.CommentBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.CommentBatch)
+        com.example.demo.dto.CommentProto.CommentBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.example.demo.dto.CommentProto.internal_static_proto_CommentBatch_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.example.demo.dto.CommentProto.internal_static_proto_CommentBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.example.demo.dto.CommentProto.CommentBatch.class, com.example.demo.dto.CommentProto.CommentBatch.Builder.class);
+      }
+
+      // Construct using com.example.demo.dto.CommentProto.CommentBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getOperationsFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (operationsBuilder_ == null) {
+          operations_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          operationsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.example.demo.dto.CommentProto.internal_static_proto_CommentBatch_descriptor;
+      }
+
+      public com.example.demo.dto.CommentProto.CommentBatch getDefaultInstanceForType() {
+        return com.example.demo.dto.CommentProto.CommentBatch.getDefaultInstance();
+      }
+
+      public com.example.demo.dto.CommentProto.CommentBatch build() {
+        com.example.demo.dto.CommentProto.CommentBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.example.demo.dto.CommentProto.CommentBatch buildPartial() {
+        com.example.demo.dto.CommentProto.CommentBatch result = new com.example.demo.dto.CommentProto.CommentBatch(this);
+        int from_bitField0_ = bitField0_;
+        if (operationsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            operations_ = java.util.Collections.unmodifiableList(operations_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.operations_ = operations_;
+        } else {
+          result.operations_ = operationsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.example.demo.dto.CommentProto.CommentBatch) {
+          return mergeFrom((com.example.demo.dto.CommentProto.CommentBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.example.demo.dto.CommentProto.CommentBatch other) {
+        if (other == com.example.demo.dto.CommentProto.CommentBatch.getDefaultInstance()) return this;
+        if (operationsBuilder_ == null) {
+          if (!other.operations_.isEmpty()) {
+            if (operations_.isEmpty()) {
+              operations_ = other.operations_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureOperationsIsMutable();
+              operations_.addAll(other.operations_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.operations_.isEmpty()) {
+            if (operationsBuilder_.isEmpty()) {
+              operationsBuilder_.dispose();
+              operationsBuilder_ = null;
+              operations_ = other.operations_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              operationsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getOperationsFieldBuilder() : null;
+            } else {
+              operationsBuilder_.addAllMessages(other.operations_);
+            }
+          }
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.example.demo.dto.CommentProto.CommentBatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.example.demo.dto.CommentProto.CommentBatch) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.example.demo.dto.CommentProto.CommentOperation> operations_ =
+        java.util.Collections.emptyList();
+      private void ensureOperationsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          operations_ = new java.util.ArrayList<com.example.demo.dto.CommentProto.CommentOperation>(operations_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.example.demo.dto.CommentProto.CommentOperation, com.example.demo.dto.CommentProto.CommentOperation.Builder, com.example.demo.dto.CommentProto.CommentOperationOrBuilder> operationsBuilder_;
+
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public java.util.List<com.example.demo.dto.CommentProto.CommentOperation> getOperationsList() {
+        if (operationsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(operations_);
+        } else {
+          return operationsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public int getOperationsCount() {
+        if (operationsBuilder_ == null) {
+          return operations_.size();
+        } else {
+          return operationsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public com.example.demo.dto.CommentProto.CommentOperation getOperations(int index) {
+        if (operationsBuilder_ == null) {
+          return operations_.get(index);
+        } else {
+          return operationsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public Builder setOperations(
+          int index, com.example.demo.dto.CommentProto.CommentOperation value) {
+        if (operationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOperationsIsMutable();
+          operations_.set(index, value);
+          onChanged();
+        } else {
+          operationsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public Builder setOperations(
+          int index, com.example.demo.dto.CommentProto.CommentOperation.Builder builderForValue) {
+        if (operationsBuilder_ == null) {
+          ensureOperationsIsMutable();
+          operations_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          operationsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public Builder addOperations(com.example.demo.dto.CommentProto.CommentOperation value) {
+        if (operationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOperationsIsMutable();
+          operations_.add(value);
+          onChanged();
+        } else {
+          operationsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public Builder addOperations(
+          int index, com.example.demo.dto.CommentProto.CommentOperation value) {
+        if (operationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOperationsIsMutable();
+          operations_.add(index, value);
+          onChanged();
+        } else {
+          operationsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public Builder addOperations(
+          com.example.demo.dto.CommentProto.CommentOperation.Builder builderForValue) {
+        if (operationsBuilder_ == null) {
+          ensureOperationsIsMutable();
+          operations_.add(builderForValue.build());
+          onChanged();
+        } else {
+          operationsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public Builder addOperations(
+          int index, com.example.demo.dto.CommentProto.CommentOperation.Builder builderForValue) {
+        if (operationsBuilder_ == null) {
+          ensureOperationsIsMutable();
+          operations_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          operationsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public Builder addAllOperations(
+          java.lang.Iterable<? extends com.example.demo.dto.CommentProto.CommentOperation> values) {
+        if (operationsBuilder_ == null) {
+          ensureOperationsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, operations_);
+          onChanged();
+        } else {
+          operationsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public Builder clearOperations() {
+        if (operationsBuilder_ == null) {
+          operations_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          operationsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public Builder removeOperations(int index) {
+        if (operationsBuilder_ == null) {
+          ensureOperationsIsMutable();
+          operations_.remove(index);
+          onChanged();
+        } else {
+          operationsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public com.example.demo.dto.CommentProto.CommentOperation.Builder getOperationsBuilder(
+          int index) {
+        return getOperationsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public com.example.demo.dto.CommentProto.CommentOperationOrBuilder getOperationsOrBuilder(
+          int index) {
+        if (operationsBuilder_ == null) {
+          return operations_.get(index);  } else {
+          return operationsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public java.util.List<? extends com.example.demo.dto.CommentProto.CommentOperationOrBuilder> 
+           getOperationsOrBuilderList() {
+        if (operationsBuilder_ != null) {
+          return operationsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(operations_);
+        }
+      }
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public com.example.demo.dto.CommentProto.CommentOperation.Builder addOperationsBuilder() {
+        return getOperationsFieldBuilder().addBuilder(
+            com.example.demo.dto.CommentProto.CommentOperation.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public com.example.demo.dto.CommentProto.CommentOperation.Builder addOperationsBuilder(
+          int index) {
+        return getOperationsFieldBuilder().addBuilder(
+            index, com.example.demo.dto.CommentProto.CommentOperation.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.CommentOperation operations = 1;</code>
+       */
+      public java.util.List<com.example.demo.dto.CommentProto.CommentOperation.Builder> 
+           getOperationsBuilderList() {
+        return getOperationsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.example.demo.dto.CommentProto.CommentOperation, com.example.demo.dto.CommentProto.CommentOperation.Builder, com.example.demo.dto.CommentProto.CommentOperationOrBuilder> 
+          getOperationsFieldBuilder() {
+        if (operationsBuilder_ == null) {
+          operationsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.example.demo.dto.CommentProto.CommentOperation, com.example.demo.dto.CommentProto.CommentOperation.Builder, com.example.demo.dto.CommentProto.CommentOperationOrBuilder>(
+                  operations_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          operations_ = null;
+        }
+        return operationsBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.CommentBatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.CommentBatch)
+    private static final com.example.demo.dto.CommentProto.CommentBatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.example.demo.dto.CommentProto.CommentBatch();
+    }
+
+    public static com.example.demo.dto.CommentProto.CommentBatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CommentBatch>
+        PARSER = new com.google.protobuf.AbstractParser<CommentBatch>() {
+      public CommentBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new CommentBatch(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CommentBatch> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CommentBatch> getParserForType() {
+      return PARSER;
+    }
+
+    public com.example.demo.dto.CommentProto.CommentBatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CommentOperationResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.CommentOperationResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .proto.CommentOperationResult.Status status = 1;</code>
+     */
+    int getStatusValue();
+    /**
+     * <code>optional .proto.CommentOperationResult.Status status = 1;</code>
+     */
+    com.example.demo.dto.CommentProto.CommentOperationResult.Status getStatus();
+
+    /**
+     * <code>optional int64 id = 2;</code>
+     */
+    long getId();
+
+    /**
+     * <code>optional string message = 3;</code>
+     */
+    java.lang.String getMessage();
+    /**
+     * <code>optional string message = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getMessageBytes();
+  }
+  /**
+   * Protobuf type {@code proto.CommentOperationResult}
+   */
+  public  static final class CommentOperationResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.CommentOperationResult)
+      CommentOperationResultOrBuilder {
+    // Use CommentOperationResult.newBuilder() to construct.
+    private CommentOperationResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CommentOperationResult() {
+      status_ = 0;
+      id_ = 0L;
+      message_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private CommentOperationResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              int rawValue = input.readEnum();
+
+              status_ = rawValue;
+              break;
+            }
+            case 16: {
+
+              id_ = input.readInt64();
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              message_ = s;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.example.demo.dto.CommentProto.internal_static_proto_CommentOperationResult_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.example.demo.dto.CommentProto.internal_static_proto_CommentOperationResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.example.demo.dto.CommentProto.CommentOperationResult.class, com.example.demo.dto.CommentProto.CommentOperationResult.Builder.class);
+    }
+
+    /**
+     * Protobuf enum {@code proto.CommentOperationResult.Status}
+     */
+    public enum Status
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>OK = 0;</code>
+       */
+      OK(0),
+      /**
+       * <code>NOT_FOUND = 1;</code>
+       */
+      NOT_FOUND(1),
+      /**
+       * <code>FORBIDDEN = 2;</code>
+       */
+      FORBIDDEN(2),
+      /**
+       * <code>BAD_REQUEST = 3;</code>
+       */
+      BAD_REQUEST(3),
+      UNRECOGNIZED(-1),
+      ;
+
+      /**
+       * <code>OK = 0;</code>
+       */
+      public static final int OK_VALUE = 0;
+      /**
+       * <code>NOT_FOUND = 1;</code>
+       */
+      public static final int NOT_FOUND_VALUE = 1;
+      /**
+       * <code>FORBIDDEN = 2;</code>
+       */
+      public static final int FORBIDDEN_VALUE = 2;
+      /**
+       * <code>BAD_REQUEST = 3;</code>
+       */
+      public static final int BAD_REQUEST_VALUE = 3;
+
+
+      public final int getNumber() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalArgumentException(
+              "Can't get the number of an unknown enum value.");
+        }
+        return value;
+      }
+
+      /**
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static Status valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static Status forNumber(int value) {
+        switch (value) {
+          case 0: return OK;
+          case 1: return NOT_FOUND;
+          case 2: return FORBIDDEN;
+          case 3: return BAD_REQUEST;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<Status>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          Status> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<Status>() {
+              public Status findValueByNumber(int number) {
+                return Status.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return com.example.demo.dto.CommentProto.CommentOperationResult.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final Status[] VALUES = values();
+
+      public static Status valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        if (desc.getIndex() == -1) {
+          return UNRECOGNIZED;
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int value;
+
+      private Status(int value) {
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:proto.CommentOperationResult.Status)
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private int status_;
+    /**
+     * <code>optional .proto.CommentOperationResult.Status status = 1;</code>
+     */
+    public int getStatusValue() {
+      return status_;
+    }
+    /**
+     * <code>optional .proto.CommentOperationResult.Status status = 1;</code>
+     */
+    public com.example.demo.dto.CommentProto.CommentOperationResult.Status getStatus() {
+      com.example.demo.dto.CommentProto.CommentOperationResult.Status result = com.example.demo.dto.CommentProto.CommentOperationResult.Status.valueOf(status_);
+      return result == null ? com.example.demo.dto.CommentProto.CommentOperationResult.Status.UNRECOGNIZED : result;
+    }
+
+    public static final int ID_FIELD_NUMBER = 2;
+    private long id_;
+    /**
+     * <code>optional int64 id = 2;</code>
+     */
+    public long getId() {
+      return id_;
+    }
+
+    public static final int MESSAGE_FIELD_NUMBER = 3;
+    private volatile java.lang.Object message_;
+    /**
+     * <code>optional string message = 3;</code>
+     */
+    public java.lang.String getMessage() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        message_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string message = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getMessageBytes() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        message_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != com.example.demo.dto.CommentProto.CommentOperationResult.Status.OK.getNumber()) {
+        output.writeEnum(1, status_);
+      }
+      if (id_ != 0L) {
+        output.writeInt64(2, id_);
+      }
+      if (!getMessageBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, message_);
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != com.example.demo.dto.CommentProto.CommentOperationResult.Status.OK.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, status_);
+      }
+      if (id_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, id_);
+      }
+      if (!getMessageBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, message_);
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.example.demo.dto.CommentProto.CommentOperationResult)) {
+        return super.equals(obj);
+      }
+      com.example.demo.dto.CommentProto.CommentOperationResult other = (com.example.demo.dto.CommentProto.CommentOperationResult) obj;
+
+      boolean result = true;
+      result = result && status_ == other.status_;
+      result = result && (getId()
+          == other.getId());
+      result = result && getMessage()
+          .equals(other.getMessage());
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      hash = (37 * hash) + STATUS_FIELD_NUMBER;
+      hash = (53 * hash) + status_;
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getId());
+      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getMessage().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.example.demo.dto.CommentProto.CommentOperationResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperationResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperationResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperationResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperationResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperationResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperationResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperationResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperationResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.CommentProto.CommentOperationResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.example.demo.dto.CommentProto.CommentOperationResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code proto.CommentOperationResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.CommentOperationResult)
+        com.example.demo.dto.CommentProto.CommentOperationResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.example.demo.dto.CommentProto.internal_static_proto_CommentOperationResult_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.example.demo.dto.CommentProto.internal_static_proto_CommentOperationResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.example.demo.dto.CommentProto.CommentOperationResult.class, com.example.demo.dto.CommentProto.CommentOperationResult.Builder.class);
+      }
+
+      // Construct using com.example.demo.dto.CommentProto.CommentOperationResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        status_ = 0;
+
+        id_ = 0L;
+
+        message_ = "";
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.example.demo.dto.CommentProto.internal_static_proto_CommentOperationResult_descriptor;
+      }
+
+      public com.example.demo.dto.CommentProto.CommentOperationResult getDefaultInstanceForType() {
+        return com.example.demo.dto.CommentProto.CommentOperationResult.getDefaultInstance();
+      }
+
+      public com.example.demo.dto.CommentProto.CommentOperationResult build() {
+        com.example.demo.dto.CommentProto.CommentOperationResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.example.demo.dto.CommentProto.CommentOperationResult buildPartial() {
+        com.example.demo.dto.CommentProto.CommentOperationResult result = new com.example.demo.dto.CommentProto.CommentOperationResult(this);
+        result.status_ = status_;
+        result.id_ = id_;
+        result.message_ = message_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.example.demo.dto.CommentProto.CommentOperationResult) {
+          return mergeFrom((com.example.demo.dto.CommentProto.CommentOperationResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.example.demo.dto.CommentProto.CommentOperationResult other) {
+        if (other == com.example.demo.dto.CommentProto.CommentOperationResult.getDefaultInstance()) return this;
+        if (other.status_ != 0) {
+          setStatusValue(other.getStatusValue());
+        }
+        if (other.getId() != 0L) {
+          setId(other.getId());
+        }
+        if (!other.getMessage().isEmpty()) {
+          message_ = other.message_;
+          onChanged();
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.example.demo.dto.CommentProto.CommentOperationResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.example.demo.dto.CommentProto.CommentOperationResult) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int status_ = 0;
+      /**
+       * <code>optional .proto.CommentOperationResult.Status status = 1;</code>
+       */
+      public int getStatusValue() {
+        return status_;
+      }
+      /**
+       * <code>optional .proto.CommentOperationResult.Status status = 1;</code>
+       */
+      public Builder setStatusValue(int value) {
+        status_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .proto.CommentOperationResult.Status status = 1;</code>
+       */
+      public com.example.demo.dto.CommentProto.CommentOperationResult.Status getStatus() {
+        com.example.demo.dto.CommentProto.CommentOperationResult.Status result = com.example.demo.dto.CommentProto.CommentOperationResult.Status.valueOf(status_);
+        return result == null ? com.example.demo.dto.CommentProto.CommentOperationResult.Status.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>optional .proto.CommentOperationResult.Status status = 1;</code>
+       */
+      public Builder setStatus(com.example.demo.dto.CommentProto.CommentOperationResult.Status value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        status_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .proto.CommentOperationResult.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        
+        status_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long id_ ;
+      /**
+       * <code>optional int64 id = 2;</code>
+       */
+      public long getId() {
+        return id_;
+      }
+      /**
+       * <code>optional int64 id = 2;</code>
+       */
+      public Builder setId(long value) {
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 id = 2;</code>
+       */
+      public Builder clearId() {
+        
+        id_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object message_ = "";
+      /**
+       * <code>optional string message = 3;</code>
+       */
+      public java.lang.String getMessage() {
+        java.lang.Object ref = message_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          message_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string message = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getMessageBytes() {
+        java.lang.Object ref = message_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          message_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string message = 3;</code>
+       */
+      public Builder setMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        message_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string message = 3;</code>
+       */
+      public Builder clearMessage() {
+        
+        message_ = getDefaultInstance().getMessage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string message = 3;</code>
+       */
+      public Builder setMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        message_ = value;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.CommentOperationResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.CommentOperationResult)
+    private static final com.example.demo.dto.CommentProto.CommentOperationResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.example.demo.dto.CommentProto.CommentOperationResult();
+    }
+
+    public static com.example.demo.dto.CommentProto.CommentOperationResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CommentOperationResult>
+        PARSER = new com.google.protobuf.AbstractParser<CommentOperationResult>() {
+      public CommentOperationResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new CommentOperationResult(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CommentOperationResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CommentOperationResult> getParserForType() {
+      return PARSER;
+    }
+
+    public com.example.demo.dto.CommentProto.CommentOperationResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CommentBatchResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.CommentBatchResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .proto.CommentOperationResult results = 1;</code>
+     */
+    java.util.List<com.example.demo.dto.CommentProto.CommentOperationResult> 
+        getResultsList();
+    /**
+     * <code>repeated .proto.CommentOperationResult results = 1;</code>
+     */
+    com.example.demo.dto.CommentProto.CommentOperationResult getResults(int index);
+    /**
+     * <code>repeated .proto.CommentOperationResult results = 1;</code>
+     */
+    int getResultsCount();
+    /**
+     * <code>repeated .proto.CommentOperationResult results = 1;</code>
+     */
+    java.util.List<? extends com.example.demo.dto.CommentProto.CommentOperationResultOrBuilder> 
+        getResultsOrBuilderList();
+    /**
+     * <code>repeated .proto.CommentOperationResult results = 1;</code>
+     */
+    com.example.demo.dto.CommentProto.CommentOperationResultOrBuilder getResultsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code proto.CommentBatchResult}
+   */
+  public  static final class CommentBatchResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.CommentBatchResult)
+      CommentBatchResultOrBuilder {
+    // Use CommentBatchResult.newBuilder() to construct.
+    private CommentBatchResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CommentBatchResult() {
+      results_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private CommentBatchResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                results_ = new java.util.ArrayList<com.example.demo.dto.CommentProto.CommentOperationResult>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              results_.add(
+                  input.readMessage(com.example.demo.dto.CommentProto.CommentOperationResult.parser(), extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          results_ = java.util.Collections.unmodifiableList(results_);
+        }
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.example.demo.dto.CommentProto.internal_static_proto_CommentBatchResult_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.example.demo.dto.CommentProto.internal_static_proto_CommentBatchResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.example.demo.dto.CommentProto.CommentBatchResult.class, com.example.demo.dto.CommentProto.CommentBatchResult.Builder.class);
+    }
+
+    public static final int RESULTS_FIELD_NUMBER = 1;
+    private java.util.List<com.example.demo.dto.CommentProto.CommentOperationResult> results_;
+    /**
+     * <code>repeated .proto.CommentOperationResult results = 1;</code>
+     */
+    public java.util.List<com.example.demo.dto.CommentProto.CommentOperationResult> getResultsList() {
+      return results_;
+    }
+    /**
+     * <code>repeated .proto.CommentOperationResult results = 1;</code>
+     */
+    public java.util.List<? extends com.example.demo.dto.CommentProto.CommentOperationResultOrBuilder> 
+        getResultsOrBuilderList() {
+      return results_;
+    }
+    /**
+     * <code>repeated .proto.CommentOperationResult results = 1;</code>
+     */
+    public int getResultsCount() {
+      return results_.size();
+    }
+    /**
+     * <code>repeated .proto.CommentOperationResult results = 1;</code>
+     */
+    public com.example.demo.dto.CommentProto.CommentOperationResult getResults(int index) {
+      return results_.get(index);
+    }
+    /**
+     * <code>repeated .proto.CommentOperationResult results = 1;</code>
+     */
+    public com.example.demo.dto.CommentProto.CommentOperationResultOrBuilder getResultsOrBuilder(
+        int index) {
+      return results_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < results_.size(); i++) {
+        output.writeMessage(1, results_.get(i));
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < results_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, results_.get(i));
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.example.demo.dto.CommentProto.CommentBatchResult)) {
+        return super.equals(obj);
+      }
+      com.example.demo.dto.CommentProto.CommentBatchResult other = (com.example.demo.dto.CommentProto.CommentBatchResult) obj;
+
+      boolean result = true;
+      result = result && getResultsList()
+          .equals(other.getResultsList());
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (getResultsCount() > 0) {
+        hash = (37 * hash) + RESULTS_FIELD_NUMBER;
+        hash = (53 * hash) + getResultsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.example.demo.dto.CommentProto.CommentBatchResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatchResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatchResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatchResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatchResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatchResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatchResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatchResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatchResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.CommentProto.CommentBatchResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.example.demo.dto.CommentProto.CommentBatchResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code proto.CommentBatchResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.CommentBatchResult)
+        com.example.demo.dto.CommentProto.CommentBatchResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.example.demo.dto.CommentProto.internal_static_proto_CommentBatchResult_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.example.demo.dto.CommentProto.internal_static_proto_CommentBatchResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.example.demo.dto.CommentProto.CommentBatchResult.class, com.example.demo.dto.CommentProto.CommentBatchResult.Builder.class);
+      }
+
+      // Construct using com.example.demo.dto.CommentProto.CommentBatchResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getResultsFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          resultsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.example.demo.dto.CommentProto.internal_static_proto_CommentBatchResult_descriptor;
+      }
+
+      public com.example.demo.dto.CommentProto.CommentBatchResult getDefaultInstanceForType() {
+        return com.example.demo.dto.CommentProto.CommentBatchResult.getDefaultInstance();
+      }
+
+      public com.example.demo.dto.CommentProto.CommentBatchResult build() {
+        com.example.demo.dto.CommentProto.CommentBatchResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.example.demo.dto.CommentProto.CommentBatchResult buildPartial() {
+        com.example.demo.dto.CommentProto.CommentBatchResult result = new com.example.demo.dto.CommentProto.CommentBatchResult(this);
+        int from_bitField0_ = bitField0_;
+        if (resultsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            results_ = java.util.Collections.unmodifiableList(results_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.results_ = results_;
+        } else {
+          result.results_ = resultsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.example.demo.dto.CommentProto.CommentBatchResult) {
+          return mergeFrom((com.example.demo.dto.CommentProto.CommentBatchResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.example.demo.dto.CommentProto.CommentBatchResult other) {
+        if (other == com.example.demo.dto.CommentProto.CommentBatchResult.getDefaultInstance()) return this;
+        if (resultsBuilder_ == null) {
+          if (!other.results_.isEmpty()) {
+            if (results_.isEmpty()) {
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureResultsIsMutable();
+              results_.addAll(other.results_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.results_.isEmpty()) {
+            if (resultsBuilder_.isEmpty()) {
+              resultsBuilder_.dispose();
+              resultsBuilder_ = null;
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              resultsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getResultsFieldBuilder() : null;
+            } else {
+              resultsBuilder_.addAllMessages(other.results_);
+            }
+          }
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.example.demo.dto.CommentProto.CommentBatchResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.example.demo.dto.CommentProto.CommentBatchResult) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.example.demo.dto.CommentProto.CommentOperationResult> results_ =
+        java.util.Collections.emptyList();
+      private void ensureResultsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          results_ = new java.util.ArrayList<com.example.demo.dto.CommentProto.CommentOperationResult>(results_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.example.demo.dto.CommentProto.CommentOperationResult, com.example.demo.dto.CommentProto.CommentOperationResult.Builder, com.example.demo.dto.CommentProto.CommentOperationResultOrBuilder> resultsBuilder_;
+
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public java.util.List<com.example.demo.dto.CommentProto.CommentOperationResult> getResultsList() {
+        if (resultsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(results_);
+        } else {
+          return resultsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public int getResultsCount() {
+        if (resultsBuilder_ == null) {
+          return results_.size();
+        } else {
+          return resultsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public com.example.demo.dto.CommentProto.CommentOperationResult getResults(int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);
+        } else {
+          return resultsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public Builder setResults(
+          int index, com.example.demo.dto.CommentProto.CommentOperationResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.set(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public Builder setResults(
+          int index, com.example.demo.dto.CommentProto.CommentOperationResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public Builder addResults(com.example.demo.dto.CommentProto.CommentOperationResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public Builder addResults(
+          int index, com.example.demo.dto.CommentProto.CommentOperationResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public Builder addResults(
+          com.example.demo.dto.CommentProto.CommentOperationResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public Builder addResults(
+          int index, com.example.demo.dto.CommentProto.CommentOperationResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public Builder addAllResults(
+          java.lang.Iterable<? extends com.example.demo.dto.CommentProto.CommentOperationResult> values) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, results_);
+          onChanged();
+        } else {
+          resultsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public Builder clearResults() {
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          resultsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public Builder removeResults(int index) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.remove(index);
+          onChanged();
+        } else {
+          resultsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public com.example.demo.dto.CommentProto.CommentOperationResult.Builder getResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public com.example.demo.dto.CommentProto.CommentOperationResultOrBuilder getResultsOrBuilder(
+          int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);  } else {
+          return resultsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public java.util.List<? extends com.example.demo.dto.CommentProto.CommentOperationResultOrBuilder> 
+           getResultsOrBuilderList() {
+        if (resultsBuilder_ != null) {
+          return resultsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(results_);
+        }
+      }
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public com.example.demo.dto.CommentProto.CommentOperationResult.Builder addResultsBuilder() {
+        return getResultsFieldBuilder().addBuilder(
+            com.example.demo.dto.CommentProto.CommentOperationResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public com.example.demo.dto.CommentProto.CommentOperationResult.Builder addResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().addBuilder(
+            index, com.example.demo.dto.CommentProto.CommentOperationResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.CommentOperationResult results = 1;</code>
+       */
+      public java.util.List<com.example.demo.dto.CommentProto.CommentOperationResult.Builder> 
+           getResultsBuilderList() {
+        return getResultsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.example.demo.dto.CommentProto.CommentOperationResult, com.example.demo.dto.CommentProto.CommentOperationResult.Builder, com.example.demo.dto.CommentProto.CommentOperationResultOrBuilder> 
+          getResultsFieldBuilder() {
+        if (resultsBuilder_ == null) {
+          resultsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.example.demo.dto.CommentProto.CommentOperationResult, com.example.demo.dto.CommentProto.CommentOperationResult.Builder, com.example.demo.dto.CommentProto.CommentOperationResultOrBuilder>(
+                  results_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          results_ = null;
+        }
+        return resultsBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.CommentBatchResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.CommentBatchResult)
+    private static final com.example.demo.dto.CommentProto.CommentBatchResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.example.demo.dto.CommentProto.CommentBatchResult();
+    }
+
+    public static com.example.demo.dto.CommentProto.CommentBatchResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CommentBatchResult>
+        PARSER = new com.google.protobuf.AbstractParser<CommentBatchResult>() {
+      public CommentBatchResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new CommentBatchResult(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CommentBatchResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CommentBatchResult> getParserForType() {
+      return PARSER;
+    }
+
+    public com.example.demo.dto.CommentProto.CommentBatchResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_CommentDto_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_CommentDto_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_CommentNews_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_CommentNews_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_CommentSimpleDto_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_CommentSimpleDto_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_CommentSimpleDtoList_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_CommentSimpleDtoList_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_CommentOperation_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_CommentOperation_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_CommentBatch_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_CommentBatch_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_CommentOperationResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_CommentOperationResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_CommentBatchResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_CommentBatchResult_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\rComment.proto\022\005proto\"g\n\nCommentDto\022\n\n\002" +
+      "id\030\001 \001(\003\022\014\n\004date\030\002 \001(\t\022\014\n\004text\030\003 \001(\t\022\017\n\007" +
+      "user_id\030\004 \001(\003\022 \n\004news\030\005 \001(\0132\022.proto.Comm" +
+      "entNews\"U\n\013CommentNews\022\n\n\002id\030\001 \001(\003\022\014\n\004da" +
+      "te\030\002 \001(\t\022\r\n\005title\030\003 \001(\t\022\014\n\004text\030\004 \001(\t\022\017\n" +
+      "\007user_id\030\005 \001(\003\"\\\n\020CommentSimpleDto\022\n\n\002id" +
+      "\030\001 \001(\003\022\014\n\004date\030\002 \001(\t\022\014\n\004text\030\003 \001(\t\022\017\n\007us" +
+      "er_id\030\004 \001(\003\022\017\n\007news_id\030\005 \001(\003\"m\n\024CommentS" +
+      "impleDtoList\022+\n\ncommentDto\030\001 \003(\0132\027.proto" +
+      ".CommentSimpleDto\022\023\n\013missing_ids\030\002 \003(\003\022\023",
+      "\n\013next_cursor\030\003 \001(\t\"\224\001\n\020CommentOperation" +
+      "\022*\n\004type\030\001 \001(\0162\034.proto.CommentOperation." +
+      "Type\022(\n\007comment\030\002 \001(\0132\027.proto.CommentSim" +
+      "pleDto\"*\n\004Type\022\n\n\006CREATE\020\000\022\n\n\006UPDATE\020\001\022\n" +
+      "\n\006DELETE\020\002\";\n\014CommentBatch\022+\n\noperations" +
+      "\030\001 \003(\0132\027.proto.CommentOperation\"\254\001\n\026Comm" +
+      "entOperationResult\0224\n\006status\030\001 \001(\0162$.pro" +
+      "to.CommentOperationResult.Status\022\n\n\002id\030\002" +
+      " \001(\003\022\017\n\007message\030\003 \001(\t\"?\n\006Status\022\006\n\002OK\020\000\022" +
+      "\r\n\tNOT_FOUND\020\001\022\r\n\tFORBIDDEN\020\002\022\017\n\013BAD_REQ",
+      "UEST\020\003\"D\n\022CommentBatchResult\022.\n\007results\030" +
+      "\001 \003(\0132\035.proto.CommentOperationResultB$\n\024" +
+      "com.example.demo.dtoB\014CommentProtob\006prot" +
+      "o3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
           }
         };
     com.google.protobuf.Descriptors.FileDescriptor
@@ -3524,7 +6873,31 @@ public final class CommentProto {
     internal_static_proto_CommentSimpleDtoList_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_proto_CommentSimpleDtoList_descriptor,
-        new java.lang.String[] { "CommentDto", });
+        new java.lang.String[] { "CommentDto", "MissingIds", "NextCursor", });
+    internal_static_proto_CommentOperation_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_proto_CommentOperation_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_CommentOperation_descriptor,
+        new java.lang.String[] { "Type", "Comment", });
+    internal_static_proto_CommentBatch_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_proto_CommentBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_CommentBatch_descriptor,
+        new java.lang.String[] { "Operations", });
+    internal_static_proto_CommentOperationResult_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_proto_CommentOperationResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_CommentOperationResult_descriptor,
+        new java.lang.String[] { "Status", "Id", "Message", });
+    internal_static_proto_CommentBatchResult_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_proto_CommentBatchResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_CommentBatchResult_descriptor,
+        new java.lang.String[] { "Results", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -81,6 +81,21 @@ public final class NewsProto {
      */
     com.example.demo.dto.NewsProto.NewsCommentOrBuilder getCommentsOrBuilder(
         int index);
+
+    /**
+     * <code>optional int64 comment_count = 7;</code>
+     */
+    long getCommentCount();
+
+    /**
+     * <code>optional string comments_cursor = 8;</code>
+     */
+    java.lang.String getCommentsCursor();
+    /**
+     * <code>optional string comments_cursor = 8;</code>
+     */
+    com.google.protobuf.ByteString
+        getCommentsCursorBytes();
   }
   /**
    * Protobuf type {@code proto.NewsDto}
@@ -100,6 +115,8 @@ public final class NewsProto {
       text_ = "";
       userId_ = 0L;
       comments_ = java.util.Collections.emptyList();
+      commentCount_ = 0L;
+      commentsCursor_ = "";
     }
 
     @java.lang.Override
@@ -164,6 +181,17 @@ public final class NewsProto {
                   input.readMessage(com.example.demo.dto.NewsProto.NewsComment.parser(), extensionRegistry));
               break;
             }
+            case 56: {
+
+              commentCount_ = input.readInt64();
+              break;
+            }
+            case 66: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              commentsCursor_ = s;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -346,6 +374,49 @@ public final class NewsProto {
       return comments_.get(index);
     }
 
+    public static final int COMMENT_COUNT_FIELD_NUMBER = 7;
+    private long commentCount_;
+    /**
+     * <code>optional int64 comment_count = 7;</code>
+     */
+    public long getCommentCount() {
+      return commentCount_;
+    }
+
+    public static final int COMMENTS_CURSOR_FIELD_NUMBER = 8;
+    private volatile java.lang.Object commentsCursor_;
+    /**
+     * <code>optional string comments_cursor = 8;</code>
+     */
+    public java.lang.String getCommentsCursor() {
+      java.lang.Object ref = commentsCursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        commentsCursor_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string comments_cursor = 8;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCommentsCursorBytes() {
+      java.lang.Object ref = commentsCursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        commentsCursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -376,6 +447,12 @@ public final class NewsProto {
       for (int i = 0; i < comments_.size(); i++) {
         output.writeMessage(6, comments_.get(i));
       }
+      if (commentCount_ != 0L) {
+        output.writeInt64(7, commentCount_);
+      }
+      if (!getCommentsCursorBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 8, commentsCursor_);
+      }
     }
 
     public int getSerializedSize() {
@@ -404,6 +481,13 @@ public final class NewsProto {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(6, comments_.get(i));
       }
+      if (commentCount_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(7, commentCount_);
+      }
+      if (!getCommentsCursorBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(8, commentsCursor_);
+      }
       memoizedSize = size;
       return size;
     }
@@ -432,6 +516,10 @@ public final class NewsProto {
           == other.getUserId());
       result = result && getCommentsList()
           .equals(other.getCommentsList());
+      result = result && (getCommentCount()
+          == other.getCommentCount());
+      result = result && getCommentsCursor()
+          .equals(other.getCommentsCursor());
       return result;
     }
 
@@ -458,6 +546,11 @@ public final class NewsProto {
         hash = (37 * hash) + COMMENTS_FIELD_NUMBER;
         hash = (53 * hash) + getCommentsList().hashCode();
       }
+      hash = (37 * hash) + COMMENT_COUNT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getCommentCount());
+      hash = (37 * hash) + COMMENTS_CURSOR_FIELD_NUMBER;
+      hash = (53 * hash) + getCommentsCursor().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -593,6 +686,10 @@ public final class NewsProto {
         } else {
           commentsBuilder_.clear();
         }
+        commentCount_ = 0L;
+
+        commentsCursor_ = "";
+
         return this;
       }
 
@@ -631,6 +728,8 @@ public final class NewsProto {
         } else {
           result.comments_ = commentsBuilder_.build();
         }
+        result.commentCount_ = commentCount_;
+        result.commentsCursor_ = commentsCursor_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -717,6 +816,13 @@ public final class NewsProto {
             }
           }
         }
+        if (other.getCommentCount() != 0L) {
+          setCommentCount(other.getCommentCount());
+        }
+        if (!other.getCommentsCursor().isEmpty()) {
+          commentsCursor_ = other.commentsCursor_;
+          onChanged();
+        }
         onChanged();
         return this;
       }
@@ -1242,6 +1348,101 @@ public final class NewsProto {
         }
         return commentsBuilder_;
       }
+
+      private long commentCount_ ;
+      /**
+       * <code>optional int64 comment_count = 7;</code>
+       */
+      public long getCommentCount() {
+        return commentCount_;
+      }
+      /**
+       * <code>optional int64 comment_count = 7;</code>
+       */
+      public Builder setCommentCount(long value) {
+        
+        commentCount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 comment_count = 7;</code>
+       */
+      public Builder clearCommentCount() {
+        
+        commentCount_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object commentsCursor_ = "";
+      /**
+       * <code>optional string comments_cursor = 8;</code>
+       */
+      public java.lang.String getCommentsCursor() {
+        java.lang.Object ref = commentsCursor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          commentsCursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string comments_cursor = 8;</code>
+       */
+      public com.google.protobuf.ByteString
+          getCommentsCursorBytes() {
+        java.lang.Object ref = commentsCursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          commentsCursor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string comments_cursor = 8;</code>
+       */
+      public Builder setCommentsCursor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        commentsCursor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string comments_cursor = 8;</code>
+       */
+      public Builder clearCommentsCursor() {
+        
+        commentsCursor_ = getDefaultInstance().getCommentsCursor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string comments_cursor = 8;</code>
+       */
+      public Builder setCommentsCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        commentsCursor_ = value;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return this;
@@ -2102,6 +2303,11 @@ public final class NewsProto {
      * <code>optional int64 user_id = 5;</code>
      */
     long getUserId();
+
+    /**
+     * <code>optional int64 comment_count = 6;</code>
+     */
+    long getCommentCount();
   }
   /**
    * Protobuf type {@code proto.NewsSimpleDto}
@@ -2120,6 +2326,7 @@ public final class NewsProto {
       title_ = "";
       text_ = "";
       userId_ = 0L;
+      commentCount_ = 0L;
     }
 
     @java.lang.Override
@@ -2175,6 +2382,11 @@ public final class NewsProto {
               userId_ = input.readInt64();
               break;
             }
+            case 48: {
+
+              commentCount_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2318,6 +2530,15 @@ public final class NewsProto {
       return userId_;
     }
 
+    public static final int COMMENT_COUNT_FIELD_NUMBER = 6;
+    private long commentCount_;
+    /**
+     * <code>optional int64 comment_count = 6;</code>
+     */
+    public long getCommentCount() {
+      return commentCount_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -2345,6 +2566,9 @@ public final class NewsProto {
       if (userId_ != 0L) {
         output.writeInt64(5, userId_);
       }
+      if (commentCount_ != 0L) {
+        output.writeInt64(6, commentCount_);
+      }
     }
 
     public int getSerializedSize() {
@@ -2369,6 +2593,10 @@ public final class NewsProto {
         size += com.google.protobuf.CodedOutputStream
           .computeInt64Size(5, userId_);
       }
+      if (commentCount_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, commentCount_);
+      }
       memoizedSize = size;
       return size;
     }
@@ -2395,6 +2623,8 @@ public final class NewsProto {
           .equals(other.getText());
       result = result && (getUserId()
           == other.getUserId());
+      result = result && (getCommentCount()
+          == other.getCommentCount());
       return result;
     }
 
@@ -2417,6 +2647,9 @@ public final class NewsProto {
       hash = (37 * hash) + USER_ID_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
           getUserId());
+      hash = (37 * hash) + COMMENT_COUNT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getCommentCount());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -2545,6 +2778,8 @@ public final class NewsProto {
 
         userId_ = 0L;
 
+        commentCount_ = 0L;
+
         return this;
       }
 
@@ -2572,6 +2807,7 @@ public final class NewsProto {
         result.title_ = title_;
         result.text_ = text_;
         result.userId_ = userId_;
+        result.commentCount_ = commentCount_;
         onBuilt();
         return result;
       }
@@ -2631,6 +2867,9 @@ public final class NewsProto {
         if (other.getUserId() != 0L) {
           setUserId(other.getUserId());
         }
+        if (other.getCommentCount() != 0L) {
+          setCommentCount(other.getCommentCount());
+        }
         onChanged();
         return this;
       }
@@ -2915,6 +3154,32 @@ public final class NewsProto {
         onChanged();
         return this;
       }
+
+      private long commentCount_ ;
+      /**
+       * <code>optional int64 comment_count = 6;</code>
+       */
+      public long getCommentCount() {
+        return commentCount_;
+      }
+      /**
+       * <code>optional int64 comment_count = 6;</code>
+       */
+      public Builder setCommentCount(long value) {
+        
+        commentCount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 comment_count = 6;</code>
+       */
+      public Builder clearCommentCount() {
+        
+        commentCount_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return this;
@@ -2991,6 +3256,29 @@ public final class NewsProto {
      */
     com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder getNewsDtoOrBuilder(
         int index);
+
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     */
+    java.util.List<java.lang.Long> getMissingIdsList();
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     */
+    int getMissingIdsCount();
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     */
+    long getMissingIds(int index);
+
+    /**
+     * <code>optional string next_cursor = 3;</code>
+     */
+    java.lang.String getNextCursor();
+    /**
+     * <code>optional string next_cursor = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getNextCursorBytes();
   }
   /**
    * Protobuf type {@code proto.NewsSimpleDtoList}
@@ -3005,6 +3293,8 @@ public final class NewsProto {
     }
     private NewsSimpleDtoList() {
       newsDto_ = java.util.Collections.emptyList();
+      missingIds_ = java.util.Collections.emptyList();
+      nextCursor_ = "";
     }
 
     @java.lang.Override
@@ -3041,6 +3331,33 @@ public final class NewsProto {
                   input.readMessage(com.example.demo.dto.NewsProto.NewsSimpleDto.parser(), extensionRegistry));
               break;
             }
+            case 16: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                missingIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              missingIds_.add(input.readInt64());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+                missingIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                missingIds_.add(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              nextCursor_ = s;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -3052,6 +3369,9 @@ public final class NewsProto {
         if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
           newsDto_ = java.util.Collections.unmodifiableList(newsDto_);
         }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          missingIds_ = java.util.Collections.unmodifiableList(missingIds_);
+        }
         makeExtensionsImmutable();
       }
     }
@@ -3067,6 +3387,7 @@ public final class NewsProto {
               com.example.demo.dto.NewsProto.NewsSimpleDtoList.class, com.example.demo.dto.NewsProto.NewsSimpleDtoList.Builder.class);
     }
 
+    private int bitField0_;
     public static final int NEWSDTO_FIELD_NUMBER = 1;
     private java.util.List<com.example.demo.dto.NewsProto.NewsSimpleDto> newsDto_;
     /**
@@ -3102,6 +3423,63 @@ public final class NewsProto {
       return newsDto_.get(index);
     }
 
+    public static final int MISSING_IDS_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Long> missingIds_;
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     */
+    public java.util.List<java.lang.Long>
+        getMissingIdsList() {
+      return missingIds_;
+    }
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     */
+    public int getMissingIdsCount() {
+      return missingIds_.size();
+    }
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     */
+    public long getMissingIds(int index) {
+      return missingIds_.get(index);
+    }
+    private int missingIdsMemoizedSerializedSize = -1;
+
+    public static final int NEXT_CURSOR_FIELD_NUMBER = 3;
+    private volatile java.lang.Object nextCursor_;
+    /**
+     * <code>optional string next_cursor = 3;</code>
+     */
+    public java.lang.String getNextCursor() {
+      java.lang.Object ref = nextCursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        nextCursor_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string next_cursor = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNextCursorBytes() {
+      java.lang.Object ref = nextCursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nextCursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -3114,9 +3492,20 @@ public final class NewsProto {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      getSerializedSize();
       for (int i = 0; i < newsDto_.size(); i++) {
         output.writeMessage(1, newsDto_.get(i));
       }
+      if (getMissingIdsList().size() > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(missingIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < missingIds_.size(); i++) {
+        output.writeInt64NoTag(missingIds_.get(i));
+      }
+      if (!getNextCursorBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, nextCursor_);
+      }
     }
 
     public int getSerializedSize() {
@@ -3128,6 +3517,23 @@ public final class NewsProto {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, newsDto_.get(i));
       }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < missingIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(missingIds_.get(i));
+        }
+        size += dataSize;
+        if (!getMissingIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        missingIdsMemoizedSerializedSize = dataSize;
+      }
+      if (!getNextCursorBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, nextCursor_);
+      }
       memoizedSize = size;
       return size;
     }
@@ -3146,6 +3552,10 @@ public final class NewsProto {
       boolean result = true;
       result = result && getNewsDtoList()
           .equals(other.getNewsDtoList());
+      result = result && getMissingIdsList()
+          .equals(other.getMissingIdsList());
+      result = result && getNextCursor()
+          .equals(other.getNextCursor());
       return result;
     }
 
@@ -3160,6 +3570,12 @@ public final class NewsProto {
         hash = (37 * hash) + NEWSDTO_FIELD_NUMBER;
         hash = (53 * hash) + getNewsDtoList().hashCode();
       }
+      if (getMissingIdsCount() > 0) {
+        hash = (37 * hash) + MISSING_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getMissingIdsList().hashCode();
+      }
+      hash = (37 * hash) + NEXT_CURSOR_FIELD_NUMBER;
+      hash = (53 * hash) + getNextCursor().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -3285,6 +3701,10 @@ public final class NewsProto {
         } else {
           newsDtoBuilder_.clear();
         }
+        missingIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        nextCursor_ = "";
+
         return this;
       }
 
@@ -3308,6 +3728,7 @@ public final class NewsProto {
       public com.example.demo.dto.NewsProto.NewsSimpleDtoList buildPartial() {
         com.example.demo.dto.NewsProto.NewsSimpleDtoList result = new com.example.demo.dto.NewsProto.NewsSimpleDtoList(this);
         int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
         if (newsDtoBuilder_ == null) {
           if (((bitField0_ & 0x00000001) == 0x00000001)) {
             newsDto_ = java.util.Collections.unmodifiableList(newsDto_);
@@ -3317,6 +3738,13 @@ public final class NewsProto {
         } else {
           result.newsDto_ = newsDtoBuilder_.build();
         }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          missingIds_ = java.util.Collections.unmodifiableList(missingIds_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.missingIds_ = missingIds_;
+        result.nextCursor_ = nextCursor_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -3384,6 +3812,20 @@ public final class NewsProto {
             }
           }
         }
+        if (!other.missingIds_.isEmpty()) {
+          if (missingIds_.isEmpty()) {
+            missingIds_ = other.missingIds_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureMissingIdsIsMutable();
+            missingIds_.addAll(other.missingIds_);
+          }
+          onChanged();
+        }
+        if (!other.getNextCursor().isEmpty()) {
+          nextCursor_ = other.nextCursor_;
+          onChanged();
+        }
         onChanged();
         return this;
       }
@@ -3650,50 +4092,1590 @@ public final class NewsProto {
         }
         return newsDtoBuilder_;
       }
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
+
+      private java.util.List<java.lang.Long> missingIds_ = java.util.Collections.emptyList();
+      private void ensureMissingIdsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          missingIds_ = new java.util.ArrayList<java.lang.Long>(missingIds_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public java.util.List<java.lang.Long>
+          getMissingIdsList() {
+        return java.util.Collections.unmodifiableList(missingIds_);
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public int getMissingIdsCount() {
+        return missingIds_.size();
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public long getMissingIds(int index) {
+        return missingIds_.get(index);
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public Builder setMissingIds(
+          int index, long value) {
+        ensureMissingIdsIsMutable();
+        missingIds_.set(index, value);
+        onChanged();
         return this;
       }
-
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public Builder addMissingIds(long value) {
+        ensureMissingIdsIsMutable();
+        missingIds_.add(value);
+        onChanged();
         return this;
       }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public Builder addAllMissingIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureMissingIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, missingIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public Builder clearMissingIds() {
+        missingIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object nextCursor_ = "";
+      /**
+       * <code>optional string next_cursor = 3;</code>
+       */
+      public java.lang.String getNextCursor() {
+        java.lang.Object ref = nextCursor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          nextCursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string next_cursor = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNextCursorBytes() {
+        java.lang.Object ref = nextCursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nextCursor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string next_cursor = 3;</code>
+       */
+      public Builder setNextCursor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        nextCursor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string next_cursor = 3;</code>
+       */
+      public Builder clearNextCursor() {
+        
+        nextCursor_ = getDefaultInstance().getNextCursor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string next_cursor = 3;</code>
+       */
+      public Builder setNextCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        nextCursor_ = value;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.NewsSimpleDtoList)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.NewsSimpleDtoList)
+    private static final com.example.demo.dto.NewsProto.NewsSimpleDtoList DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.example.demo.dto.NewsProto.NewsSimpleDtoList();
+    }
+
+    public static com.example.demo.dto.NewsProto.NewsSimpleDtoList getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<NewsSimpleDtoList>
+        PARSER = new com.google.protobuf.AbstractParser<NewsSimpleDtoList>() {
+      public NewsSimpleDtoList parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new NewsSimpleDtoList(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<NewsSimpleDtoList> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<NewsSimpleDtoList> getParserForType() {
+      return PARSER;
+    }
+
+    public com.example.demo.dto.NewsProto.NewsSimpleDtoList getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface NewsChangesOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.NewsChanges)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+     */
+    java.util.List<com.example.demo.dto.NewsProto.NewsSimpleDto> 
+        getInsertedList();
+    /**
+     * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+     */
+    com.example.demo.dto.NewsProto.NewsSimpleDto getInserted(int index);
+    /**
+     * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+     */
+    int getInsertedCount();
+    /**
+     * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+     */
+    java.util.List<? extends com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder> 
+        getInsertedOrBuilderList();
+    /**
+     * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+     */
+    com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder getInsertedOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+     */
+    java.util.List<com.example.demo.dto.NewsProto.NewsSimpleDto> 
+        getUpdatedList();
+    /**
+     * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+     */
+    com.example.demo.dto.NewsProto.NewsSimpleDto getUpdated(int index);
+    /**
+     * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+     */
+    int getUpdatedCount();
+    /**
+     * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+     */
+    java.util.List<? extends com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder> 
+        getUpdatedOrBuilderList();
+    /**
+     * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+     */
+    com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder getUpdatedOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated int64 deleted_ids = 3;</code>
+     */
+    java.util.List<java.lang.Long> getDeletedIdsList();
+    /**
+     * <code>repeated int64 deleted_ids = 3;</code>
+     */
+    int getDeletedIdsCount();
+    /**
+     * <code>repeated int64 deleted_ids = 3;</code>
+     */
+    long getDeletedIds(int index);
+
+    /**
+     * <code>optional int64 token = 4;</code>
+     */
+    long getToken();
+
+    /**
+     * <code>optional bool has_more = 5;</code>
+     */
+    boolean getHasMore();
+  }
+  /**
+   * Protobuf type {@code proto.NewsChanges}
+   */
+  public  static final class NewsChanges extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.NewsChanges)
+      NewsChangesOrBuilder {
+    // Use NewsChanges.newBuilder() to construct.
+    private NewsChanges(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private NewsChanges() {
+      inserted_ = java.util.Collections.emptyList();
+      updated_ = java.util.Collections.emptyList();
+      deletedIds_ = java.util.Collections.emptyList();
+      token_ = 0L;
+      hasMore_ = false;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private NewsChanges(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                inserted_ = new java.util.ArrayList<com.example.demo.dto.NewsProto.NewsSimpleDto>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              inserted_.add(
+                  input.readMessage(com.example.demo.dto.NewsProto.NewsSimpleDto.parser(), extensionRegistry));
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                updated_ = new java.util.ArrayList<com.example.demo.dto.NewsProto.NewsSimpleDto>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              updated_.add(
+                  input.readMessage(com.example.demo.dto.NewsProto.NewsSimpleDto.parser(), extensionRegistry));
+              break;
+            }
+            case 24: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                deletedIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              deletedIds_.add(input.readInt64());
+              break;
+            }
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004) && input.getBytesUntilLimit() > 0) {
+                deletedIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                deletedIds_.add(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 32: {
+
+              token_ = input.readInt64();
+              break;
+            }
+            case 40: {
+
+              hasMore_ = input.readBool();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          inserted_ = java.util.Collections.unmodifiableList(inserted_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          updated_ = java.util.Collections.unmodifiableList(updated_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          deletedIds_ = java.util.Collections.unmodifiableList(deletedIds_);
+        }
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.example.demo.dto.NewsProto.internal_static_proto_NewsChanges_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.example.demo.dto.NewsProto.internal_static_proto_NewsChanges_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.example.demo.dto.NewsProto.NewsChanges.class, com.example.demo.dto.NewsProto.NewsChanges.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int INSERTED_FIELD_NUMBER = 1;
+    private java.util.List<com.example.demo.dto.NewsProto.NewsSimpleDto> inserted_;
+    /**
+     * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+     */
+    public java.util.List<com.example.demo.dto.NewsProto.NewsSimpleDto> getInsertedList() {
+      return inserted_;
+    }
+    /**
+     * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+     */
+    public java.util.List<? extends com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder> 
+        getInsertedOrBuilderList() {
+      return inserted_;
+    }
+    /**
+     * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+     */
+    public int getInsertedCount() {
+      return inserted_.size();
+    }
+    /**
+     * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+     */
+    public com.example.demo.dto.NewsProto.NewsSimpleDto getInserted(int index) {
+      return inserted_.get(index);
+    }
+    /**
+     * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+     */
+    public com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder getInsertedOrBuilder(
+        int index) {
+      return inserted_.get(index);
+    }
+
+    public static final int UPDATED_FIELD_NUMBER = 2;
+    private java.util.List<com.example.demo.dto.NewsProto.NewsSimpleDto> updated_;
+    /**
+     * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+     */
+    public java.util.List<com.example.demo.dto.NewsProto.NewsSimpleDto> getUpdatedList() {
+      return updated_;
+    }
+    /**
+     * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+     */
+    public java.util.List<? extends com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder> 
+        getUpdatedOrBuilderList() {
+      return updated_;
+    }
+    /**
+     * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+     */
+    public int getUpdatedCount() {
+      return updated_.size();
+    }
+    /**
+     * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+     */
+    public com.example.demo.dto.NewsProto.NewsSimpleDto getUpdated(int index) {
+      return updated_.get(index);
+    }
+    /**
+     * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+     */
+    public com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder getUpdatedOrBuilder(
+        int index) {
+      return updated_.get(index);
+    }
+
+    public static final int DELETED_IDS_FIELD_NUMBER = 3;
+    private java.util.List<java.lang.Long> deletedIds_;
+    /**
+     * <code>repeated int64 deleted_ids = 3;</code>
+     */
+    public java.util.List<java.lang.Long>
+        getDeletedIdsList() {
+      return deletedIds_;
+    }
+    /**
+     * <code>repeated int64 deleted_ids = 3;</code>
+     */
+    public int getDeletedIdsCount() {
+      return deletedIds_.size();
+    }
+    /**
+     * <code>repeated int64 deleted_ids = 3;</code>
+     */
+    public long getDeletedIds(int index) {
+      return deletedIds_.get(index);
+    }
+    private int deletedIdsMemoizedSerializedSize = -1;
+
+    public static final int TOKEN_FIELD_NUMBER = 4;
+    private long token_;
+    /**
+     * <code>optional int64 token = 4;</code>
+     */
+    public long getToken() {
+      return token_;
+    }
+
+    public static final int HAS_MORE_FIELD_NUMBER = 5;
+    private boolean hasMore_;
+    /**
+     * <code>optional bool has_more = 5;</code>
+     */
+    public boolean getHasMore() {
+      return hasMore_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < inserted_.size(); i++) {
+        output.writeMessage(1, inserted_.get(i));
+      }
+      for (int i = 0; i < updated_.size(); i++) {
+        output.writeMessage(2, updated_.get(i));
+      }
+      if (getDeletedIdsList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(deletedIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < deletedIds_.size(); i++) {
+        output.writeInt64NoTag(deletedIds_.get(i));
+      }
+      if (token_ != 0L) {
+        output.writeInt64(4, token_);
+      }
+      if (hasMore_ != false) {
+        output.writeBool(5, hasMore_);
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < inserted_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, inserted_.get(i));
+      }
+      for (int i = 0; i < updated_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, updated_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < deletedIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(deletedIds_.get(i));
+        }
+        size += dataSize;
+        if (!getDeletedIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        deletedIdsMemoizedSerializedSize = dataSize;
+      }
+      if (token_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, token_);
+      }
+      if (hasMore_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, hasMore_);
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.example.demo.dto.NewsProto.NewsChanges)) {
+        return super.equals(obj);
+      }
+      com.example.demo.dto.NewsProto.NewsChanges other = (com.example.demo.dto.NewsProto.NewsChanges) obj;
+
+      boolean result = true;
+      result = result && getInsertedList()
+          .equals(other.getInsertedList());
+      result = result && getUpdatedList()
+          .equals(other.getUpdatedList());
+      result = result && getDeletedIdsList()
+          .equals(other.getDeletedIdsList());
+      result = result && (getToken()
+          == other.getToken());
+      result = result && (getHasMore()
+          == other.getHasMore());
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (getInsertedCount() > 0) {
+        hash = (37 * hash) + INSERTED_FIELD_NUMBER;
+        hash = (53 * hash) + getInsertedList().hashCode();
+      }
+      if (getUpdatedCount() > 0) {
+        hash = (37 * hash) + UPDATED_FIELD_NUMBER;
+        hash = (53 * hash) + getUpdatedList().hashCode();
+      }
+      if (getDeletedIdsCount() > 0) {
+        hash = (37 * hash) + DELETED_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getDeletedIdsList().hashCode();
+      }
+      hash = (37 * hash) + TOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getToken());
+      hash = (37 * hash) + HAS_MORE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getHasMore());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.example.demo.dto.NewsProto.NewsChanges parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.NewsProto.NewsChanges parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.NewsProto.NewsChanges parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.NewsProto.NewsChanges parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.NewsProto.NewsChanges parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.NewsProto.NewsChanges parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.NewsProto.NewsChanges parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.NewsProto.NewsChanges parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.NewsProto.NewsChanges parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.NewsProto.NewsChanges parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.example.demo.dto.NewsProto.NewsChanges prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code proto.NewsChanges}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.NewsChanges)
+        com.example.demo.dto.NewsProto.NewsChangesOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.example.demo.dto.NewsProto.internal_static_proto_NewsChanges_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.example.demo.dto.NewsProto.internal_static_proto_NewsChanges_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.example.demo.dto.NewsProto.NewsChanges.class, com.example.demo.dto.NewsProto.NewsChanges.Builder.class);
+      }
+
+      // Construct using com.example.demo.dto.NewsProto.NewsChanges.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getInsertedFieldBuilder();
+          getUpdatedFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (insertedBuilder_ == null) {
+          inserted_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          insertedBuilder_.clear();
+        }
+        if (updatedBuilder_ == null) {
+          updated_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          updatedBuilder_.clear();
+        }
+        deletedIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        token_ = 0L;
+
+        hasMore_ = false;
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.example.demo.dto.NewsProto.internal_static_proto_NewsChanges_descriptor;
+      }
+
+      public com.example.demo.dto.NewsProto.NewsChanges getDefaultInstanceForType() {
+        return com.example.demo.dto.NewsProto.NewsChanges.getDefaultInstance();
+      }
+
+      public com.example.demo.dto.NewsProto.NewsChanges build() {
+        com.example.demo.dto.NewsProto.NewsChanges result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.example.demo.dto.NewsProto.NewsChanges buildPartial() {
+        com.example.demo.dto.NewsProto.NewsChanges result = new com.example.demo.dto.NewsProto.NewsChanges(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (insertedBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            inserted_ = java.util.Collections.unmodifiableList(inserted_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.inserted_ = inserted_;
+        } else {
+          result.inserted_ = insertedBuilder_.build();
+        }
+        if (updatedBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            updated_ = java.util.Collections.unmodifiableList(updated_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.updated_ = updated_;
+        } else {
+          result.updated_ = updatedBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          deletedIds_ = java.util.Collections.unmodifiableList(deletedIds_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.deletedIds_ = deletedIds_;
+        result.token_ = token_;
+        result.hasMore_ = hasMore_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.example.demo.dto.NewsProto.NewsChanges) {
+          return mergeFrom((com.example.demo.dto.NewsProto.NewsChanges)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.example.demo.dto.NewsProto.NewsChanges other) {
+        if (other == com.example.demo.dto.NewsProto.NewsChanges.getDefaultInstance()) return this;
+        if (insertedBuilder_ == null) {
+          if (!other.inserted_.isEmpty()) {
+            if (inserted_.isEmpty()) {
+              inserted_ = other.inserted_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureInsertedIsMutable();
+              inserted_.addAll(other.inserted_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.inserted_.isEmpty()) {
+            if (insertedBuilder_.isEmpty()) {
+              insertedBuilder_.dispose();
+              insertedBuilder_ = null;
+              inserted_ = other.inserted_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              insertedBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getInsertedFieldBuilder() : null;
+            } else {
+              insertedBuilder_.addAllMessages(other.inserted_);
+            }
+          }
+        }
+        if (updatedBuilder_ == null) {
+          if (!other.updated_.isEmpty()) {
+            if (updated_.isEmpty()) {
+              updated_ = other.updated_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureUpdatedIsMutable();
+              updated_.addAll(other.updated_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.updated_.isEmpty()) {
+            if (updatedBuilder_.isEmpty()) {
+              updatedBuilder_.dispose();
+              updatedBuilder_ = null;
+              updated_ = other.updated_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              updatedBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getUpdatedFieldBuilder() : null;
+            } else {
+              updatedBuilder_.addAllMessages(other.updated_);
+            }
+          }
+        }
+        if (!other.deletedIds_.isEmpty()) {
+          if (deletedIds_.isEmpty()) {
+            deletedIds_ = other.deletedIds_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureDeletedIdsIsMutable();
+            deletedIds_.addAll(other.deletedIds_);
+          }
+          onChanged();
+        }
+        if (other.getToken() != 0L) {
+          setToken(other.getToken());
+        }
+        if (other.getHasMore() != false) {
+          setHasMore(other.getHasMore());
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.example.demo.dto.NewsProto.NewsChanges parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.example.demo.dto.NewsProto.NewsChanges) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.example.demo.dto.NewsProto.NewsSimpleDto> inserted_ =
+        java.util.Collections.emptyList();
+      private void ensureInsertedIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          inserted_ = new java.util.ArrayList<com.example.demo.dto.NewsProto.NewsSimpleDto>(inserted_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.example.demo.dto.NewsProto.NewsSimpleDto, com.example.demo.dto.NewsProto.NewsSimpleDto.Builder, com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder> insertedBuilder_;
+
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public java.util.List<com.example.demo.dto.NewsProto.NewsSimpleDto> getInsertedList() {
+        if (insertedBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(inserted_);
+        } else {
+          return insertedBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public int getInsertedCount() {
+        if (insertedBuilder_ == null) {
+          return inserted_.size();
+        } else {
+          return insertedBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public com.example.demo.dto.NewsProto.NewsSimpleDto getInserted(int index) {
+        if (insertedBuilder_ == null) {
+          return inserted_.get(index);
+        } else {
+          return insertedBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public Builder setInserted(
+          int index, com.example.demo.dto.NewsProto.NewsSimpleDto value) {
+        if (insertedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInsertedIsMutable();
+          inserted_.set(index, value);
+          onChanged();
+        } else {
+          insertedBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public Builder setInserted(
+          int index, com.example.demo.dto.NewsProto.NewsSimpleDto.Builder builderForValue) {
+        if (insertedBuilder_ == null) {
+          ensureInsertedIsMutable();
+          inserted_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          insertedBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public Builder addInserted(com.example.demo.dto.NewsProto.NewsSimpleDto value) {
+        if (insertedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInsertedIsMutable();
+          inserted_.add(value);
+          onChanged();
+        } else {
+          insertedBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public Builder addInserted(
+          int index, com.example.demo.dto.NewsProto.NewsSimpleDto value) {
+        if (insertedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInsertedIsMutable();
+          inserted_.add(index, value);
+          onChanged();
+        } else {
+          insertedBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public Builder addInserted(
+          com.example.demo.dto.NewsProto.NewsSimpleDto.Builder builderForValue) {
+        if (insertedBuilder_ == null) {
+          ensureInsertedIsMutable();
+          inserted_.add(builderForValue.build());
+          onChanged();
+        } else {
+          insertedBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public Builder addInserted(
+          int index, com.example.demo.dto.NewsProto.NewsSimpleDto.Builder builderForValue) {
+        if (insertedBuilder_ == null) {
+          ensureInsertedIsMutable();
+          inserted_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          insertedBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public Builder addAllInserted(
+          java.lang.Iterable<? extends com.example.demo.dto.NewsProto.NewsSimpleDto> values) {
+        if (insertedBuilder_ == null) {
+          ensureInsertedIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, inserted_);
+          onChanged();
+        } else {
+          insertedBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public Builder clearInserted() {
+        if (insertedBuilder_ == null) {
+          inserted_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          insertedBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public Builder removeInserted(int index) {
+        if (insertedBuilder_ == null) {
+          ensureInsertedIsMutable();
+          inserted_.remove(index);
+          onChanged();
+        } else {
+          insertedBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public com.example.demo.dto.NewsProto.NewsSimpleDto.Builder getInsertedBuilder(
+          int index) {
+        return getInsertedFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder getInsertedOrBuilder(
+          int index) {
+        if (insertedBuilder_ == null) {
+          return inserted_.get(index);  } else {
+          return insertedBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public java.util.List<? extends com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder> 
+           getInsertedOrBuilderList() {
+        if (insertedBuilder_ != null) {
+          return insertedBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(inserted_);
+        }
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public com.example.demo.dto.NewsProto.NewsSimpleDto.Builder addInsertedBuilder() {
+        return getInsertedFieldBuilder().addBuilder(
+            com.example.demo.dto.NewsProto.NewsSimpleDto.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public com.example.demo.dto.NewsProto.NewsSimpleDto.Builder addInsertedBuilder(
+          int index) {
+        return getInsertedFieldBuilder().addBuilder(
+            index, com.example.demo.dto.NewsProto.NewsSimpleDto.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto inserted = 1;</code>
+       */
+      public java.util.List<com.example.demo.dto.NewsProto.NewsSimpleDto.Builder> 
+           getInsertedBuilderList() {
+        return getInsertedFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.example.demo.dto.NewsProto.NewsSimpleDto, com.example.demo.dto.NewsProto.NewsSimpleDto.Builder, com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder> 
+          getInsertedFieldBuilder() {
+        if (insertedBuilder_ == null) {
+          insertedBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.example.demo.dto.NewsProto.NewsSimpleDto, com.example.demo.dto.NewsProto.NewsSimpleDto.Builder, com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder>(
+                  inserted_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          inserted_ = null;
+        }
+        return insertedBuilder_;
+      }
+
+      private java.util.List<com.example.demo.dto.NewsProto.NewsSimpleDto> updated_ =
+        java.util.Collections.emptyList();
+      private void ensureUpdatedIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          updated_ = new java.util.ArrayList<com.example.demo.dto.NewsProto.NewsSimpleDto>(updated_);
+          bitField0_ |= 0x00000002;
+         }
+      }
 
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.example.demo.dto.NewsProto.NewsSimpleDto, com.example.demo.dto.NewsProto.NewsSimpleDto.Builder, com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder> updatedBuilder_;
 
-      // @@protoc_insertion_point(builder_scope:proto.NewsSimpleDtoList)
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public java.util.List<com.example.demo.dto.NewsProto.NewsSimpleDto> getUpdatedList() {
+        if (updatedBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(updated_);
+        } else {
+          return updatedBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public int getUpdatedCount() {
+        if (updatedBuilder_ == null) {
+          return updated_.size();
+        } else {
+          return updatedBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public com.example.demo.dto.NewsProto.NewsSimpleDto getUpdated(int index) {
+        if (updatedBuilder_ == null) {
+          return updated_.get(index);
+        } else {
+          return updatedBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public Builder setUpdated(
+          int index, com.example.demo.dto.NewsProto.NewsSimpleDto value) {
+        if (updatedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUpdatedIsMutable();
+          updated_.set(index, value);
+          onChanged();
+        } else {
+          updatedBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public Builder setUpdated(
+          int index, com.example.demo.dto.NewsProto.NewsSimpleDto.Builder builderForValue) {
+        if (updatedBuilder_ == null) {
+          ensureUpdatedIsMutable();
+          updated_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          updatedBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public Builder addUpdated(com.example.demo.dto.NewsProto.NewsSimpleDto value) {
+        if (updatedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUpdatedIsMutable();
+          updated_.add(value);
+          onChanged();
+        } else {
+          updatedBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public Builder addUpdated(
+          int index, com.example.demo.dto.NewsProto.NewsSimpleDto value) {
+        if (updatedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUpdatedIsMutable();
+          updated_.add(index, value);
+          onChanged();
+        } else {
+          updatedBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public Builder addUpdated(
+          com.example.demo.dto.NewsProto.NewsSimpleDto.Builder builderForValue) {
+        if (updatedBuilder_ == null) {
+          ensureUpdatedIsMutable();
+          updated_.add(builderForValue.build());
+          onChanged();
+        } else {
+          updatedBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public Builder addUpdated(
+          int index, com.example.demo.dto.NewsProto.NewsSimpleDto.Builder builderForValue) {
+        if (updatedBuilder_ == null) {
+          ensureUpdatedIsMutable();
+          updated_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          updatedBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public Builder addAllUpdated(
+          java.lang.Iterable<? extends com.example.demo.dto.NewsProto.NewsSimpleDto> values) {
+        if (updatedBuilder_ == null) {
+          ensureUpdatedIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, updated_);
+          onChanged();
+        } else {
+          updatedBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public Builder clearUpdated() {
+        if (updatedBuilder_ == null) {
+          updated_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          updatedBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public Builder removeUpdated(int index) {
+        if (updatedBuilder_ == null) {
+          ensureUpdatedIsMutable();
+          updated_.remove(index);
+          onChanged();
+        } else {
+          updatedBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public com.example.demo.dto.NewsProto.NewsSimpleDto.Builder getUpdatedBuilder(
+          int index) {
+        return getUpdatedFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder getUpdatedOrBuilder(
+          int index) {
+        if (updatedBuilder_ == null) {
+          return updated_.get(index);  } else {
+          return updatedBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public java.util.List<? extends com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder> 
+           getUpdatedOrBuilderList() {
+        if (updatedBuilder_ != null) {
+          return updatedBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(updated_);
+        }
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public com.example.demo.dto.NewsProto.NewsSimpleDto.Builder addUpdatedBuilder() {
+        return getUpdatedFieldBuilder().addBuilder(
+            com.example.demo.dto.NewsProto.NewsSimpleDto.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public com.example.demo.dto.NewsProto.NewsSimpleDto.Builder addUpdatedBuilder(
+          int index) {
+        return getUpdatedFieldBuilder().addBuilder(
+            index, com.example.demo.dto.NewsProto.NewsSimpleDto.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .proto.NewsSimpleDto updated = 2;</code>
+       */
+      public java.util.List<com.example.demo.dto.NewsProto.NewsSimpleDto.Builder> 
+           getUpdatedBuilderList() {
+        return getUpdatedFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.example.demo.dto.NewsProto.NewsSimpleDto, com.example.demo.dto.NewsProto.NewsSimpleDto.Builder, com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder> 
+          getUpdatedFieldBuilder() {
+        if (updatedBuilder_ == null) {
+          updatedBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.example.demo.dto.NewsProto.NewsSimpleDto, com.example.demo.dto.NewsProto.NewsSimpleDto.Builder, com.example.demo.dto.NewsProto.NewsSimpleDtoOrBuilder>(
+                  updated_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          updated_ = null;
+        }
+        return updatedBuilder_;
+      }
+
+      private java.util.List<java.lang.Long> deletedIds_ = java.util.Collections.emptyList();
+      private void ensureDeletedIdsIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          deletedIds_ = new java.util.ArrayList<java.lang.Long>(deletedIds_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated int64 deleted_ids = 3;</code>
+       */
+      public java.util.List<java.lang.Long>
+          getDeletedIdsList() {
+        return java.util.Collections.unmodifiableList(deletedIds_);
+      }
+      /**
+       * <code>repeated int64 deleted_ids = 3;</code>
+       */
+      public int getDeletedIdsCount() {
+        return deletedIds_.size();
+      }
+      /**
+       * <code>repeated int64 deleted_ids = 3;</code>
+       */
+      public long getDeletedIds(int index) {
+        return deletedIds_.get(index);
+      }
+      /**
+       * <code>repeated int64 deleted_ids = 3;</code>
+       */
+      public Builder setDeletedIds(
+          int index, long value) {
+        ensureDeletedIdsIsMutable();
+        deletedIds_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 deleted_ids = 3;</code>
+       */
+      public Builder addDeletedIds(long value) {
+        ensureDeletedIdsIsMutable();
+        deletedIds_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 deleted_ids = 3;</code>
+       */
+      public Builder addAllDeletedIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureDeletedIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, deletedIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 deleted_ids = 3;</code>
+       */
+      public Builder clearDeletedIds() {
+        deletedIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      private long token_ ;
+      /**
+       * <code>optional int64 token = 4;</code>
+       */
+      public long getToken() {
+        return token_;
+      }
+      /**
+       * <code>optional int64 token = 4;</code>
+       */
+      public Builder setToken(long value) {
+        
+        token_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 token = 4;</code>
+       */
+      public Builder clearToken() {
+        
+        token_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean hasMore_ ;
+      /**
+       * <code>optional bool has_more = 5;</code>
+       */
+      public boolean getHasMore() {
+        return hasMore_;
+      }
+      /**
+       * <code>optional bool has_more = 5;</code>
+       */
+      public Builder setHasMore(boolean value) {
+        
+        hasMore_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool has_more = 5;</code>
+       */
+      public Builder clearHasMore() {
+        
+        hasMore_ = false;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.NewsChanges)
     }
 
-    // @@protoc_insertion_point(class_scope:proto.NewsSimpleDtoList)
-    private static final com.example.demo.dto.NewsProto.NewsSimpleDtoList DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:proto.NewsChanges)
+    private static final com.example.demo.dto.NewsProto.NewsChanges DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.example.demo.dto.NewsProto.NewsSimpleDtoList();
+      DEFAULT_INSTANCE = new com.example.demo.dto.NewsProto.NewsChanges();
     }
 
-    public static com.example.demo.dto.NewsProto.NewsSimpleDtoList getDefaultInstance() {
+    public static com.example.demo.dto.NewsProto.NewsChanges getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<NewsSimpleDtoList>
-        PARSER = new com.google.protobuf.AbstractParser<NewsSimpleDtoList>() {
-      public NewsSimpleDtoList parsePartialFrom(
+    private static final com.google.protobuf.Parser<NewsChanges>
+        PARSER = new com.google.protobuf.AbstractParser<NewsChanges>() {
+      public NewsChanges parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new NewsSimpleDtoList(input, extensionRegistry);
+          return new NewsChanges(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<NewsSimpleDtoList> parser() {
+    public static com.google.protobuf.Parser<NewsChanges> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<NewsSimpleDtoList> getParserForType() {
+    public com.google.protobuf.Parser<NewsChanges> getParserForType() {
       return PARSER;
     }
 
-    public com.example.demo.dto.NewsProto.NewsSimpleDtoList getDefaultInstanceForType() {
+    public com.example.demo.dto.NewsProto.NewsChanges getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -3719,6 +5701,11 @@ public final class NewsProto {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_proto_NewsSimpleDtoList_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_NewsChanges_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_NewsChanges_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -3728,17 +5715,23 @@ public final class NewsProto {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\nNews.proto\022\005proto\"w\n\007NewsDto\022\n\n\002id\030\001 \001" +
-      "(\003\022\014\n\004date\030\002 \001(\t\022\r\n\005title\030\003 \001(\t\022\014\n\004text\030" +
-      "\004 \001(\t\022\017\n\007user_id\030\005 \001(\003\022$\n\010comments\030\006 \003(\013" +
-      "2\022.proto.NewsComment\"F\n\013NewsComment\022\n\n\002i" +
-      "d\030\001 \001(\003\022\014\n\004date\030\002 \001(\t\022\014\n\004text\030\003 \001(\t\022\017\n\007u" +
-      "ser_id\030\004 \001(\003\"W\n\rNewsSimpleDto\022\n\n\002id\030\001 \001(" +
-      "\003\022\014\n\004date\030\002 \001(\t\022\r\n\005title\030\003 \001(\t\022\014\n\004text\030\004" +
-      " \001(\t\022\017\n\007user_id\030\005 \001(\003\":\n\021NewsSimpleDtoLi" +
-      "st\022%\n\007newsDto\030\001 \003(\0132\024.proto.NewsSimpleDt" +
-      "oB!\n\024com.example.demo.dtoB\tNewsProtob\006pr",
-      "oto3"
+      "\n\nNews.proto\022\005proto\"\247\001\n\007NewsDto\022\n\n\002id\030\001 " +
+      "\001(\003\022\014\n\004date\030\002 \001(\t\022\r\n\005title\030\003 \001(\t\022\014\n\004text" +
+      "\030\004 \001(\t\022\017\n\007user_id\030\005 \001(\003\022$\n\010comments\030\006 \003(" +
+      "\0132\022.proto.NewsComment\022\025\n\rcomment_count\030\007" +
+      " \001(\003\022\027\n\017comments_cursor\030\010 \001(\t\"F\n\013NewsCom" +
+      "ment\022\n\n\002id\030\001 \001(\003\022\014\n\004date\030\002 \001(\t\022\014\n\004text\030\003" +
+      " \001(\t\022\017\n\007user_id\030\004 \001(\003\"n\n\rNewsSimpleDto\022\n" +
+      "\n\002id\030\001 \001(\003\022\014\n\004date\030\002 \001(\t\022\r\n\005title\030\003 \001(\t\022" +
+      "\014\n\004text\030\004 \001(\t\022\017\n\007user_id\030\005 \001(\003\022\025\n\rcommen" +
+      "t_count\030\006 \001(\003\"d\n\021NewsSimpleDtoList\022%\n\007ne",
+      "wsDto\030\001 \003(\0132\024.proto.NewsSimpleDto\022\023\n\013mis" +
+      "sing_ids\030\002 \003(\003\022\023\n\013next_cursor\030\003 \001(\t\"\222\001\n\013" +
+      "NewsChanges\022&\n\010inserted\030\001 \003(\0132\024.proto.Ne" +
+      "wsSimpleDto\022%\n\007updated\030\002 \003(\0132\024.proto.New" +
+      "sSimpleDto\022\023\n\013deleted_ids\030\003 \003(\003\022\r\n\005token" +
+      "\030\004 \001(\003\022\020\n\010has_more\030\005 \001(\010B!\n\024com.example." +
+      "demo.dtoB\tNewsProtob\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -3757,7 +5750,7 @@ public final class NewsProto {
     internal_static_proto_NewsDto_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_proto_NewsDto_descriptor,
-        new java.lang.String[] { "Id", "Date", "Title", "Text", "UserId", "Comments", });
+        new java.lang.String[] { "Id", "Date", "Title", "Text", "UserId", "Comments", "CommentCount", "CommentsCursor", });
     internal_static_proto_NewsComment_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_proto_NewsComment_fieldAccessorTable = new
@@ -3769,13 +5762,19 @@ public final class NewsProto {
     internal_static_proto_NewsSimpleDto_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_proto_NewsSimpleDto_descriptor,
-        new java.lang.String[] { "Id", "Date", "Title", "Text", "UserId", });
+        new java.lang.String[] { "Id", "Date", "Title", "Text", "UserId", "CommentCount", });
     internal_static_proto_NewsSimpleDtoList_descriptor =
       getDescriptor().getMessageTypes().get(3);
     internal_static_proto_NewsSimpleDtoList_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_proto_NewsSimpleDtoList_descriptor,
-        new java.lang.String[] { "NewsDto", });
+        new java.lang.String[] { "NewsDto", "MissingIds", "NextCursor", });
+    internal_static_proto_NewsChanges_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_proto_NewsChanges_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_NewsChanges_descriptor,
+        new java.lang.String[] { "Inserted", "Updated", "DeletedIds", "Token", "HasMore", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -0,0 +1,4006 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: Rpc.proto
+
+package com.example.demo.dto;
+
+public final class RpcProto {
+  private RpcProto() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface IdRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.IdRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional int64 id = 1;</code>
+     */
+    long getId();
+
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    boolean hasFields();
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    com.google.protobuf.FieldMask getFields();
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder();
+  }
+  /**
+   * Protobuf type {@code proto.IdRequest}
+   */
+  public  static final class IdRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.IdRequest)
+      IdRequestOrBuilder {
+    // Use IdRequest.newBuilder() to construct.
+    private IdRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private IdRequest() {
+      id_ = 0L;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private IdRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+
+              id_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              com.google.protobuf.FieldMask.Builder subBuilder = null;
+              if (fields_ != null) {
+                subBuilder = fields_.toBuilder();
+              }
+              fields_ = input.readMessage(com.google.protobuf.FieldMask.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(fields_);
+                fields_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.example.demo.dto.RpcProto.internal_static_proto_IdRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.example.demo.dto.RpcProto.internal_static_proto_IdRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.example.demo.dto.RpcProto.IdRequest.class, com.example.demo.dto.RpcProto.IdRequest.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private long id_;
+    /**
+     * <code>optional int64 id = 1;</code>
+     */
+    public long getId() {
+      return id_;
+    }
+
+    public static final int FIELDS_FIELD_NUMBER = 2;
+    private com.google.protobuf.FieldMask fields_;
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    public boolean hasFields() {
+      return fields_ != null;
+    }
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    public com.google.protobuf.FieldMask getFields() {
+      return fields_ == null ? com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+    }
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    public com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder() {
+      return getFields();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (id_ != 0L) {
+        output.writeInt64(1, id_);
+      }
+      if (fields_ != null) {
+        output.writeMessage(2, getFields());
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, id_);
+      }
+      if (fields_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getFields());
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.example.demo.dto.RpcProto.IdRequest)) {
+        return super.equals(obj);
+      }
+      com.example.demo.dto.RpcProto.IdRequest other = (com.example.demo.dto.RpcProto.IdRequest) obj;
+
+      boolean result = true;
+      result = result && (getId()
+          == other.getId());
+      result = result && (hasFields() == other.hasFields());
+      if (hasFields()) {
+        result = result && getFields()
+            .equals(other.getFields());
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getId());
+      if (hasFields()) {
+        hash = (37 * hash) + FIELDS_FIELD_NUMBER;
+        hash = (53 * hash) + getFields().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.example.demo.dto.RpcProto.IdRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.RpcProto.IdRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.IdRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.RpcProto.IdRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.IdRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.IdRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.IdRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.IdRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.IdRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.IdRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.example.demo.dto.RpcProto.IdRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code proto.IdRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.IdRequest)
+        com.example.demo.dto.RpcProto.IdRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_IdRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_IdRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.example.demo.dto.RpcProto.IdRequest.class, com.example.demo.dto.RpcProto.IdRequest.Builder.class);
+      }
+
+      // Construct using com.example.demo.dto.RpcProto.IdRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        id_ = 0L;
+
+        if (fieldsBuilder_ == null) {
+          fields_ = null;
+        } else {
+          fields_ = null;
+          fieldsBuilder_ = null;
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_IdRequest_descriptor;
+      }
+
+      public com.example.demo.dto.RpcProto.IdRequest getDefaultInstanceForType() {
+        return com.example.demo.dto.RpcProto.IdRequest.getDefaultInstance();
+      }
+
+      public com.example.demo.dto.RpcProto.IdRequest build() {
+        com.example.demo.dto.RpcProto.IdRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.example.demo.dto.RpcProto.IdRequest buildPartial() {
+        com.example.demo.dto.RpcProto.IdRequest result = new com.example.demo.dto.RpcProto.IdRequest(this);
+        result.id_ = id_;
+        if (fieldsBuilder_ == null) {
+          result.fields_ = fields_;
+        } else {
+          result.fields_ = fieldsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.example.demo.dto.RpcProto.IdRequest) {
+          return mergeFrom((com.example.demo.dto.RpcProto.IdRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.example.demo.dto.RpcProto.IdRequest other) {
+        if (other == com.example.demo.dto.RpcProto.IdRequest.getDefaultInstance()) return this;
+        if (other.getId() != 0L) {
+          setId(other.getId());
+        }
+        if (other.hasFields()) {
+          mergeFields(other.getFields());
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.example.demo.dto.RpcProto.IdRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.example.demo.dto.RpcProto.IdRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long id_ ;
+      /**
+       * <code>optional int64 id = 1;</code>
+       */
+      public long getId() {
+        return id_;
+      }
+      /**
+       * <code>optional int64 id = 1;</code>
+       */
+      public Builder setId(long value) {
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 id = 1;</code>
+       */
+      public Builder clearId() {
+        
+        id_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.FieldMask fields_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder> fieldsBuilder_;
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public boolean hasFields() {
+        return fieldsBuilder_ != null || fields_ != null;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public com.google.protobuf.FieldMask getFields() {
+        if (fieldsBuilder_ == null) {
+          return fields_ == null ? com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+        } else {
+          return fieldsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public Builder setFields(com.google.protobuf.FieldMask value) {
+        if (fieldsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          fields_ = value;
+          onChanged();
+        } else {
+          fieldsBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public Builder setFields(
+          com.google.protobuf.FieldMask.Builder builderForValue) {
+        if (fieldsBuilder_ == null) {
+          fields_ = builderForValue.build();
+          onChanged();
+        } else {
+          fieldsBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public Builder mergeFields(com.google.protobuf.FieldMask value) {
+        if (fieldsBuilder_ == null) {
+          if (fields_ != null) {
+            fields_ =
+              com.google.protobuf.FieldMask.newBuilder(fields_).mergeFrom(value).buildPartial();
+          } else {
+            fields_ = value;
+          }
+          onChanged();
+        } else {
+          fieldsBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public Builder clearFields() {
+        if (fieldsBuilder_ == null) {
+          fields_ = null;
+          onChanged();
+        } else {
+          fields_ = null;
+          fieldsBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public com.google.protobuf.FieldMask.Builder getFieldsBuilder() {
+        
+        onChanged();
+        return getFieldsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder() {
+        if (fieldsBuilder_ != null) {
+          return fieldsBuilder_.getMessageOrBuilder();
+        } else {
+          return fields_ == null ?
+              com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+        }
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder> 
+          getFieldsFieldBuilder() {
+        if (fieldsBuilder_ == null) {
+          fieldsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder>(
+                  getFields(),
+                  getParentForChildren(),
+                  isClean());
+          fields_ = null;
+        }
+        return fieldsBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.IdRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.IdRequest)
+    private static final com.example.demo.dto.RpcProto.IdRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.example.demo.dto.RpcProto.IdRequest();
+    }
+
+    public static com.example.demo.dto.RpcProto.IdRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<IdRequest>
+        PARSER = new com.google.protobuf.AbstractParser<IdRequest>() {
+      public IdRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new IdRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<IdRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<IdRequest> getParserForType() {
+      return PARSER;
+    }
+
+    public com.example.demo.dto.RpcProto.IdRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface IdsRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.IdsRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     */
+    java.util.List<java.lang.Long> getIdsList();
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     */
+    int getIdsCount();
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     */
+    long getIds(int index);
+
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    boolean hasFields();
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    com.google.protobuf.FieldMask getFields();
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder();
+  }
+  /**
+   * Protobuf type {@code proto.IdsRequest}
+   */
+  public  static final class IdsRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.IdsRequest)
+      IdsRequestOrBuilder {
+    // Use IdsRequest.newBuilder() to construct.
+    private IdsRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private IdsRequest() {
+      ids_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private IdsRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                ids_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              ids_.add(input.readInt64());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001) && input.getBytesUntilLimit() > 0) {
+                ids_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                ids_.add(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 18: {
+              com.google.protobuf.FieldMask.Builder subBuilder = null;
+              if (fields_ != null) {
+                subBuilder = fields_.toBuilder();
+              }
+              fields_ = input.readMessage(com.google.protobuf.FieldMask.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(fields_);
+                fields_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          ids_ = java.util.Collections.unmodifiableList(ids_);
+        }
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.example.demo.dto.RpcProto.internal_static_proto_IdsRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.example.demo.dto.RpcProto.internal_static_proto_IdsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.example.demo.dto.RpcProto.IdsRequest.class, com.example.demo.dto.RpcProto.IdsRequest.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int IDS_FIELD_NUMBER = 1;
+    private java.util.List<java.lang.Long> ids_;
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     */
+    public java.util.List<java.lang.Long>
+        getIdsList() {
+      return ids_;
+    }
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     */
+    public int getIdsCount() {
+      return ids_.size();
+    }
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     */
+    public long getIds(int index) {
+      return ids_.get(index);
+    }
+    private int idsMemoizedSerializedSize = -1;
+
+    public static final int FIELDS_FIELD_NUMBER = 2;
+    private com.google.protobuf.FieldMask fields_;
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    public boolean hasFields() {
+      return fields_ != null;
+    }
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    public com.google.protobuf.FieldMask getFields() {
+      return fields_ == null ? com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+    }
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    public com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder() {
+      return getFields();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getIdsList().size() > 0) {
+        output.writeUInt32NoTag(10);
+        output.writeUInt32NoTag(idsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < ids_.size(); i++) {
+        output.writeInt64NoTag(ids_.get(i));
+      }
+      if (fields_ != null) {
+        output.writeMessage(2, getFields());
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < ids_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(ids_.get(i));
+        }
+        size += dataSize;
+        if (!getIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        idsMemoizedSerializedSize = dataSize;
+      }
+      if (fields_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getFields());
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.example.demo.dto.RpcProto.IdsRequest)) {
+        return super.equals(obj);
+      }
+      com.example.demo.dto.RpcProto.IdsRequest other = (com.example.demo.dto.RpcProto.IdsRequest) obj;
+
+      boolean result = true;
+      result = result && getIdsList()
+          .equals(other.getIdsList());
+      result = result && (hasFields() == other.hasFields());
+      if (hasFields()) {
+        result = result && getFields()
+            .equals(other.getFields());
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (getIdsCount() > 0) {
+        hash = (37 * hash) + IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getIdsList().hashCode();
+      }
+      if (hasFields()) {
+        hash = (37 * hash) + FIELDS_FIELD_NUMBER;
+        hash = (53 * hash) + getFields().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.example.demo.dto.RpcProto.IdsRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.RpcProto.IdsRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.IdsRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.RpcProto.IdsRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.IdsRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.IdsRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.IdsRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.IdsRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.IdsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.IdsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.example.demo.dto.RpcProto.IdsRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code proto.IdsRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.IdsRequest)
+        com.example.demo.dto.RpcProto.IdsRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_IdsRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_IdsRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.example.demo.dto.RpcProto.IdsRequest.class, com.example.demo.dto.RpcProto.IdsRequest.Builder.class);
+      }
+
+      // Construct using com.example.demo.dto.RpcProto.IdsRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        ids_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (fieldsBuilder_ == null) {
+          fields_ = null;
+        } else {
+          fields_ = null;
+          fieldsBuilder_ = null;
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_IdsRequest_descriptor;
+      }
+
+      public com.example.demo.dto.RpcProto.IdsRequest getDefaultInstanceForType() {
+        return com.example.demo.dto.RpcProto.IdsRequest.getDefaultInstance();
+      }
+
+      public com.example.demo.dto.RpcProto.IdsRequest build() {
+        com.example.demo.dto.RpcProto.IdsRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.example.demo.dto.RpcProto.IdsRequest buildPartial() {
+        com.example.demo.dto.RpcProto.IdsRequest result = new com.example.demo.dto.RpcProto.IdsRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          ids_ = java.util.Collections.unmodifiableList(ids_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.ids_ = ids_;
+        if (fieldsBuilder_ == null) {
+          result.fields_ = fields_;
+        } else {
+          result.fields_ = fieldsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.example.demo.dto.RpcProto.IdsRequest) {
+          return mergeFrom((com.example.demo.dto.RpcProto.IdsRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.example.demo.dto.RpcProto.IdsRequest other) {
+        if (other == com.example.demo.dto.RpcProto.IdsRequest.getDefaultInstance()) return this;
+        if (!other.ids_.isEmpty()) {
+          if (ids_.isEmpty()) {
+            ids_ = other.ids_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureIdsIsMutable();
+            ids_.addAll(other.ids_);
+          }
+          onChanged();
+        }
+        if (other.hasFields()) {
+          mergeFields(other.getFields());
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.example.demo.dto.RpcProto.IdsRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.example.demo.dto.RpcProto.IdsRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<java.lang.Long> ids_ = java.util.Collections.emptyList();
+      private void ensureIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          ids_ = new java.util.ArrayList<java.lang.Long>(ids_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       */
+      public java.util.List<java.lang.Long>
+          getIdsList() {
+        return java.util.Collections.unmodifiableList(ids_);
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       */
+      public int getIdsCount() {
+        return ids_.size();
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       */
+      public long getIds(int index) {
+        return ids_.get(index);
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       */
+      public Builder setIds(
+          int index, long value) {
+        ensureIdsIsMutable();
+        ids_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       */
+      public Builder addIds(long value) {
+        ensureIdsIsMutable();
+        ids_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       */
+      public Builder addAllIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, ids_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       */
+      public Builder clearIds() {
+        ids_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.FieldMask fields_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder> fieldsBuilder_;
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public boolean hasFields() {
+        return fieldsBuilder_ != null || fields_ != null;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public com.google.protobuf.FieldMask getFields() {
+        if (fieldsBuilder_ == null) {
+          return fields_ == null ? com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+        } else {
+          return fieldsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public Builder setFields(com.google.protobuf.FieldMask value) {
+        if (fieldsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          fields_ = value;
+          onChanged();
+        } else {
+          fieldsBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public Builder setFields(
+          com.google.protobuf.FieldMask.Builder builderForValue) {
+        if (fieldsBuilder_ == null) {
+          fields_ = builderForValue.build();
+          onChanged();
+        } else {
+          fieldsBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public Builder mergeFields(com.google.protobuf.FieldMask value) {
+        if (fieldsBuilder_ == null) {
+          if (fields_ != null) {
+            fields_ =
+              com.google.protobuf.FieldMask.newBuilder(fields_).mergeFrom(value).buildPartial();
+          } else {
+            fields_ = value;
+          }
+          onChanged();
+        } else {
+          fieldsBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public Builder clearFields() {
+        if (fieldsBuilder_ == null) {
+          fields_ = null;
+          onChanged();
+        } else {
+          fields_ = null;
+          fieldsBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public com.google.protobuf.FieldMask.Builder getFieldsBuilder() {
+        
+        onChanged();
+        return getFieldsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder() {
+        if (fieldsBuilder_ != null) {
+          return fieldsBuilder_.getMessageOrBuilder();
+        } else {
+          return fields_ == null ?
+              com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+        }
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder> 
+          getFieldsFieldBuilder() {
+        if (fieldsBuilder_ == null) {
+          fieldsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder>(
+                  getFields(),
+                  getParentForChildren(),
+                  isClean());
+          fields_ = null;
+        }
+        return fieldsBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.IdsRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.IdsRequest)
+    private static final com.example.demo.dto.RpcProto.IdsRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.example.demo.dto.RpcProto.IdsRequest();
+    }
+
+    public static com.example.demo.dto.RpcProto.IdsRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<IdsRequest>
+        PARSER = new com.google.protobuf.AbstractParser<IdsRequest>() {
+      public IdsRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new IdsRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<IdsRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<IdsRequest> getParserForType() {
+      return PARSER;
+    }
+
+    public com.example.demo.dto.RpcProto.IdsRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ListRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.ListRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 1;</code>
+     */
+    boolean hasFields();
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 1;</code>
+     */
+    com.google.protobuf.FieldMask getFields();
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 1;</code>
+     */
+    com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder();
+  }
+  /**
+   * Protobuf type {@code proto.ListRequest}
+   */
+  public  static final class ListRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.ListRequest)
+      ListRequestOrBuilder {
+    // Use ListRequest.newBuilder() to construct.
+    private ListRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ListRequest() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private ListRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.FieldMask.Builder subBuilder = null;
+              if (fields_ != null) {
+                subBuilder = fields_.toBuilder();
+              }
+              fields_ = input.readMessage(com.google.protobuf.FieldMask.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(fields_);
+                fields_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.example.demo.dto.RpcProto.internal_static_proto_ListRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.example.demo.dto.RpcProto.internal_static_proto_ListRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.example.demo.dto.RpcProto.ListRequest.class, com.example.demo.dto.RpcProto.ListRequest.Builder.class);
+    }
+
+    public static final int FIELDS_FIELD_NUMBER = 1;
+    private com.google.protobuf.FieldMask fields_;
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 1;</code>
+     */
+    public boolean hasFields() {
+      return fields_ != null;
+    }
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 1;</code>
+     */
+    public com.google.protobuf.FieldMask getFields() {
+      return fields_ == null ? com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+    }
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 1;</code>
+     */
+    public com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder() {
+      return getFields();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (fields_ != null) {
+        output.writeMessage(1, getFields());
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (fields_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getFields());
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.example.demo.dto.RpcProto.ListRequest)) {
+        return super.equals(obj);
+      }
+      com.example.demo.dto.RpcProto.ListRequest other = (com.example.demo.dto.RpcProto.ListRequest) obj;
+
+      boolean result = true;
+      result = result && (hasFields() == other.hasFields());
+      if (hasFields()) {
+        result = result && getFields()
+            .equals(other.getFields());
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasFields()) {
+        hash = (37 * hash) + FIELDS_FIELD_NUMBER;
+        hash = (53 * hash) + getFields().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.example.demo.dto.RpcProto.ListRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.RpcProto.ListRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.ListRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.RpcProto.ListRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.ListRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.ListRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.ListRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.ListRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.ListRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.ListRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.example.demo.dto.RpcProto.ListRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code proto.ListRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.ListRequest)
+        com.example.demo.dto.RpcProto.ListRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_ListRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_ListRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.example.demo.dto.RpcProto.ListRequest.class, com.example.demo.dto.RpcProto.ListRequest.Builder.class);
+      }
+
+      // Construct using com.example.demo.dto.RpcProto.ListRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (fieldsBuilder_ == null) {
+          fields_ = null;
+        } else {
+          fields_ = null;
+          fieldsBuilder_ = null;
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_ListRequest_descriptor;
+      }
+
+      public com.example.demo.dto.RpcProto.ListRequest getDefaultInstanceForType() {
+        return com.example.demo.dto.RpcProto.ListRequest.getDefaultInstance();
+      }
+
+      public com.example.demo.dto.RpcProto.ListRequest build() {
+        com.example.demo.dto.RpcProto.ListRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.example.demo.dto.RpcProto.ListRequest buildPartial() {
+        com.example.demo.dto.RpcProto.ListRequest result = new com.example.demo.dto.RpcProto.ListRequest(this);
+        if (fieldsBuilder_ == null) {
+          result.fields_ = fields_;
+        } else {
+          result.fields_ = fieldsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.example.demo.dto.RpcProto.ListRequest) {
+          return mergeFrom((com.example.demo.dto.RpcProto.ListRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.example.demo.dto.RpcProto.ListRequest other) {
+        if (other == com.example.demo.dto.RpcProto.ListRequest.getDefaultInstance()) return this;
+        if (other.hasFields()) {
+          mergeFields(other.getFields());
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.example.demo.dto.RpcProto.ListRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.example.demo.dto.RpcProto.ListRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.FieldMask fields_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder> fieldsBuilder_;
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 1;</code>
+       */
+      public boolean hasFields() {
+        return fieldsBuilder_ != null || fields_ != null;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 1;</code>
+       */
+      public com.google.protobuf.FieldMask getFields() {
+        if (fieldsBuilder_ == null) {
+          return fields_ == null ? com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+        } else {
+          return fieldsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 1;</code>
+       */
+      public Builder setFields(com.google.protobuf.FieldMask value) {
+        if (fieldsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          fields_ = value;
+          onChanged();
+        } else {
+          fieldsBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 1;</code>
+       */
+      public Builder setFields(
+          com.google.protobuf.FieldMask.Builder builderForValue) {
+        if (fieldsBuilder_ == null) {
+          fields_ = builderForValue.build();
+          onChanged();
+        } else {
+          fieldsBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 1;</code>
+       */
+      public Builder mergeFields(com.google.protobuf.FieldMask value) {
+        if (fieldsBuilder_ == null) {
+          if (fields_ != null) {
+            fields_ =
+              com.google.protobuf.FieldMask.newBuilder(fields_).mergeFrom(value).buildPartial();
+          } else {
+            fields_ = value;
+          }
+          onChanged();
+        } else {
+          fieldsBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 1;</code>
+       */
+      public Builder clearFields() {
+        if (fieldsBuilder_ == null) {
+          fields_ = null;
+          onChanged();
+        } else {
+          fields_ = null;
+          fieldsBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 1;</code>
+       */
+      public com.google.protobuf.FieldMask.Builder getFieldsBuilder() {
+        
+        onChanged();
+        return getFieldsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 1;</code>
+       */
+      public com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder() {
+        if (fieldsBuilder_ != null) {
+          return fieldsBuilder_.getMessageOrBuilder();
+        } else {
+          return fields_ == null ?
+              com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+        }
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder> 
+          getFieldsFieldBuilder() {
+        if (fieldsBuilder_ == null) {
+          fieldsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder>(
+                  getFields(),
+                  getParentForChildren(),
+                  isClean());
+          fields_ = null;
+        }
+        return fieldsBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.ListRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.ListRequest)
+    private static final com.example.demo.dto.RpcProto.ListRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.example.demo.dto.RpcProto.ListRequest();
+    }
+
+    public static com.example.demo.dto.RpcProto.ListRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ListRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ListRequest>() {
+      public ListRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new ListRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ListRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ListRequest> getParserForType() {
+      return PARSER;
+    }
+
+    public com.example.demo.dto.RpcProto.ListRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ChangesRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.ChangesRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional int64 since = 1;</code>
+     */
+    long getSince();
+
+    /**
+     * <code>optional int32 size = 2;</code>
+     */
+    int getSize();
+
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 3;</code>
+     */
+    boolean hasFields();
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 3;</code>
+     */
+    com.google.protobuf.FieldMask getFields();
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 3;</code>
+     */
+    com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder();
+  }
+  /**
+   * Protobuf type {@code proto.ChangesRequest}
+   */
+  public  static final class ChangesRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.ChangesRequest)
+      ChangesRequestOrBuilder {
+    // Use ChangesRequest.newBuilder() to construct.
+    private ChangesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ChangesRequest() {
+      since_ = 0L;
+      size_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private ChangesRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+
+              since_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              size_ = input.readInt32();
+              break;
+            }
+            case 26: {
+              com.google.protobuf.FieldMask.Builder subBuilder = null;
+              if (fields_ != null) {
+                subBuilder = fields_.toBuilder();
+              }
+              fields_ = input.readMessage(com.google.protobuf.FieldMask.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(fields_);
+                fields_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.example.demo.dto.RpcProto.internal_static_proto_ChangesRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.example.demo.dto.RpcProto.internal_static_proto_ChangesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.example.demo.dto.RpcProto.ChangesRequest.class, com.example.demo.dto.RpcProto.ChangesRequest.Builder.class);
+    }
+
+    public static final int SINCE_FIELD_NUMBER = 1;
+    private long since_;
+    /**
+     * <code>optional int64 since = 1;</code>
+     */
+    public long getSince() {
+      return since_;
+    }
+
+    public static final int SIZE_FIELD_NUMBER = 2;
+    private int size_;
+    /**
+     * <code>optional int32 size = 2;</code>
+     */
+    public int getSize() {
+      return size_;
+    }
+
+    public static final int FIELDS_FIELD_NUMBER = 3;
+    private com.google.protobuf.FieldMask fields_;
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 3;</code>
+     */
+    public boolean hasFields() {
+      return fields_ != null;
+    }
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 3;</code>
+     */
+    public com.google.protobuf.FieldMask getFields() {
+      return fields_ == null ? com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+    }
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 3;</code>
+     */
+    public com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder() {
+      return getFields();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (since_ != 0L) {
+        output.writeInt64(1, since_);
+      }
+      if (size_ != 0) {
+        output.writeInt32(2, size_);
+      }
+      if (fields_ != null) {
+        output.writeMessage(3, getFields());
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (since_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, since_);
+      }
+      if (size_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, size_);
+      }
+      if (fields_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getFields());
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.example.demo.dto.RpcProto.ChangesRequest)) {
+        return super.equals(obj);
+      }
+      com.example.demo.dto.RpcProto.ChangesRequest other = (com.example.demo.dto.RpcProto.ChangesRequest) obj;
+
+      boolean result = true;
+      result = result && (getSince()
+          == other.getSince());
+      result = result && (getSize()
+          == other.getSize());
+      result = result && (hasFields() == other.hasFields());
+      if (hasFields()) {
+        result = result && getFields()
+            .equals(other.getFields());
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      hash = (37 * hash) + SINCE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSince());
+      hash = (37 * hash) + SIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getSize();
+      if (hasFields()) {
+        hash = (37 * hash) + FIELDS_FIELD_NUMBER;
+        hash = (53 * hash) + getFields().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.example.demo.dto.RpcProto.ChangesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.RpcProto.ChangesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.ChangesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.RpcProto.ChangesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.ChangesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.ChangesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.ChangesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.ChangesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.ChangesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.ChangesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.example.demo.dto.RpcProto.ChangesRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code proto.ChangesRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.ChangesRequest)
+        com.example.demo.dto.RpcProto.ChangesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_ChangesRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_ChangesRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.example.demo.dto.RpcProto.ChangesRequest.class, com.example.demo.dto.RpcProto.ChangesRequest.Builder.class);
+      }
+
+      // Construct using com.example.demo.dto.RpcProto.ChangesRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        since_ = 0L;
+
+        size_ = 0;
+
+        if (fieldsBuilder_ == null) {
+          fields_ = null;
+        } else {
+          fields_ = null;
+          fieldsBuilder_ = null;
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_ChangesRequest_descriptor;
+      }
+
+      public com.example.demo.dto.RpcProto.ChangesRequest getDefaultInstanceForType() {
+        return com.example.demo.dto.RpcProto.ChangesRequest.getDefaultInstance();
+      }
+
+      public com.example.demo.dto.RpcProto.ChangesRequest build() {
+        com.example.demo.dto.RpcProto.ChangesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.example.demo.dto.RpcProto.ChangesRequest buildPartial() {
+        com.example.demo.dto.RpcProto.ChangesRequest result = new com.example.demo.dto.RpcProto.ChangesRequest(this);
+        result.since_ = since_;
+        result.size_ = size_;
+        if (fieldsBuilder_ == null) {
+          result.fields_ = fields_;
+        } else {
+          result.fields_ = fieldsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.example.demo.dto.RpcProto.ChangesRequest) {
+          return mergeFrom((com.example.demo.dto.RpcProto.ChangesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.example.demo.dto.RpcProto.ChangesRequest other) {
+        if (other == com.example.demo.dto.RpcProto.ChangesRequest.getDefaultInstance()) return this;
+        if (other.getSince() != 0L) {
+          setSince(other.getSince());
+        }
+        if (other.getSize() != 0) {
+          setSize(other.getSize());
+        }
+        if (other.hasFields()) {
+          mergeFields(other.getFields());
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.example.demo.dto.RpcProto.ChangesRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.example.demo.dto.RpcProto.ChangesRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long since_ ;
+      /**
+       * <code>optional int64 since = 1;</code>
+       */
+      public long getSince() {
+        return since_;
+      }
+      /**
+       * <code>optional int64 since = 1;</code>
+       */
+      public Builder setSince(long value) {
+        
+        since_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 since = 1;</code>
+       */
+      public Builder clearSince() {
+        
+        since_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int size_ ;
+      /**
+       * <code>optional int32 size = 2;</code>
+       */
+      public int getSize() {
+        return size_;
+      }
+      /**
+       * <code>optional int32 size = 2;</code>
+       */
+      public Builder setSize(int value) {
+        
+        size_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 size = 2;</code>
+       */
+      public Builder clearSize() {
+        
+        size_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.FieldMask fields_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder> fieldsBuilder_;
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 3;</code>
+       */
+      public boolean hasFields() {
+        return fieldsBuilder_ != null || fields_ != null;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 3;</code>
+       */
+      public com.google.protobuf.FieldMask getFields() {
+        if (fieldsBuilder_ == null) {
+          return fields_ == null ? com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+        } else {
+          return fieldsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 3;</code>
+       */
+      public Builder setFields(com.google.protobuf.FieldMask value) {
+        if (fieldsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          fields_ = value;
+          onChanged();
+        } else {
+          fieldsBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 3;</code>
+       */
+      public Builder setFields(
+          com.google.protobuf.FieldMask.Builder builderForValue) {
+        if (fieldsBuilder_ == null) {
+          fields_ = builderForValue.build();
+          onChanged();
+        } else {
+          fieldsBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 3;</code>
+       */
+      public Builder mergeFields(com.google.protobuf.FieldMask value) {
+        if (fieldsBuilder_ == null) {
+          if (fields_ != null) {
+            fields_ =
+              com.google.protobuf.FieldMask.newBuilder(fields_).mergeFrom(value).buildPartial();
+          } else {
+            fields_ = value;
+          }
+          onChanged();
+        } else {
+          fieldsBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 3;</code>
+       */
+      public Builder clearFields() {
+        if (fieldsBuilder_ == null) {
+          fields_ = null;
+          onChanged();
+        } else {
+          fields_ = null;
+          fieldsBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 3;</code>
+       */
+      public com.google.protobuf.FieldMask.Builder getFieldsBuilder() {
+        
+        onChanged();
+        return getFieldsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 3;</code>
+       */
+      public com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder() {
+        if (fieldsBuilder_ != null) {
+          return fieldsBuilder_.getMessageOrBuilder();
+        } else {
+          return fields_ == null ?
+              com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+        }
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder> 
+          getFieldsFieldBuilder() {
+        if (fieldsBuilder_ == null) {
+          fieldsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder>(
+                  getFields(),
+                  getParentForChildren(),
+                  isClean());
+          fields_ = null;
+        }
+        return fieldsBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.ChangesRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.ChangesRequest)
+    private static final com.example.demo.dto.RpcProto.ChangesRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.example.demo.dto.RpcProto.ChangesRequest();
+    }
+
+    public static com.example.demo.dto.RpcProto.ChangesRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ChangesRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ChangesRequest>() {
+      public ChangesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new ChangesRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ChangesRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ChangesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    public com.example.demo.dto.RpcProto.ChangesRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface NewsCommentsRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.NewsCommentsRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional int64 news_id = 1;</code>
+     */
+    long getNewsId();
+
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    boolean hasFields();
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    com.google.protobuf.FieldMask getFields();
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder();
+  }
+  /**
+   * Protobuf type {@code proto.NewsCommentsRequest}
+   */
+  public  static final class NewsCommentsRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.NewsCommentsRequest)
+      NewsCommentsRequestOrBuilder {
+    // Use NewsCommentsRequest.newBuilder() to construct.
+    private NewsCommentsRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private NewsCommentsRequest() {
+      newsId_ = 0L;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private NewsCommentsRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+
+              newsId_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              com.google.protobuf.FieldMask.Builder subBuilder = null;
+              if (fields_ != null) {
+                subBuilder = fields_.toBuilder();
+              }
+              fields_ = input.readMessage(com.google.protobuf.FieldMask.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(fields_);
+                fields_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.example.demo.dto.RpcProto.internal_static_proto_NewsCommentsRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.example.demo.dto.RpcProto.internal_static_proto_NewsCommentsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.example.demo.dto.RpcProto.NewsCommentsRequest.class, com.example.demo.dto.RpcProto.NewsCommentsRequest.Builder.class);
+    }
+
+    public static final int NEWS_ID_FIELD_NUMBER = 1;
+    private long newsId_;
+    /**
+     * <code>optional int64 news_id = 1;</code>
+     */
+    public long getNewsId() {
+      return newsId_;
+    }
+
+    public static final int FIELDS_FIELD_NUMBER = 2;
+    private com.google.protobuf.FieldMask fields_;
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    public boolean hasFields() {
+      return fields_ != null;
+    }
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    public com.google.protobuf.FieldMask getFields() {
+      return fields_ == null ? com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+    }
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    public com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder() {
+      return getFields();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (newsId_ != 0L) {
+        output.writeInt64(1, newsId_);
+      }
+      if (fields_ != null) {
+        output.writeMessage(2, getFields());
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (newsId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, newsId_);
+      }
+      if (fields_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getFields());
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.example.demo.dto.RpcProto.NewsCommentsRequest)) {
+        return super.equals(obj);
+      }
+      com.example.demo.dto.RpcProto.NewsCommentsRequest other = (com.example.demo.dto.RpcProto.NewsCommentsRequest) obj;
+
+      boolean result = true;
+      result = result && (getNewsId()
+          == other.getNewsId());
+      result = result && (hasFields() == other.hasFields());
+      if (hasFields()) {
+        result = result && getFields()
+            .equals(other.getFields());
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      hash = (37 * hash) + NEWS_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getNewsId());
+      if (hasFields()) {
+        hash = (37 * hash) + FIELDS_FIELD_NUMBER;
+        hash = (53 * hash) + getFields().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.example.demo.dto.RpcProto.NewsCommentsRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.RpcProto.NewsCommentsRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.NewsCommentsRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.RpcProto.NewsCommentsRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.NewsCommentsRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.NewsCommentsRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.NewsCommentsRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.NewsCommentsRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.NewsCommentsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.NewsCommentsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.example.demo.dto.RpcProto.NewsCommentsRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code proto.NewsCommentsRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.NewsCommentsRequest)
+        com.example.demo.dto.RpcProto.NewsCommentsRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_NewsCommentsRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_NewsCommentsRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.example.demo.dto.RpcProto.NewsCommentsRequest.class, com.example.demo.dto.RpcProto.NewsCommentsRequest.Builder.class);
+      }
+
+      // Construct using com.example.demo.dto.RpcProto.NewsCommentsRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        newsId_ = 0L;
+
+        if (fieldsBuilder_ == null) {
+          fields_ = null;
+        } else {
+          fields_ = null;
+          fieldsBuilder_ = null;
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_NewsCommentsRequest_descriptor;
+      }
+
+      public com.example.demo.dto.RpcProto.NewsCommentsRequest getDefaultInstanceForType() {
+        return com.example.demo.dto.RpcProto.NewsCommentsRequest.getDefaultInstance();
+      }
+
+      public com.example.demo.dto.RpcProto.NewsCommentsRequest build() {
+        com.example.demo.dto.RpcProto.NewsCommentsRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.example.demo.dto.RpcProto.NewsCommentsRequest buildPartial() {
+        com.example.demo.dto.RpcProto.NewsCommentsRequest result = new com.example.demo.dto.RpcProto.NewsCommentsRequest(this);
+        result.newsId_ = newsId_;
+        if (fieldsBuilder_ == null) {
+          result.fields_ = fields_;
+        } else {
+          result.fields_ = fieldsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.example.demo.dto.RpcProto.NewsCommentsRequest) {
+          return mergeFrom((com.example.demo.dto.RpcProto.NewsCommentsRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.example.demo.dto.RpcProto.NewsCommentsRequest other) {
+        if (other == com.example.demo.dto.RpcProto.NewsCommentsRequest.getDefaultInstance()) return this;
+        if (other.getNewsId() != 0L) {
+          setNewsId(other.getNewsId());
+        }
+        if (other.hasFields()) {
+          mergeFields(other.getFields());
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.example.demo.dto.RpcProto.NewsCommentsRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.example.demo.dto.RpcProto.NewsCommentsRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long newsId_ ;
+      /**
+       * <code>optional int64 news_id = 1;</code>
+       */
+      public long getNewsId() {
+        return newsId_;
+      }
+      /**
+       * <code>optional int64 news_id = 1;</code>
+       */
+      public Builder setNewsId(long value) {
+        
+        newsId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 news_id = 1;</code>
+       */
+      public Builder clearNewsId() {
+        
+        newsId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.FieldMask fields_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder> fieldsBuilder_;
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public boolean hasFields() {
+        return fieldsBuilder_ != null || fields_ != null;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public com.google.protobuf.FieldMask getFields() {
+        if (fieldsBuilder_ == null) {
+          return fields_ == null ? com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+        } else {
+          return fieldsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public Builder setFields(com.google.protobuf.FieldMask value) {
+        if (fieldsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          fields_ = value;
+          onChanged();
+        } else {
+          fieldsBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public Builder setFields(
+          com.google.protobuf.FieldMask.Builder builderForValue) {
+        if (fieldsBuilder_ == null) {
+          fields_ = builderForValue.build();
+          onChanged();
+        } else {
+          fieldsBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public Builder mergeFields(com.google.protobuf.FieldMask value) {
+        if (fieldsBuilder_ == null) {
+          if (fields_ != null) {
+            fields_ =
+              com.google.protobuf.FieldMask.newBuilder(fields_).mergeFrom(value).buildPartial();
+          } else {
+            fields_ = value;
+          }
+          onChanged();
+        } else {
+          fieldsBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public Builder clearFields() {
+        if (fieldsBuilder_ == null) {
+          fields_ = null;
+          onChanged();
+        } else {
+          fields_ = null;
+          fieldsBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public com.google.protobuf.FieldMask.Builder getFieldsBuilder() {
+        
+        onChanged();
+        return getFieldsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder() {
+        if (fieldsBuilder_ != null) {
+          return fieldsBuilder_.getMessageOrBuilder();
+        } else {
+          return fields_ == null ?
+              com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+        }
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder> 
+          getFieldsFieldBuilder() {
+        if (fieldsBuilder_ == null) {
+          fieldsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder>(
+                  getFields(),
+                  getParentForChildren(),
+                  isClean());
+          fields_ = null;
+        }
+        return fieldsBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.NewsCommentsRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.NewsCommentsRequest)
+    private static final com.example.demo.dto.RpcProto.NewsCommentsRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.example.demo.dto.RpcProto.NewsCommentsRequest();
+    }
+
+    public static com.example.demo.dto.RpcProto.NewsCommentsRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<NewsCommentsRequest>
+        PARSER = new com.google.protobuf.AbstractParser<NewsCommentsRequest>() {
+      public NewsCommentsRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new NewsCommentsRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<NewsCommentsRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<NewsCommentsRequest> getParserForType() {
+      return PARSER;
+    }
+
+    public com.example.demo.dto.RpcProto.NewsCommentsRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface UserNewsRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.UserNewsRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional int64 user_id = 1;</code>
+     */
+    long getUserId();
+
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    boolean hasFields();
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    com.google.protobuf.FieldMask getFields();
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder();
+  }
+  /**
+   * Protobuf type {@code proto.UserNewsRequest}
+   */
+  public  static final class UserNewsRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:proto.UserNewsRequest)
+      UserNewsRequestOrBuilder {
+    // Use UserNewsRequest.newBuilder() to construct.
+    private UserNewsRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private UserNewsRequest() {
+      userId_ = 0L;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private UserNewsRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+
+              userId_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              com.google.protobuf.FieldMask.Builder subBuilder = null;
+              if (fields_ != null) {
+                subBuilder = fields_.toBuilder();
+              }
+              fields_ = input.readMessage(com.google.protobuf.FieldMask.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(fields_);
+                fields_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.example.demo.dto.RpcProto.internal_static_proto_UserNewsRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.example.demo.dto.RpcProto.internal_static_proto_UserNewsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.example.demo.dto.RpcProto.UserNewsRequest.class, com.example.demo.dto.RpcProto.UserNewsRequest.Builder.class);
+    }
+
+    public static final int USER_ID_FIELD_NUMBER = 1;
+    private long userId_;
+    /**
+     * <code>optional int64 user_id = 1;</code>
+     */
+    public long getUserId() {
+      return userId_;
+    }
+
+    public static final int FIELDS_FIELD_NUMBER = 2;
+    private com.google.protobuf.FieldMask fields_;
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    public boolean hasFields() {
+      return fields_ != null;
+    }
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    public com.google.protobuf.FieldMask getFields() {
+      return fields_ == null ? com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+    }
+    /**
+     * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+     */
+    public com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder() {
+      return getFields();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (userId_ != 0L) {
+        output.writeInt64(1, userId_);
+      }
+      if (fields_ != null) {
+        output.writeMessage(2, getFields());
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (userId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, userId_);
+      }
+      if (fields_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getFields());
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.example.demo.dto.RpcProto.UserNewsRequest)) {
+        return super.equals(obj);
+      }
+      com.example.demo.dto.RpcProto.UserNewsRequest other = (com.example.demo.dto.RpcProto.UserNewsRequest) obj;
+
+      boolean result = true;
+      result = result && (getUserId()
+          == other.getUserId());
+      result = result && (hasFields() == other.hasFields());
+      if (hasFields()) {
+        result = result && getFields()
+            .equals(other.getFields());
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      hash = (37 * hash) + USER_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getUserId());
+      if (hasFields()) {
+        hash = (37 * hash) + FIELDS_FIELD_NUMBER;
+        hash = (53 * hash) + getFields().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.example.demo.dto.RpcProto.UserNewsRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.RpcProto.UserNewsRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.UserNewsRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.example.demo.dto.RpcProto.UserNewsRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.UserNewsRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.UserNewsRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.UserNewsRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.UserNewsRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.example.demo.dto.RpcProto.UserNewsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.example.demo.dto.RpcProto.UserNewsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.example.demo.dto.RpcProto.UserNewsRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code proto.UserNewsRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:proto.UserNewsRequest)
+        com.example.demo.dto.RpcProto.UserNewsRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_UserNewsRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_UserNewsRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.example.demo.dto.RpcProto.UserNewsRequest.class, com.example.demo.dto.RpcProto.UserNewsRequest.Builder.class);
+      }
+
+      // Construct using com.example.demo.dto.RpcProto.UserNewsRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        userId_ = 0L;
+
+        if (fieldsBuilder_ == null) {
+          fields_ = null;
+        } else {
+          fields_ = null;
+          fieldsBuilder_ = null;
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.example.demo.dto.RpcProto.internal_static_proto_UserNewsRequest_descriptor;
+      }
+
+      public com.example.demo.dto.RpcProto.UserNewsRequest getDefaultInstanceForType() {
+        return com.example.demo.dto.RpcProto.UserNewsRequest.getDefaultInstance();
+      }
+
+      public com.example.demo.dto.RpcProto.UserNewsRequest build() {
+        com.example.demo.dto.RpcProto.UserNewsRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.example.demo.dto.RpcProto.UserNewsRequest buildPartial() {
+        com.example.demo.dto.RpcProto.UserNewsRequest result = new com.example.demo.dto.RpcProto.UserNewsRequest(this);
+        result.userId_ = userId_;
+        if (fieldsBuilder_ == null) {
+          result.fields_ = fields_;
+        } else {
+          result.fields_ = fieldsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.example.demo.dto.RpcProto.UserNewsRequest) {
+          return mergeFrom((com.example.demo.dto.RpcProto.UserNewsRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.example.demo.dto.RpcProto.UserNewsRequest other) {
+        if (other == com.example.demo.dto.RpcProto.UserNewsRequest.getDefaultInstance()) return this;
+        if (other.getUserId() != 0L) {
+          setUserId(other.getUserId());
+        }
+        if (other.hasFields()) {
+          mergeFields(other.getFields());
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.example.demo.dto.RpcProto.UserNewsRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.example.demo.dto.RpcProto.UserNewsRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long userId_ ;
+      /**
+       * <code>optional int64 user_id = 1;</code>
+       */
+      public long getUserId() {
+        return userId_;
+      }
+      /**
+       * <code>optional int64 user_id = 1;</code>
+       */
+      public Builder setUserId(long value) {
+        
+        userId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 user_id = 1;</code>
+       */
+      public Builder clearUserId() {
+        
+        userId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.FieldMask fields_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder> fieldsBuilder_;
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public boolean hasFields() {
+        return fieldsBuilder_ != null || fields_ != null;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public com.google.protobuf.FieldMask getFields() {
+        if (fieldsBuilder_ == null) {
+          return fields_ == null ? com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+        } else {
+          return fieldsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public Builder setFields(com.google.protobuf.FieldMask value) {
+        if (fieldsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          fields_ = value;
+          onChanged();
+        } else {
+          fieldsBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public Builder setFields(
+          com.google.protobuf.FieldMask.Builder builderForValue) {
+        if (fieldsBuilder_ == null) {
+          fields_ = builderForValue.build();
+          onChanged();
+        } else {
+          fieldsBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public Builder mergeFields(com.google.protobuf.FieldMask value) {
+        if (fieldsBuilder_ == null) {
+          if (fields_ != null) {
+            fields_ =
+              com.google.protobuf.FieldMask.newBuilder(fields_).mergeFrom(value).buildPartial();
+          } else {
+            fields_ = value;
+          }
+          onChanged();
+        } else {
+          fieldsBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public Builder clearFields() {
+        if (fieldsBuilder_ == null) {
+          fields_ = null;
+          onChanged();
+        } else {
+          fields_ = null;
+          fieldsBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public com.google.protobuf.FieldMask.Builder getFieldsBuilder() {
+        
+        onChanged();
+        return getFieldsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      public com.google.protobuf.FieldMaskOrBuilder getFieldsOrBuilder() {
+        if (fieldsBuilder_ != null) {
+          return fieldsBuilder_.getMessageOrBuilder();
+        } else {
+          return fields_ == null ?
+              com.google.protobuf.FieldMask.getDefaultInstance() : fields_;
+        }
+      }
+      /**
+       * <code>optional .google.protobuf.FieldMask fields = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder> 
+          getFieldsFieldBuilder() {
+        if (fieldsBuilder_ == null) {
+          fieldsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.google.protobuf.FieldMask, com.google.protobuf.FieldMask.Builder, com.google.protobuf.FieldMaskOrBuilder>(
+                  getFields(),
+                  getParentForChildren(),
+                  isClean());
+          fields_ = null;
+        }
+        return fieldsBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:proto.UserNewsRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:proto.UserNewsRequest)
+    private static final com.example.demo.dto.RpcProto.UserNewsRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.example.demo.dto.RpcProto.UserNewsRequest();
+    }
+
+    public static com.example.demo.dto.RpcProto.UserNewsRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<UserNewsRequest>
+        PARSER = new com.google.protobuf.AbstractParser<UserNewsRequest>() {
+      public UserNewsRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new UserNewsRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<UserNewsRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<UserNewsRequest> getParserForType() {
+      return PARSER;
+    }
+
+    public com.example.demo.dto.RpcProto.UserNewsRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_IdRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_IdRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_IdsRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_IdsRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_ListRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_ListRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_ChangesRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_ChangesRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_NewsCommentsRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_NewsCommentsRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_proto_UserNewsRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_proto_UserNewsRequest_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\tRpc.proto\022\005proto\032 google/protobuf/fiel" +
+      "d_mask.proto\032\rComment.proto\032\nNews.proto\032" +
+      "\nUser.proto\"C\n\tIdRequest\022\n\n\002id\030\001 \001(\003\022*\n\006" +
+      "fields\030\002 \001(\0132\032.google.protobuf.FieldMask" +
+      "\"E\n\nIdsRequest\022\013\n\003ids\030\001 \003(\003\022*\n\006fields\030\002 " +
+      "\001(\0132\032.google.protobuf.FieldMask\"9\n\013ListR" +
+      "equest\022*\n\006fields\030\001 \001(\0132\032.google.protobuf" +
+      ".FieldMask\"Y\n\016ChangesRequest\022\r\n\005since\030\001 " +
+      "\001(\003\022\014\n\004size\030\002 \001(\005\022*\n\006fields\030\003 \001(\0132\032.goog" +
+      "le.protobuf.FieldMask\"R\n\023NewsCommentsReq",
+      "uest\022\017\n\007news_id\030\001 \001(\003\022*\n\006fields\030\002 \001(\0132\032." +
+      "google.protobuf.FieldMask\"N\n\017UserNewsReq" +
+      "uest\022\017\n\007user_id\030\001 \001(\003\022*\n\006fields\030\002 \001(\0132\032." +
+      "google.protobuf.FieldMask2\350\001\n\013NewsServic" +
+      "e\022+\n\007GetNews\022\020.proto.IdRequest\032\016.proto.N" +
+      "ewsDto\022;\n\014GetNewsByIds\022\021.proto.IdsReques" +
+      "t\032\030.proto.NewsSimpleDtoList\0226\n\010ListNews\022" +
+      "\022.proto.ListRequest\032\024.proto.NewsSimpleDt" +
+      "o0\001\0227\n\nGetChanges\022\025.proto.ChangesRequest" +
+      "\032\022.proto.NewsChanges2\234\002\n\016CommentService\022",
+      "1\n\nGetComment\022\020.proto.IdRequest\032\021.proto." +
+      "CommentDto\022B\n\020GetCommentsByIds\022\021.proto.I" +
+      "dsRequest\032\033.proto.CommentSimpleDtoList\022K" +
+      "\n\022ListCommentsOfNews\022\032.proto.NewsComment" +
+      "sRequest\032\027.proto.CommentSimpleDto0\001\022F\n\016I" +
+      "ngestComments\022\027.proto.CommentSimpleDto\032\031" +
+      ".proto.CommentBatchResult(\0012\363\001\n\013UserServ" +
+      "ice\022+\n\007GetUser\022\020.proto.IdRequest\032\016.proto" +
+      ".UserDto\022<\n\rGetUsersByIds\022\021.proto.IdsReq" +
+      "uest\032\030.proto.UserSimpleDtoList\0227\n\tListUs",
+      "ers\022\022.proto.ListRequest\032\024.proto.UserSimp" +
+      "leDto0\001\022@\n\016ListNewsOfUser\022\026.proto.UserNe" +
+      "wsRequest\032\024.proto.NewsSimpleDto0\001B \n\024com" +
+      ".example.demo.dtoB\010RpcProtob\006proto3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.google.protobuf.FieldMaskProto.getDescriptor(),
+          com.example.demo.dto.CommentProto.getDescriptor(),
+          com.example.demo.dto.NewsProto.getDescriptor(),
+          com.example.demo.dto.UserProto.getDescriptor(),
+        }, assigner);
+    internal_static_proto_IdRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_proto_IdRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_IdRequest_descriptor,
+        new java.lang.String[] { "Id", "Fields", });
+    internal_static_proto_IdsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_proto_IdsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_IdsRequest_descriptor,
+        new java.lang.String[] { "Ids", "Fields", });
+    internal_static_proto_ListRequest_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_proto_ListRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_ListRequest_descriptor,
+        new java.lang.String[] { "Fields", });
+    internal_static_proto_ChangesRequest_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_proto_ChangesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_ChangesRequest_descriptor,
+        new java.lang.String[] { "Since", "Size", "Fields", });
+    internal_static_proto_NewsCommentsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_proto_NewsCommentsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_NewsCommentsRequest_descriptor,
+        new java.lang.String[] { "NewsId", "Fields", });
+    internal_static_proto_UserNewsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_proto_UserNewsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_proto_UserNewsRequest_descriptor,
+        new java.lang.String[] { "UserId", "Fields", });
+    com.google.protobuf.FieldMaskProto.getDescriptor();
+    com.example.demo.dto.CommentProto.getDescriptor();
+    com.example.demo.dto.NewsProto.getDescriptor();
+    com.example.demo.dto.UserProto.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -178,52 +178,14 @@ public final class UserProto {
     int getRolesValue(int index);
 
     /**
-     * <code>repeated .proto.UserNews news = 6;</code>
+     * <code>optional int64 news_count = 8;</code>
      */
-    java.util.List<com.example.demo.dto.UserProto.UserNews> 
-        getNewsList();
-    /**
-     * <code>repeated .proto.UserNews news = 6;</code>
-     */
-    com.example.demo.dto.UserProto.UserNews getNews(int index);
-    /**
-     * <code>repeated .proto.UserNews news = 6;</code>
-     */
-    int getNewsCount();
-    /**
-     * <code>repeated .proto.UserNews news = 6;</code>
-     */
-    java.util.List<? extends com.example.demo.dto.UserProto.UserNewsOrBuilder> 
-        getNewsOrBuilderList();
-    /**
-     * <code>repeated .proto.UserNews news = 6;</code>
-     */
-    com.example.demo.dto.UserProto.UserNewsOrBuilder getNewsOrBuilder(
-        int index);
+    long getNewsCount();
 
     /**
-     * <code>repeated .proto.UserComment comments = 7;</code>
-     */
-    java.util.List<com.example.demo.dto.UserProto.UserComment> 
-        getCommentsList();
-    /**
-     * <code>repeated .proto.UserComment comments = 7;</code>
-     */
-    com.example.demo.dto.UserProto.UserComment getComments(int index);
-    /**
-     * <code>repeated .proto.UserComment comments = 7;</code>
-     */
-    int getCommentsCount();
-    /**
-     * <code>repeated .proto.UserComment comments = 7;</code>
-     */
-    java.util.List<? extends com.example.demo.dto.UserProto.UserCommentOrBuilder> 
-        getCommentsOrBuilderList();
-    /**
-     * <code>repeated .proto.UserComment comments = 7;</code>
+     * <code>optional int64 comment_count = 9;</code>
      */
-    com.example.demo.dto.UserProto.UserCommentOrBuilder getCommentsOrBuilder(
-        int index);
+    long getCommentCount();
   }
   /**
    * Protobuf type {@code proto.UserDto}
@@ -242,8 +204,8 @@ public final class UserProto {
       password_ = "";
       active_ = false;
       roles_ = java.util.Collections.emptyList();
-      news_ = java.util.Collections.emptyList();
-      comments_ = java.util.Collections.emptyList();
+      newsCount_ = 0L;
+      commentCount_ = 0L;
     }
 
     @java.lang.Override
@@ -316,22 +278,14 @@ public final class UserProto {
               input.popLimit(oldLimit);
               break;
             }
-            case 50: {
-              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
-                news_ = new java.util.ArrayList<com.example.demo.dto.UserProto.UserNews>();
-                mutable_bitField0_ |= 0x00000020;
-              }
-              news_.add(
-                  input.readMessage(com.example.demo.dto.UserProto.UserNews.parser(), extensionRegistry));
+            case 64: {
+
+              newsCount_ = input.readInt64();
               break;
             }
-            case 58: {
-              if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
-                comments_ = new java.util.ArrayList<com.example.demo.dto.UserProto.UserComment>();
-                mutable_bitField0_ |= 0x00000040;
-              }
-              comments_.add(
-                  input.readMessage(com.example.demo.dto.UserProto.UserComment.parser(), extensionRegistry));
+            case 72: {
+
+              commentCount_ = input.readInt64();
               break;
             }
           }
@@ -345,12 +299,6 @@ public final class UserProto {
         if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
           roles_ = java.util.Collections.unmodifiableList(roles_);
         }
-        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
-          news_ = java.util.Collections.unmodifiableList(news_);
-        }
-        if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
-          comments_ = java.util.Collections.unmodifiableList(comments_);
-        }
         makeExtensionsImmutable();
       }
     }
@@ -498,74 +446,22 @@ public final class UserProto {
     }
     private int rolesMemoizedSerializedSize;
 
-    public static final int NEWS_FIELD_NUMBER = 6;
-    private java.util.List<com.example.demo.dto.UserProto.UserNews> news_;
-    /**
-     * <code>repeated .proto.UserNews news = 6;</code>
-     */
-    public java.util.List<com.example.demo.dto.UserProto.UserNews> getNewsList() {
-      return news_;
-    }
-    /**
-     * <code>repeated .proto.UserNews news = 6;</code>
-     */
-    public java.util.List<? extends com.example.demo.dto.UserProto.UserNewsOrBuilder> 
-        getNewsOrBuilderList() {
-      return news_;
-    }
-    /**
-     * <code>repeated .proto.UserNews news = 6;</code>
-     */
-    public int getNewsCount() {
-      return news_.size();
-    }
-    /**
-     * <code>repeated .proto.UserNews news = 6;</code>
-     */
-    public com.example.demo.dto.UserProto.UserNews getNews(int index) {
-      return news_.get(index);
-    }
+    public static final int NEWS_COUNT_FIELD_NUMBER = 8;
+    private long newsCount_;
     /**
-     * <code>repeated .proto.UserNews news = 6;</code>
+     * <code>optional int64 news_count = 8;</code>
      */
-    public com.example.demo.dto.UserProto.UserNewsOrBuilder getNewsOrBuilder(
-        int index) {
-      return news_.get(index);
+    public long getNewsCount() {
+      return newsCount_;
     }
 
-    public static final int COMMENTS_FIELD_NUMBER = 7;
-    private java.util.List<com.example.demo.dto.UserProto.UserComment> comments_;
-    /**
-     * <code>repeated .proto.UserComment comments = 7;</code>
-     */
-    public java.util.List<com.example.demo.dto.UserProto.UserComment> getCommentsList() {
-      return comments_;
-    }
-    /**
-     * <code>repeated .proto.UserComment comments = 7;</code>
-     */
-    public java.util.List<? extends com.example.demo.dto.UserProto.UserCommentOrBuilder> 
-        getCommentsOrBuilderList() {
-      return comments_;
-    }
-    /**
-     * <code>repeated .proto.UserComment comments = 7;</code>
-     */
-    public int getCommentsCount() {
-      return comments_.size();
-    }
-    /**
-     * <code>repeated .proto.UserComment comments = 7;</code>
-     */
-    public com.example.demo.dto.UserProto.UserComment getComments(int index) {
-      return comments_.get(index);
-    }
+    public static final int COMMENT_COUNT_FIELD_NUMBER = 9;
+    private long commentCount_;
     /**
-     * <code>repeated .proto.UserComment comments = 7;</code>
+     * <code>optional int64 comment_count = 9;</code>
      */
-    public com.example.demo.dto.UserProto.UserCommentOrBuilder getCommentsOrBuilder(
-        int index) {
-      return comments_.get(index);
+    public long getCommentCount() {
+      return commentCount_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -600,11 +496,11 @@ public final class UserProto {
       for (int i = 0; i < roles_.size(); i++) {
         output.writeEnumNoTag(roles_.get(i));
       }
-      for (int i = 0; i < news_.size(); i++) {
-        output.writeMessage(6, news_.get(i));
+      if (newsCount_ != 0L) {
+        output.writeInt64(8, newsCount_);
       }
-      for (int i = 0; i < comments_.size(); i++) {
-        output.writeMessage(7, comments_.get(i));
+      if (commentCount_ != 0L) {
+        output.writeInt64(9, commentCount_);
       }
     }
 
@@ -639,13 +535,13 @@ public final class UserProto {
             .computeUInt32SizeNoTag(dataSize);
         }rolesMemoizedSerializedSize = dataSize;
       }
-      for (int i = 0; i < news_.size(); i++) {
+      if (newsCount_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(6, news_.get(i));
+          .computeInt64Size(8, newsCount_);
       }
-      for (int i = 0; i < comments_.size(); i++) {
+      if (commentCount_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(7, comments_.get(i));
+          .computeInt64Size(9, commentCount_);
       }
       memoizedSize = size;
       return size;
@@ -672,10 +568,10 @@ public final class UserProto {
       result = result && (getActive()
           == other.getActive());
       result = result && roles_.equals(other.roles_);
-      result = result && getNewsList()
-          .equals(other.getNewsList());
-      result = result && getCommentsList()
-          .equals(other.getCommentsList());
+      result = result && (getNewsCount()
+          == other.getNewsCount());
+      result = result && (getCommentCount()
+          == other.getCommentCount());
       return result;
     }
 
@@ -700,14 +596,12 @@ public final class UserProto {
         hash = (37 * hash) + ROLES_FIELD_NUMBER;
         hash = (53 * hash) + roles_.hashCode();
       }
-      if (getNewsCount() > 0) {
-        hash = (37 * hash) + NEWS_FIELD_NUMBER;
-        hash = (53 * hash) + getNewsList().hashCode();
-      }
-      if (getCommentsCount() > 0) {
-        hash = (37 * hash) + COMMENTS_FIELD_NUMBER;
-        hash = (53 * hash) + getCommentsList().hashCode();
-      }
+      hash = (37 * hash) + NEWS_COUNT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getNewsCount());
+      hash = (37 * hash) + COMMENT_COUNT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getCommentCount());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -822,8 +716,6 @@ public final class UserProto {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getNewsFieldBuilder();
-          getCommentsFieldBuilder();
         }
       }
       public Builder clear() {
@@ -838,18 +730,10 @@ public final class UserProto {
 
         roles_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000010);
-        if (newsBuilder_ == null) {
-          news_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000020);
-        } else {
-          newsBuilder_.clear();
-        }
-        if (commentsBuilder_ == null) {
-          comments_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000040);
-        } else {
-          commentsBuilder_.clear();
-        }
+        newsCount_ = 0L;
+
+        commentCount_ = 0L;
+
         return this;
       }
 
@@ -883,24 +767,8 @@ public final class UserProto {
           bitField0_ = (bitField0_ & ~0x00000010);
         }
         result.roles_ = roles_;
-        if (newsBuilder_ == null) {
-          if (((bitField0_ & 0x00000020) == 0x00000020)) {
-            news_ = java.util.Collections.unmodifiableList(news_);
-            bitField0_ = (bitField0_ & ~0x00000020);
-          }
-          result.news_ = news_;
-        } else {
-          result.news_ = newsBuilder_.build();
-        }
-        if (commentsBuilder_ == null) {
-          if (((bitField0_ & 0x00000040) == 0x00000040)) {
-            comments_ = java.util.Collections.unmodifiableList(comments_);
-            bitField0_ = (bitField0_ & ~0x00000040);
-          }
-          result.comments_ = comments_;
-        } else {
-          result.comments_ = commentsBuilder_.build();
-        }
+        result.newsCount_ = newsCount_;
+        result.commentCount_ = commentCount_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -967,57 +835,11 @@ public final class UserProto {
           }
           onChanged();
         }
-        if (newsBuilder_ == null) {
-          if (!other.news_.isEmpty()) {
-            if (news_.isEmpty()) {
-              news_ = other.news_;
-              bitField0_ = (bitField0_ & ~0x00000020);
-            } else {
-              ensureNewsIsMutable();
-              news_.addAll(other.news_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.news_.isEmpty()) {
-            if (newsBuilder_.isEmpty()) {
-              newsBuilder_.dispose();
-              newsBuilder_ = null;
-              news_ = other.news_;
-              bitField0_ = (bitField0_ & ~0x00000020);
-              newsBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getNewsFieldBuilder() : null;
-            } else {
-              newsBuilder_.addAllMessages(other.news_);
-            }
-          }
+        if (other.getNewsCount() != 0L) {
+          setNewsCount(other.getNewsCount());
         }
-        if (commentsBuilder_ == null) {
-          if (!other.comments_.isEmpty()) {
-            if (comments_.isEmpty()) {
-              comments_ = other.comments_;
-              bitField0_ = (bitField0_ & ~0x00000040);
-            } else {
-              ensureCommentsIsMutable();
-              comments_.addAll(other.comments_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.comments_.isEmpty()) {
-            if (commentsBuilder_.isEmpty()) {
-              commentsBuilder_.dispose();
-              commentsBuilder_ = null;
-              comments_ = other.comments_;
-              bitField0_ = (bitField0_ & ~0x00000040);
-              commentsBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getCommentsFieldBuilder() : null;
-            } else {
-              commentsBuilder_.addAllMessages(other.comments_);
-            }
-          }
+        if (other.getCommentCount() != 0L) {
+          setCommentCount(other.getCommentCount());
         }
         onChanged();
         return this;
@@ -1354,516 +1176,88 @@ public final class UserProto {
         return this;
       }
 
-      private java.util.List<com.example.demo.dto.UserProto.UserNews> news_ =
-        java.util.Collections.emptyList();
-      private void ensureNewsIsMutable() {
-        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
-          news_ = new java.util.ArrayList<com.example.demo.dto.UserProto.UserNews>(news_);
-          bitField0_ |= 0x00000020;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          com.example.demo.dto.UserProto.UserNews, com.example.demo.dto.UserProto.UserNews.Builder, com.example.demo.dto.UserProto.UserNewsOrBuilder> newsBuilder_;
-
-      /**
-       * <code>repeated .proto.UserNews news = 6;</code>
-       */
-      public java.util.List<com.example.demo.dto.UserProto.UserNews> getNewsList() {
-        if (newsBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(news_);
-        } else {
-          return newsBuilder_.getMessageList();
-        }
-      }
-      /**
-       * <code>repeated .proto.UserNews news = 6;</code>
-       */
-      public int getNewsCount() {
-        if (newsBuilder_ == null) {
-          return news_.size();
-        } else {
-          return newsBuilder_.getCount();
-        }
-      }
-      /**
-       * <code>repeated .proto.UserNews news = 6;</code>
-       */
-      public com.example.demo.dto.UserProto.UserNews getNews(int index) {
-        if (newsBuilder_ == null) {
-          return news_.get(index);
-        } else {
-          return newsBuilder_.getMessage(index);
-        }
-      }
-      /**
-       * <code>repeated .proto.UserNews news = 6;</code>
-       */
-      public Builder setNews(
-          int index, com.example.demo.dto.UserProto.UserNews value) {
-        if (newsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureNewsIsMutable();
-          news_.set(index, value);
-          onChanged();
-        } else {
-          newsBuilder_.setMessage(index, value);
-        }
-        return this;
-      }
+      private long newsCount_ ;
       /**
-       * <code>repeated .proto.UserNews news = 6;</code>
+       * <code>optional int64 news_count = 8;</code>
        */
-      public Builder setNews(
-          int index, com.example.demo.dto.UserProto.UserNews.Builder builderForValue) {
-        if (newsBuilder_ == null) {
-          ensureNewsIsMutable();
-          news_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          newsBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
+      public long getNewsCount() {
+        return newsCount_;
       }
       /**
-       * <code>repeated .proto.UserNews news = 6;</code>
+       * <code>optional int64 news_count = 8;</code>
        */
-      public Builder addNews(com.example.demo.dto.UserProto.UserNews value) {
-        if (newsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureNewsIsMutable();
-          news_.add(value);
-          onChanged();
-        } else {
-          newsBuilder_.addMessage(value);
-        }
+      public Builder setNewsCount(long value) {
+        
+        newsCount_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .proto.UserNews news = 6;</code>
+       * <code>optional int64 news_count = 8;</code>
        */
-      public Builder addNews(
-          int index, com.example.demo.dto.UserProto.UserNews value) {
-        if (newsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureNewsIsMutable();
-          news_.add(index, value);
-          onChanged();
-        } else {
-          newsBuilder_.addMessage(index, value);
-        }
+      public Builder clearNewsCount() {
+        
+        newsCount_ = 0L;
+        onChanged();
         return this;
       }
+
+      private long commentCount_ ;
       /**
-       * <code>repeated .proto.UserNews news = 6;</code>
+       * <code>optional int64 comment_count = 9;</code>
        */
-      public Builder addNews(
-          com.example.demo.dto.UserProto.UserNews.Builder builderForValue) {
-        if (newsBuilder_ == null) {
-          ensureNewsIsMutable();
-          news_.add(builderForValue.build());
-          onChanged();
-        } else {
-          newsBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
+      public long getCommentCount() {
+        return commentCount_;
       }
       /**
-       * <code>repeated .proto.UserNews news = 6;</code>
+       * <code>optional int64 comment_count = 9;</code>
        */
-      public Builder addNews(
-          int index, com.example.demo.dto.UserProto.UserNews.Builder builderForValue) {
-        if (newsBuilder_ == null) {
-          ensureNewsIsMutable();
-          news_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          newsBuilder_.addMessage(index, builderForValue.build());
-        }
+      public Builder setCommentCount(long value) {
+        
+        commentCount_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .proto.UserNews news = 6;</code>
+       * <code>optional int64 comment_count = 9;</code>
        */
-      public Builder addAllNews(
-          java.lang.Iterable<? extends com.example.demo.dto.UserProto.UserNews> values) {
-        if (newsBuilder_ == null) {
-          ensureNewsIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, news_);
-          onChanged();
-        } else {
-          newsBuilder_.addAllMessages(values);
-        }
+      public Builder clearCommentCount() {
+        
+        commentCount_ = 0L;
+        onChanged();
         return this;
       }
-      /**
-       * <code>repeated .proto.UserNews news = 6;</code>
-       */
-      public Builder clearNews() {
-        if (newsBuilder_ == null) {
-          news_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000020);
-          onChanged();
-        } else {
-          newsBuilder_.clear();
-        }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
         return this;
       }
-      /**
-       * <code>repeated .proto.UserNews news = 6;</code>
-       */
-      public Builder removeNews(int index) {
-        if (newsBuilder_ == null) {
-          ensureNewsIsMutable();
-          news_.remove(index);
-          onChanged();
-        } else {
-          newsBuilder_.remove(index);
-        }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
         return this;
       }
-      /**
-       * <code>repeated .proto.UserNews news = 6;</code>
-       */
-      public com.example.demo.dto.UserProto.UserNews.Builder getNewsBuilder(
-          int index) {
-        return getNewsFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .proto.UserNews news = 6;</code>
-       */
-      public com.example.demo.dto.UserProto.UserNewsOrBuilder getNewsOrBuilder(
-          int index) {
-        if (newsBuilder_ == null) {
-          return news_.get(index);  } else {
-          return newsBuilder_.getMessageOrBuilder(index);
-        }
-      }
-      /**
-       * <code>repeated .proto.UserNews news = 6;</code>
-       */
-      public java.util.List<? extends com.example.demo.dto.UserProto.UserNewsOrBuilder> 
-           getNewsOrBuilderList() {
-        if (newsBuilder_ != null) {
-          return newsBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(news_);
-        }
-      }
-      /**
-       * <code>repeated .proto.UserNews news = 6;</code>
-       */
-      public com.example.demo.dto.UserProto.UserNews.Builder addNewsBuilder() {
-        return getNewsFieldBuilder().addBuilder(
-            com.example.demo.dto.UserProto.UserNews.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .proto.UserNews news = 6;</code>
-       */
-      public com.example.demo.dto.UserProto.UserNews.Builder addNewsBuilder(
-          int index) {
-        return getNewsFieldBuilder().addBuilder(
-            index, com.example.demo.dto.UserProto.UserNews.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .proto.UserNews news = 6;</code>
-       */
-      public java.util.List<com.example.demo.dto.UserProto.UserNews.Builder> 
-           getNewsBuilderList() {
-        return getNewsFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          com.example.demo.dto.UserProto.UserNews, com.example.demo.dto.UserProto.UserNews.Builder, com.example.demo.dto.UserProto.UserNewsOrBuilder> 
-          getNewsFieldBuilder() {
-        if (newsBuilder_ == null) {
-          newsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              com.example.demo.dto.UserProto.UserNews, com.example.demo.dto.UserProto.UserNews.Builder, com.example.demo.dto.UserProto.UserNewsOrBuilder>(
-                  news_,
-                  ((bitField0_ & 0x00000020) == 0x00000020),
-                  getParentForChildren(),
-                  isClean());
-          news_ = null;
-        }
-        return newsBuilder_;
-      }
 
-      private java.util.List<com.example.demo.dto.UserProto.UserComment> comments_ =
-        java.util.Collections.emptyList();
-      private void ensureCommentsIsMutable() {
-        if (!((bitField0_ & 0x00000040) == 0x00000040)) {
-          comments_ = new java.util.ArrayList<com.example.demo.dto.UserProto.UserComment>(comments_);
-          bitField0_ |= 0x00000040;
-         }
-      }
 
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          com.example.demo.dto.UserProto.UserComment, com.example.demo.dto.UserProto.UserComment.Builder, com.example.demo.dto.UserProto.UserCommentOrBuilder> commentsBuilder_;
+      // @@protoc_insertion_point(builder_scope:proto.UserDto)
+    }
 
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public java.util.List<com.example.demo.dto.UserProto.UserComment> getCommentsList() {
-        if (commentsBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(comments_);
-        } else {
-          return commentsBuilder_.getMessageList();
-        }
-      }
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public int getCommentsCount() {
-        if (commentsBuilder_ == null) {
-          return comments_.size();
-        } else {
-          return commentsBuilder_.getCount();
-        }
-      }
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public com.example.demo.dto.UserProto.UserComment getComments(int index) {
-        if (commentsBuilder_ == null) {
-          return comments_.get(index);
-        } else {
-          return commentsBuilder_.getMessage(index);
-        }
-      }
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public Builder setComments(
-          int index, com.example.demo.dto.UserProto.UserComment value) {
-        if (commentsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureCommentsIsMutable();
-          comments_.set(index, value);
-          onChanged();
-        } else {
-          commentsBuilder_.setMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public Builder setComments(
-          int index, com.example.demo.dto.UserProto.UserComment.Builder builderForValue) {
-        if (commentsBuilder_ == null) {
-          ensureCommentsIsMutable();
-          comments_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          commentsBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public Builder addComments(com.example.demo.dto.UserProto.UserComment value) {
-        if (commentsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureCommentsIsMutable();
-          comments_.add(value);
-          onChanged();
-        } else {
-          commentsBuilder_.addMessage(value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public Builder addComments(
-          int index, com.example.demo.dto.UserProto.UserComment value) {
-        if (commentsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureCommentsIsMutable();
-          comments_.add(index, value);
-          onChanged();
-        } else {
-          commentsBuilder_.addMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public Builder addComments(
-          com.example.demo.dto.UserProto.UserComment.Builder builderForValue) {
-        if (commentsBuilder_ == null) {
-          ensureCommentsIsMutable();
-          comments_.add(builderForValue.build());
-          onChanged();
-        } else {
-          commentsBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public Builder addComments(
-          int index, com.example.demo.dto.UserProto.UserComment.Builder builderForValue) {
-        if (commentsBuilder_ == null) {
-          ensureCommentsIsMutable();
-          comments_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          commentsBuilder_.addMessage(index, builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public Builder addAllComments(
-          java.lang.Iterable<? extends com.example.demo.dto.UserProto.UserComment> values) {
-        if (commentsBuilder_ == null) {
-          ensureCommentsIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, comments_);
-          onChanged();
-        } else {
-          commentsBuilder_.addAllMessages(values);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public Builder clearComments() {
-        if (commentsBuilder_ == null) {
-          comments_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000040);
-          onChanged();
-        } else {
-          commentsBuilder_.clear();
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public Builder removeComments(int index) {
-        if (commentsBuilder_ == null) {
-          ensureCommentsIsMutable();
-          comments_.remove(index);
-          onChanged();
-        } else {
-          commentsBuilder_.remove(index);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public com.example.demo.dto.UserProto.UserComment.Builder getCommentsBuilder(
-          int index) {
-        return getCommentsFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public com.example.demo.dto.UserProto.UserCommentOrBuilder getCommentsOrBuilder(
-          int index) {
-        if (commentsBuilder_ == null) {
-          return comments_.get(index);  } else {
-          return commentsBuilder_.getMessageOrBuilder(index);
-        }
-      }
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public java.util.List<? extends com.example.demo.dto.UserProto.UserCommentOrBuilder> 
-           getCommentsOrBuilderList() {
-        if (commentsBuilder_ != null) {
-          return commentsBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(comments_);
-        }
-      }
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public com.example.demo.dto.UserProto.UserComment.Builder addCommentsBuilder() {
-        return getCommentsFieldBuilder().addBuilder(
-            com.example.demo.dto.UserProto.UserComment.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public com.example.demo.dto.UserProto.UserComment.Builder addCommentsBuilder(
-          int index) {
-        return getCommentsFieldBuilder().addBuilder(
-            index, com.example.demo.dto.UserProto.UserComment.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .proto.UserComment comments = 7;</code>
-       */
-      public java.util.List<com.example.demo.dto.UserProto.UserComment.Builder> 
-           getCommentsBuilderList() {
-        return getCommentsFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          com.example.demo.dto.UserProto.UserComment, com.example.demo.dto.UserProto.UserComment.Builder, com.example.demo.dto.UserProto.UserCommentOrBuilder> 
-          getCommentsFieldBuilder() {
-        if (commentsBuilder_ == null) {
-          commentsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              com.example.demo.dto.UserProto.UserComment, com.example.demo.dto.UserProto.UserComment.Builder, com.example.demo.dto.UserProto.UserCommentOrBuilder>(
-                  comments_,
-                  ((bitField0_ & 0x00000040) == 0x00000040),
-                  getParentForChildren(),
-                  isClean());
-          comments_ = null;
-        }
-        return commentsBuilder_;
-      }
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return this;
-      }
-
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return this;
-      }
-
-
-      // @@protoc_insertion_point(builder_scope:proto.UserDto)
-    }
-
-    // @@protoc_insertion_point(class_scope:proto.UserDto)
-    private static final com.example.demo.dto.UserProto.UserDto DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new com.example.demo.dto.UserProto.UserDto();
-    }
-
-    public static com.example.demo.dto.UserProto.UserDto getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<UserDto>
-        PARSER = new com.google.protobuf.AbstractParser<UserDto>() {
-      public UserDto parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-          return new UserDto(input, extensionRegistry);
+    // @@protoc_insertion_point(class_scope:proto.UserDto)
+    private static final com.example.demo.dto.UserProto.UserDto DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.example.demo.dto.UserProto.UserDto();
+    }
+
+    public static com.example.demo.dto.UserProto.UserDto getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<UserDto>
+        PARSER = new com.google.protobuf.AbstractParser<UserDto>() {
+      public UserDto parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new UserDto(input, extensionRegistry);
       }
     };
 
@@ -2909,61 +2303,61 @@ public final class UserProto {
 
   }
 
-  public interface UserNewsOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:proto.UserNews)
+  public interface UserSimpleDtoListOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:proto.UserSimpleDtoList)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional int64 id = 1;</code>
+     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
      */
-    long getId();
-
+    java.util.List<com.example.demo.dto.UserProto.UserSimpleDto> 
+        getUserDtoList();
     /**
-     * <code>optional string date = 2;</code>
+     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
      */
-    java.lang.String getDate();
+    com.example.demo.dto.UserProto.UserSimpleDto getUserDto(int index);
     /**
-     * <code>optional string date = 2;</code>
+     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getDateBytes();
-
+    int getUserDtoCount();
     /**
-     * <code>optional string title = 3;</code>
+     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
      */
-    java.lang.String getTitle();
+    java.util.List<? extends com.example.demo.dto.UserProto.UserSimpleDtoOrBuilder> 
+        getUserDtoOrBuilderList();
     /**
-     * <code>optional string title = 3;</code>
+     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getTitleBytes();
+    com.example.demo.dto.UserProto.UserSimpleDtoOrBuilder getUserDtoOrBuilder(
+        int index);
 
     /**
-     * <code>optional string text = 4;</code>
+     * <code>repeated int64 missing_ids = 2;</code>
      */
-    java.lang.String getText();
+    java.util.List<java.lang.Long> getMissingIdsList();
     /**
-     * <code>optional string text = 4;</code>
+     * <code>repeated int64 missing_ids = 2;</code>
      */
-    com.google.protobuf.ByteString
-        getTextBytes();
+    int getMissingIdsCount();
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     */
+    long getMissingIds(int index);
   }
   /**
-   * Protobuf type {@code proto.UserNews}
+   * Protobuf type {@code proto.UserSimpleDtoList}
    */
-  public  static final class UserNews extends
+  public  static final class UserSimpleDtoList extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:proto.UserNews)
-      UserNewsOrBuilder {
-    // Use UserNews.newBuilder() to construct.
-    private UserNews(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:proto.UserSimpleDtoList)
+      UserSimpleDtoListOrBuilder {
+    // Use UserSimpleDtoList.newBuilder() to construct.
+    private UserSimpleDtoList(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private UserNews() {
-      id_ = 0L;
-      date_ = "";
-      title_ = "";
-      text_ = "";
+    private UserSimpleDtoList() {
+      userDto_ = java.util.Collections.emptyList();
+      missingIds_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -2971,7 +2365,7 @@ public final class UserProto {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private UserNews(
+    private UserSimpleDtoList(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2991,27 +2385,34 @@ public final class UserProto {
               }
               break;
             }
-            case 8: {
-
-              id_ = input.readInt64();
-              break;
-            }
-            case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              date_ = s;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                userDto_ = new java.util.ArrayList<com.example.demo.dto.UserProto.UserSimpleDto>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              userDto_.add(
+                  input.readMessage(com.example.demo.dto.UserProto.UserSimpleDto.parser(), extensionRegistry));
               break;
             }
-            case 26: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              title_ = s;
+            case 16: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                missingIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              missingIds_.add(input.readInt64());
               break;
             }
-            case 34: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              text_ = s;
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+                missingIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                missingIds_.add(input.readInt64());
+              }
+              input.popLimit(limit);
               break;
             }
           }
@@ -3022,1575 +2423,84 @@ public final class UserProto {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          userDto_ = java.util.Collections.unmodifiableList(userDto_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          missingIds_ = java.util.Collections.unmodifiableList(missingIds_);
+        }
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.example.demo.dto.UserProto.internal_static_proto_UserNews_descriptor;
+      return com.example.demo.dto.UserProto.internal_static_proto_UserSimpleDtoList_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.example.demo.dto.UserProto.internal_static_proto_UserNews_fieldAccessorTable
+      return com.example.demo.dto.UserProto.internal_static_proto_UserSimpleDtoList_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.example.demo.dto.UserProto.UserNews.class, com.example.demo.dto.UserProto.UserNews.Builder.class);
+              com.example.demo.dto.UserProto.UserSimpleDtoList.class, com.example.demo.dto.UserProto.UserSimpleDtoList.Builder.class);
     }
 
-    public static final int ID_FIELD_NUMBER = 1;
-    private long id_;
+    public static final int USERDTO_FIELD_NUMBER = 1;
+    private java.util.List<com.example.demo.dto.UserProto.UserSimpleDto> userDto_;
     /**
-     * <code>optional int64 id = 1;</code>
+     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
      */
-    public long getId() {
-      return id_;
+    public java.util.List<com.example.demo.dto.UserProto.UserSimpleDto> getUserDtoList() {
+      return userDto_;
     }
-
-    public static final int DATE_FIELD_NUMBER = 2;
-    private volatile java.lang.Object date_;
     /**
-     * <code>optional string date = 2;</code>
+     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
      */
-    public java.lang.String getDate() {
-      java.lang.Object ref = date_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        date_ = s;
-        return s;
-      }
+    public java.util.List<? extends com.example.demo.dto.UserProto.UserSimpleDtoOrBuilder> 
+        getUserDtoOrBuilderList() {
+      return userDto_;
     }
     /**
-     * <code>optional string date = 2;</code>
+     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getDateBytes() {
-      java.lang.Object ref = date_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        date_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public int getUserDtoCount() {
+      return userDto_.size();
     }
-
-    public static final int TITLE_FIELD_NUMBER = 3;
-    private volatile java.lang.Object title_;
     /**
-     * <code>optional string title = 3;</code>
+     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
      */
-    public java.lang.String getTitle() {
-      java.lang.Object ref = title_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        title_ = s;
-        return s;
-      }
+    public com.example.demo.dto.UserProto.UserSimpleDto getUserDto(int index) {
+      return userDto_.get(index);
     }
     /**
-     * <code>optional string title = 3;</code>
+     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getTitleBytes() {
-      java.lang.Object ref = title_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        title_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.example.demo.dto.UserProto.UserSimpleDtoOrBuilder getUserDtoOrBuilder(
+        int index) {
+      return userDto_.get(index);
     }
 
-    public static final int TEXT_FIELD_NUMBER = 4;
-    private volatile java.lang.Object text_;
+    public static final int MISSING_IDS_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Long> missingIds_;
     /**
-     * <code>optional string text = 4;</code>
+     * <code>repeated int64 missing_ids = 2;</code>
      */
-    public java.lang.String getText() {
-      java.lang.Object ref = text_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        text_ = s;
-        return s;
-      }
+    public java.util.List<java.lang.Long>
+        getMissingIdsList() {
+      return missingIds_;
     }
     /**
-     * <code>optional string text = 4;</code>
+     * <code>repeated int64 missing_ids = 2;</code>
      */
-    public com.google.protobuf.ByteString
-        getTextBytes() {
-      java.lang.Object ref = text_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        text_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (id_ != 0L) {
-        output.writeInt64(1, id_);
-      }
-      if (!getDateBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, date_);
-      }
-      if (!getTitleBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, title_);
-      }
-      if (!getTextBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, text_);
-      }
-    }
-
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (id_ != 0L) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(1, id_);
-      }
-      if (!getDateBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, date_);
-      }
-      if (!getTitleBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, title_);
-      }
-      if (!getTextBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, text_);
-      }
-      memoizedSize = size;
-      return size;
-    }
-
-    private static final long serialVersionUID = 0L;
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof com.example.demo.dto.UserProto.UserNews)) {
-        return super.equals(obj);
-      }
-      com.example.demo.dto.UserProto.UserNews other = (com.example.demo.dto.UserProto.UserNews) obj;
-
-      boolean result = true;
-      result = result && (getId()
-          == other.getId());
-      result = result && getDate()
-          .equals(other.getDate());
-      result = result && getTitle()
-          .equals(other.getTitle());
-      result = result && getText()
-          .equals(other.getText());
-      return result;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptorForType().hashCode();
-      hash = (37 * hash) + ID_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getId());
-      hash = (37 * hash) + DATE_FIELD_NUMBER;
-      hash = (53 * hash) + getDate().hashCode();
-      hash = (37 * hash) + TITLE_FIELD_NUMBER;
-      hash = (53 * hash) + getTitle().hashCode();
-      hash = (37 * hash) + TEXT_FIELD_NUMBER;
-      hash = (53 * hash) + getText().hashCode();
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static com.example.demo.dto.UserProto.UserNews parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static com.example.demo.dto.UserProto.UserNews parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static com.example.demo.dto.UserProto.UserNews parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static com.example.demo.dto.UserProto.UserNews parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static com.example.demo.dto.UserProto.UserNews parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static com.example.demo.dto.UserProto.UserNews parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static com.example.demo.dto.UserProto.UserNews parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-    public static com.example.demo.dto.UserProto.UserNews parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static com.example.demo.dto.UserProto.UserNews parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static com.example.demo.dto.UserProto.UserNews parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(com.example.demo.dto.UserProto.UserNews prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code proto.UserNews}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:proto.UserNews)
-        com.example.demo.dto.UserProto.UserNewsOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return com.example.demo.dto.UserProto.internal_static_proto_UserNews_descriptor;
-      }
-
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return com.example.demo.dto.UserProto.internal_static_proto_UserNews_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                com.example.demo.dto.UserProto.UserNews.class, com.example.demo.dto.UserProto.UserNews.Builder.class);
-      }
-
-      // Construct using com.example.demo.dto.UserProto.UserNews.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
-      }
-      public Builder clear() {
-        super.clear();
-        id_ = 0L;
-
-        date_ = "";
-
-        title_ = "";
-
-        text_ = "";
-
-        return this;
-      }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return com.example.demo.dto.UserProto.internal_static_proto_UserNews_descriptor;
-      }
-
-      public com.example.demo.dto.UserProto.UserNews getDefaultInstanceForType() {
-        return com.example.demo.dto.UserProto.UserNews.getDefaultInstance();
-      }
-
-      public com.example.demo.dto.UserProto.UserNews build() {
-        com.example.demo.dto.UserProto.UserNews result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      public com.example.demo.dto.UserProto.UserNews buildPartial() {
-        com.example.demo.dto.UserProto.UserNews result = new com.example.demo.dto.UserProto.UserNews(this);
-        result.id_ = id_;
-        result.date_ = date_;
-        result.title_ = title_;
-        result.text_ = text_;
-        onBuilt();
-        return result;
-      }
-
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.example.demo.dto.UserProto.UserNews) {
-          return mergeFrom((com.example.demo.dto.UserProto.UserNews)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(com.example.demo.dto.UserProto.UserNews other) {
-        if (other == com.example.demo.dto.UserProto.UserNews.getDefaultInstance()) return this;
-        if (other.getId() != 0L) {
-          setId(other.getId());
-        }
-        if (!other.getDate().isEmpty()) {
-          date_ = other.date_;
-          onChanged();
-        }
-        if (!other.getTitle().isEmpty()) {
-          title_ = other.title_;
-          onChanged();
-        }
-        if (!other.getText().isEmpty()) {
-          text_ = other.text_;
-          onChanged();
-        }
-        onChanged();
-        return this;
-      }
-
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.example.demo.dto.UserProto.UserNews parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.example.demo.dto.UserProto.UserNews) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-
-      private long id_ ;
-      /**
-       * <code>optional int64 id = 1;</code>
-       */
-      public long getId() {
-        return id_;
-      }
-      /**
-       * <code>optional int64 id = 1;</code>
-       */
-      public Builder setId(long value) {
-        
-        id_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional int64 id = 1;</code>
-       */
-      public Builder clearId() {
-        
-        id_ = 0L;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object date_ = "";
-      /**
-       * <code>optional string date = 2;</code>
-       */
-      public java.lang.String getDate() {
-        java.lang.Object ref = date_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          date_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>optional string date = 2;</code>
-       */
-      public com.google.protobuf.ByteString
-          getDateBytes() {
-        java.lang.Object ref = date_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          date_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>optional string date = 2;</code>
-       */
-      public Builder setDate(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        date_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string date = 2;</code>
-       */
-      public Builder clearDate() {
-        
-        date_ = getDefaultInstance().getDate();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string date = 2;</code>
-       */
-      public Builder setDateBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        date_ = value;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object title_ = "";
-      /**
-       * <code>optional string title = 3;</code>
-       */
-      public java.lang.String getTitle() {
-        java.lang.Object ref = title_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          title_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>optional string title = 3;</code>
-       */
-      public com.google.protobuf.ByteString
-          getTitleBytes() {
-        java.lang.Object ref = title_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          title_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>optional string title = 3;</code>
-       */
-      public Builder setTitle(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        title_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string title = 3;</code>
-       */
-      public Builder clearTitle() {
-        
-        title_ = getDefaultInstance().getTitle();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string title = 3;</code>
-       */
-      public Builder setTitleBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        title_ = value;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object text_ = "";
-      /**
-       * <code>optional string text = 4;</code>
-       */
-      public java.lang.String getText() {
-        java.lang.Object ref = text_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          text_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>optional string text = 4;</code>
-       */
-      public com.google.protobuf.ByteString
-          getTextBytes() {
-        java.lang.Object ref = text_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          text_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>optional string text = 4;</code>
-       */
-      public Builder setText(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        text_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string text = 4;</code>
-       */
-      public Builder clearText() {
-        
-        text_ = getDefaultInstance().getText();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string text = 4;</code>
-       */
-      public Builder setTextBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        text_ = value;
-        onChanged();
-        return this;
-      }
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return this;
-      }
-
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return this;
-      }
-
-
-      // @@protoc_insertion_point(builder_scope:proto.UserNews)
-    }
-
-    // @@protoc_insertion_point(class_scope:proto.UserNews)
-    private static final com.example.demo.dto.UserProto.UserNews DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new com.example.demo.dto.UserProto.UserNews();
-    }
-
-    public static com.example.demo.dto.UserProto.UserNews getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<UserNews>
-        PARSER = new com.google.protobuf.AbstractParser<UserNews>() {
-      public UserNews parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-          return new UserNews(input, extensionRegistry);
-      }
-    };
-
-    public static com.google.protobuf.Parser<UserNews> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<UserNews> getParserForType() {
-      return PARSER;
-    }
-
-    public com.example.demo.dto.UserProto.UserNews getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface UserCommentOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:proto.UserComment)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>optional int64 id = 1;</code>
-     */
-    long getId();
-
-    /**
-     * <code>optional string date = 2;</code>
-     */
-    java.lang.String getDate();
-    /**
-     * <code>optional string date = 2;</code>
-     */
-    com.google.protobuf.ByteString
-        getDateBytes();
-
-    /**
-     * <code>optional string text = 3;</code>
-     */
-    java.lang.String getText();
-    /**
-     * <code>optional string text = 3;</code>
-     */
-    com.google.protobuf.ByteString
-        getTextBytes();
-  }
-  /**
-   * Protobuf type {@code proto.UserComment}
-   */
-  public  static final class UserComment extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:proto.UserComment)
-      UserCommentOrBuilder {
-    // Use UserComment.newBuilder() to construct.
-    private UserComment(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private UserComment() {
-      id_ = 0L;
-      date_ = "";
-      text_ = "";
-    }
-
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
-    }
-    private UserComment(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      int mutable_bitField0_ = 0;
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            default: {
-              if (!input.skipField(tag)) {
-                done = true;
-              }
-              break;
-            }
-            case 8: {
-
-              id_ = input.readInt64();
-              break;
-            }
-            case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              date_ = s;
-              break;
-            }
-            case 26: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              text_ = s;
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        makeExtensionsImmutable();
-      }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return com.example.demo.dto.UserProto.internal_static_proto_UserComment_descriptor;
-    }
-
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return com.example.demo.dto.UserProto.internal_static_proto_UserComment_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              com.example.demo.dto.UserProto.UserComment.class, com.example.demo.dto.UserProto.UserComment.Builder.class);
-    }
-
-    public static final int ID_FIELD_NUMBER = 1;
-    private long id_;
-    /**
-     * <code>optional int64 id = 1;</code>
-     */
-    public long getId() {
-      return id_;
-    }
-
-    public static final int DATE_FIELD_NUMBER = 2;
-    private volatile java.lang.Object date_;
-    /**
-     * <code>optional string date = 2;</code>
-     */
-    public java.lang.String getDate() {
-      java.lang.Object ref = date_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        date_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>optional string date = 2;</code>
-     */
-    public com.google.protobuf.ByteString
-        getDateBytes() {
-      java.lang.Object ref = date_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        date_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int TEXT_FIELD_NUMBER = 3;
-    private volatile java.lang.Object text_;
-    /**
-     * <code>optional string text = 3;</code>
-     */
-    public java.lang.String getText() {
-      java.lang.Object ref = text_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        text_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>optional string text = 3;</code>
-     */
-    public com.google.protobuf.ByteString
-        getTextBytes() {
-      java.lang.Object ref = text_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        text_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (id_ != 0L) {
-        output.writeInt64(1, id_);
-      }
-      if (!getDateBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, date_);
-      }
-      if (!getTextBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, text_);
-      }
-    }
-
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (id_ != 0L) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(1, id_);
-      }
-      if (!getDateBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, date_);
-      }
-      if (!getTextBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, text_);
-      }
-      memoizedSize = size;
-      return size;
-    }
-
-    private static final long serialVersionUID = 0L;
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof com.example.demo.dto.UserProto.UserComment)) {
-        return super.equals(obj);
-      }
-      com.example.demo.dto.UserProto.UserComment other = (com.example.demo.dto.UserProto.UserComment) obj;
-
-      boolean result = true;
-      result = result && (getId()
-          == other.getId());
-      result = result && getDate()
-          .equals(other.getDate());
-      result = result && getText()
-          .equals(other.getText());
-      return result;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptorForType().hashCode();
-      hash = (37 * hash) + ID_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getId());
-      hash = (37 * hash) + DATE_FIELD_NUMBER;
-      hash = (53 * hash) + getDate().hashCode();
-      hash = (37 * hash) + TEXT_FIELD_NUMBER;
-      hash = (53 * hash) + getText().hashCode();
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static com.example.demo.dto.UserProto.UserComment parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static com.example.demo.dto.UserProto.UserComment parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static com.example.demo.dto.UserProto.UserComment parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static com.example.demo.dto.UserProto.UserComment parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static com.example.demo.dto.UserProto.UserComment parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static com.example.demo.dto.UserProto.UserComment parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static com.example.demo.dto.UserProto.UserComment parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-    public static com.example.demo.dto.UserProto.UserComment parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static com.example.demo.dto.UserProto.UserComment parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static com.example.demo.dto.UserProto.UserComment parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(com.example.demo.dto.UserProto.UserComment prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code proto.UserComment}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:proto.UserComment)
-        com.example.demo.dto.UserProto.UserCommentOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return com.example.demo.dto.UserProto.internal_static_proto_UserComment_descriptor;
-      }
-
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return com.example.demo.dto.UserProto.internal_static_proto_UserComment_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                com.example.demo.dto.UserProto.UserComment.class, com.example.demo.dto.UserProto.UserComment.Builder.class);
-      }
-
-      // Construct using com.example.demo.dto.UserProto.UserComment.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
-      }
-      public Builder clear() {
-        super.clear();
-        id_ = 0L;
-
-        date_ = "";
-
-        text_ = "";
-
-        return this;
-      }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return com.example.demo.dto.UserProto.internal_static_proto_UserComment_descriptor;
-      }
-
-      public com.example.demo.dto.UserProto.UserComment getDefaultInstanceForType() {
-        return com.example.demo.dto.UserProto.UserComment.getDefaultInstance();
-      }
-
-      public com.example.demo.dto.UserProto.UserComment build() {
-        com.example.demo.dto.UserProto.UserComment result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      public com.example.demo.dto.UserProto.UserComment buildPartial() {
-        com.example.demo.dto.UserProto.UserComment result = new com.example.demo.dto.UserProto.UserComment(this);
-        result.id_ = id_;
-        result.date_ = date_;
-        result.text_ = text_;
-        onBuilt();
-        return result;
-      }
-
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.example.demo.dto.UserProto.UserComment) {
-          return mergeFrom((com.example.demo.dto.UserProto.UserComment)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(com.example.demo.dto.UserProto.UserComment other) {
-        if (other == com.example.demo.dto.UserProto.UserComment.getDefaultInstance()) return this;
-        if (other.getId() != 0L) {
-          setId(other.getId());
-        }
-        if (!other.getDate().isEmpty()) {
-          date_ = other.date_;
-          onChanged();
-        }
-        if (!other.getText().isEmpty()) {
-          text_ = other.text_;
-          onChanged();
-        }
-        onChanged();
-        return this;
-      }
-
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.example.demo.dto.UserProto.UserComment parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.example.demo.dto.UserProto.UserComment) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-
-      private long id_ ;
-      /**
-       * <code>optional int64 id = 1;</code>
-       */
-      public long getId() {
-        return id_;
-      }
-      /**
-       * <code>optional int64 id = 1;</code>
-       */
-      public Builder setId(long value) {
-        
-        id_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional int64 id = 1;</code>
-       */
-      public Builder clearId() {
-        
-        id_ = 0L;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object date_ = "";
-      /**
-       * <code>optional string date = 2;</code>
-       */
-      public java.lang.String getDate() {
-        java.lang.Object ref = date_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          date_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>optional string date = 2;</code>
-       */
-      public com.google.protobuf.ByteString
-          getDateBytes() {
-        java.lang.Object ref = date_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          date_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>optional string date = 2;</code>
-       */
-      public Builder setDate(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        date_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string date = 2;</code>
-       */
-      public Builder clearDate() {
-        
-        date_ = getDefaultInstance().getDate();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string date = 2;</code>
-       */
-      public Builder setDateBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        date_ = value;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object text_ = "";
-      /**
-       * <code>optional string text = 3;</code>
-       */
-      public java.lang.String getText() {
-        java.lang.Object ref = text_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          text_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>optional string text = 3;</code>
-       */
-      public com.google.protobuf.ByteString
-          getTextBytes() {
-        java.lang.Object ref = text_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          text_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>optional string text = 3;</code>
-       */
-      public Builder setText(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        text_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string text = 3;</code>
-       */
-      public Builder clearText() {
-        
-        text_ = getDefaultInstance().getText();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string text = 3;</code>
-       */
-      public Builder setTextBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        text_ = value;
-        onChanged();
-        return this;
-      }
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return this;
-      }
-
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return this;
-      }
-
-
-      // @@protoc_insertion_point(builder_scope:proto.UserComment)
-    }
-
-    // @@protoc_insertion_point(class_scope:proto.UserComment)
-    private static final com.example.demo.dto.UserProto.UserComment DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new com.example.demo.dto.UserProto.UserComment();
-    }
-
-    public static com.example.demo.dto.UserProto.UserComment getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<UserComment>
-        PARSER = new com.google.protobuf.AbstractParser<UserComment>() {
-      public UserComment parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-          return new UserComment(input, extensionRegistry);
-      }
-    };
-
-    public static com.google.protobuf.Parser<UserComment> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<UserComment> getParserForType() {
-      return PARSER;
-    }
-
-    public com.example.demo.dto.UserProto.UserComment getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface UserSimpleDtoListOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:proto.UserSimpleDtoList)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
-     */
-    java.util.List<com.example.demo.dto.UserProto.UserSimpleDto> 
-        getUserDtoList();
-    /**
-     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
-     */
-    com.example.demo.dto.UserProto.UserSimpleDto getUserDto(int index);
-    /**
-     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
-     */
-    int getUserDtoCount();
-    /**
-     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
-     */
-    java.util.List<? extends com.example.demo.dto.UserProto.UserSimpleDtoOrBuilder> 
-        getUserDtoOrBuilderList();
-    /**
-     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
-     */
-    com.example.demo.dto.UserProto.UserSimpleDtoOrBuilder getUserDtoOrBuilder(
-        int index);
-  }
-  /**
-   * Protobuf type {@code proto.UserSimpleDtoList}
-   */
-  public  static final class UserSimpleDtoList extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:proto.UserSimpleDtoList)
-      UserSimpleDtoListOrBuilder {
-    // Use UserSimpleDtoList.newBuilder() to construct.
-    private UserSimpleDtoList(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private UserSimpleDtoList() {
-      userDto_ = java.util.Collections.emptyList();
-    }
-
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
-    }
-    private UserSimpleDtoList(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      int mutable_bitField0_ = 0;
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            default: {
-              if (!input.skipField(tag)) {
-                done = true;
-              }
-              break;
-            }
-            case 10: {
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                userDto_ = new java.util.ArrayList<com.example.demo.dto.UserProto.UserSimpleDto>();
-                mutable_bitField0_ |= 0x00000001;
-              }
-              userDto_.add(
-                  input.readMessage(com.example.demo.dto.UserProto.UserSimpleDto.parser(), extensionRegistry));
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          userDto_ = java.util.Collections.unmodifiableList(userDto_);
-        }
-        makeExtensionsImmutable();
-      }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return com.example.demo.dto.UserProto.internal_static_proto_UserSimpleDtoList_descriptor;
-    }
-
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return com.example.demo.dto.UserProto.internal_static_proto_UserSimpleDtoList_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              com.example.demo.dto.UserProto.UserSimpleDtoList.class, com.example.demo.dto.UserProto.UserSimpleDtoList.Builder.class);
-    }
-
-    public static final int USERDTO_FIELD_NUMBER = 1;
-    private java.util.List<com.example.demo.dto.UserProto.UserSimpleDto> userDto_;
-    /**
-     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
-     */
-    public java.util.List<com.example.demo.dto.UserProto.UserSimpleDto> getUserDtoList() {
-      return userDto_;
-    }
-    /**
-     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
-     */
-    public java.util.List<? extends com.example.demo.dto.UserProto.UserSimpleDtoOrBuilder> 
-        getUserDtoOrBuilderList() {
-      return userDto_;
-    }
-    /**
-     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
-     */
-    public int getUserDtoCount() {
-      return userDto_.size();
-    }
-    /**
-     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
-     */
-    public com.example.demo.dto.UserProto.UserSimpleDto getUserDto(int index) {
-      return userDto_.get(index);
-    }
-    /**
-     * <code>repeated .proto.UserSimpleDto userDto = 1;</code>
-     */
-    public com.example.demo.dto.UserProto.UserSimpleDtoOrBuilder getUserDtoOrBuilder(
-        int index) {
-      return userDto_.get(index);
+    public int getMissingIdsCount() {
+      return missingIds_.size();
+    }
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     */
+    public long getMissingIds(int index) {
+      return missingIds_.get(index);
     }
+    private int missingIdsMemoizedSerializedSize = -1;
 
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -4604,9 +2514,17 @@ public final class UserProto {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      getSerializedSize();
       for (int i = 0; i < userDto_.size(); i++) {
         output.writeMessage(1, userDto_.get(i));
       }
+      if (getMissingIdsList().size() > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(missingIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < missingIds_.size(); i++) {
+        output.writeInt64NoTag(missingIds_.get(i));
+      }
     }
 
     public int getSerializedSize() {
@@ -4618,6 +2536,20 @@ public final class UserProto {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, userDto_.get(i));
       }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < missingIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(missingIds_.get(i));
+        }
+        size += dataSize;
+        if (!getMissingIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        missingIdsMemoizedSerializedSize = dataSize;
+      }
       memoizedSize = size;
       return size;
     }
@@ -4636,6 +2568,8 @@ public final class UserProto {
       boolean result = true;
       result = result && getUserDtoList()
           .equals(other.getUserDtoList());
+      result = result && getMissingIdsList()
+          .equals(other.getMissingIdsList());
       return result;
     }
 
@@ -4650,6 +2584,10 @@ public final class UserProto {
         hash = (37 * hash) + USERDTO_FIELD_NUMBER;
         hash = (53 * hash) + getUserDtoList().hashCode();
       }
+      if (getMissingIdsCount() > 0) {
+        hash = (37 * hash) + MISSING_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getMissingIdsList().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -4775,6 +2713,8 @@ public final class UserProto {
         } else {
           userDtoBuilder_.clear();
         }
+        missingIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -4807,6 +2747,11 @@ public final class UserProto {
         } else {
           result.userDto_ = userDtoBuilder_.build();
         }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          missingIds_ = java.util.Collections.unmodifiableList(missingIds_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.missingIds_ = missingIds_;
         onBuilt();
         return result;
       }
@@ -4874,6 +2819,16 @@ public final class UserProto {
             }
           }
         }
+        if (!other.missingIds_.isEmpty()) {
+          if (missingIds_.isEmpty()) {
+            missingIds_ = other.missingIds_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureMissingIdsIsMutable();
+            missingIds_.addAll(other.missingIds_);
+          }
+          onChanged();
+        }
         onChanged();
         return this;
       }
@@ -5140,6 +3095,72 @@ public final class UserProto {
         }
         return userDtoBuilder_;
       }
+
+      private java.util.List<java.lang.Long> missingIds_ = java.util.Collections.emptyList();
+      private void ensureMissingIdsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          missingIds_ = new java.util.ArrayList<java.lang.Long>(missingIds_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public java.util.List<java.lang.Long>
+          getMissingIdsList() {
+        return java.util.Collections.unmodifiableList(missingIds_);
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public int getMissingIdsCount() {
+        return missingIds_.size();
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public long getMissingIds(int index) {
+        return missingIds_.get(index);
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public Builder setMissingIds(
+          int index, long value) {
+        ensureMissingIdsIsMutable();
+        missingIds_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public Builder addMissingIds(long value) {
+        ensureMissingIdsIsMutable();
+        missingIds_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public Builder addAllMissingIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureMissingIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, missingIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 missing_ids = 2;</code>
+       */
+      public Builder clearMissingIds() {
+        missingIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return this;
@@ -5199,16 +3220,6 @@ public final class UserProto {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_proto_UserSimpleDto_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_proto_UserNews_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_proto_UserNews_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_proto_UserComment_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_proto_UserComment_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_proto_UserSimpleDtoList_descriptor;
   private static final 
@@ -5223,21 +3234,18 @@ public final class UserProto {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\nUser.proto\022\005proto\"\252\001\n\007UserDto\022\n\n\002id\030\001 " +
+      "\n\nUser.proto\022\005proto\"\234\001\n\007UserDto\022\n\n\002id\030\001 " +
       "\001(\003\022\020\n\010username\030\002 \001(\t\022\020\n\010password\030\003 \001(\t\022" +
       "\016\n\006active\030\004 \001(\010\022\032\n\005roles\030\005 \003(\0162\013.proto.R" +
-      "ole\022\035\n\004news\030\006 \003(\0132\017.proto.UserNews\022$\n\010co" +
-      "mments\030\007 \003(\0132\022.proto.UserComment\"k\n\rUser" +
-      "SimpleDto\022\n\n\002id\030\001 \001(\003\022\020\n\010username\030\002 \001(\t\022" +
-      "\020\n\010password\030\003 \001(\t\022\016\n\006active\030\004 \001(\010\022\032\n\005rol" +
-      "es\030\005 \003(\0162\013.proto.Role\"A\n\010UserNews\022\n\n\002id\030" +
-      "\001 \001(\003\022\014\n\004date\030\002 \001(\t\022\r\n\005title\030\003 \001(\t\022\014\n\004te" +
-      "xt\030\004 \001(\t\"5\n\013UserComment\022\n\n\002id\030\001 \001(\003\022\014\n\004d",
-      "ate\030\002 \001(\t\022\014\n\004text\030\003 \001(\t\":\n\021UserSimpleDto" +
-      "List\022%\n\007userDto\030\001 \003(\0132\024.proto.UserSimple" +
-      "Dto*1\n\004Role\022\t\n\005ADMIN\020\000\022\016\n\nJOURNALIST\020\001\022\016" +
-      "\n\nSUBSCRIBER\020\002B!\n\024com.example.demo.dtoB\t" +
-      "UserProtob\006proto3"
+      "ole\022\022\n\nnews_count\030\010 \001(\003\022\025\n\rcomment_count" +
+      "\030\t \001(\003J\004\010\006\020\007J\004\010\007\020\010\"k\n\rUserSimpleDto\022\n\n\002i" +
+      "d\030\001 \001(\003\022\020\n\010username\030\002 \001(\t\022\020\n\010password\030\003 " +
+      "\001(\t\022\016\n\006active\030\004 \001(\010\022\032\n\005roles\030\005 \003(\0162\013.pro" +
+      "to.Role\"O\n\021UserSimpleDtoList\022%\n\007userDto\030" +
+      "\001 \003(\0132\024.proto.UserSimpleDto\022\023\n\013missing_i" +
+      "ds\030\002 \003(\003*1\n\004Role\022\t\n\005ADMIN\020\000\022\016\n\nJOURNALIS",
+      "T\020\001\022\016\n\nSUBSCRIBER\020\002B!\n\024com.example.demo." +
+      "dtoB\tUserProtob\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -5256,31 +3264,19 @@ public final class UserProto {
     internal_static_proto_UserDto_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_proto_UserDto_descriptor,
-        new java.lang.String[] { "Id", "Username", "Password", "Active", "Roles", "News", "Comments", });
+        new java.lang.String[] { "Id", "Username", "Password", "Active", "Roles", "NewsCount", "CommentCount", });
     internal_static_proto_UserSimpleDto_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_proto_UserSimpleDto_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_proto_UserSimpleDto_descriptor,
         new java.lang.String[] { "Id", "Username", "Password", "Active", "Roles", });
-    internal_static_proto_UserNews_descriptor =
-      getDescriptor().getMessageTypes().get(2);
-    internal_static_proto_UserNews_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_proto_UserNews_descriptor,
-        new java.lang.String[] { "Id", "Date", "Title", "Text", });
-    internal_static_proto_UserComment_descriptor =
-      getDescriptor().getMessageTypes().get(3);
-    internal_static_proto_UserComment_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_proto_UserComment_descriptor,
-        new java.lang.String[] { "Id", "Date", "Text", });
     internal_static_proto_UserSimpleDtoList_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(2);
     internal_static_proto_UserSimpleDtoList_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_proto_UserSimpleDtoList_descriptor,
-        new java.lang.String[] { "UserDto", });
+        new java.lang.String[] { "UserDto", "MissingIds", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -0,0 +1,28 @@
+package com.example.demo.entity;
+
+import lombok.Data;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Counter of changes in change feed.
+ * Row is locked by committing transaction, so numbers of changes are increasing in order of commits
+ */
+@Entity
+@Table(name = "change_sequence")
+@Data
+public class ChangeSequence {
+    /**
+     * Id of sequence of news changes
+     */
+    public static final int NEWS = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "last_seq")
+    private long lastSeq;
+}
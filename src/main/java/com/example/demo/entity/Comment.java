@@ -3,26 +3,39 @@ package com.example.demo.entity;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import javax.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        @Index(name = "comment_news_id_date_id_idx", columnList = "news_id, date, id"),
+        @Index(name = "comment_news_id_id_idx", columnList = "news_id, id"),
+        @Index(name = "comment_user_id_date_id_idx", columnList = "user_id, date, id")
+})
 @Data
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString(exclude = {"user", "news"})
 public class Comment {
+    //Ids are allocated from pooled sequence without round trip per comment, so inserts are sent by JDBC batches
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_id_seq")
+    @SequenceGenerator(name = "comment_id_seq", sequenceName = "comment_id_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -35,10 +48,24 @@ public class Comment {
     @NotBlank
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "user_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private User user;
 
+    //Read-only copy of foreign key, allows to read it without loading or joining user
+    @Column(name = "user_id", insertable = false, updatable = false)
+    private Long userId;
+
     @NotBlank
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "news_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private News news;
+
+    //Read-only copy of foreign key, allows to read it without loading or joining news
+    @Column(name = "news_id", insertable = false, updatable = false)
+    private Long newsId;
+
+    @Version
+    @ColumnDefault("0")
+    private Long version;
 }
@@ -3,23 +3,32 @@ package com.example.demo.entity;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import javax.persistence.CascadeType;
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import javax.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
 import java.util.Set;
 
 @Entity
-@Table(name = "news")
+@Table(name = "news", indexes = @Index(name = "news_user_id_date_id_idx", columnList = "user_id, date, id"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString(exclude = {"user", "comments"})
@@ -41,8 +50,30 @@ public class News {
     @NotBlank
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "user_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private User user;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE, fetch = FetchType.EAGER)
+    //Read-only copy of foreign key, allows to read it without loading or joining user
+    @Column(name = "user_id", insertable = false, updatable = false)
+    private Long userId;
+
+    //Denormalized counter, changed only by update statements along with comments.
+    //Statements bypass second-level cache, so counter is read by projections, never from cached news
+    @ColumnDefault("0")
+    @Column(name = "comment_count", insertable = false, updatable = false)
+    private long commentCount;
+
+    //Version of news with its comments: statements, that change comments, increase it along with counter
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
+    //Version of title and text, changed only by their updates, so comments don't fail If-Match of editor
+    @ColumnDefault("0")
+    @Column(name = "edit_version")
+    private long editVersion;
+
+    //Comments of popular news are too many to be loaded with it, they are read by pages
+    @OneToMany(mappedBy = "news", cascade = CascadeType.REMOVE, fetch = FetchType.LAZY)
     private Set<Comment> comments;
 }
@@ -0,0 +1,31 @@
+package com.example.demo.entity;
+
+import lombok.Data;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+/**
+ * Last change of news in change feed.
+ * Row is kept after news is deleted, so deletion is sent to clients as tombstone
+ */
+@Entity
+@Table(name = "news_change", indexes = @Index(name = "news_change_seq_idx", columnList = "seq", unique = true))
+@Data
+public class NewsChange {
+    //Not a foreign key, row outlives news
+    @Id
+    @Column(name = "news_id")
+    private Long newsId;
+
+    //Number of last change of news in change sequence
+    private long seq;
+
+    //Number of change, that created news. News existing before change feed got numbers by V1_1_7 and are sent as
+    //inserts, 0 is left only for news inserted into data storage directly, which first recorded change is an update
+    @Column(name = "created_seq")
+    private long createdSeq;
+}
@@ -0,0 +1,12 @@
+package com.example.demo.exception;
+
+/**
+ * Base of exceptions about missing objects.
+ * Missing object is an expected result of request, not an error of application,
+ * so stack trace is neither filled nor logged
+ */
+public abstract class NotFoundException extends RuntimeException {
+    protected NotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
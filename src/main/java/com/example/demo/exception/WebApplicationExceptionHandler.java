@@ -4,6 +4,8 @@ import com.example.demo.exception.comment.CommentNotFoundException;
 import com.example.demo.exception.news.NewsNotFoundException;
 import com.example.demo.exception.request.BadRequestParametersException;
 import com.example.demo.exception.request.NotEnoughRightsException;
+import com.example.demo.exception.request.PreconditionFailedException;
+import com.example.demo.exception.request.ServiceUnavailableException;
 import com.example.demo.exception.user.UserNotFoundException;
 import com.example.demo.exception.user.UsernameReservedException;
 import org.slf4j.Logger;
@@ -91,6 +93,28 @@ public class WebApplicationExceptionHandler {
         return new ErrorInfo(req.getRequestURL().toString(), ex.getMessage());
     }
 
+    /**
+     * Handle {@link PreconditionFailedException}, what means object was changed after client had read it
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    @ResponseBody
+    public ErrorInfo preconditionFailedHandler(HttpServletRequest req, Exception ex) {
+        logger.debug(ex.getMessage());
+        return new ErrorInfo(req.getRequestURL().toString(), ex.getMessage());
+    }
+
+    /**
+     * Handle {@link ServiceUnavailableException}, what means pool of expensive requests is full or request took too long
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ResponseBody
+    public ErrorInfo serviceUnavailableHandler(HttpServletRequest req, Exception ex) {
+        logger.debug(ex.getMessage());
+        return new ErrorInfo(req.getRequestURL().toString(), ex.getMessage());
+    }
+
     /**
      * Handle {@link MethodArgumentTypeMismatchException}, what means request or some it's parameters can't be parsed
      */
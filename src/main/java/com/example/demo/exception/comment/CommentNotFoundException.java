@@ -1,10 +1,11 @@
 package com.example.demo.exception.comment;
 
+import com.example.demo.exception.NotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(value = HttpStatus.NOT_FOUND)
-public class CommentNotFoundException extends RuntimeException {
+public class CommentNotFoundException extends NotFoundException {
     public CommentNotFoundException() {
         super("News not found");
     }
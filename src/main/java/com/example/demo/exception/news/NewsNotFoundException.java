@@ -1,10 +1,11 @@
 package com.example.demo.exception.news;
 
+import com.example.demo.exception.NotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(value = HttpStatus.NOT_FOUND)
-public class NewsNotFoundException extends RuntimeException {
+public class NewsNotFoundException extends NotFoundException {
     public NewsNotFoundException() {
         super("News not found");
     }
@@ -3,61 +3,145 @@ package com.example.demo.facade;
 
 import com.example.demo.entity.Comment;
 import com.example.demo.entity.User;
+import com.example.demo.exception.news.NewsNotFoundException;
+import com.example.demo.exception.request.BadRequestParametersException;
 import com.example.demo.exception.request.NotEnoughRightsException;
+import com.example.demo.exception.request.PreconditionFailedException;
+import com.google.protobuf.FieldMask;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
+import static com.example.demo.dto.CommentProto.CommentBatch;
+import static com.example.demo.dto.CommentProto.CommentBatchResult;
 import static com.example.demo.dto.CommentProto.CommentDto;
 import static com.example.demo.dto.CommentProto.CommentSimpleDto;
 import static com.example.demo.dto.CommentProto.CommentSimpleDtoList;
 
 /**
- * Interface for CRUD operations with {@link Comment} in facade layer
+ * Interface for CRUD operations with {@link Comment} in facade layer.
+ * Read methods accept {@link FieldMask} of requested fields, empty mask means all fields.
+ * Fields, that are not requested, are not loaded from data storage
  */
 public interface CommentCrudFacade {
     /**
      * Method which returns all available {@link Comment} and convert it into {@link CommentSimpleDto}
      *
+     * @param fields {@link FieldMask} of requested {@link CommentSimpleDto} fields
      * @return {@link CommentSimpleDtoList} of {@link CommentSimpleDto}
+     * @throws BadRequestParametersException if fields contain unknown field
      */
-    CommentSimpleDtoList findAll();
+    CommentSimpleDtoList findAll(FieldMask fields);
 
     /**
      * Method which returns all available {@link Comment} with page format
      * and convert it into {@link CommentSimpleDto}
      *
-     * @param page page number
-     * @param size page size
+     * @param page   page number
+     * @param size   page size
+     * @param fields {@link FieldMask} of requested {@link CommentSimpleDto} fields
      * @return {@link CommentSimpleDtoList} of {@link CommentSimpleDto}
      */
-    CommentSimpleDtoList findAll(Integer page, Integer size);
+    CommentSimpleDtoList findAll(Integer page, Integer size, FieldMask fields);
 
     /**
      * Method which returns {@link Comment} with specified id
      * and convert it into {@link CommentDto}
      *
-     * @param id {@link Comment} objects id for search
+     * @param id     {@link Comment} objects id for search
+     * @param fields {@link FieldMask} of requested {@link CommentDto} fields
      * @return {@link CommentDto} object wrap into {@link Optional}
      */
-    Optional<CommentDto> findById(Long id);
+    Optional<CommentDto> findById(Long id, FieldMask fields);
+
+    /**
+     * Method which returns version of {@link Comment} with specified id.
+     * Version is changed only by changes of comment, changes of it's news
+     * (which happen on every comment of news) do not change it
+     *
+     * @param id {@link Comment} objects id for search
+     * @return version wrap into {@link Optional}
+     */
+    Optional<Long> findVersion(Long id);
+
+    /**
+     * Method which returns {@link Comment} objects with specified ids by single query
+     * and convert it into {@link CommentSimpleDto}
+     *
+     * @param ids    {@link Comment} objects ids for search
+     * @param fields {@link FieldMask} of requested {@link CommentSimpleDto} fields
+     * @return {@link CommentSimpleDtoList} of found {@link CommentSimpleDto} in order of requested ids,
+     * ids of not found objects are returned in missing ids
+     * @throws BadRequestParametersException if too many ids are requested
+     */
+    CommentSimpleDtoList findByIds(List<Long> ids, FieldMask fields);
+
+    /**
+     * Method which returns {@link Comment} objects of news from newest to oldest by cursor pages
+     * and convert it into {@link CommentSimpleDto}
+     *
+     * @param newsId id of news
+     * @param cursor cursor, returned with previous page, empty for first page
+     * @param size   page size
+     * @param fields {@link FieldMask} of requested {@link CommentSimpleDto} fields
+     * @return {@link CommentSimpleDtoList} of {@link CommentSimpleDto} with cursor of next page,
+     * cursor is empty when there are no more comments
+     * @throws BadRequestParametersException if cursor is malformed or size is out of range
+     */
+    CommentSimpleDtoList findByNewsId(Long newsId, String cursor, Integer size, FieldMask fields);
+
+    /**
+     * Method which opens stream of new {@link Comment} objects of news.
+     * When id of last received comment is provided, comments, missed after it, are sent first
+     *
+     * @param newsId      id of news
+     * @param lastEventId id of last received {@link Comment}, null for new stream
+     * @return {@link SseEmitter} of stream, that sends {@link CommentSimpleDto}
+     * @throws NewsNotFoundException if news does not exist
+     */
+    SseEmitter subscribe(Long newsId, Long lastEventId);
+
+    /**
+     * Method which waits for {@link Comment} objects of news, created after provided one,
+     * and convert it into {@link CommentSimpleDto}.
+     * Request returns at once if such comments exist, otherwise it waits for them
+     * without servlet thread and database connection
+     *
+     * @param newsId id of news
+     * @param after  id of last known {@link Comment}
+     * @param size   max count of comments
+     * @param wait   time to wait for new comments
+     * @param fields {@link FieldMask} of requested {@link CommentSimpleDto} fields
+     * @return {@link DeferredResult} of {@link CommentSimpleDtoList} ordered from oldest to newest,
+     * empty when no comments are created during wait
+     * @throws BadRequestParametersException if size is out of range or wait is negative
+     * @throws NewsNotFoundException         if news does not exist
+     */
+    DeferredResult<CommentSimpleDtoList> waitForNewerByNewsId(Long newsId, Long after, Integer size, Duration wait,
+                                                              FieldMask fields);
 
     /**
      * Method finds {@link Comment} objects by text
      * and convert it into {@link CommentSimpleDto}
      *
-     * @param text {@link Comment} object to find object by text
+     * @param text   {@link Comment} object to find object by text
+     * @param fields {@link FieldMask} of requested {@link CommentSimpleDto} fields
      * @return {@link CommentSimpleDtoList} that have provided text
      */
-    CommentSimpleDtoList findByText(String text);
+    CommentSimpleDtoList findByText(String text, FieldMask fields);
 
     /**
      * Method finds {@link Comment} objects by text partially contains param
      * and convert it into {@link CommentSimpleDto}
      *
-     * @param text {@link Comment} object to find object by text
+     * @param text   {@link Comment} object to find object by text
+     * @param fields {@link FieldMask} of requested {@link CommentSimpleDto} fields
      * @return {@link CommentSimpleDtoList} that have provided text
      */
-    CommentSimpleDtoList findByTextContains(String text);
+    CommentSimpleDtoList findByTextContains(String text, FieldMask fields);
 
     /**
      * Method which creates new {@link Comment}.
@@ -75,9 +159,11 @@ public interface CommentCrudFacade {
      * @param id         {@link Comment} from request url
      * @param commentDto {@link CommentSimpleDto} object dto to update
      * @param user       {@link User} that call method
-     * @throws NotEnoughRightsException if user dont have right to update comment
+     * @param version    expected version of {@link Comment}, null if version is not checked
+     * @throws NotEnoughRightsException    if user dont have right to update comment
+     * @throws PreconditionFailedException if comment has other version
      */
-    void update(Long id, CommentSimpleDto commentDto, User user);
+    void update(Long id, CommentSimpleDto commentDto, User user, Long version);
 
     /**
      * Method which deletes {@link Comment} object by id
@@ -87,4 +173,16 @@ public interface CommentCrudFacade {
      * @throws NotEnoughRightsException if user dont have right to delete comment
      */
     void deleteById(Long id, User user);
+
+    /**
+     * Method which applies batch of create, update and delete operations with {@link Comment} in single transaction.
+     * Rights are checked for each operation, operations without rights or with not existing objects are skipped
+     * and reported in result, other operations are applied
+     *
+     * @param batch {@link CommentBatch} of operations
+     * @param user  {@link User} that call method
+     * @return {@link CommentBatchResult} with result of each operation in order of operations
+     * @throws BadRequestParametersException if batch is empty or too large
+     */
+    CommentBatchResult applyBatch(CommentBatch batch, User user);
 }
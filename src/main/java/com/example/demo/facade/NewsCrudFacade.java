@@ -2,91 +2,152 @@ package com.example.demo.facade;
 
 import com.example.demo.entity.News;
 import com.example.demo.entity.User;
+import com.example.demo.repo.projection.NewsVersion;
+import com.example.demo.exception.request.BadRequestParametersException;
 import com.example.demo.exception.request.NotEnoughRightsException;
+import com.example.demo.exception.request.PreconditionFailedException;
+import com.google.protobuf.FieldMask;
 
+import java.util.List;
 import java.util.Optional;
 
+import static com.example.demo.dto.NewsProto.NewsChanges;
 import static com.example.demo.dto.NewsProto.NewsDto;
 import static com.example.demo.dto.NewsProto.NewsSimpleDto;
 import static com.example.demo.dto.NewsProto.NewsSimpleDtoList;
 
 /**
- * Interface for CRUD operations with {@link News} in facade layer
+ * Interface for CRUD operations with {@link News} in facade layer.
+ * Read methods accept {@link FieldMask} of requested fields, empty mask means all fields.
+ * Fields, that are not requested, are not loaded from data storage
  */
 public interface NewsCrudFacade {
     /**
      * Method which returns all available {@link News}
      * and convert it into {@link NewsSimpleDto}
      *
+     * @param fields {@link FieldMask} of requested {@link NewsSimpleDto} fields
      * @return {@link NewsSimpleDtoList} of {@link NewsSimpleDto}
+     * @throws BadRequestParametersException if fields contain unknown field
      */
-    NewsSimpleDtoList findAll();
+    NewsSimpleDtoList findAll(FieldMask fields);
 
     /**
      * Method which returns all available {@link News} with page format
      * and convert it into {@link NewsSimpleDto}
      *
-     * @param page page number
-     * @param size page size
+     * @param page   page number
+     * @param size   page size
+     * @param fields {@link FieldMask} of requested {@link NewsSimpleDto} fields
      * @return {@link NewsSimpleDtoList} of {@link NewsSimpleDto}
      */
-    NewsSimpleDtoList findAll(Integer page, Integer size);
+    NewsSimpleDtoList findAll(Integer page, Integer size, FieldMask fields);
 
     /**
      * Method which returns {@link News} with specified id
      * and convert it into {@link NewsDto}
      *
-     * @param id {@link News} objects id for search
+     * @param id     {@link News} objects id for search
+     * @param fields {@link FieldMask} of requested {@link NewsDto} fields
      * @return {@link NewsDto} object wrap into {@link Optional}
      */
-    Optional<NewsDto> findById(Long id);
+    Optional<NewsDto> findById(Long id, FieldMask fields);
+
+    /**
+     * Method which returns versions of {@link News} with specified id.
+     * Version is increased by any change of news and of it's comments, so both versions identify
+     * representation of news for conditional requests; edit version alone is checked by updates
+     *
+     * @param id {@link News} objects id for search
+     * @return versions wrap into {@link Optional}
+     */
+    Optional<NewsVersion> findVersion(Long id);
+
+    /**
+     * Method which returns {@link News} objects with specified ids by single query
+     * and convert it into {@link NewsSimpleDto}
+     *
+     * @param ids    {@link News} objects ids for search
+     * @param fields {@link FieldMask} of requested {@link NewsSimpleDto} fields
+     * @return {@link NewsSimpleDtoList} of found {@link NewsSimpleDto} in order of requested ids,
+     * ids of not found objects are returned in missing ids
+     * @throws BadRequestParametersException if too many ids are requested
+     */
+    NewsSimpleDtoList findByIds(List<Long> ids, FieldMask fields);
+
+    /**
+     * Method which returns changes of {@link News} made after provided token
+     * and convert changed news into {@link NewsSimpleDto}.
+     * Only last change of each news is returned, so size of changes does not depend on count of news
+     *
+     * @param since  token, returned with previous changes, 0 for all news
+     * @param size   max count of changes
+     * @param fields {@link FieldMask} of requested {@link NewsSimpleDto} fields
+     * @return {@link NewsChanges} with inserted and updated {@link NewsSimpleDto}, ids of deleted news
+     * and token of last returned change
+     * @throws BadRequestParametersException if token is negative or size is out of range
+     */
+    NewsChanges findChanges(Long since, Integer size, FieldMask fields);
+
+    /**
+     * Method which returns token of last change of {@link News},
+     * changes made after it are returned by {@link #findChanges(Long, Integer, FieldMask)}
+     *
+     * @return token of last change, 0 if there are no changes
+     */
+    long findChangesToken();
 
     /**
      * Method which returns {@link News} with specified id and pageable comments
      * and convert it into {@link NewsDto}
      *
-     * @param id   {@link News} objects id for search
-     * @param page page number for comments
-     * @param size page size for comments
+     * @param id     {@link News} objects id for search
+     * @param page   page number for comments
+     * @param size   page size for comments
+     * @param fields {@link FieldMask} of requested {@link NewsDto} fields
      * @return {@link NewsDto} object wrap into {@link Optional}
      */
-    Optional<NewsDto> findByIdWithPageComment(Long id, Integer page, Integer size);
+    Optional<NewsDto> findByIdWithPageComment(Long id, Integer page, Integer size, FieldMask fields);
 
     /**
      * Method finds {@link News} objects by title
      * and convert it into {@link NewsSimpleDto}
      *
-     * @param title {@link News} object to find object by text
+     * @param title  {@link News} object to find object by text
+     * @param fields {@link FieldMask} of requested {@link NewsSimpleDto} fields
      * @return {@link NewsSimpleDtoList} that have provided text
      */
-    NewsSimpleDtoList findByTitle(String title);
+    NewsSimpleDtoList findByTitle(String title, FieldMask fields);
 
     /**
      * Method finds {@link News} objects by title partially contains param
      * and convert it into {@link NewsSimpleDto}
      *
-     * @param title {@link News} object to find object by text
+     * @param title  {@link News} object to find object by text
+     * @param fields {@link FieldMask} of requested {@link NewsSimpleDto} fields
      * @return {@link NewsSimpleDtoList} that have provided text
      */
-    NewsSimpleDtoList findByTitleContains(String title);
+    NewsSimpleDtoList findByTitleContains(String title, FieldMask fields);
 
     /**
      * Method finds {@link News} objects by text
      * and convert it into {@link NewsSimpleDto}
      *
-     * @param text {@link News} object to find object by text
+     * @param text   {@link News} object to find object by text
+     * @param fields {@link FieldMask} of requested {@link NewsSimpleDto} fields
      * @return {@link NewsSimpleDtoList} that have provided text
      */
-    NewsSimpleDtoList findByText(String text);
+    NewsSimpleDtoList findByText(String text, FieldMask fields);
 
     /**
      * Method finds {@link News} objects by text partially contains param
      * and convert it into {@link NewsSimpleDto}
      *
-     * @param text {@link News} object to find object by text
+     * @param text   {@link News} object to find object by text
+     * @param fields {@link FieldMask} of requested {@link NewsSimpleDto} fields
      * @return {@link NewsSimpleDtoList} that have provided text
      */
-    NewsSimpleDtoList findByTextContains(String text);
+    NewsSimpleDtoList findByTextContains(String text, FieldMask fields);
 
     /**
      * Method which creates new {@link News}.
@@ -104,9 +165,11 @@ public interface NewsCrudFacade {
      * @param id      {@link News} from request url
      * @param newsDto {@link NewsSimpleDto} object dto to update
      * @param user    {@link User} that call method
-     * @throws NotEnoughRightsException if user dont have right to update news
+     * @param version expected edit version of {@link News}, null if version is not checked
+     * @throws NotEnoughRightsException    if user dont have right to update news
+     * @throws PreconditionFailedException if news has other edit version
      */
-    void update(Long id, NewsSimpleDto newsDto, User user);
+    void update(Long id, NewsSimpleDto newsDto, User user, Long version);
 
     /**
      * Method which deletes {@link News} object by id
@@ -1,34 +1,86 @@
 package com.example.demo.facade;
 
 import com.example.demo.entity.User;
+import com.example.demo.exception.request.BadRequestParametersException;
 import com.example.demo.exception.request.NotEnoughRightsException;
+import com.google.protobuf.FieldMask;
 
+import java.util.List;
 import java.util.Optional;
 
+import static com.example.demo.dto.CommentProto.CommentSimpleDto;
+import static com.example.demo.dto.CommentProto.CommentSimpleDtoList;
+import static com.example.demo.dto.NewsProto.NewsSimpleDto;
+import static com.example.demo.dto.NewsProto.NewsSimpleDtoList;
 import static com.example.demo.dto.UserProto.UserDto;
 import static com.example.demo.dto.UserProto.UserSimpleDto;
 import static com.example.demo.dto.UserProto.UserSimpleDtoList;
 
 /**
- * Interface for CRUD operations with {@link User} in facade layer
+ * Interface for CRUD operations with {@link User} in facade layer.
+ * Read methods accept {@link FieldMask} of requested fields, empty mask means all fields.
+ * Fields, that are not requested, are not loaded from data storage
  */
 public interface UserCrudFacade {
     /**
      * Method which returns all available {@link User}
      * and convert it into {@link UserSimpleDto}
      *
+     * @param fields {@link FieldMask} of requested {@link UserSimpleDto} fields
      * @return {@link UserSimpleDtoList} of {@link UserSimpleDto}
+     * @throws BadRequestParametersException if fields contain unknown field
      */
-    UserSimpleDtoList findAll();
+    UserSimpleDtoList findAll(FieldMask fields);
 
     /**
-     * Method which returns {@link User} with specified id
+     * Method which returns {@link User} with specified id with counters of it's news and comments
      * and convert it into {@link UserDto}
      *
-     * @param id {@link User} objects id for search
+     * @param id     {@link User} objects id for search
+     * @param fields {@link FieldMask} of requested {@link UserDto} fields
      * @return {@link UserDto} object wrap into {@link Optional}
      */
-    Optional<UserDto> findById(Long id);
+    Optional<UserDto> findById(Long id, FieldMask fields);
+
+    /**
+     * Method which returns news of {@link User} from newest to oldest by cursor pages
+     * and convert it into {@link NewsSimpleDto}
+     *
+     * @param id     {@link User} objects id
+     * @param cursor cursor, returned with previous page, empty for first page
+     * @param size   page size
+     * @param fields {@link FieldMask} of requested {@link NewsSimpleDto} fields
+     * @return {@link NewsSimpleDtoList} of {@link NewsSimpleDto} with cursor of next page,
+     * cursor is empty when there are no more news
+     * @throws BadRequestParametersException if cursor is malformed or size is out of range
+     */
+    NewsSimpleDtoList findNews(Long id, String cursor, Integer size, FieldMask fields);
+
+    /**
+     * Method which returns comments of {@link User} from newest to oldest by cursor pages
+     * and convert it into {@link CommentSimpleDto}
+     *
+     * @param id     {@link User} objects id
+     * @param cursor cursor, returned with previous page, empty for first page
+     * @param size   page size
+     * @param fields {@link FieldMask} of requested {@link CommentSimpleDto} fields
+     * @return {@link CommentSimpleDtoList} of {@link CommentSimpleDto} with cursor of next page,
+     * cursor is empty when there are no more comments
+     * @throws BadRequestParametersException if cursor is malformed or size is out of range
+     */
+    CommentSimpleDtoList findComments(Long id, String cursor, Integer size, FieldMask fields);
+
+    /**
+     * Method which returns {@link User} objects with specified ids by single query
+     * and convert it into {@link UserSimpleDto}
+     *
+     * @param ids    {@link User} objects ids for search
+     * @param fields {@link FieldMask} of requested {@link UserSimpleDto} fields
+     * @return {@link UserSimpleDtoList} of found {@link UserSimpleDto} in order of requested ids,
+     * ids of not found objects are returned in missing ids
+     * @throws BadRequestParametersException if too many ids are requested
+     */
+    UserSimpleDtoList findByIds(List<Long> ids, FieldMask fields);
 
     /**
      * Method which creates new {@link User}.
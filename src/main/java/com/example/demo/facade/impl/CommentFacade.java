@@ -1,24 +1,62 @@
 package com.example.demo.facade.impl;
 
+import com.example.demo.cache.CacheEvent;
+import com.example.demo.cache.SingleFlight;
+import com.example.demo.cache.StaleWhileRevalidate;
 import com.example.demo.entity.Comment;
-import com.example.demo.entity.News;
 import com.example.demo.entity.Role;
 import com.example.demo.entity.User;
 import com.example.demo.exception.comment.CommentNotFoundException;
 import com.example.demo.exception.news.NewsNotFoundException;
+import com.example.demo.exception.request.BadRequestParametersException;
 import com.example.demo.exception.request.NotEnoughRightsException;
+import com.example.demo.exception.request.PreconditionFailedException;
 import com.example.demo.facade.CommentCrudFacade;
+import com.example.demo.repo.projection.CommentHeadline;
+import com.example.demo.repo.projection.CommentSummary;
+import com.example.demo.repo.projection.NewsHeadline;
 import com.example.demo.service.impl.CommentService;
 import com.example.demo.service.impl.NewsService;
+import com.example.demo.service.impl.UserService;
+import com.example.demo.stream.CommentStreamHub;
+import com.example.demo.util.Cursor;
+import com.example.demo.util.FieldMasks;
+import com.example.demo.util.IdLists;
+import com.google.protobuf.FieldMask;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.example.demo.cache.NegativeCaches.EMPTY_COMMENT_SEARCHES;
+import static com.example.demo.cache.NegativeCaches.MISSING_COMMENTS;
+import static com.example.demo.cache.VersionCaches.COMMENT_VERSIONS;
+import static com.example.demo.config.BulkheadConfig.SEARCH_TRANSACTION_TIMEOUT;
+import static com.example.demo.dto.CommentProto.CommentBatch;
+import static com.example.demo.dto.CommentProto.CommentBatchResult;
 import static com.example.demo.dto.CommentProto.CommentDto;
 import static com.example.demo.dto.CommentProto.CommentNews;
+import static com.example.demo.dto.CommentProto.CommentOperation;
+import static com.example.demo.dto.CommentProto.CommentOperationResult;
 import static com.example.demo.dto.CommentProto.CommentSimpleDto;
 import static com.example.demo.dto.CommentProto.CommentSimpleDtoList;
 
@@ -28,48 +66,56 @@ import static com.example.demo.dto.CommentProto.CommentSimpleDtoList;
  */
 @Service
 public class CommentFacade implements CommentCrudFacade {
+    /**
+     * Max count of operations in one batch
+     */
+    public static final int MAX_BATCH_SIZE = 500;
+
+    //SQLStates of missing referenced row: PostgreSQL reports 23503, H2 reports 23506
+    private static final Set<String> FOREIGN_KEY_VIOLATIONS = new HashSet<>(Arrays.asList("23503", "23506"));
+
     private final CommentService commentService;
 
     private final NewsService newsService;
 
+    private final UserService userService;
+
+    private final CommentStreamHub commentStreamHub;
+
     @Autowired
-    public CommentFacade(CommentService commentService, NewsService newsService) {
+    public CommentFacade(CommentService commentService, NewsService newsService, UserService userService,
+                         CommentStreamHub commentStreamHub) {
         this.commentService = commentService;
         this.newsService = newsService;
+        this.userService = userService;
+        this.commentStreamHub = commentStreamHub;
     }
 
     @Override
-    public CommentSimpleDtoList findAll() {
-        return CommentSimpleDtoList.newBuilder()
-                .addAllCommentDto(commentService.findAll().stream()
-                        .map(value -> CommentSimpleDto.newBuilder()
-                                .setId(value.getId())
-                                .setDate(value.getDate().toString())
-                                .setText(value.getText())
-                                .setUserId(value.getUser().getId())
-                                .setNewsId(value.getNews().getId())
-                                .build())
-                        .collect(Collectors.toList()))
-                .build();
+    @Transactional(readOnly = true)
+    public CommentSimpleDtoList findAll(FieldMask fields) {
+        FieldMasks.validate(fields, CommentSimpleDto.class);
+        return toSimpleDtoList(commentService.findAll(projectionOf(fields)), fields);
     }
 
     @Override
-    public CommentSimpleDtoList findAll(Integer page, Integer size) {
-        return CommentSimpleDtoList.newBuilder()
-                .addAllCommentDto(commentService.findAll(page, size).stream()
-                        .map(value -> CommentSimpleDto.newBuilder()
-                                .setId(value.getId())
-                                .setDate(value.getDate().toString())
-                                .setText(value.getText())
-                                .setUserId(value.getUser().getId())
-                                .setNewsId(value.getNews().getId())
-                                .build())
-                        .collect(Collectors.toList()))
-                .build();
+    @Transactional(readOnly = true)
+    public CommentSimpleDtoList findAll(Integer page, Integer size, FieldMask fields) {
+        FieldMasks.validate(fields, CommentSimpleDto.class);
+        return toSimpleDtoList(commentService.findAll(page, size, projectionOf(fields)), fields);
     }
 
     @Override
-    public Optional<CommentDto> findById(Long id) {
+    @Cacheable(cacheNames = MISSING_COMMENTS, key = "#id", unless = "#result != null")
+    @StaleWhileRevalidate(CacheEvent.Entity.COMMENT)
+    @SingleFlight
+    @Transactional(readOnly = true)
+    public Optional<CommentDto> findById(Long id, FieldMask fields) {
+        FieldMasks.validate(fields, CommentDto.class);
+        if (!FieldMasks.includes(fields, "news")) {
+            return commentService.findById(id, projectionOf(fields))
+                    .map(value -> FieldMasks.trim(fields, toDto(value)));
+        }
         return commentService.findById(id)
                 .map(value -> CommentDto.newBuilder()
                         .setId(value.getId())
@@ -83,81 +129,305 @@ public class CommentFacade implements CommentCrudFacade {
                                 .setText(value.getNews().getText())
                                 .setUserId(value.getNews().getUser().getId())
                                 .build())
-                        .build()
-                );
+                        .build())
+                .map(value -> FieldMasks.trim(fields, value));
     }
 
     @Override
-    public CommentSimpleDtoList findByText(String text) {
-        return CommentSimpleDtoList.newBuilder()
-                .addAllCommentDto(commentService.findByText(text).stream()
-                        .map(value -> CommentSimpleDto.newBuilder()
-                                .setId(value.getId())
-                                .setDate(value.getDate().toString())
-                                .setText(value.getText())
-                                .setUserId(value.getUser().getId())
-                                .setNewsId(value.getNews().getId())
-                                .build())
-                        .collect(Collectors.toList()))
-                .build();
+    @Caching(cacheable = {
+            @Cacheable(cacheNames = COMMENT_VERSIONS, key = "#id", unless = "#result == null"),
+            @Cacheable(cacheNames = MISSING_COMMENTS, key = "#id", unless = "#result != null")})
+    @StaleWhileRevalidate(CacheEvent.Entity.COMMENT)
+    @SingleFlight
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersion(Long id) {
+        return commentService.findVersion(id);
     }
 
     @Override
-    public CommentSimpleDtoList findByTextContains(String text) {
-        return CommentSimpleDtoList.newBuilder()
-                .addAllCommentDto(commentService.findByTextContains(text).stream()
-                        .map(value -> CommentSimpleDto.newBuilder()
-                                .setId(value.getId())
-                                .setDate(value.getDate().toString())
-                                .setText(value.getText())
-                                .setUserId(value.getUser().getId())
-                                .setNewsId(value.getNews().getId())
-                                .build())
-                        .collect(Collectors.toList()))
-                .build();
+    @Transactional(readOnly = true)
+    public CommentSimpleDtoList findByIds(List<Long> ids, FieldMask fields) {
+        FieldMasks.validate(fields, CommentSimpleDto.class);
+        List<Long> requested = IdLists.distinct(ids);
+        Map<Long, CommentHeadline> found = IdLists.byId(commentService.findByIds(requested, projectionOf(fields)),
+                CommentHeadline::getId);
+
+        CommentSimpleDtoList.Builder builder = CommentSimpleDtoList.newBuilder();
+        requested.forEach(id -> {
+            if (found.containsKey(id)) {
+                builder.addCommentDto(FieldMasks.trim(fields, toSimpleDto(found.get(id))));
+            } else {
+                builder.addMissingIds(id);
+            }
+        });
+        return builder.build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CommentSimpleDtoList findByNewsId(Long newsId, String cursor, Integer size, FieldMask fields) {
+        FieldMasks.validate(fields, CommentSimpleDto.class);
+        Cursor.validateSize(size);
+        Cursor before = cursor.isEmpty() ? null : Cursor.decode(cursor);
+
+        //One extra comment is loaded to know if there is next page
+        List<CommentSummary> comments = commentService.findNewestByNewsId(newsId, before, size + 1);
+        CommentSimpleDtoList.Builder builder = CommentSimpleDtoList.newBuilder();
+        comments.stream()
+                .limit(size)
+                .forEach(comment -> builder.addCommentDto(FieldMasks.trim(fields, toSimpleDto(comment))));
+        if (comments.size() > size) {
+            CommentSummary last = comments.get(size - 1);
+            builder.setNextCursor(Cursor.of(last.getDate(), last.getId()).encode());
+        }
+        return builder.build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(Long newsId, Long lastEventId) {
+        if (!newsService.existsById(newsId)) {
+            throw new NewsNotFoundException(newsId);
+        }
+        //Stream starts after newest comment, when subscriber knows no comments
+        long after = lastEventId != null ? lastEventId : commentService.findNewestByNewsId(newsId, null, 1).stream()
+                .mapToLong(CommentSummary::getId)
+                .findFirst()
+                .orElse(0L);
+        //Each read has own transaction, stream holds no connection
+        return commentStreamHub.subscribe(newsId, after, id -> commentService
+                .findByNewsIdAfter(newsId, id, Cursor.MAX_PAGE_SIZE).stream()
+                .map(CommentFacade::toSimpleDto)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public DeferredResult<CommentSimpleDtoList> waitForNewerByNewsId(Long newsId, Long after, Integer size,
+                                                                     Duration wait, FieldMask fields) {
+        FieldMasks.validate(fields, CommentSimpleDto.class);
+        Cursor.validateSize(size);
+        if (wait.isNegative()) {
+            throw new BadRequestParametersException("Error in data: wait '" + wait + "' is not valid");
+        }
+        if (!newsService.existsById(newsId)) {
+            throw new NewsNotFoundException(newsId);
+        }
+        //Method is not transactional, so waiting request holds no connection, each check has own transaction
+        return commentStreamHub.await(newsId, wait, () -> {
+            CommentSimpleDtoList.Builder builder = CommentSimpleDtoList.newBuilder();
+            commentService.findByNewsIdAfter(newsId, after, size)
+                    .forEach(comment -> builder.addCommentDto(FieldMasks.trim(fields, toSimpleDto(comment))));
+            return builder.build();
+        });
+    }
+
+    @Override
+    @Cacheable(cacheNames = EMPTY_COMMENT_SEARCHES, key = "'text:' + #text", unless = "#result.commentDtoCount > 0")
+    @SingleFlight
+    @Transactional(readOnly = true, timeoutString = SEARCH_TRANSACTION_TIMEOUT)
+    public CommentSimpleDtoList findByText(String text, FieldMask fields) {
+        FieldMasks.validate(fields, CommentSimpleDto.class);
+        return toSimpleDtoList(commentService.findByText(text, projectionOf(fields)), fields);
+    }
+
+    @Override
+    @Cacheable(cacheNames = EMPTY_COMMENT_SEARCHES, key = "'textLike:' + #text", unless = "#result.commentDtoCount > 0")
+    @SingleFlight
+    @Transactional(readOnly = true, timeoutString = SEARCH_TRANSACTION_TIMEOUT)
+    public CommentSimpleDtoList findByTextContains(String text, FieldMask fields) {
+        FieldMasks.validate(fields, CommentSimpleDto.class);
+        return toSimpleDtoList(commentService.findByTextContains(text, projectionOf(fields)), fields);
     }
 
     @Override
+    @Transactional
     public void save(CommentSimpleDto commentDto, User user) {
         Comment comment = new Comment();
         comment.setDate(LocalDateTime.now());
         comment.setText(commentDto.getText());
+        //News and author are bound by references, so comment is saved by single insert
+        comment.setNews(newsService.getReference(commentDto.getNewsId()));
+        comment.setUser(userService.getReference(user.getId()));
 
-        News news = newsService.findById(commentDto.getNewsId())
-                .orElseThrow(() -> new NewsNotFoundException(commentDto.getNewsId()));
+        try {
+            commentService.save(comment);
+        } catch (DataIntegrityViolationException e) {
+            //Author is authenticated user, so only news could be missing
+            if (isForeignKeyViolation(e)) {
+                throw new NewsNotFoundException(commentDto.getNewsId());
+            }
+            throw new BadRequestParametersException("comment violates constraints of data storage,"
+                    + " text must be not longer than 255 characters");
+        }
+    }
 
-        comment.setNews(news);
-        comment.setUser(user);
+    @Override
+    @Transactional
+    public void update(Long id, CommentSimpleDto commentDto, User user, Long version) {
+        Comment comment = new Comment();
+        comment.setId(commentDto.getId());
+        comment.setText(commentDto.getText());
+        comment.setVersion(version);
 
-        commentService.save(comment);
+        //Only owner or admin could update comment, ownership and version are checked by update statement itself
+        if (commentService.update(id, comment, user.getId(), user.getAuthorities().contains(Role.ADMIN)) == 0) {
+            throw notUpdated(id, user, "update", version);
+        }
     }
 
     @Override
-    public void update(Long id, CommentSimpleDto commentDto, User user) {
-        //Only owner or admin could update comment
-        if (commentDto.getUserId() == user.getId() || user.getAuthorities().contains(Role.ADMIN)) {
-            Comment comment = commentService.findById(commentDto.getId())
-                    .orElseThrow(() -> new CommentNotFoundException(commentDto.getId()));
-            comment.setText(commentDto.getText());
-
-            commentService.update(id, comment);
-        } else {
-            throw new NotEnoughRightsException("User with id " + user.getId()
-                    + " cannot update comment of user with id " + commentDto.getUserId());
+    @Transactional
+    public void deleteById(Long id, User user) {
+        //Only owner or admin could delete comment, ownership is checked by delete statement itself
+        if (commentService.deleteById(id, user.getId(), user.getAuthorities().contains(Role.ADMIN)) == 0) {
+            throw notUpdated(id, user, "delete", null);
+        }
+    }
+
+    //No rows are changed for missing, changed and foreign comment, current version tells them apart
+    private RuntimeException notUpdated(Long id, User user, String action, Long version) {
+        Optional<Long> current = commentService.findVersion(id);
+        if (!current.isPresent()) {
+            return new CommentNotFoundException(id);
+        }
+        if (version != null && !version.equals(current.get())) {
+            return new PreconditionFailedException("Comment with id " + id + " has version " + current.get()
+                    + ", but version " + version + " is expected");
         }
+        return new NotEnoughRightsException("User with id " + user.getId()
+                + " cannot " + action + " comment with id " + id);
     }
 
     @Override
-    public void deleteById(Long id, User user) {
-        Comment comment = commentService.findById(id)
-                .orElseThrow(() -> new CommentNotFoundException(id));
-
-        //Only owner or admin could delete comment
-        if (comment.getUser().getId().equals(user.getId()) || user.getAuthorities().contains(Role.ADMIN)) {
-            commentService.deleteById(id);
-        } else {
-            throw new NotEnoughRightsException("User with id " + user.getId()
-                    + " cannot delete comment of user with id " + comment.getUser().getId());
+    @Transactional
+    public CommentBatchResult applyBatch(CommentBatch batch, User user) {
+        List<CommentOperation> operations = batch.getOperationsList();
+        if (operations.isEmpty() || operations.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestParametersException("Error in data: batch must contain from 1 to "
+                    + MAX_BATCH_SIZE + " operations");
+        }
+
+        //Owners of changed comments and existence of commented news are checked by one query each for whole batch
+        Set<Long> commentIds = operations.stream()
+                .filter(operation -> operation.getType() != CommentOperation.Type.CREATE)
+                .map(operation -> operation.getComment().getId())
+                .collect(Collectors.toSet());
+        Set<Long> newsIds = operations.stream()
+                .filter(operation -> operation.getType() == CommentOperation.Type.CREATE)
+                .map(operation -> operation.getComment().getNewsId())
+                .collect(Collectors.toSet());
+        Map<Long, CommentHeadline> comments = commentIds.isEmpty() ? Collections.emptyMap()
+                : IdLists.byId(commentService.findByIds(commentIds, CommentHeadline.class), CommentHeadline::getId);
+        Set<Long> existingNewsIds = newsIds.isEmpty() ? Collections.emptySet()
+                : newsService.findByIds(newsIds, NewsHeadline.class).stream()
+                .map(NewsHeadline::getId)
+                .collect(Collectors.toSet());
+        boolean admin = user.getAuthorities().contains(Role.ADMIN);
+
+        List<CommentOperationResult.Builder> results = new ArrayList<>();
+        List<Comment> created = new ArrayList<>();
+        List<CommentOperationResult.Builder> createdResults = new ArrayList<>();
+        Map<Long, String> texts = new LinkedHashMap<>();
+        Set<Long> deletedIds = new LinkedHashSet<>();
+        for (CommentOperation operation : operations) {
+            CommentSimpleDto commentDto = operation.getComment();
+            CommentOperationResult.Builder result = CommentOperationResult.newBuilder()
+                    .setId(commentDto.getId());
+            results.add(result);
+
+            switch (operation.getType()) {
+                case CREATE:
+                    if (!existingNewsIds.contains(commentDto.getNewsId())) {
+                        reject(result, CommentOperationResult.Status.NOT_FOUND,
+                                new NewsNotFoundException(commentDto.getNewsId()).getMessage());
+                        break;
+                    }
+                    //News is not loaded, comment is tied to reference by id
+                    Comment comment = new Comment();
+                    comment.setDate(LocalDateTime.now());
+                    comment.setText(commentDto.getText());
+                    comment.setNews(newsService.getReference(commentDto.getNewsId()));
+                    comment.setUser(userService.getReference(user.getId()));
+                    created.add(comment);
+                    createdResults.add(result);
+                    break;
+                case UPDATE:
+                case DELETE:
+                    CommentHeadline existing = comments.get(commentDto.getId());
+                    if (existing == null || deletedIds.contains(commentDto.getId())) {
+                        reject(result, CommentOperationResult.Status.NOT_FOUND,
+                                new CommentNotFoundException(commentDto.getId()).getMessage());
+                    } else if (!admin && !existing.getUserId().equals(user.getId())) {
+                        //Only owner or admin could update or delete comment
+                        reject(result, CommentOperationResult.Status.FORBIDDEN, "User with id " + user.getId()
+                                + " cannot change comment of user with id " + existing.getUserId());
+                    } else if (operation.getType() == CommentOperation.Type.UPDATE) {
+                        texts.put(commentDto.getId(), commentDto.getText());
+                    } else {
+                        texts.remove(commentDto.getId());
+                        deletedIds.add(commentDto.getId());
+                    }
+                    break;
+                default:
+                    reject(result, CommentOperationResult.Status.BAD_REQUEST, "Unknown operation type");
+            }
+        }
+
+        commentService.applyBatch(created, texts, deletedIds);
+
+        for (int i = 0; i < created.size(); i++) {
+            createdResults.get(i).setId(created.get(i).getId());
+        }
+        return CommentBatchResult.newBuilder()
+                .addAllResults(results.stream()
+                        .map(CommentOperationResult.Builder::build)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private static void reject(CommentOperationResult.Builder result, CommentOperationResult.Status status,
+                               String message) {
+        result.setStatus(status).setMessage(message);
+    }
+
+    //Text is the only heavy column of comment, so it is selected only when requested
+    private static Class<? extends CommentHeadline> projectionOf(FieldMask fields) {
+        return FieldMasks.includes(fields, "text") ? CommentSummary.class : CommentHeadline.class;
+    }
+
+    private static CommentSimpleDtoList toSimpleDtoList(List<? extends CommentHeadline> comments, FieldMask fields) {
+        return CommentSimpleDtoList.newBuilder()
+                .addAllCommentDto(comments.stream()
+                        .map(value -> FieldMasks.trim(fields, toSimpleDto(value)))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private static CommentSimpleDto toSimpleDto(CommentHeadline value) {
+        CommentSimpleDto.Builder builder = CommentSimpleDto.newBuilder()
+                .setId(value.getId())
+                .setDate(value.getDate().toString())
+                .setUserId(value.getUserId())
+                .setNewsId(value.getNewsId());
+        if (value instanceof CommentSummary) {
+            builder.setText(((CommentSummary) value).getText());
         }
+        return builder.build();
+    }
+
+    private static CommentDto toDto(CommentHeadline value) {
+        CommentDto.Builder builder = CommentDto.newBuilder()
+                .setId(value.getId())
+                .setDate(value.getDate().toString())
+                .setUserId(value.getUserId());
+        if (value instanceof CommentSummary) {
+            builder.setText(((CommentSummary) value).getText());
+        }
+        return builder.build();
+    }
+
+    private static boolean isForeignKeyViolation(DataIntegrityViolationException e) {
+        Throwable cause = e.getMostSpecificCause();
+        return cause instanceof SQLException && FOREIGN_KEY_VIOLATIONS.contains(((SQLException) cause).getSQLState());
     }
-}
\ No newline at end of file
+}
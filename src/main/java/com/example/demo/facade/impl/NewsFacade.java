@@ -1,22 +1,49 @@
 package com.example.demo.facade.impl;
 
+import com.example.demo.cache.CacheEvent;
+import com.example.demo.cache.SingleFlight;
+import com.example.demo.cache.StaleWhileRevalidate;
 import com.example.demo.entity.Comment;
 import com.example.demo.entity.News;
+import com.example.demo.entity.NewsChange;
 import com.example.demo.entity.Role;
 import com.example.demo.entity.User;
 import com.example.demo.exception.news.NewsNotFoundException;
+import com.example.demo.exception.request.BadRequestParametersException;
 import com.example.demo.exception.request.NotEnoughRightsException;
+import com.example.demo.exception.request.PreconditionFailedException;
 import com.example.demo.facade.NewsCrudFacade;
+import com.example.demo.repo.projection.CommentSummary;
+import com.example.demo.repo.projection.NewsHeadline;
+import com.example.demo.repo.projection.NewsSummary;
+import com.example.demo.repo.projection.NewsVersion;
 import com.example.demo.service.impl.CommentService;
+import com.example.demo.service.impl.NewsChangeService;
 import com.example.demo.service.impl.NewsService;
+import com.example.demo.service.impl.UserService;
+import com.example.demo.util.Cursor;
+import com.example.demo.util.FieldMasks;
+import com.example.demo.util.IdLists;
+import com.google.protobuf.FieldMask;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.example.demo.cache.NegativeCaches.EMPTY_NEWS_SEARCHES;
+import static com.example.demo.cache.NegativeCaches.MISSING_NEWS;
+import static com.example.demo.cache.VersionCaches.NEWS_VERSIONS;
+import static com.example.demo.config.BulkheadConfig.SEARCH_TRANSACTION_TIMEOUT;
+import static com.example.demo.dto.NewsProto.NewsChanges;
 import static com.example.demo.dto.NewsProto.NewsComment;
 import static com.example.demo.dto.NewsProto.NewsDto;
 import static com.example.demo.dto.NewsProto.NewsSimpleDto;
@@ -28,184 +55,305 @@ import static com.example.demo.dto.NewsProto.NewsSimpleDtoList;
  */
 @Service
 public class NewsFacade implements NewsCrudFacade {
+    /**
+     * Max count of newest comments, that are embedded into news
+     */
+    public static final int EMBEDDED_COMMENTS = 10;
+
     private final NewsService newsService;
 
     private final CommentService commentService;
 
+    private final UserService userService;
+
+    private final NewsChangeService newsChangeService;
+
     @Autowired
-    public NewsFacade(NewsService newsService, CommentService commentService) {
+    public NewsFacade(NewsService newsService, CommentService commentService, UserService userService,
+                      NewsChangeService newsChangeService) {
         this.newsService = newsService;
         this.commentService = commentService;
+        this.userService = userService;
+        this.newsChangeService = newsChangeService;
     }
 
     @Override
-    public NewsSimpleDtoList findAll() {
-        return NewsSimpleDtoList.newBuilder()
-                .addAllNewsDto(newsService.findAll().stream()
-                        .map(value -> NewsSimpleDto.newBuilder()
-                                .setId(value.getId())
-                                .setDate(value.getDate().toString())
-                                .setTitle(value.getTitle())
-                                .setText(value.getText())
-                                .setUserId(value.getUser().getId())
-                                .build())
-                        .collect(Collectors.toList()))
-                .build();
+    @Transactional(readOnly = true)
+    public NewsSimpleDtoList findAll(FieldMask fields) {
+        FieldMasks.validate(fields, NewsSimpleDto.class);
+        return toSimpleDtoList(newsService.findAll(projectionOf(fields)), fields);
     }
 
     @Override
-    public NewsSimpleDtoList findAll(Integer page, Integer size) {
-        return NewsSimpleDtoList.newBuilder()
-                .addAllNewsDto(newsService.findAll(page, size).stream()
-                        .map(value -> NewsSimpleDto.newBuilder()
-                                .setId(value.getId())
-                                .setDate(value.getDate().toString())
-                                .setText(value.getText())
-                                .setUserId(value.getUser().getId())
-                                .build())
-                        .collect(Collectors.toList()))
-                .build();
+    @Transactional(readOnly = true)
+    public NewsSimpleDtoList findAll(Integer page, Integer size, FieldMask fields) {
+        FieldMasks.validate(fields, NewsSimpleDto.class);
+        return toSimpleDtoList(newsService.findAll(page, size, projectionOf(fields)), fields);
     }
 
     @Override
-    public Optional<NewsDto> findById(Long id) {
-        return newsService.findById(id)
-                .map(value -> NewsDto.newBuilder()
-                        .setId(value.getId())
-                        .setDate(value.getDate().toString())
-                        .setTitle(value.getTitle())
-                        .setText(value.getText())
-                        .addAllComments(
-                                value.getComments().stream()
-                                        .map(v -> NewsComment.newBuilder()
-                                                .setId(v.getId())
-                                                .setDate(v.getDate().toString())
-                                                .setText(v.getText())
-                                                .setUserId(v.getUser().getId())
-                                                .build())
-                                        .collect(Collectors.toList()))
-                        .build()
-                );
+    @Cacheable(cacheNames = MISSING_NEWS, key = "#id", unless = "#result != null")
+    @StaleWhileRevalidate(CacheEvent.Entity.NEWS)
+    @SingleFlight
+    @Transactional(readOnly = true)
+    public Optional<NewsDto> findById(Long id, FieldMask fields) {
+        FieldMasks.validate(fields, NewsDto.class);
+        return newsService.findById(id, projectionOf(fields))
+                .map(value -> {
+                    NewsDto.Builder builder = toDtoBuilder(value);
+                    //Only newest comments are embedded, the rest are read by cursor from comments end point
+                    if (FieldMasks.includes(fields, "comments") || FieldMasks.includes(fields, "comments_cursor")) {
+                        List<CommentSummary> comments = commentService.findNewestByNewsId(id, null,
+                                EMBEDDED_COMMENTS + 1);
+                        comments.stream()
+                                .limit(EMBEDDED_COMMENTS)
+                                .forEach(comment -> builder.addComments(toNewsComment(comment)));
+                        if (comments.size() > EMBEDDED_COMMENTS) {
+                            CommentSummary last = comments.get(EMBEDDED_COMMENTS - 1);
+                            builder.setCommentsCursor(Cursor.of(last.getDate(), last.getId()).encode());
+                        }
+                    }
+                    return FieldMasks.trim(fields, builder.build());
+                });
     }
 
     @Override
-    public Optional<NewsDto> findByIdWithPageComment(Long id, Integer page, Integer size) {
-        List<Comment> comments = commentService.findByNewsId(id, page, size);
-        return newsService.findById(id)
-                .map(value -> NewsDto.newBuilder()
-                        .setId(value.getId())
-                        .setDate(value.getDate().toString())
-                        .setTitle(value.getTitle())
-                        .setText(value.getText())
-                        .addAllComments(
-                                comments.stream()
-                                        .map(v -> NewsComment.newBuilder()
-                                                .setId(v.getId())
-                                                .setDate(v.getDate().toString())
-                                                .setText(v.getText())
-                                                .setUserId(v.getUser().getId())
-                                                .build())
-                                        .collect(Collectors.toList()))
-                        .build()
-                );
+    @Caching(cacheable = {
+            @Cacheable(cacheNames = NEWS_VERSIONS, key = "#id", unless = "#result == null"),
+            @Cacheable(cacheNames = MISSING_NEWS, key = "#id", unless = "#result != null")})
+    @StaleWhileRevalidate(CacheEvent.Entity.NEWS)
+    @SingleFlight
+    @Transactional(readOnly = true)
+    public Optional<NewsVersion> findVersion(Long id) {
+        return newsService.findVersion(id);
     }
 
     @Override
-    public NewsSimpleDtoList findByTitle(String title) {
-        return NewsSimpleDtoList.newBuilder()
-                .addAllNewsDto(newsService.findByTitle(title).stream()
-                        .map(value -> NewsSimpleDto.newBuilder()
-                                .setId(value.getId())
-                                .setDate(value.getDate().toString())
-                                .setText(value.getText())
-                                .setUserId(value.getUser().getId())
-                                .build())
-                        .collect(Collectors.toList()))
-                .build();
+    @Transactional(readOnly = true)
+    public NewsSimpleDtoList findByIds(List<Long> ids, FieldMask fields) {
+        FieldMasks.validate(fields, NewsSimpleDto.class);
+        List<Long> requested = IdLists.distinct(ids);
+        Map<Long, NewsHeadline> found = IdLists.byId(newsService.findByIds(requested, projectionOf(fields)),
+                NewsHeadline::getId);
+
+        NewsSimpleDtoList.Builder builder = NewsSimpleDtoList.newBuilder();
+        requested.forEach(id -> {
+            if (found.containsKey(id)) {
+                builder.addNewsDto(FieldMasks.trim(fields, toSimpleDto(found.get(id))));
+            } else {
+                builder.addMissingIds(id);
+            }
+        });
+        return builder.build();
     }
 
     @Override
-    public NewsSimpleDtoList findByTitleContains(String title) {
-        return NewsSimpleDtoList.newBuilder()
-                .addAllNewsDto(newsService.findByTitleContains(title).stream()
-                        .map(value -> NewsSimpleDto.newBuilder()
-                                .setId(value.getId())
-                                .setDate(value.getDate().toString())
-                                .setText(value.getText())
-                                .setUserId(value.getUser().getId())
-                                .build())
-                        .collect(Collectors.toList()))
-                .build();
+    @Transactional(readOnly = true)
+    public NewsChanges findChanges(Long since, Integer size, FieldMask fields) {
+        FieldMasks.validate(fields, NewsSimpleDto.class);
+        Cursor.validateSize(size);
+        if (since < 0) {
+            throw new BadRequestParametersException("Error in data: token '" + since + "' is not valid");
+        }
+        List<NewsChange> changes = newsChangeService.findChanges(since, size);
+        if (changes.isEmpty()) {
+            return NewsChanges.newBuilder().setToken(since).build();
+        }
+        //News are read after changes, so they could be newer than change, but never older
+        Map<Long, NewsHeadline> found = IdLists.byId(newsService.findByIds(changes.stream()
+                .map(NewsChange::getNewsId)
+                .collect(Collectors.toList()), projectionOf(fields)), NewsHeadline::getId);
+
+        NewsChanges.Builder builder = NewsChanges.newBuilder()
+                .setToken(changes.get(changes.size() - 1).getSeq())
+                .setHasMore(changes.size() == size);
+        changes.forEach(change -> {
+            NewsHeadline news = found.get(change.getNewsId());
+            if (news == null) {
+                builder.addDeletedIds(change.getNewsId());
+            } else if (change.getCreatedSeq() > since) {
+                builder.addInserted(FieldMasks.trim(fields, toSimpleDto(news)));
+            } else {
+                builder.addUpdated(FieldMasks.trim(fields, toSimpleDto(news)));
+            }
+        });
+        return builder.build();
     }
 
     @Override
-    public NewsSimpleDtoList findByText(String text) {
-        return NewsSimpleDtoList.newBuilder()
-                .addAllNewsDto(newsService.findByText(text).stream()
-                        .map(value -> NewsSimpleDto.newBuilder()
-                                .setId(value.getId())
-                                .setDate(value.getDate().toString())
-                                .setText(value.getText())
-                                .setUserId(value.getUser().getId())
-                                .build())
-                        .collect(Collectors.toList()))
-                .build();
+    @Transactional(readOnly = true)
+    public long findChangesToken() {
+        return newsChangeService.findLastSeq();
     }
 
     @Override
-    public NewsSimpleDtoList findByTextContains(String text) {
-        return NewsSimpleDtoList.newBuilder()
-                .addAllNewsDto(newsService.findByTextContains(text).stream()
-                        .map(value -> NewsSimpleDto.newBuilder()
-                                .setId(value.getId())
-                                .setDate(value.getDate().toString())
-                                .setText(value.getText())
-                                .setUserId(value.getUser().getId())
-                                .build())
-                        .collect(Collectors.toList()))
-                .build();
+    @Cacheable(cacheNames = MISSING_NEWS, key = "#id", unless = "#result != null")
+    @StaleWhileRevalidate(CacheEvent.Entity.NEWS)
+    @SingleFlight
+    @Transactional(readOnly = true)
+    public Optional<NewsDto> findByIdWithPageComment(Long id, Integer page, Integer size, FieldMask fields) {
+        FieldMasks.validate(fields, NewsDto.class);
+        List<Comment> comments = FieldMasks.includes(fields, "comments")
+                ? commentService.findByNewsId(id, page, size)
+                : Collections.emptyList();
+        return newsService.findById(id, projectionOf(fields))
+                .map(value -> FieldMasks.trim(fields, toDtoBuilder(value)
+                        .addAllComments(toNewsComments(comments))
+                        .build()));
+    }
+
+    @Override
+    @Cacheable(cacheNames = EMPTY_NEWS_SEARCHES, key = "'title:' + #title", unless = "#result.newsDtoCount > 0")
+    @SingleFlight
+    @Transactional(readOnly = true, timeoutString = SEARCH_TRANSACTION_TIMEOUT)
+    public NewsSimpleDtoList findByTitle(String title, FieldMask fields) {
+        FieldMasks.validate(fields, NewsSimpleDto.class);
+        return toSimpleDtoList(newsService.findByTitle(title, projectionOf(fields)), fields);
+    }
+
+    @Override
+    @Cacheable(cacheNames = EMPTY_NEWS_SEARCHES, key = "'titleLike:' + #title", unless = "#result.newsDtoCount > 0")
+    @SingleFlight
+    @Transactional(readOnly = true, timeoutString = SEARCH_TRANSACTION_TIMEOUT)
+    public NewsSimpleDtoList findByTitleContains(String title, FieldMask fields) {
+        FieldMasks.validate(fields, NewsSimpleDto.class);
+        return toSimpleDtoList(newsService.findByTitleContains(title, projectionOf(fields)), fields);
+    }
+
+    @Override
+    @Cacheable(cacheNames = EMPTY_NEWS_SEARCHES, key = "'text:' + #text", unless = "#result.newsDtoCount > 0")
+    @SingleFlight
+    @Transactional(readOnly = true, timeoutString = SEARCH_TRANSACTION_TIMEOUT)
+    public NewsSimpleDtoList findByText(String text, FieldMask fields) {
+        FieldMasks.validate(fields, NewsSimpleDto.class);
+        return toSimpleDtoList(newsService.findByText(text, projectionOf(fields)), fields);
     }
 
     @Override
+    @Cacheable(cacheNames = EMPTY_NEWS_SEARCHES, key = "'textLike:' + #text", unless = "#result.newsDtoCount > 0")
+    @SingleFlight
+    @Transactional(readOnly = true, timeoutString = SEARCH_TRANSACTION_TIMEOUT)
+    public NewsSimpleDtoList findByTextContains(String text, FieldMask fields) {
+        FieldMasks.validate(fields, NewsSimpleDto.class);
+        return toSimpleDtoList(newsService.findByTextContains(text, projectionOf(fields)), fields);
+    }
+
+    @Override
+    @Transactional
     public void save(NewsSimpleDto newsDto, User user) {
         News news = new News();
         news.setDate(LocalDateTime.now());
         news.setTitle(newsDto.getTitle());
         news.setText(newsDto.getText());
-        news.setUser(user);
+        //Author is bound by reference, so principal's state is neither loaded nor merged
+        news.setUser(userService.getReference(user.getId()));
 
         newsService.save(news);
     }
 
     @Override
-    public void update(Long id, NewsSimpleDto newsDto, User user) {
-        //Can be updated by owner or admin
-        if ((newsDto.getUserId() == user.getId() && !user.getAuthorities().contains(Role.SUBSCRIBER))
-                || user.getAuthorities().contains(Role.ADMIN)) {
-            News news = newsService.findById(newsDto.getId())
-                    .orElseThrow(() -> new NewsNotFoundException(newsDto.getId()));
-            news.setTitle(newsDto.getTitle());
-            news.setText(newsDto.getText());
-
-            newsService.update(id, news);
-        } else {
-            throw new NotEnoughRightsException("User with id " + user.getId()
-                    + " cannot update comment of user with id " + newsDto.getUserId());
+    @Transactional
+    public void update(Long id, NewsSimpleDto newsDto, User user, Long version) {
+        checkNotSubscriber(user, "update");
+        News news = new News();
+        news.setId(newsDto.getId());
+        news.setTitle(newsDto.getTitle());
+        news.setText(newsDto.getText());
+        news.setVersion(version);
+
+        //Can be updated by owner or admin, ownership and version are checked by update statement itself
+        if (newsService.update(id, news, user.getId(), user.getAuthorities().contains(Role.ADMIN)) == 0) {
+            throw notUpdated(id, user, "update", version);
         }
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id, User user) {
-        News news = newsService.findById(id)
-                .orElseThrow(() -> new NewsNotFoundException(id));
-
-        //Can be deleted by owner or admin
-        if ((news.getUser().getId().equals(user.getId()) && !user.getAuthorities().contains(Role.SUBSCRIBER))
-                || user.getAuthorities().contains(Role.ADMIN)) {
-            newsService.deleteById(id);
-        } else {
-            throw new NotEnoughRightsException("User with id " + user.getId()
-                    + " cannot delete news of user with id " + news.getUser().getId());
+        checkNotSubscriber(user, "delete");
+
+        //Can be deleted by owner or admin, ownership is checked by delete statement itself
+        if (newsService.deleteById(id, user.getId(), user.getAuthorities().contains(Role.ADMIN)) == 0) {
+            throw notUpdated(id, user, "delete", null);
         }
     }
+
+    private static void checkNotSubscriber(User user, String action) {
+        if (user.getAuthorities().contains(Role.SUBSCRIBER) && !user.getAuthorities().contains(Role.ADMIN)) {
+            throw new NotEnoughRightsException("User with id " + user.getId() + " cannot " + action + " news");
+        }
+    }
+
+    //No rows are changed for missing, changed and foreign news, current version tells them apart
+    private RuntimeException notUpdated(Long id, User user, String action, Long version) {
+        Optional<NewsVersion> current = newsService.findVersion(id);
+        if (!current.isPresent()) {
+            return new NewsNotFoundException(id);
+        }
+        if (version != null && version != current.get().getEditVersion()) {
+            return new PreconditionFailedException("News with id " + id + " has version "
+                    + current.get().getEditVersion() + ", but version " + version + " is expected");
+        }
+        return new NotEnoughRightsException("User with id " + user.getId()
+                + " cannot " + action + " news with id " + id);
+    }
+
+    //Text is the only heavy column of news, so it is selected only when requested
+    private static Class<? extends NewsHeadline> projectionOf(FieldMask fields) {
+        return FieldMasks.includes(fields, "text") ? NewsSummary.class : NewsHeadline.class;
+    }
+
+    private static NewsSimpleDtoList toSimpleDtoList(List<? extends NewsHeadline> news, FieldMask fields) {
+        return NewsSimpleDtoList.newBuilder()
+                .addAllNewsDto(news.stream()
+                        .map(value -> FieldMasks.trim(fields, toSimpleDto(value)))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private static NewsSimpleDto toSimpleDto(NewsHeadline value) {
+        NewsSimpleDto.Builder builder = NewsSimpleDto.newBuilder()
+                .setId(value.getId())
+                .setDate(value.getDate().toString())
+                .setTitle(value.getTitle())
+                .setUserId(value.getUserId())
+                .setCommentCount(value.getCommentCount());
+        if (value instanceof NewsSummary) {
+            builder.setText(((NewsSummary) value).getText());
+        }
+        return builder.build();
+    }
+
+    private static NewsDto.Builder toDtoBuilder(NewsHeadline value) {
+        NewsDto.Builder builder = NewsDto.newBuilder()
+                .setId(value.getId())
+                .setDate(value.getDate().toString())
+                .setTitle(value.getTitle())
+                .setUserId(value.getUserId())
+                .setCommentCount(value.getCommentCount());
+        if (value instanceof NewsSummary) {
+            builder.setText(((NewsSummary) value).getText());
+        }
+        return builder;
+    }
+
+    private static NewsComment toNewsComment(CommentSummary value) {
+        return NewsComment.newBuilder()
+                .setId(value.getId())
+                .setDate(value.getDate().toString())
+                .setText(value.getText())
+                .setUserId(value.getUserId())
+                .build();
+    }
+
+    private static List<NewsComment> toNewsComments(Collection<Comment> comments) {
+        return comments.stream()
+                .map(v -> NewsComment.newBuilder()
+                        .setId(v.getId())
+                        .setDate(v.getDate().toString())
+                        .setText(v.getText())
+                        .setUserId(v.getUser().getId())
+                        .build())
+                .collect(Collectors.toList());
+    }
 }
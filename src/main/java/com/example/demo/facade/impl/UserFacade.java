@@ -5,36 +5,72 @@ import com.example.demo.dto.UserProto;
 import com.example.demo.entity.Role;
 import com.example.demo.entity.User;
 import com.example.demo.exception.request.NotEnoughRightsException;
-import com.example.demo.exception.user.UserNotFoundException;
 import com.example.demo.facade.UserCrudFacade;
+import com.example.demo.repo.projection.CommentSummary;
+import com.example.demo.repo.projection.NewsSummary;
+import com.example.demo.repo.projection.UserRole;
+import com.example.demo.repo.projection.UserSummary;
+import com.example.demo.service.impl.CommentService;
+import com.example.demo.service.impl.NewsService;
 import com.example.demo.service.impl.UserService;
+import com.example.demo.util.Cursor;
+import com.example.demo.util.FieldMasks;
+import com.example.demo.util.IdLists;
+import com.google.protobuf.FieldMask;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import static com.example.demo.dto.UserProto.UserComment;
+import static com.example.demo.dto.CommentProto.CommentSimpleDto;
+import static com.example.demo.dto.CommentProto.CommentSimpleDtoList;
+import static com.example.demo.dto.NewsProto.NewsSimpleDto;
+import static com.example.demo.dto.NewsProto.NewsSimpleDtoList;
 import static com.example.demo.dto.UserProto.UserDto;
-import static com.example.demo.dto.UserProto.UserNews;
 import static com.example.demo.dto.UserProto.UserSimpleDto;
 import static com.example.demo.dto.UserProto.UserSimpleDtoList;
 
 /**
  * CRUD operation in the {@link User} Facade layer
- * Calls a method from {@link UserService}
+ * Calls a method from {@link UserService}, {@link NewsService} and {@link CommentService}
  */
 @Service
 public class UserFacade implements UserCrudFacade {
     private final UserService userService;
 
+    private final NewsService newsService;
+
+    private final CommentService commentService;
+
     @Autowired
-    public UserFacade(UserService userService) {
+    public UserFacade(UserService userService, NewsService newsService, CommentService commentService) {
         this.userService = userService;
+        this.newsService = newsService;
+        this.commentService = commentService;
     }
 
     @Override
-    public UserSimpleDtoList findAll() {
+    @Transactional(readOnly = true)
+    public UserSimpleDtoList findAll(FieldMask fields) {
+        FieldMasks.validate(fields, UserSimpleDto.class);
+        //Roles are stored in separate table, so user columns are selected alone, when roles aren't requested
+        if (!FieldMasks.includes(fields, "roles")) {
+            return UserSimpleDtoList.newBuilder()
+                    .addAllUserDto(userService.findAll(UserSummary.class).stream()
+                            .map(value -> FieldMasks.trim(fields, UserSimpleDto.newBuilder()
+                                    .setId(value.getId())
+                                    .setUsername(value.getUsername())
+                                    .setPassword(value.getPassword())
+                                    .setActive(value.isActive())
+                                    .build()))
+                            .collect(Collectors.toList()))
+                    .build();
+        }
         return UserSimpleDtoList.newBuilder()
                 .addAllUserDto(userService.findAll().stream()
                         .map(value -> UserSimpleDto.newBuilder()
@@ -46,41 +82,120 @@ public class UserFacade implements UserCrudFacade {
                                         .map(v -> UserProto.Role.valueOf(v.getAuthority()))
                                         .collect(Collectors.toList()))
                                 .build())
+                        .map(value -> FieldMasks.trim(fields, value))
                         .collect(Collectors.toList()))
                 .build();
     }
 
     @Override
-    public Optional<UserDto> findById(Long id) {
-        return userService.findById(id)
+    @Transactional(readOnly = true)
+    public Optional<UserDto> findById(Long id, FieldMask fields) {
+        FieldMasks.validate(fields, UserDto.class);
+        //News and comments of user are not embedded, only their counters, that are stored with user
+        return userService.findById(id, UserSummary.class)
                 .map(value -> UserDto.newBuilder()
                         .setId(value.getId())
                         .setUsername(value.getUsername())
                         .setPassword(value.getPassword())
                         .setActive(value.isActive())
-                        .addAllRoles(value.getRoles().stream()
-                                .map(v -> UserProto.Role.valueOf(v.getAuthority()))
-                                .collect(Collectors.toList()))
-                        .addAllNews(value.getNews().stream()
-                                .map(v -> UserNews.newBuilder()
-                                        .setId(v.getId())
-                                        .setDate(v.getDate().toString())
-                                        .setTitle(v.getTitle())
-                                        .setText(v.getText())
-                                        .build()
-                                ).collect(Collectors.toList()))
-                        .addAllComments(value.getComments().stream()
-                                .map(v -> UserComment.newBuilder()
-                                        .setId(v.getId())
-                                        .setDate(v.getDate().toString())
-                                        .setText(v.getText())
-                                        .build()
-                                ).collect(Collectors.toList()))
-                        .build()
-                );
+                        .setNewsCount(value.getNewsCount())
+                        .setCommentCount(value.getCommentCount())
+                        .addAllRoles(FieldMasks.includes(fields, "roles")
+                                ? userService.findRolesByIds(Collections.singleton(id)).stream()
+                                .map(v -> UserProto.Role.valueOf(v.getRole().getAuthority()))
+                                .collect(Collectors.toList())
+                                : Collections.emptyList())
+                        .build())
+                .map(value -> FieldMasks.trim(fields, value));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public NewsSimpleDtoList findNews(Long id, String cursor, Integer size, FieldMask fields) {
+        FieldMasks.validate(fields, NewsSimpleDto.class);
+        Cursor.validateSize(size);
+        Cursor before = cursor.isEmpty() ? null : Cursor.decode(cursor);
+
+        //One extra news is loaded to know if there is next page
+        List<NewsSummary> news = newsService.findNewestByUserId(id, before, size + 1);
+        NewsSimpleDtoList.Builder builder = NewsSimpleDtoList.newBuilder();
+        news.stream()
+                .limit(size)
+                .forEach(value -> builder.addNewsDto(FieldMasks.trim(fields, NewsSimpleDto.newBuilder()
+                        .setId(value.getId())
+                        .setDate(value.getDate().toString())
+                        .setTitle(value.getTitle())
+                        .setText(value.getText())
+                        .setUserId(value.getUserId())
+                        .setCommentCount(value.getCommentCount())
+                        .build())));
+        if (news.size() > size) {
+            NewsSummary last = news.get(size - 1);
+            builder.setNextCursor(Cursor.of(last.getDate(), last.getId()).encode());
+        }
+        return builder.build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CommentSimpleDtoList findComments(Long id, String cursor, Integer size, FieldMask fields) {
+        FieldMasks.validate(fields, CommentSimpleDto.class);
+        Cursor.validateSize(size);
+        Cursor before = cursor.isEmpty() ? null : Cursor.decode(cursor);
+
+        //One extra comment is loaded to know if there is next page
+        List<CommentSummary> comments = commentService.findNewestByUserId(id, before, size + 1);
+        CommentSimpleDtoList.Builder builder = CommentSimpleDtoList.newBuilder();
+        comments.stream()
+                .limit(size)
+                .forEach(value -> builder.addCommentDto(FieldMasks.trim(fields, CommentSimpleDto.newBuilder()
+                        .setId(value.getId())
+                        .setDate(value.getDate().toString())
+                        .setText(value.getText())
+                        .setUserId(value.getUserId())
+                        .setNewsId(value.getNewsId())
+                        .build())));
+        if (comments.size() > size) {
+            CommentSummary last = comments.get(size - 1);
+            builder.setNextCursor(Cursor.of(last.getDate(), last.getId()).encode());
+        }
+        return builder.build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserSimpleDtoList findByIds(List<Long> ids, FieldMask fields) {
+        FieldMasks.validate(fields, UserSimpleDto.class);
+        List<Long> requested = IdLists.distinct(ids);
+        Map<Long, UserSummary> found = IdLists.byId(userService.findByIds(requested, UserSummary.class),
+                UserSummary::getId);
+        Map<Long, List<UserProto.Role>> roles = FieldMasks.includes(fields, "roles") && !found.isEmpty()
+                ? userService.findRolesByIds(found.keySet()).stream()
+                .collect(Collectors.groupingBy(UserRole::getUserId,
+                        Collectors.mapping(value -> UserProto.Role.valueOf(value.getRole().getAuthority()),
+                                Collectors.toList())))
+                : Collections.emptyMap();
+
+        UserSimpleDtoList.Builder builder = UserSimpleDtoList.newBuilder();
+        requested.forEach(id -> {
+            if (found.containsKey(id)) {
+                UserSummary value = found.get(id);
+                builder.addUserDto(FieldMasks.trim(fields, UserSimpleDto.newBuilder()
+                        .setId(value.getId())
+                        .setUsername(value.getUsername())
+                        .setPassword(value.getPassword())
+                        .setActive(value.isActive())
+                        .addAllRoles(roles.getOrDefault(id, Collections.emptyList()))
+                        .build()));
+            } else {
+                builder.addMissingIds(id);
+            }
+        });
+        return builder.build();
     }
 
     @Override
+    @Transactional
     public void save(UserSimpleDto userDto, User user) {
         User userNew = new User();
         userNew.setUsername(userDto.getUsername());
@@ -98,6 +213,7 @@ public class UserFacade implements UserCrudFacade {
     }
 
     @Override
+    @Transactional
     public void update(Long id, UserSimpleDto userDto, User user) {
         if (userDto.getId() == user.getId() || user.getAuthorities().contains(Role.ADMIN)) {
             User userFromDto = new User();
@@ -118,15 +234,14 @@ public class UserFacade implements UserCrudFacade {
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id, User user) {
-        User userDb = userService.findById(id)
-                .orElseThrow(() -> new UserNotFoundException(id));
-
-        if (userDb.getId().equals(user.getId()) || user.getAuthorities().contains(Role.ADMIN)) {
+        //Rights do not depend on stored user, so it is not loaded before delete
+        if (id.equals(user.getId()) || user.getAuthorities().contains(Role.ADMIN)) {
             userService.deleteById(id);
         } else {
             throw new NotEnoughRightsException("User with id " + user.getId()
-                    + " cannot delete user with id " + userDb.getId());
+                    + " cannot delete user with id " + id);
         }
     }
 }
\ No newline at end of file
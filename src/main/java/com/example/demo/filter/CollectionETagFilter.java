@@ -0,0 +1,76 @@
+package com.example.demo.filter;
+
+import com.example.demo.cache.CollectionVersions;
+import com.example.demo.util.ETags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.example.demo.cache.CacheEvent.Entity;
+
+/**
+ * Filter which answers conditional requests of news and comment lists.
+ * ETag of list is version of list, so client with actual version gets NOT_MODIFIED(304)
+ * before list is loaded. Filter runs after security filters, so rights are checked as usual.
+ * Long polling for new comments is not answered, because it must wait for next change instead of NOT_MODIFIED(304)
+ */
+@Component
+public class CollectionETagFilter extends OncePerRequestFilter {
+    private static final Map<String, Entity> COLLECTIONS = new HashMap<>();
+
+    static {
+        COLLECTIONS.put("/api/news", Entity.NEWS);
+        COLLECTIONS.put("/api/comment", Entity.COMMENT);
+    }
+
+    private static final String[] LONG_POLL_PARAMS = {"after", "wait"};
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    private final CollectionVersions collectionVersions;
+
+    @Autowired
+    public CollectionETagFilter(CollectionVersions collectionVersions) {
+        this.collectionVersions = collectionVersions;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !COLLECTIONS.containsKey(urlPathHelper.getPathWithinApplication(request))
+                || isLongPoll(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Entity entity = COLLECTIONS.get(urlPathHelper.getPathWithinApplication(request));
+
+        //Version is taken before list is loaded, so list is never newer than its ETag claims
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        if (webRequest.checkNotModified(ETags.of(collectionVersions.versionOf(entity)))) {
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static boolean isLongPoll(HttpServletRequest request) {
+        for (String param : LONG_POLL_PARAMS) {
+            if (request.getParameter(param) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
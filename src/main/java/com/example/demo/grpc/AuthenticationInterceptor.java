@@ -0,0 +1,199 @@
+package com.example.demo.grpc;
+
+import com.example.demo.config.GrpcProperties;
+import com.example.demo.entity.Role;
+import com.example.demo.entity.User;
+import com.example.demo.exception.request.NotEnoughRightsException;
+import com.example.demo.service.impl.UserService;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Authentication of gRPC calls by Basic credentials in {@code authorization} metadata, as in REST API.
+ * Every callback of call is executed with security context of caller, so facades and routing of
+ * read-only transactions see the same user as in REST API.
+ * Verified credentials are trusted for {@code app.grpc.credentials-ttl}, so calls of persistent channel
+ * do not pay for hashing of password
+ */
+@Component
+@ConditionalOnProperty(name = "app.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class AuthenticationInterceptor implements ServerInterceptor {
+    public static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final String BASIC = "Basic ";
+
+    //Trusted credentials are dropped all at once over this count, so random credentials can't exhaust memory
+    private static final int MAX_TRUSTED = 10000;
+
+    private final DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
+
+    private final ConcurrentMap<String, Trusted> trusted = new ConcurrentHashMap<>();
+
+    private final long credentialsTtl;
+
+    @Autowired
+    public AuthenticationInterceptor(UserService userService, PasswordEncoder passwordEncoder,
+                                     GrpcProperties properties) {
+        authenticationProvider.setUserDetailsService(userService);
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
+        this.credentialsTtl = properties.getCredentialsTtl().toNanos();
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        SecurityContext context;
+        try {
+            context = new SecurityContextImpl(authenticate(headers.get(AUTHORIZATION)));
+        } catch (AuthenticationException e) {
+            call.close(Status.UNAUTHENTICATED.withDescription(e.getMessage()), new Metadata());
+            return new ServerCall.Listener<ReqT>() {
+            };
+        }
+
+        ServerCall.Listener<ReqT> listener = withContext(context, () -> next.startCall(call, headers));
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT>(listener) {
+            @Override
+            public void onMessage(ReqT message) {
+                withContext(context, () -> super.onMessage(message));
+            }
+
+            @Override
+            public void onHalfClose() {
+                withContext(context, super::onHalfClose);
+            }
+
+            @Override
+            public void onCancel() {
+                withContext(context, super::onCancel);
+            }
+
+            @Override
+            public void onComplete() {
+                withContext(context, super::onComplete);
+            }
+
+            @Override
+            public void onReady() {
+                withContext(context, super::onReady);
+            }
+        };
+    }
+
+    /**
+     * Method which returns user of current call
+     *
+     * @return {@link User} that calls method
+     */
+    public static User currentUser() {
+        return (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+
+    /**
+     * Method which checks that user of current call has one of roles
+     *
+     * @param roles allowed roles
+     * @throws NotEnoughRightsException when user has none of roles
+     */
+    public static void requireAnyRole(Role... roles) {
+        User user = currentUser();
+        if (Arrays.stream(roles).noneMatch(user.getAuthorities()::contains)) {
+            throw new NotEnoughRightsException("User with id " + user.getId()
+                    + " has none of roles " + Arrays.toString(roles));
+        }
+    }
+
+    private Authentication authenticate(String authorization) {
+        if (authorization == null || !authorization.regionMatches(true, 0, BASIC, 0, BASIC.length())) {
+            throw new BadCredentialsException("Basic credentials are required");
+        }
+        String key = digest(authorization);
+        long now = System.nanoTime();
+        Trusted cached = trusted.get(key);
+        if (cached != null && cached.expiresAt - now > 0) {
+            return cached.authentication;
+        }
+
+        String credentials;
+        try {
+            credentials = new String(Base64.getDecoder().decode(authorization.substring(BASIC.length()).trim()),
+                    StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadCredentialsException("Basic credentials are malformed");
+        }
+        int separator = credentials.indexOf(':');
+        if (separator < 0) {
+            throw new BadCredentialsException("Basic credentials are malformed");
+        }
+        Authentication authentication = authenticationProvider.authenticate(new UsernamePasswordAuthenticationToken(
+                credentials.substring(0, separator), credentials.substring(separator + 1)));
+
+        if (trusted.size() >= MAX_TRUSTED) {
+            trusted.clear();
+        }
+        trusted.put(key, new Trusted(authentication, now + credentialsTtl));
+        return authentication;
+    }
+
+    private static String digest(String value) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void withContext(SecurityContext context, Runnable callback) {
+        withContext(context, () -> {
+            callback.run();
+            return null;
+        });
+    }
+
+    private static <T> T withContext(SecurityContext context, Supplier<T> callback) {
+        SecurityContextHolder.setContext(context);
+        try {
+            return callback.get();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static final class Trusted {
+        private final Authentication authentication;
+
+        private final long expiresAt;
+
+        private Trusted(Authentication authentication, long expiresAt) {
+            this.authentication = authentication;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.grpc;
+
+import com.example.demo.entity.Role;
+import com.example.demo.entity.User;
+import com.example.demo.exception.comment.CommentNotFoundException;
+import com.example.demo.facade.CommentCrudFacade;
+import com.example.demo.facade.impl.CommentFacade;
+import com.example.demo.grpc.PageStream.Page;
+import com.example.demo.util.Cursor;
+import io.grpc.stub.StreamObserver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.example.demo.dto.CommentProto.CommentBatch;
+import static com.example.demo.dto.CommentProto.CommentBatchResult;
+import static com.example.demo.dto.CommentProto.CommentDto;
+import static com.example.demo.dto.CommentProto.CommentOperation;
+import static com.example.demo.dto.CommentProto.CommentSimpleDto;
+import static com.example.demo.dto.CommentProto.CommentSimpleDtoList;
+import static com.example.demo.dto.CommentServiceGrpc.CommentServiceImplBase;
+import static com.example.demo.dto.RpcProto.IdRequest;
+import static com.example.demo.dto.RpcProto.IdsRequest;
+import static com.example.demo.dto.RpcProto.NewsCommentsRequest;
+
+/**
+ * gRPC service for operations with {@link com.example.demo.entity.Comment}.
+ * Reads are available for all users, ingest for users with any role
+ */
+@Component
+@ConditionalOnProperty(name = "app.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class CommentGrpcService extends CommentServiceImplBase {
+    private final CommentCrudFacade commentFacade;
+
+    @Autowired
+    public CommentGrpcService(CommentCrudFacade commentFacade) {
+        this.commentFacade = commentFacade;
+    }
+
+    @Override
+    public void getComment(IdRequest request, StreamObserver<CommentDto> responseObserver) {
+        responseObserver.onNext(commentFacade.findById(request.getId(), request.getFields())
+                .orElseThrow(() -> new CommentNotFoundException(request.getId())));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void getCommentsByIds(IdsRequest request, StreamObserver<CommentSimpleDtoList> responseObserver) {
+        responseObserver.onNext(commentFacade.findByIds(request.getIdsList(), request.getFields()));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void listCommentsOfNews(NewsCommentsRequest request, StreamObserver<CommentSimpleDto> responseObserver) {
+        PageStream.start(responseObserver, cursor -> {
+            CommentSimpleDtoList comments = commentFacade.findByNewsId(request.getNewsId(),
+                    cursor == null ? "" : cursor, Cursor.MAX_PAGE_SIZE, request.getFields());
+            return Page.of(comments.getCommentDtoList(), comments.getNextCursor());
+        });
+    }
+
+    /**
+     * Method which creates streamed comments.
+     * Comments are created by batches of {@link CommentFacade#MAX_BATCH_SIZE} as soon as batch is received,
+     * so stream of any length is never held in memory; batches created before error or cancel of stream stay
+     */
+    @Override
+    public StreamObserver<CommentSimpleDto> ingestComments(StreamObserver<CommentBatchResult> responseObserver) {
+        AuthenticationInterceptor.requireAnyRole(Role.ADMIN, Role.JOURNALIST, Role.SUBSCRIBER);
+        User user = AuthenticationInterceptor.currentUser();
+        return new StreamObserver<CommentSimpleDto>() {
+            private final CommentBatch.Builder batch = CommentBatch.newBuilder();
+
+            private final CommentBatchResult.Builder result = CommentBatchResult.newBuilder();
+
+            @Override
+            public void onNext(CommentSimpleDto comment) {
+                batch.addOperations(CommentOperation.newBuilder()
+                        .setType(CommentOperation.Type.CREATE)
+                        .setComment(comment));
+                if (batch.getOperationsCount() == CommentFacade.MAX_BATCH_SIZE) {
+                    apply();
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                //Client cancelled stream, there is nobody to respond
+            }
+
+            @Override
+            public void onCompleted() {
+                if (batch.getOperationsCount() > 0) {
+                    apply();
+                }
+                responseObserver.onNext(result.build());
+                responseObserver.onCompleted();
+            }
+
+            private void apply() {
+                result.addAllResults(commentFacade.applyBatch(batch.build(), user).getResultsList());
+                batch.clear();
+            }
+        };
+    }
+}
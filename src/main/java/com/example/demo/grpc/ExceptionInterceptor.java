@@ -0,0 +1,103 @@
+package com.example.demo.grpc;
+
+import com.example.demo.exception.NotFoundException;
+import com.example.demo.exception.request.BadRequestParametersException;
+import com.example.demo.exception.request.NotEnoughRightsException;
+import com.example.demo.exception.request.PreconditionFailedException;
+import com.example.demo.exception.request.ServiceUnavailableException;
+import com.example.demo.exception.user.UsernameReservedException;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * This class handling exceptions of gRPC calls as {@link com.example.demo.exception.WebApplicationExceptionHandler}
+ * does for controllers, exception closes call with status of the same meaning as HTTP status of REST API
+ */
+@Component
+@ConditionalOnProperty(name = "app.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class ExceptionInterceptor implements ServerInterceptor {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        ServerCall.Listener<ReqT> listener;
+        try {
+            listener = next.startCall(call, headers);
+        } catch (RuntimeException e) {
+            call.close(toStatus(e), new Metadata());
+            return new ServerCall.Listener<ReqT>() {
+            };
+        }
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT>(listener) {
+            //Callbacks of one call never overlap
+            private boolean closed;
+
+            @Override
+            public void onMessage(ReqT message) {
+                handle(() -> super.onMessage(message));
+            }
+
+            @Override
+            public void onHalfClose() {
+                handle(super::onHalfClose);
+            }
+
+            @Override
+            public void onReady() {
+                handle(super::onReady);
+            }
+
+            private void handle(Runnable callback) {
+                if (closed) {
+                    return;
+                }
+                try {
+                    callback.run();
+                } catch (RuntimeException e) {
+                    closed = true;
+                    call.close(toStatus(e), new Metadata());
+                }
+            }
+        };
+    }
+
+    /**
+     * Method which converts exception of call into status
+     *
+     * @param e exception of call
+     * @return {@link Status} with message of exception, INTERNAL without details for unexpected exceptions
+     */
+    public Status toStatus(RuntimeException e) {
+        if (e instanceof StatusRuntimeException) {
+            return ((StatusRuntimeException) e).getStatus();
+        }
+        Status status;
+        if (e instanceof NotFoundException) {
+            status = Status.NOT_FOUND;
+        } else if (e instanceof BadRequestParametersException || e instanceof UsernameReservedException) {
+            status = Status.INVALID_ARGUMENT;
+        } else if (e instanceof NotEnoughRightsException) {
+            status = Status.PERMISSION_DENIED;
+        } else if (e instanceof PreconditionFailedException) {
+            status = Status.FAILED_PRECONDITION;
+        } else if (e instanceof ServiceUnavailableException) {
+            status = Status.UNAVAILABLE;
+        } else {
+            logger.error("gRPC call failed", e);
+            return Status.INTERNAL.withDescription("Internal error");
+        }
+        logger.debug(e.getMessage());
+        return status.withDescription(e.getMessage());
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.demo.grpc;
+
+import com.example.demo.config.GrpcProperties;
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Netty server of gRPC services on own port.
+ * Calls of one client are multiplexed over persistent HTTP/2 connection and are executed by bounded pool,
+ * every call is authenticated and it's exceptions are converted into statuses
+ */
+@Component
+@ConditionalOnProperty(name = "app.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServer implements SmartLifecycle {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final List<BindableService> services;
+
+    private final AuthenticationInterceptor authenticationInterceptor;
+
+    private final ExceptionInterceptor exceptionInterceptor;
+
+    private final GrpcProperties properties;
+
+    private final ExecutorService executor;
+
+    private volatile Server server;
+
+    @Autowired
+    public GrpcServer(List<BindableService> services, AuthenticationInterceptor authenticationInterceptor,
+                      ExceptionInterceptor exceptionInterceptor, GrpcProperties properties,
+                      MeterRegistry meterRegistry) {
+        this.services = services;
+        this.authenticationInterceptor = authenticationInterceptor;
+        this.exceptionInterceptor = exceptionInterceptor;
+        this.properties = properties;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("grpc-call-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newFixedThreadPool(properties.getThreads(), threadFactory);
+        new ExecutorServiceMetrics(executor, "grpc", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        NettyServerBuilder builder = NettyServerBuilder.forPort(properties.getPort())
+                .executor(executor)
+                .maxConcurrentCallsPerConnection(properties.getMaxConcurrentCallsPerConnection())
+                .maxInboundMessageSize(properties.getMaxInboundMessageSize())
+                .permitKeepAliveTime(properties.getPermitKeepAliveTime().toMillis(), TimeUnit.MILLISECONDS);
+        //Last interceptor is called first, so exceptions are converted with security context of caller
+        services.forEach(service -> builder.addService(
+                ServerInterceptors.intercept(service, exceptionInterceptor, authenticationInterceptor)));
+        try {
+            server = builder.build().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("gRPC server can't be started on port " + properties.getPort(), e);
+        }
+        logger.info("gRPC server started on port {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        Server current = server;
+        if (current == null) {
+            return;
+        }
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(5, TimeUnit.SECONDS)) {
+                current.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            current.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Method which returns bound port of gRPC server
+     *
+     * @return port, -1 if server is not running
+     */
+    public int getPort() {
+        Server current = server;
+        return current == null ? -1 : current.getPort();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.grpc;
+
+import com.example.demo.exception.news.NewsNotFoundException;
+import com.example.demo.facade.NewsCrudFacade;
+import com.example.demo.grpc.PageStream.Page;
+import com.example.demo.util.Cursor;
+import io.grpc.stub.StreamObserver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.example.demo.dto.NewsProto.NewsChanges;
+import static com.example.demo.dto.NewsProto.NewsDto;
+import static com.example.demo.dto.NewsProto.NewsSimpleDto;
+import static com.example.demo.dto.NewsProto.NewsSimpleDtoList;
+import static com.example.demo.dto.NewsServiceGrpc.NewsServiceImplBase;
+import static com.example.demo.dto.RpcProto.ChangesRequest;
+import static com.example.demo.dto.RpcProto.IdRequest;
+import static com.example.demo.dto.RpcProto.IdsRequest;
+import static com.example.demo.dto.RpcProto.ListRequest;
+
+/**
+ * gRPC service for read operations with {@link com.example.demo.entity.News}, available for all users
+ */
+@Component
+@ConditionalOnProperty(name = "app.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class NewsGrpcService extends NewsServiceImplBase {
+    private final NewsCrudFacade newsFacade;
+
+    @Autowired
+    public NewsGrpcService(NewsCrudFacade newsFacade) {
+        this.newsFacade = newsFacade;
+    }
+
+    @Override
+    public void getNews(IdRequest request, StreamObserver<NewsDto> responseObserver) {
+        responseObserver.onNext(newsFacade.findById(request.getId(), request.getFields())
+                .orElseThrow(() -> new NewsNotFoundException(request.getId())));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void getNewsByIds(IdsRequest request, StreamObserver<NewsSimpleDtoList> responseObserver) {
+        responseObserver.onNext(newsFacade.findByIds(request.getIdsList(), request.getFields()));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void listNews(ListRequest request, StreamObserver<NewsSimpleDto> responseObserver) {
+        //News are read by pages of REST list, cursor is number of page
+        PageStream.start(responseObserver, cursor -> {
+            int page = cursor == null ? 0 : Integer.parseInt(cursor);
+            List<NewsSimpleDto> news = newsFacade.findAll(page, Cursor.MAX_PAGE_SIZE, request.getFields())
+                    .getNewsDtoList();
+            return Page.of(news, news.size() < Cursor.MAX_PAGE_SIZE ? null : String.valueOf(page + 1));
+        });
+    }
+
+    @Override
+    public void getChanges(ChangesRequest request, StreamObserver<NewsChanges> responseObserver) {
+        int size = request.getSize() == 0 ? Cursor.MAX_PAGE_SIZE : request.getSize();
+        responseObserver.onNext(newsFacade.findChanges(request.getSince(), size, request.getFields()));
+        responseObserver.onCompleted();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.demo.grpc;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Server stream of list, that is read by pages.
+ * Next page is read only when transport is ready to send more, so slow client makes server hold
+ * neither whole list nor database connection between pages
+ *
+ * @param <T> type of list item
+ */
+final class PageStream<T> implements Runnable {
+    private final ServerCallStreamObserver<T> observer;
+
+    private final Function<String, Page<T>> pages;
+
+    private Iterator<T> items = Collections.emptyIterator();
+
+    //Cursor of next page, null for first page
+    private String cursor;
+
+    private boolean last;
+
+    private volatile boolean done;
+
+    private PageStream(ServerCallStreamObserver<T> observer, Function<String, Page<T>> pages) {
+        this.observer = observer;
+        this.pages = pages;
+    }
+
+    /**
+     * Starts stream of list, items are sent while client reads them
+     *
+     * @param responseObserver observer of server streaming call
+     * @param pages            reads page by cursor of previous page, null cursor for first page
+     * @param <T>              type of list item
+     */
+    static <T> void start(StreamObserver<T> responseObserver, Function<String, Page<T>> pages) {
+        ServerCallStreamObserver<T> observer = (ServerCallStreamObserver<T>) responseObserver;
+        PageStream<T> stream = new PageStream<>(observer, pages);
+        observer.setOnCancelHandler(() -> stream.done = true);
+        observer.setOnReadyHandler(stream);
+    }
+
+    //Is called by gRPC whenever transport becomes ready, calls of one stream never overlap
+    @Override
+    public void run() {
+        while (!done && observer.isReady()) {
+            if (items.hasNext()) {
+                observer.onNext(items.next());
+            } else if (last) {
+                done = true;
+                observer.onCompleted();
+            } else {
+                Page<T> page = pages.apply(cursor);
+                items = page.items.iterator();
+                cursor = page.next;
+                last = page.next == null;
+            }
+        }
+    }
+
+    /**
+     * Page of list with cursor of next page
+     *
+     * @param <T> type of list item
+     */
+    static final class Page<T> {
+        private final List<T> items;
+
+        private final String next;
+
+        private Page(List<T> items, String next) {
+            this.items = items;
+            this.next = next;
+        }
+
+        /**
+         * Creates page of list
+         *
+         * @param items items of page
+         * @param next  cursor of next page, null or empty for last page
+         * @param <T>   type of list item
+         * @return {@link Page}
+         */
+        static <T> Page<T> of(List<T> items, String next) {
+            return new Page<>(items, next == null || next.isEmpty() ? null : next);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.grpc;
+
+import com.example.demo.entity.Role;
+import com.example.demo.exception.user.UserNotFoundException;
+import com.example.demo.facade.UserCrudFacade;
+import com.example.demo.grpc.PageStream.Page;
+import com.example.demo.util.Cursor;
+import io.grpc.stub.StreamObserver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.example.demo.dto.NewsProto.NewsSimpleDto;
+import static com.example.demo.dto.NewsProto.NewsSimpleDtoList;
+import static com.example.demo.dto.RpcProto.IdRequest;
+import static com.example.demo.dto.RpcProto.IdsRequest;
+import static com.example.demo.dto.RpcProto.ListRequest;
+import static com.example.demo.dto.RpcProto.UserNewsRequest;
+import static com.example.demo.dto.UserProto.UserDto;
+import static com.example.demo.dto.UserProto.UserSimpleDto;
+import static com.example.demo.dto.UserProto.UserSimpleDtoList;
+import static com.example.demo.dto.UserServiceGrpc.UserServiceImplBase;
+
+/**
+ * gRPC service for read operations with {@link com.example.demo.entity.User}, available for admins only
+ */
+@Component
+@ConditionalOnProperty(name = "app.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class UserGrpcService extends UserServiceImplBase {
+    private final UserCrudFacade userFacade;
+
+    @Autowired
+    public UserGrpcService(UserCrudFacade userFacade) {
+        this.userFacade = userFacade;
+    }
+
+    @Override
+    public void getUser(IdRequest request, StreamObserver<UserDto> responseObserver) {
+        AuthenticationInterceptor.requireAnyRole(Role.ADMIN);
+        responseObserver.onNext(userFacade.findById(request.getId(), request.getFields())
+                .orElseThrow(() -> new UserNotFoundException(request.getId())));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void getUsersByIds(IdsRequest request, StreamObserver<UserSimpleDtoList> responseObserver) {
+        AuthenticationInterceptor.requireAnyRole(Role.ADMIN);
+        responseObserver.onNext(userFacade.findByIds(request.getIdsList(), request.getFields()));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void listUsers(ListRequest request, StreamObserver<UserSimpleDto> responseObserver) {
+        AuthenticationInterceptor.requireAnyRole(Role.ADMIN);
+        //Users are not paged by facade, so the only page is read at once
+        PageStream.start(responseObserver, cursor ->
+                Page.of(userFacade.findAll(request.getFields()).getUserDtoList(), null));
+    }
+
+    @Override
+    public void listNewsOfUser(UserNewsRequest request, StreamObserver<NewsSimpleDto> responseObserver) {
+        AuthenticationInterceptor.requireAnyRole(Role.ADMIN);
+        PageStream.start(responseObserver, cursor -> {
+            NewsSimpleDtoList news = userFacade.findNews(request.getUserId(), cursor == null ? "" : cursor,
+                    Cursor.MAX_PAGE_SIZE, request.getFields());
+            return Page.of(news.getNewsDtoList(), news.getNextCursor());
+        });
+    }
+}
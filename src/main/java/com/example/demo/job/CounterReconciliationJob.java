@@ -0,0 +1,70 @@
+package com.example.demo.job;
+
+import com.example.demo.cache.CacheEvent;
+import com.example.demo.cache.InvalidationBus;
+import com.example.demo.repo.NewsRepo;
+import com.example.demo.repo.UserRepo;
+import com.example.demo.service.NewsChangeFeedService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Repairs denormalized counters of news and users.
+ * Counters are changed along with every write, so drift is possible only after
+ * direct changes in data storage, that's why job runs rarely and updates only differing rows.
+ * Repaired objects are published like any other change, so caches and change feed don't keep old counters
+ */
+@Component
+public class CounterReconciliationJob {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final NewsRepo newsRepo;
+
+    private final UserRepo userRepo;
+
+    private final InvalidationBus invalidationBus;
+
+    private final NewsChangeFeedService newsChangeService;
+
+    @Autowired
+    public CounterReconciliationJob(NewsRepo newsRepo, UserRepo userRepo, InvalidationBus invalidationBus,
+                                    NewsChangeFeedService newsChangeService) {
+        this.newsRepo = newsRepo;
+        this.userRepo = userRepo;
+        this.invalidationBus = invalidationBus;
+        this.newsChangeService = newsChangeService;
+    }
+
+    /**
+     * Method which recounts counters, that differ from real count of news and comments
+     *
+     * @return count of repaired rows
+     */
+    @Scheduled(cron = "${app.counters.reconcile-cron}")
+    @Transactional
+    public int reconcile() {
+        int repaired = 0;
+        //Drifted rows are found in write transaction, so they are read from primary
+        List<Long> newsIds = newsRepo.findDriftedCommentCountIds();
+        if (!newsIds.isEmpty()) {
+            repaired += newsRepo.reconcileCommentCounts(newsIds);
+            invalidationBus.publish(CacheEvent.Entity.NEWS, newsIds);
+            newsChangeService.recordChanged(newsIds);
+        }
+        List<Long> userIds = userRepo.findDriftedCountIds();
+        if (!userIds.isEmpty()) {
+            repaired += userRepo.reconcileNewsCounts(userIds) + userRepo.reconcileCommentCounts(userIds);
+            invalidationBus.publish(CacheEvent.Entity.USER, userIds);
+        }
+        if (repaired > 0) {
+            logger.warn("Counters of " + repaired + " rows were repaired");
+        }
+        return repaired;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.demo.repo;
+
+import com.example.demo.entity.ChangeSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+/**
+ * Data Access Object class.
+ * Provides operations with {@link ChangeSequence} objects.
+ */
+@Repository
+public interface ChangeSequenceRepo extends JpaRepository<ChangeSequence, Integer> {
+    /**
+     * Find {@link ChangeSequence} object by id and lock it until end of transaction
+     *
+     * @param id {@link ChangeSequence} object's id
+     * @return locked {@link ChangeSequence} wrapped into {@link Optional}
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ChangeSequence> findForUpdateById(Integer id);
+}
@@ -0,0 +1,23 @@
+package com.example.demo.repo;
+
+import com.example.demo.entity.Comment;
+import com.example.demo.repo.projection.CommentHeadline;
+
+import java.util.Optional;
+
+/**
+ * Data Access Object class.
+ * Provides delete of {@link Comment} object, that returns deleted row by the same statement
+ */
+public interface CommentDeleteRepo {
+    /**
+     * Delete {@link Comment} object by single statement,
+     * if it is owned by user with provided id or user is admin
+     *
+     * @param id     {@link Comment} object's id
+     * @param userId id of user that deletes object
+     * @param admin  true if user is admin
+     * @return {@link CommentHeadline} of deleted comment, empty if comment is missing or foreign.
+     */
+    Optional<CommentHeadline> deleteOwned(Long id, Long userId, boolean admin);
+}
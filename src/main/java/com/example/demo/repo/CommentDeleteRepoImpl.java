@@ -0,0 +1,77 @@
+package com.example.demo.repo;
+
+import com.example.demo.repo.projection.CommentHeadline;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.vendor.Database;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Implementation of {@link CommentDeleteRepo}, used by Spring Data as fragment of {@link CommentRepo}.
+ * PostgreSQL returns deleted row by {@code RETURNING}, H2 of tests by data change delta table.
+ * Statements are executed by connection of current transaction
+ */
+public class CommentDeleteRepoImpl implements CommentDeleteRepo {
+    private static final String DELETE_RETURNING = "delete from comment where id = ? and (user_id = ? or ?)"
+            + " returning id, date, user_id, news_id";
+
+    private static final String DELETE_FROM_OLD_TABLE = "select id, date, user_id, news_id from old table"
+            + " (delete from comment where id = ? and (user_id = ? or ?))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String delete;
+
+    @Autowired
+    public CommentDeleteRepoImpl(JdbcTemplate jdbcTemplate, @Value("${spring.jpa.database}") Database database) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.delete = database == Database.H2 ? DELETE_FROM_OLD_TABLE : DELETE_RETURNING;
+    }
+
+    @Override
+    public Optional<CommentHeadline> deleteOwned(Long id, Long userId, boolean admin) {
+        return jdbcTemplate.<CommentHeadline>query(delete, (rs, rowNum) -> new DeletedComment(rs.getLong("id"),
+                        rs.getTimestamp("date").toLocalDateTime(), rs.getLong("user_id"), rs.getLong("news_id")),
+                id, userId, admin).stream().findFirst();
+    }
+
+    private static final class DeletedComment implements CommentHeadline {
+        private final Long id;
+
+        private final LocalDateTime date;
+
+        private final Long userId;
+
+        private final Long newsId;
+
+        private DeletedComment(Long id, LocalDateTime date, Long userId, Long newsId) {
+            this.id = id;
+            this.date = date;
+            this.userId = userId;
+            this.newsId = newsId;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public LocalDateTime getDate() {
+            return date;
+        }
+
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public Long getNewsId() {
+            return newsId;
+        }
+    }
+}
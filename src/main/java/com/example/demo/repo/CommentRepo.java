@@ -1,19 +1,27 @@
 package com.example.demo.repo;
 
 import com.example.demo.entity.Comment;
+import com.example.demo.repo.projection.CommentSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Data Access Object class.
  * Provides CRUD and other operations with {@link Comment} objects.
  */
 @Repository
-public interface CommentRepo extends JpaRepository<Comment, Long> {
+public interface CommentRepo extends JpaRepository<Comment, Long>, CommentTextRepo, CommentDeleteRepo {
     /**
      * Find {@link Comment} objects by pages,
      * that tied to {@link com.example.demo.entity.News} object with provided id
@@ -39,4 +47,184 @@ public interface CommentRepo extends JpaRepository<Comment, Long> {
      * @return found list with {@link Comment}.
      */
     List<Comment> findByTextContains(String text);
+
+    /**
+     * Find all {@link Comment} objects and map them into provided projection.
+     * Only columns of projection are selected
+     *
+     * @param type projection type
+     * @param <T>  projection type
+     * @return list of projections
+     */
+    <T> List<T> findAllBy(Class<T> type);
+
+    /**
+     * Find all {@link Comment} objects by pages and map them into provided projection
+     *
+     * @param pageable {@link Pageable} object
+     * @param type     projection type
+     * @param <T>      projection type
+     * @return page of projections
+     */
+    <T> Page<T> findAllBy(Pageable pageable, Class<T> type);
+
+    /**
+     * Find {@link Comment} object by id and map it into provided projection
+     *
+     * @param id   {@link Comment} object's id for search
+     * @param type projection type
+     * @param <T>  projection type
+     * @return found projection wrapped in {@link Optional}.
+     */
+    <T> Optional<T> findById(Long id, Class<T> type);
+
+    /**
+     * Find {@link Comment} object by it's text and map it into provided projection
+     *
+     * @param text {@link Comment} object's text for search
+     * @param type projection type
+     * @param <T>  projection type
+     * @return found list of projections.
+     */
+    <T> List<T> findByText(String text, Class<T> type);
+
+    /**
+     * Find {@link Comment} object by it's text partially contains param and map it into provided projection
+     *
+     * @param text {@link Comment} object's text for search
+     * @param type projection type
+     * @param <T>  projection type
+     * @return found list of projections.
+     */
+    <T> List<T> findByTextContains(String text, Class<T> type);
+
+    /**
+     * Find {@link Comment} objects with provided ids by single query and map them into provided projection.
+     * Order of result is not defined
+     *
+     * @param ids  ids of {@link Comment} objects
+     * @param type projection type
+     * @param <T>  projection type
+     * @return found list of projections.
+     */
+    <T> List<T> findByIdIn(Collection<Long> ids, Class<T> type);
+
+    /**
+     * Delete {@link Comment} objects with provided ids by single statement without loading them
+     *
+     * @param ids ids of {@link Comment} objects
+     * @return count of deleted rows.
+     */
+    @Modifying
+    @Query("delete from Comment c where c.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Update text of {@link Comment} object by single statement and increase it's version,
+     * if it is owned by user with provided id or user is admin, and it has expected version
+     *
+     * @param id         {@link Comment} object's id
+     * @param text       new text of {@link Comment} object
+     * @param userId     id of user that updates object
+     * @param admin      true if user is admin
+     * @param version    expected version of {@link Comment} object, see {@link #findVersionById}
+     * @param anyVersion true if version is not checked
+     * @return count of updated rows.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Comment c set c.text = :text, c.version = c.version + 1"
+            + " where c.id = :id and (c.user.id = :userId or :admin = true)"
+            + " and (:anyVersion = true or c.version = :version)")
+    int updateOwned(@Param("id") Long id, @Param("text") String text,
+                    @Param("userId") Long userId, @Param("admin") boolean admin,
+                    @Param("version") long version, @Param("anyVersion") boolean anyVersion);
+
+    /**
+     * Find version of {@link Comment} object.
+     * Version of it's news is not included, because news version changes along with every comment of news
+     *
+     * @param id {@link Comment} object's id
+     * @return version wrapped in {@link Optional}.
+     */
+    @Query("select c.version from Comment c where c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Find ids of news of {@link Comment} objects with provided ids
+     *
+     * @param ids ids of {@link Comment} objects
+     * @return found ids of news.
+     */
+    @Query("select distinct c.newsId from Comment c where c.id in :ids")
+    List<Long> findNewsIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find newest {@link Comment} objects of {@link com.example.demo.entity.News} object,
+     * ordered by date and id from newest to oldest
+     *
+     * @param newsId   {@link com.example.demo.entity.News} object's id
+     * @param pageable {@link Pageable} object, that limits count of comments
+     * @return found list of projections.
+     */
+    @Query("select c.id as id, c.date as date, c.text as text, c.userId as userId, c.newsId as newsId"
+            + " from Comment c where c.newsId = :newsId order by c.date desc, c.id desc")
+    List<CommentSummary> findNewestByNewsId(@Param("newsId") Long newsId, Pageable pageable);
+
+    /**
+     * Find {@link Comment} objects of {@link com.example.demo.entity.News} object, that are older than provided position,
+     * ordered by date and id from newest to oldest
+     *
+     * @param newsId   {@link com.example.demo.entity.News} object's id
+     * @param date     date of last returned comment
+     * @param id       id of last returned comment
+     * @param pageable {@link Pageable} object, that limits count of comments
+     * @return found list of projections.
+     */
+    @Query("select c.id as id, c.date as date, c.text as text, c.userId as userId, c.newsId as newsId"
+            + " from Comment c where c.newsId = :newsId and (c.date < :date or (c.date = :date and c.id < :id))"
+            + " order by c.date desc, c.id desc")
+    List<CommentSummary> findNewestByNewsIdBefore(@Param("newsId") Long newsId, @Param("date") LocalDateTime date,
+                                                  @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Find {@link Comment} objects of {@link com.example.demo.entity.News} object, that were created after provided one,
+     * ordered by id from oldest to newest
+     *
+     * @param newsId   {@link com.example.demo.entity.News} object's id
+     * @param after    id of last known comment
+     * @param pageable {@link Pageable} object, that limits count of comments
+     * @return found list of projections.
+     */
+    @Query("select c.id as id, c.date as date, c.text as text, c.userId as userId, c.newsId as newsId"
+            + " from Comment c where c.newsId = :newsId and c.id > :after order by c.id")
+    List<CommentSummary> findByNewsIdAfter(@Param("newsId") Long newsId, @Param("after") Long after,
+                                           Pageable pageable);
+
+    /**
+     * Find newest {@link Comment} objects of user, ordered by date and id from newest to oldest
+     *
+     * @param userId   id of author
+     * @param pageable {@link Pageable} object, that limits count of comments
+     * @return found list of projections.
+     */
+    @Query("select c.id as id, c.date as date, c.text as text, c.userId as userId, c.newsId as newsId"
+            + " from Comment c where c.userId = :userId order by c.date desc, c.id desc")
+    List<CommentSummary> findNewestByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Find {@link Comment} objects of user, that are older than provided position,
+     * ordered by date and id from newest to oldest
+     *
+     * @param userId   id of author
+     * @param date     date of last returned comment
+     * @param id       id of last returned comment
+     * @param pageable {@link Pageable} object, that limits count of comments
+     * @return found list of projections.
+     */
+    @Query("select c.id as id, c.date as date, c.text as text, c.userId as userId, c.newsId as newsId"
+            + " from Comment c where c.userId = :userId and (c.date < :date or (c.date = :date and c.id < :id))"
+            + " order by c.date desc, c.id desc")
+    List<CommentSummary> findNewestByUserIdBefore(@Param("userId") Long userId, @Param("date") LocalDateTime date,
+                                                  @Param("id") Long id, Pageable pageable);
 }
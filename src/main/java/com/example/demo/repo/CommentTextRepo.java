@@ -0,0 +1,19 @@
+package com.example.demo.repo;
+
+import com.example.demo.entity.Comment;
+
+import java.util.Map;
+
+/**
+ * Data Access Object class.
+ * Provides batch updates of {@link Comment} objects, that are sent to data storage by single round trip
+ */
+public interface CommentTextRepo {
+    /**
+     * Update texts of {@link Comment} objects by JDBC batch without loading them and increase their versions
+     *
+     * @param texts new texts by ids of {@link Comment} objects
+     * @return count of updated rows.
+     */
+    int updateTexts(Map<Long, String> texts);
+}
@@ -0,0 +1,37 @@
+package com.example.demo.repo;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of {@link CommentTextRepo}, used by Spring Data as fragment of {@link CommentRepo}.
+ * Statements are executed by connection of current transaction
+ */
+public class CommentTextRepoImpl implements CommentTextRepo {
+    private static final String UPDATE_TEXT = "update comment set text = ?, version = version + 1 where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public CommentTextRepoImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int updateTexts(Map<Long, String> texts) {
+        if (texts.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> args = new ArrayList<>(texts.size());
+        texts.forEach((id, text) -> args.add(new Object[]{text, id}));
+        //Driver may report SUCCESS_NO_INFO(-2) for batched statement, then row is counted as updated
+        return IntStream.of(jdbcTemplate.batchUpdate(UPDATE_TEXT, args))
+                .map(count -> count < 0 ? 1 : count)
+                .sum();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.repo;
+
+import com.example.demo.entity.NewsChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Data Access Object class.
+ * Provides operations with {@link NewsChange} objects.
+ */
+@Repository
+public interface NewsChangeRepo extends JpaRepository<NewsChange, Long> {
+    /**
+     * Find {@link NewsChange} objects made after provided change, in order of changes
+     *
+     * @param seq      number of last known change
+     * @param pageable limit of changes
+     * @return list of {@link NewsChange} objects
+     */
+    List<NewsChange> findBySeqGreaterThanOrderBySeq(long seq, Pageable pageable);
+
+    /**
+     * Find number of last {@link NewsChange}
+     *
+     * @return number of last change, 0 if there are no changes
+     */
+    @Query("select coalesce(max(c.seq), 0) from NewsChange c")
+    long findLastSeq();
+}
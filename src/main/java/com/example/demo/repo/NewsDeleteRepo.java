@@ -0,0 +1,23 @@
+package com.example.demo.repo;
+
+import com.example.demo.entity.News;
+
+import java.util.Optional;
+
+/**
+ * Data Access Object class.
+ * Provides delete of {@link News} object, that returns deleted row by the same statement
+ */
+public interface NewsDeleteRepo {
+    /**
+     * Delete {@link News} object by single statement,
+     * if it is owned by user with provided id or user is admin.
+     * Comments of news are deleted by database cascade
+     *
+     * @param id     {@link News} object's id
+     * @param userId id of user that deletes object
+     * @param admin  true if user is admin
+     * @return id of author of deleted news, empty if news is missing or foreign.
+     */
+    Optional<Long> deleteOwned(Long id, Long userId, boolean admin);
+}
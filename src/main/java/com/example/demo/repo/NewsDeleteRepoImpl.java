@@ -0,0 +1,36 @@
+package com.example.demo.repo;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.vendor.Database;
+
+import java.util.Optional;
+
+/**
+ * Implementation of {@link NewsDeleteRepo}, used by Spring Data as fragment of {@link NewsRepo}.
+ * PostgreSQL returns deleted row by {@code RETURNING}, H2 of tests by data change delta table.
+ * Statements are executed by connection of current transaction
+ */
+public class NewsDeleteRepoImpl implements NewsDeleteRepo {
+    private static final String DELETE_RETURNING = "delete from news where id = ? and (user_id = ? or ?)"
+            + " returning user_id";
+
+    private static final String DELETE_FROM_OLD_TABLE = "select user_id from old table"
+            + " (delete from news where id = ? and (user_id = ? or ?))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String delete;
+
+    @Autowired
+    public NewsDeleteRepoImpl(JdbcTemplate jdbcTemplate, @Value("${spring.jpa.database}") Database database) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.delete = database == Database.H2 ? DELETE_FROM_OLD_TABLE : DELETE_RETURNING;
+    }
+
+    @Override
+    public Optional<Long> deleteOwned(Long id, Long userId, boolean admin) {
+        return jdbcTemplate.queryForList(delete, Long.class, id, userId, admin).stream().findFirst();
+    }
+}
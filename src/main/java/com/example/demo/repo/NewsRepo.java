@@ -1,17 +1,35 @@
 package com.example.demo.repo;
 
 import com.example.demo.entity.News;
+import com.example.demo.repo.projection.NewsSummary;
+import com.example.demo.repo.projection.NewsVersion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.annotations.QueryHints.NATIVE_SPACES;
 
 /**
  * Data Access Object class.
  * Provides CRUD and other operations with {@link News} objects.
+ * Comment counters are changed by native statements in own query space, so they don't invalidate
+ * second-level cache of other entities and queries. Changed news are still evicted,
+ * because counter and version are part of them.
  */
 @Repository
-public interface NewsRepo extends JpaRepository<News, Long> {
+public interface NewsRepo extends JpaRepository<News, Long>, NewsDeleteRepo {
     /**
      * Find {@link News} object by it's title in data storage
      *
@@ -43,4 +61,239 @@ public interface NewsRepo extends JpaRepository<News, Long> {
      * @return found list with {@link News}.
      */
     List<News> findByTextContains(String text);
+
+    /**
+     * Find all {@link News} objects and map them into provided projection.
+     * Only columns of projection are selected
+     *
+     * @param type projection type
+     * @param <T>  projection type
+     * @return list of projections
+     */
+    <T> List<T> findAllBy(Class<T> type);
+
+    /**
+     * Find all {@link News} objects by pages and map them into provided projection
+     *
+     * @param pageable {@link Pageable} object
+     * @param type     projection type
+     * @param <T>      projection type
+     * @return page of projections
+     */
+    <T> Page<T> findAllBy(Pageable pageable, Class<T> type);
+
+    /**
+     * Find {@link News} object by id and map it into provided projection
+     *
+     * @param id   {@link News} object's id for search
+     * @param type projection type
+     * @param <T>  projection type
+     * @return found projection wrapped in {@link Optional}.
+     */
+    <T> Optional<T> findById(Long id, Class<T> type);
+
+    /**
+     * Find {@link News} object by it's title and map it into provided projection
+     *
+     * @param title {@link News} object's title for search
+     * @param type  projection type
+     * @param <T>   projection type
+     * @return found list of projections.
+     */
+    <T> List<T> findByTitle(String title, Class<T> type);
+
+    /**
+     * Find {@link News} object by it's title partially contains param and map it into provided projection
+     *
+     * @param title {@link News} object's title for search
+     * @param type  projection type
+     * @param <T>   projection type
+     * @return found list of projections.
+     */
+    <T> List<T> findByTitleContains(String title, Class<T> type);
+
+    /**
+     * Find {@link News} object by it's text and map it into provided projection
+     *
+     * @param text {@link News} object's text for search
+     * @param type projection type
+     * @param <T>  projection type
+     * @return found list of projections.
+     */
+    <T> List<T> findByText(String text, Class<T> type);
+
+    /**
+     * Find {@link News} object by it's text partially contains param and map it into provided projection
+     *
+     * @param text {@link News} object's text for search
+     * @param type projection type
+     * @param <T>  projection type
+     * @return found list of projections.
+     */
+    <T> List<T> findByTextContains(String text, Class<T> type);
+
+    /**
+     * Find {@link News} objects with provided ids by single query and map them into provided projection.
+     * Order of result is not defined
+     *
+     * @param ids  ids of {@link News} objects
+     * @param type projection type
+     * @param <T>  projection type
+     * @return found list of projections.
+     */
+    <T> List<T> findByIdIn(Collection<Long> ids, Class<T> type);
+
+    /**
+     * Update title and text of {@link News} object by single statement and increase it's versions,
+     * if it is owned by user with provided id or user is admin, and it has expected edit version
+     *
+     * @param id         {@link News} object's id
+     * @param title      new title of {@link News} object
+     * @param text       new text of {@link News} object
+     * @param userId     id of user that updates object
+     * @param admin      true if user is admin
+     * @param version    expected edit version of {@link News} object, see {@link NewsVersion}
+     * @param anyVersion true if version is not checked
+     * @return count of updated rows.
+     */
+    @Transactional
+    @Modifying
+    @Query("update News n set n.title = :title, n.text = :text,"
+            + " n.version = n.version + 1, n.editVersion = n.editVersion + 1"
+            + " where n.id = :id and (n.user.id = :userId or :admin = true)"
+            + " and (:anyVersion = true or n.editVersion = :version)")
+    int updateOwned(@Param("id") Long id, @Param("title") String title, @Param("text") String text,
+                    @Param("userId") Long userId, @Param("admin") boolean admin,
+                    @Param("version") long version, @Param("anyVersion") boolean anyVersion);
+
+    /**
+     * Find versions of {@link News} object
+     *
+     * @param id {@link News} object's id
+     * @return versions wrapped in {@link Optional}.
+     */
+    @Query("select n.version as version, n.editVersion as editVersion from News n where n.id = :id")
+    Optional<NewsVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Find ids of {@link News} objects of user and of {@link News} objects with comments of user.
+     * Must be called before user is deleted, as these news and comments are deleted by cascade
+     *
+     * @param userId id of user
+     * @return list of ids of {@link News}.
+     */
+    @Query("select n.id from News n where n.userId = :userId"
+            + " or exists (select c.id from Comment c where c.newsId = n.id and c.userId = :userId)")
+    List<Long> findIdsAffectedByUser(@Param("userId") Long userId);
+
+    /**
+     * Find newest {@link News} objects of user, ordered by date and id from newest to oldest
+     *
+     * @param userId   id of author
+     * @param pageable {@link Pageable} object, that limits count of news
+     * @return found list of projections.
+     */
+    @Query("select n.id as id, n.date as date, n.title as title, n.text as text, n.userId as userId,"
+            + " n.commentCount as commentCount"
+            + " from News n where n.userId = :userId order by n.date desc, n.id desc")
+    List<NewsSummary> findNewestByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Find {@link News} objects of user, that are older than provided position,
+     * ordered by date and id from newest to oldest
+     *
+     * @param userId   id of author
+     * @param date     date of last returned news
+     * @param id       id of last returned news
+     * @param pageable {@link Pageable} object, that limits count of news
+     * @return found list of projections.
+     */
+    @Query("select n.id as id, n.date as date, n.title as title, n.text as text, n.userId as userId,"
+            + " n.commentCount as commentCount"
+            + " from News n where n.userId = :userId and (n.date < :date or (n.date = :date and n.id < :id))"
+            + " order by n.date desc, n.id desc")
+    List<NewsSummary> findNewestByUserIdBefore(@Param("userId") Long userId, @Param("date") LocalDateTime date,
+                                               @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Add delta to comment counter of {@link News} object and increase it's version
+     *
+     * @param id    {@link News} object's id
+     * @param delta count of created comments, negative for deleted comments
+     * @return count of updated rows.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "counters"))
+    @Query(value = "update news set comment_count = comment_count + :delta, version = version + 1 where id = :id",
+            nativeQuery = true)
+    int addCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    /**
+     * Increase versions of {@link News} objects, which comments are changed
+     *
+     * @param ids ids of {@link News} objects
+     * @return count of updated rows.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "counters"))
+    @Query(value = "update news set version = version + 1 where id in :ids", nativeQuery = true)
+    int increaseVersions(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Subtract comments with provided ids from comment counters of their news and increase their versions.
+     * Must be called before comments are deleted
+     *
+     * @param commentIds ids of comments, that will be deleted
+     * @return count of updated rows.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "counters"))
+    @Query(value = "update news set comment_count = comment_count"
+            + " - (select count(*) from comment c where c.id in :ids and c.news_id = news.id),"
+            + " version = version + 1"
+            + " where id in (select c.news_id from comment c where c.id in :ids)", nativeQuery = true)
+    int subtractComments(@Param("ids") Collection<Long> commentIds);
+
+    /**
+     * Subtract comments of user from comment counters of their news and increase their versions.
+     * Must be called before user is deleted, as comments of user are deleted by cascade
+     *
+     * @param userId id of user, that will be deleted
+     * @return count of updated rows.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "counters"))
+    @Query(value = "update news set comment_count = comment_count"
+            + " - (select count(*) from comment c where c.user_id = :userId and c.news_id = news.id),"
+            + " version = version + 1"
+            + " where id in (select c.news_id from comment c where c.user_id = :userId)", nativeQuery = true)
+    int subtractCommentsOf(@Param("userId") Long userId);
+
+    /**
+     * Find ids of {@link News} objects, which comment counters differ from real count of comments
+     *
+     * @return found ids.
+     */
+    @Query(value = "select id from news"
+            + " where comment_count <> (select count(*) from comment c where c.news_id = news.id)", nativeQuery = true)
+    List<Long> findDriftedCommentCountIds();
+
+    /**
+     * Recount comment counters of {@link News} objects with provided ids, that differ from real count of comments
+     *
+     * @param ids ids of {@link News} objects, see {@link #findDriftedCommentCountIds}
+     * @return count of repaired rows.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "counters"))
+    @Query(value = "update news set comment_count = (select count(*) from comment c where c.news_id = news.id),"
+            + " version = version + 1"
+            + " where id in :ids"
+            + " and comment_count <> (select count(*) from comment c where c.news_id = news.id)", nativeQuery = true)
+    int reconcileCommentCounts(@Param("ids") Collection<Long> ids);
 }
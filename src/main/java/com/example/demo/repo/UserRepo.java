@@ -1,23 +1,38 @@
 package com.example.demo.repo;
 
 import com.example.demo.entity.User;
+import com.example.demo.repo.projection.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+import static org.hibernate.annotations.QueryHints.NATIVE_SPACES;
+
 /**
  * Data Access Object class.
  * Provides CRUD and other operations with {@link User} objects.
+ * Counters are changed by native statements in separate query space, that is not bound to cached users.
  */
 @Repository
 public interface UserRepo extends JpaRepository<User, Long> {
     /**
-     * Find {@link User} object by it's id in data storage
+     * Find {@link User} object by it's username in data storage.
+     * Result is kept in query cache and user in second-level cache, as principal is loaded on every request
      *
      * @param username {@link User} object's username for search
      * @return found {@link User} wrapped in {@link Optional}.
      */
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
 
     /**
@@ -27,4 +42,173 @@ public interface UserRepo extends JpaRepository<User, Long> {
      * @return true, if username is already taken
      */
     Boolean existsByUsername(String username);
+
+    /**
+     * Find all {@link User} objects and map them into provided projection.
+     * Only columns of projection are selected
+     *
+     * @param type projection type
+     * @param <T>  projection type
+     * @return list of projections
+     */
+    <T> List<T> findAllBy(Class<T> type);
+
+    /**
+     * Find {@link User} object by id and map it into provided projection
+     *
+     * @param id   {@link User} object's id for search
+     * @param type projection type
+     * @param <T>  projection type
+     * @return found projection wrapped in {@link Optional}.
+     */
+    <T> Optional<T> findById(Long id, Class<T> type);
+
+    /**
+     * Find {@link User} objects with provided ids by single query and map them into provided projection.
+     * Order of result is not defined
+     *
+     * @param ids  ids of {@link User} objects
+     * @param type projection type
+     * @param <T>  projection type
+     * @return found list of projections.
+     */
+    <T> List<T> findByIdIn(Collection<Long> ids, Class<T> type);
+
+    /**
+     * Find roles of {@link User} objects with provided ids by single query
+     *
+     * @param ids ids of {@link User} objects
+     * @return list of user id and role pairs.
+     */
+    @Query("select u.id as userId, r as role from User u join u.roles r where u.id in :ids")
+    List<UserRole> findRolesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Delete {@link User} object by single statement without loading it.
+     * Roles, news and comments of user are deleted by database cascade
+     *
+     * @param id {@link User} object's id
+     * @return count of deleted rows.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from User u where u.id = :id")
+    int removeById(@Param("id") Long id);
+
+    /**
+     * Add delta to news counter of {@link User} object
+     *
+     * @param id    {@link User} object's id
+     * @param delta count of created news, negative for deleted news
+     * @return count of updated rows.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "counters"))
+    @Query(value = "update app_user set news_count = news_count + :delta where id = :id", nativeQuery = true)
+    int addNewsCount(@Param("id") Long id, @Param("delta") long delta);
+
+    /**
+     * Add delta to comment counter of {@link User} object
+     *
+     * @param id    {@link User} object's id
+     * @param delta count of created comments, negative for deleted comments
+     * @return count of updated rows.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "counters"))
+    @Query(value = "update app_user set comment_count = comment_count + :delta where id = :id", nativeQuery = true)
+    int addCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    /**
+     * Subtract comments with provided ids from comment counters of their authors.
+     * Must be called before comments are deleted
+     *
+     * @param commentIds ids of comments, that will be deleted
+     * @return count of updated rows.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "counters"))
+    @Query(value = "update app_user set comment_count = comment_count"
+            + " - (select count(*) from comment c where c.id in :ids and c.user_id = app_user.id)"
+            + " where id in (select c.user_id from comment c where c.id in :ids)", nativeQuery = true)
+    int subtractComments(@Param("ids") Collection<Long> commentIds);
+
+    /**
+     * Subtract comments of news from comment counters of their authors,
+     * if news is owned by user with provided id or user is admin.
+     * Must be called before news is deleted, as it's comments are deleted by cascade
+     *
+     * @param newsId id of news, that will be deleted
+     * @param userId id of user that deletes news
+     * @param admin  true if user is admin
+     * @return count of updated rows.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "counters"))
+    @Query(value = "update app_user set comment_count = comment_count"
+            + " - (select count(*) from comment c where c.news_id = :newsId and c.user_id = app_user.id)"
+            + " where id in (select c.user_id from comment c where c.news_id = :newsId)"
+            + " and exists (select 1 from news n where n.id = :newsId and (n.user_id = :userId or :admin = true))",
+            nativeQuery = true)
+    int subtractCommentsOfOwnedNews(@Param("newsId") Long newsId, @Param("userId") Long userId,
+                                    @Param("admin") boolean admin);
+
+    /**
+     * Subtract comments on news of user from comment counters of their authors.
+     * Must be called before user is deleted, as news of user and their comments are deleted by cascade
+     *
+     * @param userId id of user, that will be deleted
+     * @return count of updated rows.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "counters"))
+    @Query(value = "update app_user set comment_count = comment_count"
+            + " - (select count(*) from comment c join news n on n.id = c.news_id"
+            + " where n.user_id = :userId and c.user_id = app_user.id)"
+            + " where id in (select c.user_id from comment c join news n on n.id = c.news_id where n.user_id = :userId)",
+            nativeQuery = true)
+    int subtractCommentsOnNewsOf(@Param("userId") Long userId);
+
+    /**
+     * Find ids of {@link User} objects, which news or comment counters differ from real count of news and comments
+     *
+     * @return found ids.
+     */
+    @Query(value = "select id from app_user"
+            + " where news_count <> (select count(*) from news n where n.user_id = app_user.id)"
+            + " or comment_count <> (select count(*) from comment c where c.user_id = app_user.id)", nativeQuery = true)
+    List<Long> findDriftedCountIds();
+
+    /**
+     * Recount news counters of {@link User} objects with provided ids, that differ from real count of news
+     *
+     * @param ids ids of {@link User} objects, see {@link #findDriftedCountIds}
+     * @return count of repaired rows.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "counters"))
+    @Query(value = "update app_user set news_count = (select count(*) from news n where n.user_id = app_user.id)"
+            + " where id in :ids"
+            + " and news_count <> (select count(*) from news n where n.user_id = app_user.id)", nativeQuery = true)
+    int reconcileNewsCounts(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Recount comment counters of {@link User} objects with provided ids, that differ from real count of comments
+     *
+     * @param ids ids of {@link User} objects, see {@link #findDriftedCountIds}
+     * @return count of repaired rows.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "counters"))
+    @Query(value = "update app_user set comment_count = (select count(*) from comment c where c.user_id = app_user.id)"
+            + " where id in :ids"
+            + " and comment_count <> (select count(*) from comment c where c.user_id = app_user.id)", nativeQuery = true)
+    int reconcileCommentCounts(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,18 @@
+package com.example.demo.repo.projection;
+
+import com.example.demo.entity.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of {@link Comment} without text and associations
+ */
+public interface CommentHeadline {
+    Long getId();
+
+    LocalDateTime getDate();
+
+    Long getUserId();
+
+    Long getNewsId();
+}
@@ -0,0 +1,10 @@
+package com.example.demo.repo.projection;
+
+import com.example.demo.entity.Comment;
+
+/**
+ * Projection of {@link Comment} with all columns, but without associations
+ */
+public interface CommentSummary extends CommentHeadline {
+    String getText();
+}
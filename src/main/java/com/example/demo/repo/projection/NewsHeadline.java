@@ -0,0 +1,21 @@
+package com.example.demo.repo.projection;
+
+import com.example.demo.entity.News;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of {@link News} without text and associations.
+ * Used for headline lists, when client doesn't request news text
+ */
+public interface NewsHeadline {
+    Long getId();
+
+    LocalDateTime getDate();
+
+    String getTitle();
+
+    Long getUserId();
+
+    long getCommentCount();
+}
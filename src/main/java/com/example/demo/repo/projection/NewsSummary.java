@@ -0,0 +1,10 @@
+package com.example.demo.repo.projection;
+
+import com.example.demo.entity.News;
+
+/**
+ * Projection of {@link News} with all columns, but without associations
+ */
+public interface NewsSummary extends NewsHeadline {
+    String getText();
+}
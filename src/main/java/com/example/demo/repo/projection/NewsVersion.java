@@ -0,0 +1,13 @@
+package com.example.demo.repo.projection;
+
+import com.example.demo.entity.News;
+
+/**
+ * Projection of versions of {@link News}.
+ * Version is increased by any change of news and of it's comments, edit version only by change of title and text
+ */
+public interface NewsVersion {
+    long getVersion();
+
+    long getEditVersion();
+}
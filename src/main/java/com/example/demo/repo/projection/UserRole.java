@@ -0,0 +1,13 @@
+package com.example.demo.repo.projection;
+
+import com.example.demo.entity.Role;
+import com.example.demo.entity.User;
+
+/**
+ * Pair of {@link User} id and one of it's roles
+ */
+public interface UserRole {
+    Long getUserId();
+
+    Role getRole();
+}
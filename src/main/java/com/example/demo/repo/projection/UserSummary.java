@@ -0,0 +1,20 @@
+package com.example.demo.repo.projection;
+
+import com.example.demo.entity.User;
+
+/**
+ * Projection of {@link User} columns without roles, news and comments, but with their counters
+ */
+public interface UserSummary {
+    Long getId();
+
+    String getUsername();
+
+    String getPassword();
+
+    boolean isActive();
+
+    long getNewsCount();
+
+    long getCommentCount();
+}
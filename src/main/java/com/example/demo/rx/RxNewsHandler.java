@@ -0,0 +1,112 @@
+package com.example.demo.rx;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.util.JsonFormat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Handler of reactive read API of news feed.
+ * Streams are written as length-delimited protobuf messages, or as JSON lines when client accepts
+ * {@code application/x-ndjson}, each message is written as soon as it is read, while client keeps up
+ */
+@Component
+@ConditionalOnProperty(name = "app.rx.enabled", havingValue = "true", matchIfMissing = true)
+public class RxNewsHandler {
+    public static final MediaType PROTOBUF = MediaType.parseMediaType("application/x-protobuf");
+
+    public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final JsonFormat.Printer JSON_PRINTER = JsonFormat.printer().omittingInsignificantWhitespace();
+
+    private final RxNewsRepo rxNewsRepo;
+
+    @Autowired
+    public RxNewsHandler(RxNewsRepo rxNewsRepo) {
+        this.rxNewsRepo = rxNewsRepo;
+    }
+
+    /**
+     * Streams news from newest to oldest, request accepts {@code before} id of last received news
+     * and {@code limit} of news
+     *
+     * @param request request
+     * @return stream of {@link com.example.demo.dto.NewsProto.NewsSimpleDto} without text
+     */
+    public Mono<ServerResponse> findNews(ServerRequest request) {
+        Long before;
+        long limit;
+        try {
+            before = positive(request.queryParam("before"), "before", null);
+            limit = positive(request.queryParam("limit"), "limit", Long.MAX_VALUE);
+        } catch (NumberFormatException e) {
+            return badRequest(e.getMessage());
+        }
+        return stream(request, rxNewsRepo.findNewest(before, limit));
+    }
+
+    /**
+     * Streams comments of news from newest to oldest, request accepts {@code limit} of comments
+     *
+     * @param request request with id of news in path
+     * @return stream of {@link com.example.demo.dto.CommentProto.CommentSimpleDto}, NOT_FOUND(404) for missing news
+     */
+    public Mono<ServerResponse> findComments(ServerRequest request) {
+        Long newsId;
+        long limit;
+        try {
+            newsId = positive(Optional.of(request.pathVariable("id")), "id", null);
+            limit = positive(request.queryParam("limit"), "limit", Long.MAX_VALUE);
+        } catch (NumberFormatException e) {
+            return badRequest(e.getMessage());
+        }
+        return rxNewsRepo.existsById(newsId)
+                .flatMap(exists -> exists
+                        ? stream(request, rxNewsRepo.findNewestComments(newsId, limit))
+                        : ServerResponse.notFound().build());
+    }
+
+    private static <T extends Message> Mono<ServerResponse> stream(ServerRequest request, Flux<T> messages) {
+        if (request.headers().accept().stream().anyMatch(NDJSON::equalsTypeAndSubtype)) {
+            return ServerResponse.ok().contentType(NDJSON).body(messages.map(RxNewsHandler::toJsonLine), String.class);
+        }
+        return ServerResponse.ok().contentType(PROTOBUF).body(messages, Message.class);
+    }
+
+    private static String toJsonLine(Message message) {
+        try {
+            return JSON_PRINTER.print(message) + "\n";
+        } catch (InvalidProtocolBufferException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private static Mono<ServerResponse> badRequest(String message) {
+        return ServerResponse.badRequest().contentType(MediaType.TEXT_PLAIN).bodyValue(message);
+    }
+
+    private static Long positive(Optional<String> value, String name, Long defaultValue) {
+        if (!value.isPresent()) {
+            return defaultValue;
+        }
+        try {
+            long parsed = Long.parseLong(value.get());
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            //Reported below with name of parameter
+        }
+        throw new NumberFormatException("Error in data: " + name + " '" + value.get() + "' is not valid");
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.demo.rx;
+
+import com.example.demo.config.RxProperties;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static com.example.demo.dto.CommentProto.CommentSimpleDto;
+import static com.example.demo.dto.NewsProto.NewsSimpleDto;
+
+/**
+ * Reactive Data Access Object of news feed.
+ * Rows are fetched while client reads stream, so slow client never makes server hold whole result.
+ * Pool of R2DBC connections is not a bean, because any R2DBC connection factory bean
+ * replaces JDBC data source of the rest of application
+ */
+@Component
+@ConditionalOnProperty(name = "app.rx.enabled", havingValue = "true", matchIfMissing = true)
+public class RxNewsRepo implements DisposableBean {
+    private final ConnectionPool connectionPool;
+
+    private final DatabaseClient databaseClient;
+
+    private final int fetchSize;
+
+    @Autowired
+    public RxNewsRepo(RxProperties properties) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate();
+        if (properties.getUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .maxSize(properties.getPoolSize())
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.fetchSize = properties.getFetchSize();
+    }
+
+    /**
+     * Find news from newest to oldest
+     *
+     * @param before id of last received news, null for newest news
+     * @param limit  max count of news
+     * @return stream of news without text
+     */
+    public Flux<NewsSimpleDto> findNewest(Long before, long limit) {
+        return databaseClient.sql("select id, date, title, user_id, comment_count from news"
+                        + " where id < :before order by id desc limit :limit")
+                .bind("before", before == null ? Long.MAX_VALUE : before)
+                .bind("limit", (int) Math.min(limit, Integer.MAX_VALUE))
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(RxNewsRepo::toNews)
+                .all();
+    }
+
+    /**
+     * Find comments of news from newest to oldest
+     *
+     * @param newsId id of news
+     * @param limit  max count of comments
+     * @return stream of comments
+     */
+    public Flux<CommentSimpleDto> findNewestComments(Long newsId, long limit) {
+        return databaseClient.sql("select id, date, text, user_id, news_id from comment"
+                        + " where news_id = :newsId order by date desc, id desc limit :limit")
+                .bind("newsId", newsId)
+                .bind("limit", (int) Math.min(limit, Integer.MAX_VALUE))
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(RxNewsRepo::toComment)
+                .all();
+    }
+
+    /**
+     * Check that news exists
+     *
+     * @param id id of news
+     * @return true if news exists
+     */
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("select id from news where id = :id")
+                .bind("id", id)
+                .map(row -> true)
+                .first()
+                .defaultIfEmpty(false);
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static NewsSimpleDto toNews(Row row) {
+        return NewsSimpleDto.newBuilder()
+                .setId(row.get("id", Long.class))
+                .setDate(row.get("date", LocalDateTime.class).toString())
+                .setTitle(row.get("title", String.class))
+                .setUserId(row.get("user_id", Long.class))
+                .setCommentCount(row.get("comment_count", Long.class))
+                .build();
+    }
+
+    private static CommentSimpleDto toComment(Row row) {
+        return CommentSimpleDto.newBuilder()
+                .setId(row.get("id", Long.class))
+                .setDate(row.get("date", LocalDateTime.class).toString())
+                .setText(row.get("text", String.class))
+                .setUserId(row.get("user_id", Long.class))
+                .setNewsId(row.get("news_id", Long.class))
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.demo.rx;
+
+import com.example.demo.config.RxProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.protobuf.ProtobufEncoder;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+/**
+ * Event loop server of reactive read API.
+ * Servlet container of application can't serve WebFlux handlers, so reactive API is served
+ * by Reactor Netty on own port, side by side with servlet API. API is read-only and public
+ */
+@Component
+@ConditionalOnProperty(name = "app.rx.enabled", havingValue = "true", matchIfMissing = true)
+public class RxServer implements SmartLifecycle {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final RouterFunction<ServerResponse> routes;
+
+    private final RxProperties properties;
+
+    private volatile DisposableServer server;
+
+    @Autowired
+    public RxServer(RxNewsHandler handler, RxProperties properties) {
+        this.routes = routes(handler);
+        this.properties = properties;
+    }
+
+    /**
+     * Method which builds routes of reactive read API
+     *
+     * @param handler handler of news feed
+     * @return routes
+     */
+    public static RouterFunction<ServerResponse> routes(RxNewsHandler handler) {
+        return RouterFunctions.route(GET("/api/rx/news"), handler::findNews)
+                .andRoute(GET("/api/rx/news/{id}/comments"), handler::findComments);
+    }
+
+    /**
+     * Method which builds strategies of reactive read API, protobuf messages are written length-delimited
+     *
+     * @return strategies
+     */
+    public static HandlerStrategies strategies() {
+        return HandlerStrategies.builder()
+                .codecs(configurer -> configurer.customCodecs().register(new ProtobufEncoder()))
+                .build();
+    }
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .port(properties.getPort())
+                .handle(new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(routes, strategies())))
+                .bindNow();
+        logger.info("Reactive read API started on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Method which returns bound port of reactive server
+     *
+     * @return port, -1 if server is not running
+     */
+    public int getPort() {
+        DisposableServer current = server;
+        return current == null ? -1 : current.port();
+    }
+}
@@ -2,10 +2,13 @@ package com.example.demo.service;
 
 import com.example.demo.entity.Comment;
 import com.example.demo.entity.News;
-import com.example.demo.exception.comment.CommentNotFoundException;
 import com.example.demo.exception.request.BadRequestParametersException;
+import com.example.demo.repo.projection.CommentSummary;
+import com.example.demo.util.Cursor;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -64,27 +67,151 @@ public interface CommentCrudService {
     List<Comment> findByTextContains(String text);
 
     /**
-     * Save {@link Comment} object to save
+     * Save {@link Comment} object to save and increase comment counters of it's author and news
      *
      * @param comment {@link Comment} object to save
      */
     void save(Comment comment);
 
     /**
-     * Update {@link Comment} object
+     * Update text of {@link Comment} object by single statement and increase version of it's news.
+     * Object is updated only if it is owned by user with provided id or user is admin,
+     * and version of object equals version of {@link Comment} object to update, when it is set
      *
      * @param id      {@link Comment} from request url
      * @param comment {@link Comment} object to update
+     * @param userId  id of user that updates object
+     * @param admin   true if user is admin
+     * @return count of updated objects, 0 when there is no such object or user is not owner
      * @throws BadRequestParametersException when id from url not equal with id from {@link Comment} object
-     * @throws CommentNotFoundException      when there is no {@link Comment} object in database with provided id
      */
-    void update(Long id, Comment comment);
+    int update(Long id, Comment comment, Long userId, boolean admin);
 
     /**
-     * Delete {@link Comment} object by id
+     * Delete {@link Comment} object by id by single statement and decrease comment counters of it's author and news.
+     * Object is deleted only if it is owned by user with provided id or user is admin
      *
-     * @param id {@link Comment} object to delete
-     * @throws CommentNotFoundException when there is no {@link Comment} object in database with provided id
+     * @param id     {@link Comment} object to delete
+     * @param userId id of user that deletes object
+     * @param admin  true if user is admin
+     * @return count of deleted objects, 0 when there is no such object or user is not owner
      */
-    void deleteById(Long id);
+    int deleteById(Long id, Long userId, boolean admin);
+
+    /**
+     * Find version of {@link Comment} object, which is changed only by changes of comment
+     *
+     * @param id {@link Comment} object's id
+     * @return version wrapped in {@link Optional}
+     */
+    Optional<Long> findVersion(Long id);
+
+    /**
+     * Check existence of {@link Comment} object with provided id
+     *
+     * @param id {@link Comment} object's id
+     * @return true if object exists.
+     */
+    boolean existsById(Long id);
+
+    /**
+     * Find all {@link Comment} objects mapped into projection
+     *
+     * @param type projection type
+     * @param <T>  projection type
+     * @return list of projections.
+     */
+    <T> List<T> findAll(Class<T> type);
+
+    /**
+     * Find all {@link Comment} objects by pages mapped into projection
+     *
+     * @param page page number
+     * @param size page size
+     * @param type projection type
+     * @param <T>  projection type
+     * @return list of projections for provided page.
+     */
+    <T> List<T> findAll(Integer page, Integer size, Class<T> type);
+
+    /**
+     * Find {@link Comment} object by id mapped into projection
+     *
+     * @param id   {@link Comment} object to find object by id.
+     * @param type projection type
+     * @param <T>  projection type
+     * @return projection wrapped into {@link Optional}
+     */
+    <T> Optional<T> findById(Long id, Class<T> type);
+
+    /**
+     * Find {@link Comment} objects by text mapped into projection
+     *
+     * @param text {@link Comment} object to find object by text
+     * @param type projection type
+     * @param <T>  projection type
+     * @return list of projections that have provided text.
+     */
+    <T> List<T> findByText(String text, Class<T> type);
+
+    /**
+     * Find {@link Comment} objects by text partially contains param mapped into projection
+     *
+     * @param text {@link Comment} object to find object by text
+     * @param type projection type
+     * @param <T>  projection type
+     * @return list of projections that have provided text.
+     */
+    <T> List<T> findByTextContains(String text, Class<T> type);
+
+    /**
+     * Find {@link Comment} objects with provided ids mapped into projection
+     *
+     * @param ids  ids of {@link Comment} objects
+     * @param type projection type
+     * @param <T>  projection type
+     * @return list of found projections in undefined order.
+     */
+    <T> List<T> findByIds(Collection<Long> ids, Class<T> type);
+
+    /**
+     * Apply batch of changes to {@link Comment} objects in single transaction, along with counters of authors and news.
+     * Texts are updated and comments are deleted without loading them,
+     * so all objects must be checked for existence and rights before call
+     *
+     * @param created    new {@link Comment} objects to save
+     * @param texts      new texts of {@link Comment} objects by ids
+     * @param deletedIds ids of {@link Comment} objects to delete
+     */
+    void applyBatch(List<Comment> created, Map<Long, String> texts, Collection<Long> deletedIds);
+
+    /**
+     * Find newest {@link Comment} objects of {@link News} object, that are older than provided position
+     *
+     * @param newsId {@link News} object's id
+     * @param before {@link Cursor} of last returned comment, null for first page
+     * @param size   max count of comments
+     * @return list of projections ordered from newest to oldest.
+     */
+    List<CommentSummary> findNewestByNewsId(Long newsId, Cursor before, Integer size);
+
+    /**
+     * Find {@link Comment} objects of {@link News} object, that were created after provided one
+     *
+     * @param newsId {@link News} object's id
+     * @param after  id of last known comment
+     * @param size   max count of comments
+     * @return list of projections ordered from oldest to newest.
+     */
+    List<CommentSummary> findByNewsIdAfter(Long newsId, Long after, Integer size);
+
+    /**
+     * Find newest {@link Comment} objects of user, that are older than provided position
+     *
+     * @param userId id of author
+     * @param before {@link Cursor} of last returned comment, null for first page
+     * @param size   max count of comments
+     * @return list of projections ordered from newest to oldest.
+     */
+    List<CommentSummary> findNewestByUserId(Long userId, Cursor before, Integer size);
 }
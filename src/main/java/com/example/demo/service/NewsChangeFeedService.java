@@ -0,0 +1,45 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.News;
+import com.example.demo.entity.NewsChange;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Interface for change feed of {@link News}.
+ * Every change of news gets number from increasing change sequence,
+ * so clients receive only changes made after last known number
+ */
+public interface NewsChangeFeedService {
+    /**
+     * Records creation of {@link News} in current transaction
+     *
+     * @param newsId id of created {@link News}
+     */
+    void recordCreated(Long newsId);
+
+    /**
+     * Records change or deletion of {@link News} in current transaction
+     *
+     * @param newsIds ids of changed or deleted {@link News}
+     */
+    void recordChanged(Collection<Long> newsIds);
+
+    /**
+     * Find {@link NewsChange} objects made after provided change, in order of changes.
+     * Only last change of each {@link News} is kept
+     *
+     * @param since number of last known change, 0 for all news
+     * @param size  max count of changes
+     * @return list of {@link NewsChange} objects
+     */
+    List<NewsChange> findChanges(long since, int size);
+
+    /**
+     * Find number of last {@link NewsChange}
+     *
+     * @return number of last change, 0 if there are no changes
+     */
+    long findLastSeq();
+}
@@ -1,9 +1,12 @@
 package com.example.demo.service;
 
 import com.example.demo.entity.News;
-import com.example.demo.exception.news.NewsNotFoundException;
 import com.example.demo.exception.request.BadRequestParametersException;
+import com.example.demo.repo.projection.NewsSummary;
+import com.example.demo.repo.projection.NewsVersion;
+import com.example.demo.util.Cursor;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +38,15 @@ public interface NewsCrudService {
      */
     Optional<News> findById(Long id);
 
+    /**
+     * Get reference to {@link News} object by id without loading it.
+     * Existence of object is not checked
+     *
+     * @param id {@link News} object's id
+     * @return {@link News} reference.
+     */
+    News getReference(Long id);
+
     /**
      * Find {@link News} objects by text
      *
@@ -68,27 +80,140 @@ public interface NewsCrudService {
     List<News> findByTextContains(String text);
 
     /**
-     * Save {@link News} object to save
+     * Save {@link News} object to save and increase news counter of it's author
      *
      * @param news {@link News} object to save
      */
     void save(News news);
 
     /**
-     * Update {@link News} object
+     * Update title and text of {@link News} object by single statement.
+     * Object is updated only if it is owned by user with provided id or user is admin,
+     * and edit version of object equals version of {@link News} object to update, when it is set
      *
-     * @param id   {@link News} from request url
-     * @param news {@link News} object to update
+     * @param id     {@link News} from request url
+     * @param news   {@link News} object to update
+     * @param userId id of user that updates object
+     * @param admin  true if user is admin
+     * @return count of updated objects, 0 when there is no such object or user is not owner
      * @throws BadRequestParametersException when id from url not equal with id from {@link News} object
-     * @throws NewsNotFoundException         when there is no {@link News} object in database with provided id
      */
-    void update(Long id, News news);
+    int update(Long id, News news, Long userId, boolean admin);
+
+    /**
+     * Delete {@link News} object by id by single statement and decrease counters of authors of news and it's comments.
+     * Object is deleted only if it is owned by user with provided id or user is admin
+     *
+     * @param id     {@link News} object to delete
+     * @param userId id of user that deletes object
+     * @param admin  true if user is admin
+     * @return count of deleted objects, 0 when there is no such object or user is not owner
+     */
+    int deleteById(Long id, Long userId, boolean admin);
+
+    /**
+     * Find versions of {@link News} object
+     *
+     * @param id {@link News} object's id
+     * @return versions wrapped in {@link Optional}
+     */
+    Optional<NewsVersion> findVersion(Long id);
+
+    /**
+     * Check existence of {@link News} object with provided id
+     *
+     * @param id {@link News} object's id
+     * @return true if object exists.
+     */
+    boolean existsById(Long id);
+
+    /**
+     * Find all {@link News} objects mapped into projection
+     *
+     * @param type projection type
+     * @param <T>  projection type
+     * @return list of projections.
+     */
+    <T> List<T> findAll(Class<T> type);
+
+    /**
+     * Find all {@link News} objects by pages mapped into projection
+     *
+     * @param page page number
+     * @param size page size
+     * @param type projection type
+     * @param <T>  projection type
+     * @return list of projections for provided page.
+     */
+    <T> List<T> findAll(Integer page, Integer size, Class<T> type);
+
+    /**
+     * Find {@link News} object by id mapped into projection
+     *
+     * @param id   {@link News} object to find object by id.
+     * @param type projection type
+     * @param <T>  projection type
+     * @return projection wrapped into {@link Optional}
+     */
+    <T> Optional<T> findById(Long id, Class<T> type);
+
+    /**
+     * Find {@link News} objects by title mapped into projection
+     *
+     * @param title {@link News} object to find object by title
+     * @param type  projection type
+     * @param <T>   projection type
+     * @return list of projections that have provided title.
+     */
+    <T> List<T> findByTitle(String title, Class<T> type);
+
+    /**
+     * Find {@link News} objects by title partially contains param mapped into projection
+     *
+     * @param title {@link News} object to find object by title
+     * @param type  projection type
+     * @param <T>   projection type
+     * @return list of projections that have provided title.
+     */
+    <T> List<T> findByTitleContains(String title, Class<T> type);
+
+    /**
+     * Find {@link News} objects by text mapped into projection
+     *
+     * @param text {@link News} object to find object by text
+     * @param type projection type
+     * @param <T>  projection type
+     * @return list of projections that have provided text.
+     */
+    <T> List<T> findByText(String text, Class<T> type);
+
+    /**
+     * Find {@link News} objects by text partially contains param mapped into projection
+     *
+     * @param text {@link News} object to find object by text
+     * @param type projection type
+     * @param <T>  projection type
+     * @return list of projections that have provided text.
+     */
+    <T> List<T> findByTextContains(String text, Class<T> type);
+
+    /**
+     * Find {@link News} objects with provided ids mapped into projection
+     *
+     * @param ids  ids of {@link News} objects
+     * @param type projection type
+     * @param <T>  projection type
+     * @return list of found projections in undefined order.
+     */
+    <T> List<T> findByIds(Collection<Long> ids, Class<T> type);
 
     /**
-     * Delete {@link News} object by id
+     * Find newest {@link News} objects of user, that are older than provided position
      *
-     * @param id {@link News} object to delete
-     * @throws NewsNotFoundException when there is no {@link News} object in database with provided id
+     * @param userId id of author
+     * @param before {@link Cursor} of last returned news, null for first page
+     * @param size   max count of news
+     * @return list of projections ordered from newest to oldest.
      */
-    void deleteById(Long id);
+    List<NewsSummary> findNewestByUserId(Long userId, Cursor before, Integer size);
 }
@@ -3,7 +3,9 @@ package com.example.demo.service;
 import com.example.demo.entity.User;
 import com.example.demo.exception.request.BadRequestParametersException;
 import com.example.demo.exception.user.UserNotFoundException;
+import com.example.demo.repo.projection.UserRole;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +21,15 @@ public interface UserCrudService {
      */
     Optional<User> findById(Long id);
 
+    /**
+     * Get reference to {@link User} object by id without loading it.
+     * Existence of object is not checked
+     *
+     * @param id {@link User} object's id
+     * @return {@link User} reference.
+     */
+    User getReference(Long id);
+
     /**
      * Find all {@link User} objects
      *
@@ -44,10 +55,47 @@ public interface UserCrudService {
     void update(Long id, User user);
 
     /**
-     * Delete {@link User} object by id
+     * Delete {@link User} object by id by single statement
      *
      * @param id {@link User} object to delete
      * @throws UserNotFoundException when there is no {@link User} object in database with provided id
      */
     void deleteById(Long id);
+
+    /**
+     * Find all {@link User} objects mapped into projection
+     *
+     * @param type projection type
+     * @param <T>  projection type
+     * @return list of projections.
+     */
+    <T> List<T> findAll(Class<T> type);
+
+    /**
+     * Find {@link User} object by id mapped into projection
+     *
+     * @param id   {@link User} object to find object by id.
+     * @param type projection type
+     * @param <T>  projection type
+     * @return projection wrapped into {@link Optional}
+     */
+    <T> Optional<T> findById(Long id, Class<T> type);
+
+    /**
+     * Find {@link User} objects with provided ids mapped into projection
+     *
+     * @param ids  ids of {@link User} objects
+     * @param type projection type
+     * @param <T>  projection type
+     * @return list of found projections in undefined order.
+     */
+    <T> List<T> findByIds(Collection<Long> ids, Class<T> type);
+
+    /**
+     * Find roles of {@link User} objects with provided ids
+     *
+     * @param ids ids of {@link User} objects
+     * @return list of user id and role pairs.
+     */
+    List<UserRole> findRolesByIds(Collection<Long> ids);
 }
@@ -1,18 +1,31 @@
 package com.example.demo.service.impl;
 
+import com.example.demo.cache.CacheEvent;
+import com.example.demo.cache.InvalidationBus;
 import com.example.demo.entity.Comment;
-import com.example.demo.exception.comment.CommentNotFoundException;
 import com.example.demo.exception.request.BadRequestParametersException;
 import com.example.demo.repo.CommentRepo;
+import com.example.demo.repo.NewsRepo;
+import com.example.demo.repo.UserRepo;
+import com.example.demo.repo.projection.CommentHeadline;
+import com.example.demo.repo.projection.CommentSummary;
 import com.example.demo.service.CommentCrudService;
+import com.example.demo.util.Cursor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Provides CRUD operation with {@link Comment}
@@ -22,56 +35,90 @@ import java.util.Optional;
 public class CommentService implements CommentCrudService {
     private final CommentRepo commentRepo;
 
+    private final NewsRepo newsRepo;
+
+    private final UserRepo userRepo;
+
+    private final InvalidationBus invalidationBus;
+
+    private final NewsChangeService newsChangeService;
+
     @Autowired
-    public CommentService(CommentRepo commentRepo) {
+    public CommentService(CommentRepo commentRepo, NewsRepo newsRepo, UserRepo userRepo,
+                          InvalidationBus invalidationBus, NewsChangeService newsChangeService) {
         this.commentRepo = commentRepo;
+        this.newsRepo = newsRepo;
+        this.userRepo = userRepo;
+        this.invalidationBus = invalidationBus;
+        this.newsChangeService = newsChangeService;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Comment> findById(Long id) {
         return commentRepo.findById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Comment> findAll() {
         return commentRepo.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Comment> findAll(Integer page, Integer size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("date"));
         return commentRepo.findAll(pageable).getContent();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Comment> findByNewsId(Long newsId, Integer page, Integer size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("date"));
         return commentRepo.findByNewsId(newsId, pageable).getContent();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Comment> findByText(String text) {
         return commentRepo.findByText(text);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Comment> findByTextContains(String text) {
         return commentRepo.findByTextContains(text);
     }
 
     @Override
+    @Transactional
     public void save(Comment comment) {
-        commentRepo.save(comment);
+        //Insert is flushed at once, so missing news is reported by this call and not by commit
+        commentRepo.saveAndFlush(comment);
+        userRepo.addCommentCount(comment.getUser().getId(), 1);
+        newsRepo.addCommentCount(comment.getNews().getId(), 1);
+        invalidationBus.publish(CacheEvent.Entity.COMMENT, comment.getId());
+        invalidationBus.publish(CacheEvent.Entity.NEWS, comment.getNews().getId());
+        //Comment count of news is changed
+        newsChangeService.recordChanged(Collections.singleton(comment.getNews().getId()));
     }
 
     @Override
-    public void update(Long id, Comment comment) {
+    @Transactional
+    public int update(Long id, Comment comment, Long userId, boolean admin) {
         if (comment != null && id.equals(comment.getId())) {
-            if (commentRepo.existsById(comment.getId())) {
-                commentRepo.save(comment);
-            } else {
-                throw new CommentNotFoundException(comment.getId());
+            Long version = comment.getVersion();
+            int updated = commentRepo.updateOwned(id, comment.getText(), userId, admin,
+                    version == null ? 0 : version, version == null);
+            if (updated > 0) {
+                //Comments are embedded into news, so version of news is increased too
+                List<Long> newsIds = commentRepo.findNewsIdsByIdIn(Collections.singleton(id));
+                newsRepo.increaseVersions(newsIds);
+                invalidationBus.publish(CacheEvent.Entity.COMMENT, id);
+                invalidationBus.publish(CacheEvent.Entity.NEWS, newsIds);
             }
+            return updated;
         } else {
             throw new BadRequestParametersException("Error in data:" +
                     " path variable id must be not null and equal to employee id");
@@ -79,11 +126,131 @@ public class CommentService implements CommentCrudService {
     }
 
     @Override
-    public void deleteById(Long id) {
-        if (commentRepo.existsById(id)) {
-            commentRepo.deleteById(id);
-        } else {
-            throw new CommentNotFoundException(id);
+    @Transactional
+    public int deleteById(Long id, Long userId, boolean admin) {
+        //Author and news are returned by delete itself, denied delete doesn't lock them by counter updates
+        Optional<CommentHeadline> comment = commentRepo.deleteOwned(id, userId, admin);
+        if (!comment.isPresent()) {
+            return 0;
+        }
+        userRepo.addCommentCount(comment.get().getUserId(), -1);
+        newsRepo.addCommentCount(comment.get().getNewsId(), -1);
+        invalidationBus.publish(CacheEvent.Entity.COMMENT, id);
+        invalidationBus.publish(CacheEvent.Entity.NEWS, comment.get().getNewsId());
+        newsChangeService.recordChanged(Collections.singleton(comment.get().getNewsId()));
+        return 1;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsById(Long id) {
+        return commentRepo.existsById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersion(Long id) {
+        return commentRepo.findVersionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> findAll(Class<T> type) {
+        return commentRepo.findAllBy(type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> findAll(Integer page, Integer size, Class<T> type) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("date"));
+        return commentRepo.findAllBy(pageable, type).getContent();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> Optional<T> findById(Long id, Class<T> type) {
+        return commentRepo.findById(id, type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> findByText(String text, Class<T> type) {
+        return commentRepo.findByText(text, type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> findByTextContains(String text, Class<T> type) {
+        return commentRepo.findByTextContains(text, type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> findByIds(Collection<Long> ids, Class<T> type) {
+        return commentRepo.findByIdIn(ids, type);
+    }
+
+    @Override
+    @Transactional
+    public void applyBatch(List<Comment> created, Map<Long, String> texts, Collection<Long> deletedIds) {
+        Set<Long> changedIds = new HashSet<>(texts.keySet());
+        changedIds.addAll(deletedIds);
+        List<Long> changedNewsIds = changedIds.isEmpty()
+                ? Collections.emptyList()
+                : commentRepo.findNewsIdsByIdIn(changedIds);
+        commentRepo.saveAll(created);
+        created.stream()
+                .collect(Collectors.groupingBy(comment -> comment.getUser().getId(), Collectors.counting()))
+                .forEach(userRepo::addCommentCount);
+        created.stream()
+                .collect(Collectors.groupingBy(comment -> comment.getNews().getId(), Collectors.counting()))
+                .forEach(newsRepo::addCommentCount);
+        commentRepo.updateTexts(texts);
+        if (!changedNewsIds.isEmpty()) {
+            newsRepo.increaseVersions(changedNewsIds);
+        }
+        if (!deletedIds.isEmpty()) {
+            userRepo.subtractComments(deletedIds);
+            newsRepo.subtractComments(deletedIds);
+            commentRepo.deleteByIds(deletedIds);
+        }
+        invalidationBus.publish(CacheEvent.Entity.COMMENT,
+                created.stream().map(Comment::getId).collect(Collectors.toList()));
+        invalidationBus.publish(CacheEvent.Entity.COMMENT, texts.keySet());
+        invalidationBus.publish(CacheEvent.Entity.COMMENT, deletedIds);
+        Set<Long> createdNewsIds = created.stream()
+                .map(comment -> comment.getNews().getId())
+                .collect(Collectors.toSet());
+        invalidationBus.publish(CacheEvent.Entity.NEWS, changedNewsIds);
+        invalidationBus.publish(CacheEvent.Entity.NEWS, createdNewsIds);
+        //News of updated comments are sent to change feed too: their rows are the same, but it saves query
+        newsChangeService.recordChanged(changedNewsIds);
+        newsChangeService.recordChanged(createdNewsIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommentSummary> findNewestByNewsId(Long newsId, Cursor before, Integer size) {
+        Pageable pageable = PageRequest.of(0, size);
+        if (before == null) {
+            return commentRepo.findNewestByNewsId(newsId, pageable);
+        }
+        return commentRepo.findNewestByNewsIdBefore(newsId, before.getDate(), before.getId(), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommentSummary> findByNewsIdAfter(Long newsId, Long after, Integer size) {
+        return commentRepo.findByNewsIdAfter(newsId, after, PageRequest.of(0, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommentSummary> findNewestByUserId(Long userId, Cursor before, Integer size) {
+        Pageable pageable = PageRequest.of(0, size);
+        if (before == null) {
+            return commentRepo.findNewestByUserId(userId, pageable);
         }
+        return commentRepo.findNewestByUserIdBefore(userId, before.getDate(), before.getId(), pageable);
     }
-}
\ No newline at end of file
+}
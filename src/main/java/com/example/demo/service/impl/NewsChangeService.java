@@ -0,0 +1,122 @@
+package com.example.demo.service.impl;
+
+import com.example.demo.entity.ChangeSequence;
+import com.example.demo.entity.News;
+import com.example.demo.entity.NewsChange;
+import com.example.demo.repo.ChangeSequenceRepo;
+import com.example.demo.repo.NewsChangeRepo;
+import com.example.demo.service.NewsChangeFeedService;
+import com.example.demo.util.IdLists;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Provides change feed of {@link News}
+ * Calls a method from {@link NewsChangeRepo}
+ */
+@Service
+public class NewsChangeService implements NewsChangeFeedService {
+    private final NewsChangeRepo newsChangeRepo;
+
+    private final ChangeSequenceRepo changeSequenceRepo;
+
+    @Autowired
+    public NewsChangeService(NewsChangeRepo newsChangeRepo, ChangeSequenceRepo changeSequenceRepo) {
+        this.newsChangeRepo = newsChangeRepo;
+        this.changeSequenceRepo = changeSequenceRepo;
+    }
+
+    @Override
+    public void recordCreated(Long newsId) {
+        pendingChanges().put(newsId, true);
+    }
+
+    @Override
+    public void recordChanged(Collection<Long> newsIds) {
+        Map<Long, Boolean> changes = pendingChanges();
+        newsIds.forEach(id -> changes.putIfAbsent(id, false));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NewsChange> findChanges(long since, int size) {
+        return newsChangeRepo.findBySeqGreaterThanOrderBySeq(since, PageRequest.of(0, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long findLastSeq() {
+        return newsChangeRepo.findLastSeq();
+    }
+
+    //Values tell whether news was created by transaction
+    @SuppressWarnings("unchecked")
+    private Map<Long, Boolean> pendingChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Changes of news are recorded only inside transaction");
+        }
+        Map<Long, Boolean> changes = (Map<Long, Boolean>) TransactionSynchronizationManager.getResource(this);
+        if (changes != null) {
+            return changes;
+        }
+        Map<Long, Boolean> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                write(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(NewsChangeService.this);
+            }
+        });
+        return created;
+    }
+
+    //Sequence is locked from numbering of changes till commit, so changes are numbered in order of commits
+    //and client never skips change, that is committed after newer one
+    private void write(Map<Long, Boolean> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        ChangeSequence sequence = changeSequenceRepo.findForUpdateById(ChangeSequence.NEWS)
+                .orElseGet(() -> {
+                    ChangeSequence created = new ChangeSequence();
+                    created.setId(ChangeSequence.NEWS);
+                    return created;
+                });
+        long seq = sequence.getLastSeq();
+
+        List<Long> ids = new ArrayList<>(changes.keySet());
+        Collections.sort(ids);
+        Map<Long, NewsChange> existing = IdLists.byId(newsChangeRepo.findAllById(ids), NewsChange::getNewsId);
+        List<NewsChange> written = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            seq++;
+            NewsChange change = existing.get(id);
+            if (change == null) {
+                change = new NewsChange();
+                change.setNewsId(id);
+                change.setCreatedSeq(changes.get(id) ? seq : 0);
+            }
+            change.setSeq(seq);
+            written.add(change);
+        }
+        sequence.setLastSeq(seq);
+        changeSequenceRepo.save(sequence);
+        newsChangeRepo.saveAll(written);
+    }
+}
@@ -1,16 +1,24 @@
 package com.example.demo.service.impl;
 
+import com.example.demo.cache.CacheEvent;
+import com.example.demo.cache.InvalidationBus;
 import com.example.demo.entity.News;
-import com.example.demo.exception.news.NewsNotFoundException;
 import com.example.demo.exception.request.BadRequestParametersException;
 import com.example.demo.repo.NewsRepo;
+import com.example.demo.repo.UserRepo;
+import com.example.demo.repo.projection.NewsSummary;
+import com.example.demo.repo.projection.NewsVersion;
 import com.example.demo.service.NewsCrudService;
+import com.example.demo.util.Cursor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,60 +30,90 @@ import java.util.Optional;
 public class NewsService implements NewsCrudService {
     private final NewsRepo newsRepo;
 
+    private final UserRepo userRepo;
+
+    private final InvalidationBus invalidationBus;
+
+    private final NewsChangeService newsChangeService;
+
     @Autowired
-    public NewsService(NewsRepo newsRepo) {
+    public NewsService(NewsRepo newsRepo, UserRepo userRepo, InvalidationBus invalidationBus,
+                       NewsChangeService newsChangeService) {
         this.newsRepo = newsRepo;
+        this.userRepo = userRepo;
+        this.invalidationBus = invalidationBus;
+        this.newsChangeService = newsChangeService;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<News> findAll() {
         return newsRepo.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<News> findAll(Integer page, Integer size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("date"));
         return newsRepo.findAll(pageable).getContent();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<News> findById(Long id) {
         return newsRepo.findById(id);
     }
 
     @Override
+    public News getReference(Long id) {
+        return newsRepo.getById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<News> findByTitle(String title) {
         return newsRepo.findByTitle(title);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<News> findByTitleContains(String title) {
         return newsRepo.findByTitleContains(title);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<News> findByText(String text) {
         return newsRepo.findByText(text);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<News> findByTextContains(String text) {
         return newsRepo.findByTextContains(text);
     }
 
     @Override
+    @Transactional
     public void save(News news) {
         newsRepo.save(news);
+        userRepo.addNewsCount(news.getUser().getId(), 1);
+        invalidationBus.publish(CacheEvent.Entity.NEWS, news.getId());
+        newsChangeService.recordCreated(news.getId());
     }
 
     @Override
-    public void update(Long id, News news) {
+    @Transactional
+    public int update(Long id, News news, Long userId, boolean admin) {
         if (news != null && id.equals(news.getId())) {
-            if (newsRepo.existsById(news.getId())) {
-                newsRepo.save(news);
-            } else {
-                throw new NewsNotFoundException(news.getId());
+            Long version = news.getVersion();
+            int updated = newsRepo.updateOwned(id, news.getTitle(), news.getText(), userId, admin,
+                    version == null ? 0 : version, version == null);
+            if (updated > 0) {
+                invalidationBus.publish(CacheEvent.Entity.NEWS, id);
+                newsChangeService.recordChanged(Collections.singleton(id));
             }
+            return updated;
         } else {
             throw new BadRequestParametersException("Error in data:" +
                     " path variable id must be not null and equal to employee id");
@@ -83,11 +121,90 @@ public class NewsService implements NewsCrudService {
     }
 
     @Override
-    public void deleteById(Long id) {
-        if (newsRepo.existsById(id)) {
-            newsRepo.deleteById(id);
-        } else {
-            throw new NewsNotFoundException(id);
+    @Transactional
+    public int deleteById(Long id, Long userId, boolean admin) {
+        //Comments of news are deleted by cascade, so their authors' counters are decreased beforehand.
+        //Ownership is checked by both statements, counters of concurrently deleted news are rolled back by facade
+        userRepo.subtractCommentsOfOwnedNews(id, userId, admin);
+        Optional<Long> ownerId = newsRepo.deleteOwned(id, userId, admin);
+        if (!ownerId.isPresent()) {
+            return 0;
+        }
+        userRepo.addNewsCount(ownerId.get(), -1);
+        //Event of news covers its comments too
+        invalidationBus.publish(CacheEvent.Entity.NEWS, id);
+        newsChangeService.recordChanged(Collections.singleton(id));
+        return 1;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<NewsVersion> findVersion(Long id) {
+        return newsRepo.findVersionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsById(Long id) {
+        return newsRepo.existsById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> findAll(Class<T> type) {
+        return newsRepo.findAllBy(type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> findAll(Integer page, Integer size, Class<T> type) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("date"));
+        return newsRepo.findAllBy(pageable, type).getContent();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> Optional<T> findById(Long id, Class<T> type) {
+        return newsRepo.findById(id, type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> findByTitle(String title, Class<T> type) {
+        return newsRepo.findByTitle(title, type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> findByTitleContains(String title, Class<T> type) {
+        return newsRepo.findByTitleContains(title, type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> findByText(String text, Class<T> type) {
+        return newsRepo.findByText(text, type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> findByTextContains(String text, Class<T> type) {
+        return newsRepo.findByTextContains(text, type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> findByIds(Collection<Long> ids, Class<T> type) {
+        return newsRepo.findByIdIn(ids, type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NewsSummary> findNewestByUserId(Long userId, Cursor before, Integer size) {
+        Pageable pageable = PageRequest.of(0, size);
+        if (before == null) {
+            return newsRepo.findNewestByUserId(userId, pageable);
         }
+        return newsRepo.findNewestByUserIdBefore(userId, before.getDate(), before.getId(), pageable);
     }
 }
@@ -1,10 +1,14 @@
 package com.example.demo.service.impl;
 
+import com.example.demo.cache.CacheEvent;
+import com.example.demo.cache.InvalidationBus;
 import com.example.demo.entity.User;
 import com.example.demo.exception.request.BadRequestParametersException;
 import com.example.demo.exception.user.UserNotFoundException;
 import com.example.demo.exception.user.UsernameReservedException;
+import com.example.demo.repo.NewsRepo;
 import com.example.demo.repo.UserRepo;
+import com.example.demo.repo.projection.UserRole;
 import com.example.demo.service.UserCrudService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,7 +16,9 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,30 +30,49 @@ import java.util.Optional;
 public class UserService implements UserDetailsService, UserCrudService {
     private final UserRepo userRepo;
 
+    private final NewsRepo newsRepo;
+
     private final PasswordEncoder passwordEncoder;
 
+    private final InvalidationBus invalidationBus;
+
+    private final NewsChangeService newsChangeService;
+
     @Autowired
-    public UserService(UserRepo userRepo, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepo userRepo, NewsRepo newsRepo, PasswordEncoder passwordEncoder,
+                       InvalidationBus invalidationBus, NewsChangeService newsChangeService) {
         this.userRepo = userRepo;
+        this.newsRepo = newsRepo;
         this.passwordEncoder = passwordEncoder;
+        this.invalidationBus = invalidationBus;
+        this.newsChangeService = newsChangeService;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepo.findByUsername(username).orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> findById(Long id) {
         return userRepo.findById(id);
     }
 
     @Override
+    public User getReference(Long id) {
+        return userRepo.getById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<User> findAll() {
         return userRepo.findAll();
     }
 
     @Override
+    @Transactional
     public void save(User user) {
         if (userRepo.existsByUsername(user.getUsername())) {
             throw new UsernameReservedException(user.getUsername());
@@ -56,10 +81,12 @@ public class UserService implements UserDetailsService, UserCrudService {
             user.setPassword(passwordEncoder.encode(user.getPassword()));
 
             userRepo.save(user);
+            invalidationBus.publish(CacheEvent.Entity.USER, user.getId());
         }
     }
 
     @Override
+    @Transactional
     public void update(Long id, User user) {
         User userDb = userRepo.findById(user.getId())
                 .orElseThrow(() -> new UserNotFoundException(user.getId()));
@@ -69,7 +96,10 @@ public class UserService implements UserDetailsService, UserCrudService {
                     && userRepo.existsByUsername(user.getUsername())) {
                 throw new UsernameReservedException(user.getUsername());
             }
+            //Version of detached user is taken from loaded one, otherwise merge would treat user as new
+            user.setVersion(userDb.getVersion());
             userRepo.save(user);
+            invalidationBus.publish(CacheEvent.Entity.USER, id);
         } else {
             throw new BadRequestParametersException("Error in data:" +
                     " path variable id must be not null and equal to user id");
@@ -77,11 +107,41 @@ public class UserService implements UserDetailsService, UserCrudService {
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
-        if (userRepo.existsById(id)) {
-            userRepo.deleteById(id);
-        } else {
+        //News and comments of user are deleted by cascade, so counters of other users and news are decreased beforehand
+        List<Long> affectedNewsIds = newsRepo.findIdsAffectedByUser(id);
+        userRepo.subtractCommentsOnNewsOf(id);
+        newsRepo.subtractCommentsOf(id);
+        if (userRepo.removeById(id) == 0) {
             throw new UserNotFoundException(id);
         }
+        //Event of user covers its news and comments too
+        invalidationBus.publish(CacheEvent.Entity.USER, id);
+        newsChangeService.recordChanged(affectedNewsIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> findAll(Class<T> type) {
+        return userRepo.findAllBy(type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> Optional<T> findById(Long id, Class<T> type) {
+        return userRepo.findById(id, type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> findByIds(Collection<Long> ids, Class<T> type) {
+        return userRepo.findByIdIn(ids, type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserRole> findRolesByIds(Collection<Long> ids) {
+        return userRepo.findRolesByIdIn(ids);
     }
 }
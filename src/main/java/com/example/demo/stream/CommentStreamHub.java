@@ -0,0 +1,273 @@
+package com.example.demo.stream;
+
+import com.example.demo.cache.CacheEvent;
+import com.example.demo.cache.CacheInvalidationListener;
+import com.example.demo.config.CommentStreamProperties;
+import com.example.demo.util.Cursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.example.demo.dto.CommentProto.CommentSimpleDto;
+import static com.example.demo.dto.CommentProto.CommentSimpleDtoList;
+
+/**
+ * Fan-out of new comments to subscribers of their news on this node.
+ * Changes of news made on any node are announced by {@link com.example.demo.cache.InvalidationBus} after commit,
+ * then comments of news are read once after last comment of the most behind subscriber and are shared by all
+ * subscribers of news. Streams and waiting requests are held by async requests, so idle subscribers take
+ * no servlet threads and no database connections, comments are read and written by small pool of sender threads
+ */
+@Component
+public class CommentStreamHub implements CacheInvalidationListener, DisposableBean {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ConcurrentMap<Long, Set<CommentSubscription>> subscriptions = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Long, Set<Runnable>> waiters = new ConcurrentHashMap<>();
+
+    //Loaders of comments after id, one for news with open streams
+    private final ConcurrentMap<Long, Function<Long, List<CommentSimpleDto>>> loaders = new ConcurrentHashMap<>();
+
+    //News, which comments are read now, and news, which were changed since start of read
+    private final Set<Long> reading = ConcurrentHashMap.newKeySet();
+
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+
+    private final CommentStreamProperties properties;
+
+    private final ExecutorService senders;
+
+    private final ScheduledExecutorService heartbeats;
+
+    private final Counter overflows;
+
+    @Autowired
+    public CommentStreamHub(CommentStreamProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.senders = Executors.newFixedThreadPool(properties.getSenderThreads(),
+                daemonThreads("comment-stream-sender-"));
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(daemonThreads("comment-stream-heartbeat-"));
+        long heartbeat = properties.getHeartbeat().toMillis();
+        heartbeats.scheduleWithFixedDelay(() -> forEach(CommentSubscription::heartbeat),
+                heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+
+        this.overflows = Counter.builder("app.comment.stream.overflows")
+                .description("Comments, that didn't fit buffer of slow subscriber")
+                .register(meterRegistry);
+        Gauge.builder("app.comment.stream.subscribers", subscriptions,
+                        value -> value.values().stream().mapToInt(Set::size).sum())
+                .description("Open streams of new comments")
+                .register(meterRegistry);
+        Gauge.builder("app.comment.poll.waiting", waiters, value -> value.values().stream().mapToInt(Set::size).sum())
+                .description("Requests, that wait for new comments")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Method which opens stream of new comments of news.
+     * Subscriber is registered before comments after it's last comment are read, so no comment is lost between them
+     *
+     * @param newsId id of news
+     * @param after  id of last comment, known by subscriber
+     * @param newer  loader of comments after provided id from oldest to newest,
+     *               is called by sender threads without transaction of caller
+     * @return {@link SseEmitter} of stream
+     */
+    public SseEmitter subscribe(Long newsId, long after, Function<Long, List<CommentSimpleDto>> newer) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        CommentSubscription subscription = new CommentSubscription(emitter, properties, senders, overflows::increment,
+                closed -> unsubscribe(newsId, closed), after);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+
+        //Loader is changed along with subscribers of news, so it exists while news has subscribers
+        subscriptions.compute(newsId, (key, values) -> {
+            Set<CommentSubscription> result = values == null ? ConcurrentHashMap.newKeySet() : values;
+            result.add(subscription);
+            loaders.put(newsId, newer);
+            return result;
+        });
+        subscription.start(Collections.emptyList());
+        read(newsId);
+        return emitter;
+    }
+
+    /**
+     * Method which waits for new comments of news without servlet thread.
+     * Comments are checked at once and then after every change of news on any node,
+     * request is completed by first non empty check or by empty list after wait
+     *
+     * @param newsId id of news
+     * @param wait   time to wait for new comments, limited by max wait
+     * @param newer  loader of new comments, is called without transaction of caller
+     * @return {@link DeferredResult} of new comments
+     */
+    public DeferredResult<CommentSimpleDtoList> await(Long newsId, Duration wait,
+                                                      Supplier<CommentSimpleDtoList> newer) {
+        long timeout = Math.min(wait.toMillis(), properties.getMaxWait().toMillis());
+        DeferredResult<CommentSimpleDtoList> result = new DeferredResult<>(timeout,
+                CommentSimpleDtoList.getDefaultInstance());
+        if (timeout <= 0) {
+            //Zero timeout means no timeout for servlet container
+            result.setResult(newer.get());
+            return result;
+        }
+        Runnable check = () -> {
+            if (result.isSetOrExpired()) {
+                return;
+            }
+            try {
+                CommentSimpleDtoList found = newer.get();
+                if (found.getCommentDtoCount() > 0) {
+                    result.setResult(found);
+                }
+            } catch (RuntimeException e) {
+                result.setErrorResult(e);
+            }
+        };
+
+        //Waiter is registered before first check, so comment saved between them wakes it
+        add(waiters, newsId, check);
+        result.onCompletion(() -> remove(waiters, newsId, check));
+        check.run();
+        return result;
+    }
+
+    @Override
+    public void evict(Collection<CacheEvent> events) {
+        //New comments change their news, so events of news are enough
+        for (CacheEvent event : events) {
+            if (event.getEntity() == CacheEvent.Entity.NEWS && event.getId() != null) {
+                wake(event.getId());
+            }
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        subscriptions.keySet().forEach(this::read);
+        waiters.values().forEach(checks -> checks.forEach(senders::execute));
+    }
+
+    @Override
+    public void destroy() {
+        heartbeats.shutdownNow();
+        forEach(CommentSubscription::close);
+        senders.shutdown();
+    }
+
+    private void wake(Long newsId) {
+        read(newsId);
+        waiters.getOrDefault(newsId, Collections.emptySet()).forEach(senders::execute);
+    }
+
+    //Comments of one news are read by one sender at once, changes during read cause one more read
+    private void read(Long newsId) {
+        if (!subscriptions.containsKey(newsId)) {
+            return;
+        }
+        changed.add(newsId);
+        if (reading.add(newsId)) {
+            senders.execute(() -> drain(newsId));
+        }
+    }
+
+    private void drain(Long newsId) {
+        do {
+            while (changed.remove(newsId)) {
+                deliver(newsId);
+            }
+            reading.remove(newsId);
+        } while (changed.contains(newsId) && reading.add(newsId));
+    }
+
+    private void deliver(Long newsId) {
+        Set<CommentSubscription> subscribers = subscriptions.get(newsId);
+        Function<Long, List<CommentSimpleDto>> newer = loaders.get(newsId);
+        if (subscribers == null || newer == null) {
+            return;
+        }
+        long after = subscribers.stream().mapToLong(CommentSubscription::getLastId).min().orElse(Long.MAX_VALUE);
+        List<CommentSimpleDto> comments;
+        try {
+            comments = newer.apply(after);
+        } catch (RuntimeException e) {
+            logger.warn("New comments of news {} are not streamed: {}", newsId, e.getMessage());
+            return;
+        }
+        for (CommentSubscription subscription : subscribers) {
+            long lastId = subscription.getLastId();
+            comments.stream()
+                    .filter(comment -> comment.getId() > lastId)
+                    .forEach(subscription::offer);
+        }
+        if (comments.size() >= Cursor.MAX_PAGE_SIZE) {
+            //Comments of one read are limited by page, rest of them is read by next read
+            changed.add(newsId);
+        }
+    }
+
+    private void unsubscribe(Long newsId, CommentSubscription subscription) {
+        subscriptions.computeIfPresent(newsId, (key, values) -> {
+            values.remove(subscription);
+            if (values.isEmpty()) {
+                loaders.remove(newsId);
+                return null;
+            }
+            return values;
+        });
+    }
+
+    private void forEach(Consumer<CommentSubscription> action) {
+        List<CommentSubscription> all = new ArrayList<>();
+        subscriptions.values().forEach(all::addAll);
+        all.forEach(action);
+    }
+
+    private static <T> void add(ConcurrentMap<Long, Set<T>> map, Long newsId, T value) {
+        map.compute(newsId, (key, values) -> {
+            Set<T> result = values == null ? ConcurrentHashMap.newKeySet() : values;
+            result.add(value);
+            return result;
+        });
+    }
+
+    private static <T> void remove(ConcurrentMap<Long, Set<T>> map, Long newsId, T value) {
+        map.computeIfPresent(newsId, (key, values) -> {
+            values.remove(value);
+            return values.isEmpty() ? null : values;
+        });
+    }
+
+    private static CustomizableThreadFactory daemonThreads(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
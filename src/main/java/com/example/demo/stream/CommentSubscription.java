@@ -0,0 +1,188 @@
+package com.example.demo.stream;
+
+import com.example.demo.config.CommentStreamProperties;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.util.JsonFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static com.example.demo.config.CommentStreamProperties.SlowConsumerPolicy;
+import static com.example.demo.dto.CommentProto.CommentSimpleDto;
+
+/**
+ * Stream of new comments to one subscriber.
+ * Comments wait for sending in bounded buffer and are written by sender threads,
+ * so publisher is never blocked by slow subscriber. Comment, that doesn't fit buffer,
+ * is handled by {@link SlowConsumerPolicy}
+ */
+public class CommentSubscription {
+    public static final String EVENT_NAME = "comment";
+
+    //Marker of heartbeat in buffer, real comments always have id
+    private static final CommentSimpleDto HEARTBEAT = CommentSimpleDto.getDefaultInstance();
+
+    private static final JsonFormat.Printer PRINTER = JsonFormat.printer().omittingInsignificantWhitespace();
+
+    private final SseEmitter emitter;
+
+    private final BlockingQueue<CommentSimpleDto> buffer;
+
+    private final SlowConsumerPolicy policy;
+
+    private final Executor sender;
+
+    private final Runnable onOverflow;
+
+    private final Consumer<CommentSubscription> onClose;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    //Comments, that were sent before live comments, could be published again
+    private volatile Set<Long> replayedIds = new HashSet<>();
+
+    private volatile boolean started;
+
+    //Id of newest comment, that was put into buffer, comments are put by one thread at once
+    private volatile long lastId;
+
+    /**
+     * Creates subscription, that buffers comments until it is started
+     *
+     * @param emitter    {@link SseEmitter} of subscriber
+     * @param properties settings of buffer
+     * @param sender     executor of sending
+     * @param onOverflow called for every comment, that doesn't fit buffer
+     * @param onClose    called once, when subscription is closed
+     * @param after      id of last comment, known by subscriber
+     */
+    public CommentSubscription(SseEmitter emitter, CommentStreamProperties properties, Executor sender,
+                               Runnable onOverflow, Consumer<CommentSubscription> onClose, long after) {
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+        this.policy = properties.getSlowConsumerPolicy();
+        this.sender = sender;
+        this.onOverflow = onOverflow;
+        this.onClose = onClose;
+        this.lastId = after;
+    }
+
+    /**
+     * Method which sends comments, missed by subscriber, and then starts sending of buffered comments
+     *
+     * @param missed comments, missed by subscriber, from oldest to newest
+     */
+    public void start(List<CommentSimpleDto> missed) {
+        Set<Long> sent = new HashSet<>();
+        try {
+            for (CommentSimpleDto comment : missed) {
+                emitter.send(toEvent(comment));
+                sent.add(comment.getId());
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+            return;
+        }
+        replayedIds = sent;
+        started = true;
+        schedule();
+    }
+
+    /**
+     * Method which puts comment into buffer of subscriber
+     *
+     * @param comment new comment
+     */
+    public void offer(CommentSimpleDto comment) {
+        if (closed.get()) {
+            return;
+        }
+        lastId = Math.max(lastId, comment.getId());
+        while (!buffer.offer(comment)) {
+            onOverflow.run();
+            if (policy == SlowConsumerPolicy.DISCONNECT) {
+                close();
+                return;
+            }
+            buffer.poll();
+        }
+        schedule();
+    }
+
+    /**
+     * Method which sends heartbeat, if there are no comments to send
+     */
+    public void heartbeat() {
+        if (buffer.isEmpty() && buffer.offer(HEARTBEAT)) {
+            schedule();
+        }
+    }
+
+    /**
+     * Method which closes stream of subscriber
+     */
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            emitter.complete();
+            onClose.accept(this);
+        }
+    }
+
+    public long getLastId() {
+        return lastId;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    private void schedule() {
+        if (started && !closed.get() && draining.compareAndSet(false, true)) {
+            sender.execute(this::drain);
+        }
+    }
+
+    //Only one sender writes to subscriber at once, so events are never interleaved
+    private void drain() {
+        try {
+            CommentSimpleDto comment;
+            while (!closed.get() && (comment = buffer.poll()) != null) {
+                if (comment == HEARTBEAT) {
+                    emitter.send(SseEmitter.event().comment(""));
+                } else if (!replayedIds.contains(comment.getId())) {
+                    emitter.send(toEvent(comment));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+        } finally {
+            draining.set(false);
+        }
+        if (!buffer.isEmpty()) {
+            schedule();
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder toEvent(CommentSimpleDto comment) {
+        try {
+            return SseEmitter.event()
+                    .id(String.valueOf(comment.getId()))
+                    .name(EVENT_NAME)
+                    .data(PRINTER.print(comment), MediaType.APPLICATION_JSON);
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
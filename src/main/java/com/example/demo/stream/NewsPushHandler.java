@@ -0,0 +1,37 @@
+package com.example.demo.stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+
+/**
+ * Handler of WebSocket sessions, that receive changes of news.
+ * Channel is one-way, messages of clients are ignored
+ */
+@Component
+public class NewsPushHandler extends BinaryWebSocketHandler {
+    private final NewsPushHub newsPushHub;
+
+    @Autowired
+    public NewsPushHandler(NewsPushHub newsPushHub) {
+        this.newsPushHub = newsPushHub;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        newsPushHub.register(session);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        newsPushHub.unregister(session);
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+        //Clients only listen
+    }
+}
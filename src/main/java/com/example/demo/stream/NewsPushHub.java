@@ -0,0 +1,197 @@
+package com.example.demo.stream;
+
+import com.example.demo.cache.CacheEvent;
+import com.example.demo.cache.CacheInvalidationListener;
+import com.example.demo.config.NewsPushProperties;
+import com.example.demo.facade.NewsCrudFacade;
+import com.example.demo.util.Cursor;
+import com.google.protobuf.FieldMask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.example.demo.dto.NewsProto.NewsChanges;
+
+/**
+ * Fan-out of news changes to WebSocket sessions of this node.
+ * Changes of any node are announced by {@link com.example.demo.cache.InvalidationBus} after commit,
+ * announcements of one batch window are coalesced into one read of change feed, and each read
+ * is serialized once and shared by all sessions, so cost of publication does not depend on count of sessions
+ */
+@Component
+public class NewsPushHub implements CacheInvalidationListener, DisposableBean {
+    private static final long UNKNOWN = -1;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ConcurrentMap<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean changed = new AtomicBoolean();
+
+    private final NewsCrudFacade newsFacade;
+
+    private final NewsPushProperties properties;
+
+    private final ExecutorService senders;
+
+    private final ScheduledExecutorService batches;
+
+    private final Counter messages;
+
+    private final Counter terminated;
+
+    //Token of last pushed change, is read and written only by batch thread
+    private long token = UNKNOWN;
+
+    private long lastCheck;
+
+    //Facade is lazy, because it's services publish changes to this hub through invalidation bus
+    @Autowired
+    public NewsPushHub(@Lazy NewsCrudFacade newsFacade, NewsPushProperties properties, MeterRegistry meterRegistry) {
+        this.newsFacade = newsFacade;
+        this.properties = properties;
+        this.senders = Executors.newFixedThreadPool(properties.getSenderThreads(), daemonThreads("news-push-sender-"));
+        this.batches = Executors.newSingleThreadScheduledExecutor(daemonThreads("news-push-batch-"));
+        long window = properties.getBatchWindow().toMillis();
+        batches.scheduleWithFixedDelay(this::flush, window, window, TimeUnit.MILLISECONDS);
+
+        this.messages = Counter.builder("app.news.push.messages")
+                .description("Batches of news changes, pushed to WebSocket sessions")
+                .register(meterRegistry);
+        this.terminated = Counter.builder("app.news.push.terminated")
+                .description("WebSocket sessions, closed because changes could not be sent to them")
+                .register(meterRegistry);
+        Gauge.builder("app.news.push.sessions", sessions, ConcurrentMap::size)
+                .description("Open WebSocket sessions, that receive news changes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Method which starts pushing of changes to session.
+     * Session is decorated by bounded buffer, so slow session never blocks other sessions
+     *
+     * @param session opened {@link WebSocketSession}
+     */
+    public void register(WebSocketSession session) {
+        sessions.put(session.getId(), new ConcurrentWebSocketSessionDecorator(session,
+                (int) properties.getSendTimeLimit().toMillis(), properties.getBufferSizeLimit(),
+                properties.getOverflowStrategy()));
+    }
+
+    /**
+     * Method which stops pushing of changes to session
+     *
+     * @param session closed {@link WebSocketSession}
+     */
+    public void unregister(WebSocketSession session) {
+        sessions.remove(session.getId());
+    }
+
+    @Override
+    public void evict(Collection<CacheEvent> events) {
+        //Called after commit by thread of transaction or by listener of bus, so change is only marked
+        changed.set(true);
+    }
+
+    @Override
+    public void evictAll() {
+        changed.set(true);
+    }
+
+    @Override
+    public void destroy() {
+        batches.shutdownNow();
+        sessions.values().forEach(session -> close(session, CloseStatus.GOING_AWAY));
+        senders.shutdown();
+    }
+
+    /**
+     * Method which pushes changes, made since last push, to all sessions.
+     * Is called by batch thread every batch window
+     */
+    void flush() {
+        if (sessions.isEmpty()) {
+            //Nobody needs changes, position is taken again by first session
+            token = UNKNOWN;
+            changed.set(false);
+            return;
+        }
+        long now = System.nanoTime();
+        if (token != UNKNOWN && !changed.getAndSet(false)
+                && now - lastCheck < properties.getPollInterval().toNanos()) {
+            return;
+        }
+        lastCheck = now;
+        try {
+            if (token == UNKNOWN) {
+                token = newsFacade.findChangesToken();
+                return;
+            }
+            NewsChanges changes;
+            do {
+                changes = newsFacade.findChanges(token, Cursor.MAX_PAGE_SIZE, FieldMask.getDefaultInstance());
+                if (changes.getToken() != token) {
+                    broadcast(changes.toByteArray());
+                    token = changes.getToken();
+                }
+            } while (changes.getHasMore());
+        } catch (RuntimeException e) {
+            changed.set(true);
+            logger.warn("News changes are not pushed: {}", e.getMessage());
+        }
+    }
+
+    private void broadcast(byte[] payload) {
+        messages.increment();
+        for (WebSocketSession session : sessions.values()) {
+            //Message only wraps shared bytes, because sending consumes position of it's buffer
+            senders.execute(() -> send(session, new BinaryMessage(payload)));
+        }
+    }
+
+    private void send(WebSocketSession session, BinaryMessage message) {
+        try {
+            session.sendMessage(message);
+        } catch (IOException | RuntimeException e) {
+            //Buffer of session is overflowed or socket is broken, client reconnects and reads missed changes
+            terminated.increment();
+            close(session, CloseStatus.SESSION_NOT_RELIABLE);
+        }
+    }
+
+    private void close(WebSocketSession session, CloseStatus status) {
+        sessions.remove(session.getId());
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            logger.debug("WebSocket session {} is not closed: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    private static CustomizableThreadFactory daemonThreads(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
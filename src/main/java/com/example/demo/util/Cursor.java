@@ -0,0 +1,90 @@
+package com.example.demo.util;
+
+import com.example.demo.exception.request.BadRequestParametersException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in list ordered by date and id, from newest to oldest.
+ * Lists are continued after position by keyset condition instead of offset,
+ * so every page costs the same, no matter how deep it is
+ */
+public final class Cursor {
+    /**
+     * Max size of page, that can be requested at once
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "_";
+
+    private final LocalDateTime date;
+
+    private final Long id;
+
+    private Cursor(LocalDateTime date, Long id) {
+        this.date = date;
+        this.id = id;
+    }
+
+    /**
+     * Creates position of object with provided date and id
+     *
+     * @param date date of object
+     * @param id   id of object
+     * @return {@link Cursor} of object
+     */
+    public static Cursor of(LocalDateTime date, Long id) {
+        return new Cursor(date, id);
+    }
+
+    /**
+     * Parses cursor from request
+     *
+     * @param value cursor, returned by {@link #encode()}
+     * @return {@link Cursor}
+     * @throws BadRequestParametersException when cursor is malformed
+     */
+    public static Cursor decode(String value) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new Cursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.valueOf(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestParametersException("Error in data: cursor '" + value + "' is not valid");
+        }
+    }
+
+    /**
+     * Checks requested page size
+     *
+     * @param size requested page size
+     * @throws BadRequestParametersException when size is less than 1 or greater than {@link #MAX_PAGE_SIZE}
+     */
+    public static void validateSize(Integer size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestParametersException("Error in data: size must be from 1 to " + MAX_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Encodes cursor into opaque string, that can be passed to client
+     *
+     * @return encoded cursor
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((date + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.util;
+
+import com.example.demo.exception.request.BadRequestParametersException;
+import com.example.demo.exception.request.PreconditionFailedException;
+
+/**
+ * Entity tags of objects, which are made of their versions.
+ * Tags are strong, because If-Match is checked by strong comparison, weak tags in If-Match are rejected.
+ * Servlet container compresses responses with strong tags as well, see {@code CompressionConfig}
+ */
+public final class ETags {
+    private static final String WEAK_PREFIX = "W/";
+
+    private static final String ANY = "*";
+
+    private static final String SEPARATOR = ".";
+
+    private ETags() {
+    }
+
+    /**
+     * Creates entity tag of object version
+     *
+     * @param version version of object
+     * @return strong quoted entity tag
+     */
+    public static String of(Object version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Creates entity tag of object, which edits are checked by own version apart from version of representation
+     *
+     * @param editVersion version, that is expected by If-Match, see {@link #parseEditVersion}
+     * @param version     version of representation
+     * @return strong quoted entity tag
+     */
+    public static String of(long editVersion, long version) {
+        return of(editVersion + SEPARATOR + version);
+    }
+
+    /**
+     * Checks, that If-None-Match header contains entity tag, compared weakly as RFC 7232 requires
+     *
+     * @param ifNoneMatch value of If-None-Match header, may be null
+     * @param etag        current entity tag
+     * @return true when client has representation with current tag
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String current = unquote(etag);
+        for (String tag : ifNoneMatch.split(",")) {
+            if (ANY.equals(tag.trim()) || current.equals(unquote(tag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses expected version from If-Match header
+     *
+     * @param ifMatch value of If-Match header, may be null
+     * @return expected version, null when header is missing or matches any version
+     * @throws BadRequestParametersException when header does not contain single entity tag of version
+     * @throws PreconditionFailedException   when entity tag is weak
+     */
+    public static Long parseVersion(String ifMatch) {
+        String tag = unquote(strong(ifMatch));
+        return tag == null ? null : toVersion(tag, ifMatch);
+    }
+
+    /**
+     * Parses expected edit version from If-Match header with entity tag of {@link #of(long, long)}.
+     * Version of representation is ignored, so changes, that don't change edit version, don't fail update
+     *
+     * @param ifMatch value of If-Match header, may be null
+     * @return expected edit version, null when header is missing or matches any version
+     * @throws BadRequestParametersException when header does not contain single entity tag of versions
+     * @throws PreconditionFailedException   when entity tag is weak
+     */
+    public static Long parseEditVersion(String ifMatch) {
+        String tag = unquote(strong(ifMatch));
+        if (tag == null) {
+            return null;
+        }
+        int separator = tag.indexOf(SEPARATOR);
+        return toVersion(separator < 0 ? tag : tag.substring(0, separator), ifMatch);
+    }
+
+    //Weak tag never matches by strong comparison, which If-Match requires
+    private static String strong(String ifMatch) {
+        if (ifMatch != null && ifMatch.trim().startsWith(WEAK_PREFIX)) {
+            throw new PreconditionFailedException("If-Match '" + ifMatch + "' is weak, it never matches current version");
+        }
+        return ifMatch;
+    }
+
+    private static String unquote(String ifMatch) {
+        if (ifMatch == null || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith(WEAK_PREFIX)) {
+            tag = tag.substring(WEAK_PREFIX.length());
+        }
+        if (tag.length() > 1 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        return tag;
+    }
+
+    private static Long toVersion(String tag, String ifMatch) {
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException e) {
+            throw new BadRequestParametersException("Error in data: If-Match '" + ifMatch + "' is not valid");
+        }
+    }
+}
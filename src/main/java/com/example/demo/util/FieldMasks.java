@@ -0,0 +1,59 @@
+package com.example.demo.util;
+
+import com.example.demo.exception.request.BadRequestParametersException;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.Message;
+import com.google.protobuf.util.FieldMaskUtil;
+
+/**
+ * Helper methods for partial responses driven by {@link FieldMask}.
+ * Empty mask means that all fields are requested
+ */
+public final class FieldMasks {
+    private FieldMasks() {
+    }
+
+    /**
+     * Checks that every path of mask is a field of provided message type
+     *
+     * @param mask {@link FieldMask} from request
+     * @param type protobuf message type, which will be trimmed by mask
+     * @throws BadRequestParametersException when mask contains unknown field
+     */
+    public static void validate(FieldMask mask, Class<? extends Message> type) {
+        if (!FieldMaskUtil.isValid(type, mask)) {
+            throw new BadRequestParametersException("Error in data: fields '" + FieldMaskUtil.toString(mask)
+                    + "' are not valid for " + type.getSimpleName());
+        }
+    }
+
+    /**
+     * Checks if field or any of it's sub-fields is requested by mask
+     *
+     * @param mask  {@link FieldMask} from request
+     * @param field field name
+     * @return true, if field should be present in response
+     */
+    public static boolean includes(FieldMask mask, String field) {
+        return mask.getPathsCount() == 0 || mask.getPathsList().stream()
+                .anyMatch(path -> path.equals(field) || path.startsWith(field + "."));
+    }
+
+    /**
+     * Returns copy of message, which contains only fields from mask
+     *
+     * @param mask    {@link FieldMask} from request
+     * @param message message to trim
+     * @param <T>     message type
+     * @return trimmed message or the same message if mask is empty
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Message> T trim(FieldMask mask, T message) {
+        if (mask.getPathsCount() == 0) {
+            return message;
+        }
+        Message.Builder builder = message.newBuilderForType();
+        FieldMaskUtil.merge(mask, message, builder);
+        return (T) builder.build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.util;
+
+import com.example.demo.exception.request.BadRequestParametersException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Helper methods for lookups of several objects by list of ids
+ */
+public final class IdLists {
+    /**
+     * Max count of ids, that can be requested at once
+     */
+    public static final int MAX_SIZE = 100;
+
+    private IdLists() {
+    }
+
+    /**
+     * Removes duplicates from requested ids, keeping order of first occurrence
+     *
+     * @param ids requested ids
+     * @return list of distinct ids
+     * @throws BadRequestParametersException when no ids, empty id or more than {@link #MAX_SIZE} ids are requested
+     */
+    public static List<Long> distinct(List<Long> ids) {
+        //Empty element of list, for example ids=1,,2, is bound as null
+        if (ids.contains(null)) {
+            throw new BadRequestParametersException("Error in data: ids must be not empty");
+        }
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinct.isEmpty()) {
+            throw new BadRequestParametersException("Error in data: at least one id must be requested");
+        }
+        if (distinct.size() > MAX_SIZE) {
+            throw new BadRequestParametersException("Error in data: no more than " + MAX_SIZE
+                    + " ids can be requested at once");
+        }
+        return distinct;
+    }
+
+    /**
+     * Indexes found objects by id
+     *
+     * @param values found objects
+     * @param idOf   function which returns id of object
+     * @param <T>    object type
+     * @return map of objects by id
+     */
+    public static <T> Map<Long, T> byId(Collection<? extends T> values, Function<? super T, Long> idOf) {
+        Map<Long, T> byId = new HashMap<>();
+        values.forEach(value -> byId.put(idOf.apply(value), value));
+        return byId;
+    }
+}
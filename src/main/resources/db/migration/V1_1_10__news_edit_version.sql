@@ -0,0 +1,2 @@
+alter table news
+    add column edit_version bigint not null default 0;
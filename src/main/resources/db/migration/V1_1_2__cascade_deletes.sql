@@ -0,0 +1,21 @@
+alter table user_role
+    drop constraint fk_user_role_user,
+    add constraint fk_user_role_user
+        foreign key (user_id)
+            references app_user (id) on delete cascade;
+
+alter table news
+    drop constraint fk_news_app_user,
+    add constraint fk_news_app_user
+        foreign key (user_id)
+            references app_user (id) on delete cascade;
+
+alter table comment
+    drop constraint fk_comment_app_user,
+    add constraint fk_comment_app_user
+        foreign key (user_id)
+            references app_user (id) on delete cascade,
+    drop constraint fk_comment_news,
+    add constraint fk_comment_news
+        foreign key (news_id)
+            references news (id) on delete cascade;
@@ -0,0 +1 @@
+create index comment_news_id_date_id_idx on comment (news_id, date, id);
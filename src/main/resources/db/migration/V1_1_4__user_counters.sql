@@ -0,0 +1,11 @@
+alter table app_user
+    add column news_count    bigint not null default 0,
+    add column comment_count bigint not null default 0;
+
+update app_user u
+set news_count    = (select count(*) from news n where n.user_id = u.id),
+    comment_count = (select count(*) from comment c where c.user_id = u.id);
+
+create index news_user_id_date_id_idx on news (user_id, date, id);
+
+create index comment_user_id_date_id_idx on comment (user_id, date, id);
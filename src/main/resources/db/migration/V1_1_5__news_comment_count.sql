@@ -0,0 +1,5 @@
+alter table news
+    add column comment_count bigint not null default 0;
+
+update news n
+set comment_count = (select count(*) from comment c where c.news_id = n.id);
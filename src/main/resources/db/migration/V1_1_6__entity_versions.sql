@@ -0,0 +1,8 @@
+alter table news
+    add column version bigint not null default 0;
+
+alter table comment
+    add column version bigint not null default 0;
+
+alter table app_user
+    add column version bigint not null default 0;
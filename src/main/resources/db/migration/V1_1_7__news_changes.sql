@@ -0,0 +1,25 @@
+create table news_change
+(
+    news_id     bigint not null,
+    seq         bigint not null,
+    created_seq bigint not null,
+    primary key (news_id)
+);
+
+create unique index news_change_seq_idx on news_change (seq);
+
+create table change_sequence
+(
+    id       int    not null,
+    last_seq bigint not null,
+    primary key (id)
+);
+
+--Existing news are sent to first synchronization as inserts
+insert into news_change (news_id, seq, created_seq)
+select id, row_number() over (order by id), row_number() over (order by id)
+from news;
+
+insert into change_sequence (id, last_seq)
+select 1, count(*)
+from news;
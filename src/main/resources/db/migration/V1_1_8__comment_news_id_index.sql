@@ -0,0 +1 @@
+create index comment_news_id_id_idx on comment (news_id, id);
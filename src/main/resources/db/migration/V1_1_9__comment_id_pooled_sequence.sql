@@ -0,0 +1 @@
+alter sequence comment_id_seq increment by 50;
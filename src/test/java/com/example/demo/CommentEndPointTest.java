@@ -1,31 +1,52 @@
 package com.example.demo;
 
 import com.example.demo.exception.comment.CommentNotFoundException;
+import com.example.demo.exception.news.NewsNotFoundException;
 import com.example.demo.exception.request.BadRequestParametersException;
+import com.example.demo.exception.request.NotEnoughRightsException;
+import com.example.demo.exception.request.PreconditionFailedException;
 import com.example.demo.facade.impl.CommentFacade;
 import com.example.demo.repo.CommentRepo;
+import com.example.demo.repo.NewsRepo;
+import com.example.demo.repo.UserRepo;
+import com.example.demo.repo.projection.NewsHeadline;
+import com.example.demo.repo.projection.UserSummary;
+import com.google.protobuf.FieldMask;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.util.Collections;
+
+import static com.example.demo.dto.CommentProto.CommentBatch;
+import static com.example.demo.dto.CommentProto.CommentBatchResult;
 import static com.example.demo.dto.CommentProto.CommentDto;
+import static com.example.demo.dto.CommentProto.CommentOperation;
+import static com.example.demo.dto.CommentProto.CommentOperationResult;
 import static com.example.demo.dto.CommentProto.CommentSimpleDto;
 import static com.example.demo.dto.CommentProto.CommentSimpleDtoList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -46,6 +67,12 @@ public class CommentEndPointTest {
     @Autowired
     private CommentRepo commentRepo;
 
+    @Autowired
+    private NewsRepo newsRepo;
+
+    @Autowired
+    private UserRepo userRepo;
+
     @Test
     public void getCommentList_ShouldReturnComment() throws Exception {
         MvcResult mvcResult = mockMvc.perform(get("/api/comment"))
@@ -54,13 +81,13 @@ public class CommentEndPointTest {
                 .andExpect(content().contentTypeCompatibleWith("application/x-protobuf;charset=UTF-8"))
                 .andReturn();
 
-        assertEquals(CommentSimpleDtoList.parseFrom(mvcResult.getResponse().getContentAsByteArray()), commentFacade.findAll());
+        assertEquals(CommentSimpleDtoList.parseFrom(mvcResult.getResponse().getContentAsByteArray()), commentFacade.findAll(FieldMask.getDefaultInstance()));
     }
 
 
     @Test
     public void getCommentById_ShouldReturnCommentWithId() throws Exception {
-        CommentDto commentDto = commentFacade.findById(1L).orElse(CommentDto.getDefaultInstance());
+        CommentDto commentDto = commentFacade.findById(1L, FieldMask.getDefaultInstance()).orElse(CommentDto.getDefaultInstance());
 
         MvcResult mvcResult = mockMvc.perform(get("/api/comment/1"))
                 .andExpect(authenticated())
@@ -73,9 +100,9 @@ public class CommentEndPointTest {
 
     @Test
     public void getCommentsByText_ShouldReturnCommentWithText() throws Exception {
-        CommentSimpleDtoList commentList = commentFacade.findByText("Puppies6 are threat");
+        CommentSimpleDtoList commentList = commentFacade.findByText("Puppies6 are threat", FieldMask.getDefaultInstance());
 
-        MvcResult mvcResult = mockMvc.perform(get("/api/comment?text=Puppies6 are threat"))
+        MvcResult mvcResult = performSearch(get("/api/comment?text=Puppies6 are threat"))
                 .andExpect(authenticated())
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith("application/x-protobuf;charset=UTF-8"))
@@ -87,9 +114,9 @@ public class CommentEndPointTest {
 
     @Test
     public void getCommentsByTextLike_ShouldReturnCommentWithTextContains() throws Exception {
-        CommentSimpleDtoList commentList = commentFacade.findByTextContains("Puppies");
+        CommentSimpleDtoList commentList = commentFacade.findByTextContains("Puppies", FieldMask.getDefaultInstance());
 
-        MvcResult mvcResult = mockMvc.perform(get("/api/comment?textLike=Puppies"))
+        MvcResult mvcResult = performSearch(get("/api/comment?textLike=Puppies"))
                 .andExpect(authenticated())
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith("application/x-protobuf;charset=UTF-8"))
@@ -99,6 +126,38 @@ public class CommentEndPointTest {
         assertEquals(commentList, CommentSimpleDtoList.parseFrom(mvcResult.getResponse().getContentAsByteArray()));
     }
 
+    @Test
+    public void getCommentByIdWithFields_ShouldReturnCommentWithoutNews() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/api/comment/1?fields=id,text,user_id"))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertEquals(CommentDto.newBuilder()
+                        .setId(1L)
+                        .setText("Puppies are threat")
+                        .setUserId(6L)
+                        .build(),
+                CommentDto.parseFrom(mvcResult.getResponse().getContentAsByteArray()));
+    }
+
+    @Test
+    public void getCommentsByIds_ShouldReturnCommentsInRequestedOrder() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/api/comment?ids=5,2,100"))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-protobuf;charset=UTF-8"))
+                .andReturn();
+
+        CommentSimpleDtoList commentList =
+                CommentSimpleDtoList.parseFrom(mvcResult.getResponse().getContentAsByteArray());
+        assertEquals(2, commentList.getCommentDtoCount());
+        assertEquals(5L, commentList.getCommentDto(0).getId());
+        assertEquals(2L, commentList.getCommentDto(1).getId());
+        assertEquals(2L, commentList.getCommentDto(1).getNewsId());
+        assertEquals(Collections.singletonList(100L), commentList.getMissingIdsList());
+    }
+
     @Test
     public void getCommentByNonExistId_ShouldReturnNotFound() throws Exception {
         mockMvc.perform(get("/api/comment/-1"))
@@ -106,6 +165,38 @@ public class CommentEndPointTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    public void getCommentsByNewsIdWithCursor_ShouldReturnAllCommentsFromNewest() throws Exception {
+        MvcResult firstResult = mockMvc.perform(get("/api/comment?newsId=2&size=2"))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andReturn();
+
+        CommentSimpleDtoList firstPage = CommentSimpleDtoList.parseFrom(firstResult.getResponse().getContentAsByteArray());
+        assertEquals(firstPage, commentFacade.findByNewsId(2L, "", 2, FieldMask.getDefaultInstance()));
+        assertEquals(11L, firstPage.getCommentDto(0).getId());
+        assertEquals(2L, firstPage.getCommentDto(1).getId());
+        assertFalse(firstPage.getNextCursor().isEmpty());
+
+        MvcResult secondResult = mockMvc.perform(get("/api/comment?newsId=2&size=2&cursor=" + firstPage.getNextCursor()))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andReturn();
+
+        CommentSimpleDtoList secondPage = CommentSimpleDtoList.parseFrom(secondResult.getResponse().getContentAsByteArray());
+        assertEquals(1, secondPage.getCommentDtoCount());
+        assertEquals(5L, secondPage.getCommentDto(0).getId());
+        assertTrue(secondPage.getNextCursor().isEmpty());
+    }
+
+    @Test
+    public void getCommentsByNewsIdWithInvalidCursor_ShouldReturnBadRequestParametersException() throws Exception {
+        mockMvc.perform(get("/api/comment?newsId=2&cursor=invalid"))
+                .andExpect(authenticated())
+                .andExpect(status().isBadRequest())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof BadRequestParametersException));
+    }
+
     @Test
     public void createComment_ShouldReturnCreated() throws Exception {
         assertTrue(commentRepo.findByText("testcommentname").isEmpty());
@@ -128,6 +219,40 @@ public class CommentEndPointTest {
         assertEquals(1, commentRepo.findByText("testcommentname").size());
     }
 
+    @Test
+    public void createCommentForNonExistNews_ShouldReturnNewsNotFoundException() throws Exception {
+        CommentSimpleDto commentDto = CommentSimpleDto.newBuilder()
+                .setText("testcommentname")
+                .setNewsId(-1L)
+                .build();
+
+        MockHttpServletRequestBuilder requestBuilder = post("/api/comment/")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(commentDto.toByteArray());
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(authenticated())
+                .andExpect(status().isNotFound())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof NewsNotFoundException));
+
+        assertTrue(commentRepo.findByText("testcommentname").isEmpty());
+    }
+
+    @Test
+    public void createCommentWithTooLongText_ShouldReturnBadRequestParametersException() throws Exception {
+        CommentSimpleDto commentDto = CommentSimpleDto.newBuilder()
+                .setText(String.join("", Collections.nCopies(256, "a")))
+                .setNewsId(1L)
+                .build();
+
+        mockMvc.perform(post("/api/comment/")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(commentDto.toByteArray()))
+                .andExpect(authenticated())
+                .andExpect(status().isBadRequest())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof BadRequestParametersException));
+    }
+
     @Test
     public void updateComment_ShouldReturnOk() throws Exception {
         CommentSimpleDto commentDto = CommentSimpleDto.newBuilder()
@@ -179,6 +304,36 @@ public class CommentEndPointTest {
         assertTrue(commentRepo.findByText("Text for delete").isEmpty());
     }
 
+    @Test
+    public void createAndDeleteComment_ShouldChangeCommentCountersOfAuthorAndNews() throws Exception {
+        CommentSimpleDto commentDto = CommentSimpleDto.newBuilder()
+                .setText("testcommentname")
+                .setNewsId(1L)
+                .build();
+        mockMvc.perform(post("/api/comment/")
+                        .contentType("application/x-protobuf;charset=UTF-8")
+                        .content(commentDto.toByteArray()))
+                .andExpect(status().isCreated());
+        assertEquals(1, userRepo.findById(1L, UserSummary.class).map(UserSummary::getCommentCount).orElse(-1L));
+        assertEquals(4, newsRepo.findById(1L, NewsHeadline.class).map(NewsHeadline::getCommentCount).orElse(-1L));
+
+        mockMvc.perform(delete("/api/comment/6"))
+                .andExpect(status().isOk());
+        assertEquals(5, userRepo.findById(7L, UserSummary.class).map(UserSummary::getCommentCount).orElse(-1L));
+        assertEquals(3, newsRepo.findById(1L, NewsHeadline.class).map(NewsHeadline::getCommentCount).orElse(-1L));
+    }
+
+    @Test
+    @WithUserDetails("sub1")
+    public void deleteForeignComment_ShouldReturnNotEnoughRightsException() throws Exception {
+        mockMvc.perform(delete("/api/comment/6"))
+                .andExpect(authenticated())
+                .andExpect(status().isForbidden())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof NotEnoughRightsException));
+
+        assertEquals(1, commentRepo.findByText("Text for delete").size());
+    }
+
     @Test
     public void deleteNonExistComment_ShouldReturnCommentNotFoundException() throws Exception {
         mockMvc.perform(delete("/api/comment/-1"))
@@ -187,4 +342,302 @@ public class CommentEndPointTest {
                 .andExpect(result -> assertTrue(result.getResolvedException() instanceof CommentNotFoundException));
     }
 
+    @Test
+    public void applyCommentBatch_ShouldApplyOperationsAndReturnResults() throws Exception {
+        CommentBatch batch = CommentBatch.newBuilder()
+                .addOperations(CommentOperation.newBuilder()
+                        .setType(CommentOperation.Type.CREATE)
+                        .setComment(CommentSimpleDto.newBuilder().setText("batchcomment").setNewsId(1L)))
+                .addOperations(CommentOperation.newBuilder()
+                        .setType(CommentOperation.Type.UPDATE)
+                        .setComment(CommentSimpleDto.newBuilder().setId(3L).setText("Text for edit new")))
+                .addOperations(CommentOperation.newBuilder()
+                        .setType(CommentOperation.Type.DELETE)
+                        .setComment(CommentSimpleDto.newBuilder().setId(6L)))
+                .addOperations(CommentOperation.newBuilder()
+                        .setType(CommentOperation.Type.DELETE)
+                        .setComment(CommentSimpleDto.newBuilder().setId(-1L)))
+                .addOperations(CommentOperation.newBuilder()
+                        .setType(CommentOperation.Type.CREATE)
+                        .setComment(CommentSimpleDto.newBuilder().setText("batchcomment").setNewsId(-1L)))
+                .build();
+
+        MvcResult mvcResult = mockMvc.perform(post("/api/comment/batch")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(batch.toByteArray()))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andReturn();
+
+        CommentBatchResult result = CommentBatchResult.parseFrom(mvcResult.getResponse().getContentAsByteArray());
+        assertEquals(5, result.getResultsCount());
+        assertEquals(CommentOperationResult.Status.OK, result.getResults(0).getStatus());
+        assertEquals(CommentOperationResult.Status.OK, result.getResults(1).getStatus());
+        assertEquals(CommentOperationResult.Status.OK, result.getResults(2).getStatus());
+        assertEquals(CommentOperationResult.Status.NOT_FOUND, result.getResults(3).getStatus());
+        assertEquals(CommentOperationResult.Status.NOT_FOUND, result.getResults(4).getStatus());
+
+        assertEquals(1, commentRepo.findByText("batchcomment").size());
+        assertEquals(commentRepo.findByText("batchcomment").get(0).getId(), result.getResults(0).getId());
+        assertEquals("Text for edit new", commentRepo.findById(3L).get().getText());
+        assertFalse(commentRepo.existsById(6L));
+    }
+
+    @Test
+    @WithUserDetails("sub1")
+    public void applyCommentBatchForForeignComment_ShouldReturnForbiddenResult() throws Exception {
+        CommentBatch batch = CommentBatch.newBuilder()
+                .addOperations(CommentOperation.newBuilder()
+                        .setType(CommentOperation.Type.DELETE)
+                        .setComment(CommentSimpleDto.newBuilder().setId(1L)))
+                .addOperations(CommentOperation.newBuilder()
+                        .setType(CommentOperation.Type.DELETE)
+                        .setComment(CommentSimpleDto.newBuilder().setId(6L)))
+                .build();
+
+        MvcResult mvcResult = mockMvc.perform(post("/api/comment/batch")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(batch.toByteArray()))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andReturn();
+
+        CommentBatchResult result = CommentBatchResult.parseFrom(mvcResult.getResponse().getContentAsByteArray());
+        assertEquals(CommentOperationResult.Status.OK, result.getResults(0).getStatus());
+        assertEquals(CommentOperationResult.Status.FORBIDDEN, result.getResults(1).getStatus());
+
+        assertFalse(commentRepo.existsById(1L));
+        assertTrue(commentRepo.existsById(6L));
+    }
+
+    @Test
+    public void applyTooLargeCommentBatch_ShouldReturnBadRequestParametersException() throws Exception {
+        CommentBatch.Builder batch = CommentBatch.newBuilder();
+        for (int i = 0; i <= CommentFacade.MAX_BATCH_SIZE; i++) {
+            batch.addOperations(CommentOperation.newBuilder()
+                    .setType(CommentOperation.Type.DELETE)
+                    .setComment(CommentSimpleDto.newBuilder().setId(1L)));
+        }
+
+        mockMvc.perform(post("/api/comment/batch")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(batch.build().toByteArray()))
+                .andExpect(authenticated())
+                .andExpect(status().isBadRequest())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof BadRequestParametersException));
+    }
+
+    @Test
+    public void getCommentByIdWithActualETag_ShouldReturnNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/comment/3"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/comment/3").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(authenticated())
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void updateComment_ShouldChangeETagOfNewsButNotOfOtherComments() throws Exception {
+        String newsETag = mockMvc.perform(get("/api/news/3"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String otherCommentETag = mockMvc.perform(get("/api/comment/4"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/comment/3")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(editedComment().toByteArray()))
+                .andExpect(status().isOk());
+
+        //Comments are embedded into news, but version of news is not part of comment version
+        assertNotEquals(newsETag, mockMvc.perform(get("/api/news/3").header(HttpHeaders.IF_NONE_MATCH, newsETag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG));
+        mockMvc.perform(get("/api/comment/4").header(HttpHeaders.IF_NONE_MATCH, otherCommentETag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void updateCommentWithIfMatchAfterChangeOfOtherComment_ShouldReturnOk() throws Exception {
+        String eTag = mockMvc.perform(get("/api/comment/4"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/comment/3")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(editedComment().toByteArray()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/comment/4")
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(editedComment().toBuilder().setId(4).build().toByteArray()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void updateCommentWithStaleIfMatch_ShouldReturnPreconditionFailedException() throws Exception {
+        mockMvc.perform(put("/api/comment/3")
+                .header(HttpHeaders.IF_MATCH, "\"5\"")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(editedComment().toByteArray()))
+                .andExpect(authenticated())
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof PreconditionFailedException));
+
+        assertEquals(1, commentRepo.findByText("Text for edit").size());
+    }
+
+    @Test
+    public void updateCommentWithActualIfMatch_ShouldReturnOk() throws Exception {
+        String eTag = mockMvc.perform(get("/api/comment/3"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/comment/3")
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(editedComment().toByteArray()))
+                .andExpect(authenticated())
+                .andExpect(status().isOk());
+
+        assertEquals(1, commentRepo.findByText("Text for edit new").size());
+    }
+
+    @Test
+    public void streamComments_ShouldSendNewCommentsOfNews() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/comment/stream?newsId=1"))
+                .andExpect(authenticated())
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(post("/api/comment/")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(CommentSimpleDto.newBuilder().setText("Live comment").setNewsId(1L).build().toByteArray()))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/comment/")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(CommentSimpleDto.newBuilder().setText("Other news comment").setNewsId(2L).build().toByteArray()))
+                .andExpect(status().isCreated());
+
+        String content = awaitContent(stream, "Live comment");
+        assertTrue(content.contains("event:comment"));
+        assertTrue(content.contains("data:{\"id\""));
+        assertFalse(content.contains("Other news comment"));
+    }
+
+    @Test
+    public void streamCommentsWithLastEventId_ShouldSendMissedCommentsFirst() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/comment/stream?newsId=1").header("Last-Event-ID", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String content = awaitContent(stream, "id:12");
+        assertTrue(content.indexOf("id:6") < content.indexOf("id:12"));
+        assertFalse(content.contains("id:1\n"));
+    }
+
+    @Test
+    public void streamCommentsOfNonExistNews_ShouldReturnNewsNotFoundException() throws Exception {
+        mockMvc.perform(get("/api/comment/stream?newsId=-1"))
+                .andExpect(authenticated())
+                .andExpect(status().isNotFound())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof NewsNotFoundException));
+    }
+
+    @Test
+    public void waitForNewerComments_ShouldReturnExistingCommentsAtOnce() throws Exception {
+        MvcResult waiting = mockMvc.perform(get("/api/comment?newsId=1&after=1&wait=30s"))
+                .andExpect(authenticated())
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        CommentSimpleDtoList comments = asyncComments(waiting);
+        assertEquals(2, comments.getCommentDtoCount());
+        assertEquals(6L, comments.getCommentDto(0).getId());
+        assertEquals(12L, comments.getCommentDto(1).getId());
+    }
+
+    @Test
+    public void waitForNewerComments_ShouldReturnCommentCreatedDuringWait() throws Exception {
+        MvcResult waiting = mockMvc.perform(get("/api/comment?newsId=1&after=12&wait=30s"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(post("/api/comment/")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(CommentSimpleDto.newBuilder().setText("Awaited comment").setNewsId(1L).build().toByteArray()))
+                .andExpect(status().isCreated());
+
+        CommentSimpleDtoList comments = asyncComments(waiting);
+        assertEquals(1, comments.getCommentDtoCount());
+        assertEquals("Awaited comment", comments.getCommentDto(0).getText());
+    }
+
+    @Test
+    public void waitForNewerCommentsWithActualListETag_ShouldWaitInsteadOfNotModified() throws Exception {
+        String listETag = mockMvc.perform(get("/api/comment"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult waiting = mockMvc.perform(get("/api/comment?newsId=1&after=12&wait=0s")
+                .header(HttpHeaders.IF_NONE_MATCH, listETag))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andReturn();
+
+        assertEquals(0, asyncComments(waiting).getCommentDtoCount());
+    }
+
+    @Test
+    public void waitForNewerCommentsWithoutWait_ShouldReturnEmptyList() throws Exception {
+        MvcResult waiting = mockMvc.perform(get("/api/comment?newsId=1&after=12&wait=0s"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(0, asyncComments(waiting).getCommentDtoCount());
+    }
+
+    @Test
+    public void waitForNewerCommentsOfNonExistNews_ShouldReturnNewsNotFoundException() throws Exception {
+        mockMvc.perform(get("/api/comment?newsId=-1&after=0"))
+                .andExpect(status().isNotFound())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof NewsNotFoundException));
+    }
+
+    //Waiting request is completed by sender thread after commit of new comment
+    private CommentSimpleDtoList asyncComments(MvcResult waiting) throws Exception {
+        waiting.getAsyncResult(5000);
+        MvcResult result = mockMvc.perform(asyncDispatch(waiting))
+                .andExpect(status().isOk())
+                .andReturn();
+        return CommentSimpleDtoList.parseFrom(result.getResponse().getContentAsByteArray());
+    }
+
+    //Comments are written to stream by sender threads
+    private static String awaitContent(MvcResult stream, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = stream.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = stream.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), content);
+        return content;
+    }
+
+    private static CommentSimpleDto editedComment() {
+        return CommentSimpleDto.newBuilder()
+                .setId(3L)
+                .setText("Text for edit new")
+                .setUserId(6L)
+                .build();
+    }
+
+    //Searches are completed by search pool
+    private ResultActions performSearch(MockHttpServletRequestBuilder search) throws Exception {
+        MvcResult started = mockMvc.perform(search)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        started.getAsyncResult(5000);
+        return mockMvc.perform(asyncDispatch(started));
+    }
 }
@@ -0,0 +1,101 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+
+import static com.example.demo.dto.NewsProto.NewsSimpleDtoList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(value = {"/sql/user_list_before.sql", "/sql/news_list_before.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = {"/sql/news_list_after.sql", "/sql/user_list_after.sql"},
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@ActiveProfiles("test")
+public class CompressionEndPointTest {
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    public void setUp() {
+        //Fixtures keep plain passwords, requests to real server are authenticated by password check
+        jdbcTemplate.update("update app_user set password = ?", passwordEncoder.encode("123"));
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            text.append("Puppies are the most dangerous than soy milk. ");
+        }
+        for (long id = 100; id < 150; id++) {
+            jdbcTemplate.update("insert into news (id, date, title, text, user_id) values (?, '1990-04-22', ?, ?, 4)",
+                    id, "Puppies" + id + " are threat", text.toString());
+        }
+    }
+
+    @Test
+    public void getLargeNewsList_ShouldReturnGzipBody() throws IOException {
+        HttpURLConnection connection = open("/api/news", "application/x-protobuf");
+
+        assertEquals(200, connection.getResponseCode());
+        assertEquals("gzip", connection.getHeaderField(HttpHeaders.CONTENT_ENCODING));
+        //Strong tag doesn't prevent compression
+        assertTrue(connection.getHeaderField(HttpHeaders.ETAG).startsWith("\""));
+        try (InputStream body = new GZIPInputStream(connection.getInputStream())) {
+            assertEquals(66, NewsSimpleDtoList.parseFrom(body).getNewsDtoCount());
+        }
+    }
+
+    @Test
+    public void getLargeNewsListAsJson_ShouldReturnGzipBody() throws IOException {
+        HttpURLConnection connection = open("/api/news", "application/json");
+
+        assertEquals(200, connection.getResponseCode());
+        assertEquals("gzip", connection.getHeaderField(HttpHeaders.CONTENT_ENCODING));
+        try (InputStream body = new GZIPInputStream(connection.getInputStream())) {
+            assertTrue(StreamUtils.copyToString(body, StandardCharsets.UTF_8).contains("\"Puppies149 are threat\""));
+        }
+    }
+
+    @Test
+    public void getSmallNews_ShouldReturnBodyAsIs() throws IOException {
+        HttpURLConnection connection = open("/api/news/1", "application/x-protobuf");
+
+        assertEquals(200, connection.getResponseCode());
+        assertNull(connection.getHeaderField(HttpHeaders.CONTENT_ENCODING));
+        long length = connection.getContentLengthLong();
+        assertTrue(length > 0 && length < 2048);
+        assertEquals(length, StreamUtils.copyToByteArray(connection.getInputStream()).length);
+    }
+
+    private HttpURLConnection open(String path, String accept) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + path).openConnection();
+        connection.setRequestProperty(HttpHeaders.ACCEPT, accept);
+        connection.setRequestProperty(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        connection.setRequestProperty(HttpHeaders.AUTHORIZATION, "Basic " + Base64.getEncoder()
+                .encodeToString("sub1:123".getBytes(StandardCharsets.UTF_8)));
+        return connection;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo;
+
+import com.example.demo.entity.NewsChange;
+import com.example.demo.job.CounterReconciliationJob;
+import com.example.demo.repo.NewsRepo;
+import com.example.demo.repo.UserRepo;
+import com.example.demo.repo.projection.NewsHeadline;
+import com.example.demo.repo.projection.UserSummary;
+import com.example.demo.service.NewsChangeFeedService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@Sql(value = {"/sql/user_list_before.sql", "/sql/news_list_before.sql", "/sql/comment_list_before.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = {"/sql/comment_list_after.sql", "/sql/news_list_after.sql", "/sql/user_list_after.sql"},
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@ActiveProfiles("test")
+public class CounterReconciliationJobTest {
+    @Autowired
+    private CounterReconciliationJob counterReconciliationJob;
+
+    @Autowired
+    private NewsRepo newsRepo;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private NewsChangeFeedService newsChangeService;
+
+    @Test
+    public void reconcileConsistentCounters_ShouldRepairNothing() {
+        assertEquals(0, counterReconciliationJob.reconcile());
+    }
+
+    @Test
+    public void reconcileDriftedCounters_ShouldRepairThem() {
+        newsRepo.addCommentCount(1L, 5);
+        userRepo.addNewsCount(4L, -2);
+        userRepo.addCommentCount(6L, 1);
+
+        assertEquals(3, counterReconciliationJob.reconcile());
+
+        assertEquals(3, newsRepo.findById(1L, NewsHeadline.class).map(NewsHeadline::getCommentCount).orElse(-1L));
+        assertEquals(10, userRepo.findById(4L, UserSummary.class).map(UserSummary::getNewsCount).orElse(-1L));
+        assertEquals(8, userRepo.findById(6L, UserSummary.class).map(UserSummary::getCommentCount).orElse(-1L));
+    }
+
+    @Test
+    public void reconcileDriftedCounters_ShouldRecordChangeOfNews() {
+        newsRepo.addCommentCount(1L, 5);
+        long since = newsChangeService.findLastSeq();
+
+        counterReconciliationJob.reconcile();
+
+        assertEquals(Collections.singletonList(1L), newsChangeService.findChanges(since, 10).stream()
+                .map(NewsChange::getNewsId)
+                .collect(Collectors.toList()));
+    }
+}
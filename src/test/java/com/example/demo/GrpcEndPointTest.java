@@ -0,0 +1,218 @@
+package com.example.demo;
+
+import com.example.demo.dto.CommentServiceGrpc;
+import com.example.demo.dto.NewsServiceGrpc;
+import com.example.demo.dto.UserServiceGrpc;
+import com.example.demo.grpc.AuthenticationInterceptor;
+import com.example.demo.grpc.GrpcServer;
+import com.example.demo.repo.CommentRepo;
+import com.google.protobuf.FieldMask;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.demo.dto.CommentProto.CommentBatchResult;
+import static com.example.demo.dto.CommentProto.CommentOperationResult;
+import static com.example.demo.dto.CommentProto.CommentSimpleDto;
+import static com.example.demo.dto.CommentServiceGrpc.CommentServiceStub;
+import static com.example.demo.dto.NewsProto.NewsDto;
+import static com.example.demo.dto.NewsProto.NewsSimpleDto;
+import static com.example.demo.dto.NewsServiceGrpc.NewsServiceBlockingStub;
+import static com.example.demo.dto.RpcProto.IdRequest;
+import static com.example.demo.dto.RpcProto.ListRequest;
+import static com.example.demo.dto.RpcProto.NewsCommentsRequest;
+import static com.example.demo.dto.UserServiceGrpc.UserServiceBlockingStub;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@Sql(value = {"/sql/user_list_before.sql", "/sql/news_list_before.sql", "/sql/comment_list_before.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = {"/sql/comment_list_after.sql", "/sql/news_list_after.sql", "/sql/user_list_after.sql"},
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@ActiveProfiles("test")
+public class GrpcEndPointTest {
+    @Autowired
+    private GrpcServer grpcServer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private CommentRepo commentRepo;
+
+    private ManagedChannel channel;
+
+    @BeforeEach
+    public void setUp() {
+        //Fixtures keep plain passwords, gRPC calls are authenticated by password check
+        jdbcTemplate.update("update app_user set password = ?", passwordEncoder.encode("123"));
+        channel = ManagedChannelBuilder.forAddress("localhost", grpcServer.getPort()).usePlaintext().build();
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void getNews_ShouldReturnNews() {
+        NewsDto news = newsStub("sub1").getNews(IdRequest.newBuilder().setId(1).build());
+
+        assertEquals("Puppies are threat", news.getTitle());
+        assertEquals(3, news.getCommentsCount());
+    }
+
+    @Test
+    public void getMissingNews_ShouldFailWithNotFound() {
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> newsStub("sub1").getNews(IdRequest.newBuilder().setId(100).build()));
+
+        assertEquals(Status.Code.NOT_FOUND, exception.getStatus().getCode());
+    }
+
+    @Test
+    public void getNewsWithUnknownField_ShouldFailWithInvalidArgument() {
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> newsStub("sub1").getNews(IdRequest.newBuilder()
+                        .setId(1)
+                        .setFields(FieldMask.newBuilder().addPaths("unknown"))
+                        .build()));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+    }
+
+    @Test
+    public void callWithoutCredentials_ShouldFailWithUnauthenticated() {
+        NewsServiceBlockingStub stub = NewsServiceGrpc.newBlockingStub(channel);
+
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> stub.getNews(IdRequest.newBuilder().setId(1).build()));
+
+        assertEquals(Status.Code.UNAUTHENTICATED, exception.getStatus().getCode());
+    }
+
+    @Test
+    public void callWithWrongPassword_ShouldFailWithUnauthenticated() {
+        NewsServiceBlockingStub stub = NewsServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(credentials("sub1", "321")));
+
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> stub.getNews(IdRequest.newBuilder().setId(1).build()));
+
+        assertEquals(Status.Code.UNAUTHENTICATED, exception.getStatus().getCode());
+    }
+
+    @Test
+    public void listNews_ShouldStreamAllNews() {
+        List<NewsSimpleDto> news = new ArrayList<>();
+        newsStub("sub1").listNews(ListRequest.newBuilder()
+                .setFields(FieldMask.newBuilder().addPaths("id").addPaths("title"))
+                .build()).forEachRemaining(news::add);
+
+        assertEquals(16, news.size());
+        assertEquals("", news.get(0).getText());
+    }
+
+    @Test
+    public void listCommentsOfNews_ShouldStreamCommentsFromNewestToOldest() {
+        List<CommentSimpleDto> comments = new ArrayList<>();
+        CommentServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(credentials("sub1", "123")))
+                .listCommentsOfNews(NewsCommentsRequest.newBuilder().setNewsId(1).build())
+                .forEachRemaining(comments::add);
+
+        assertEquals(3, comments.size());
+        assertEquals(12L, comments.get(0).getId());
+        assertEquals(1L, comments.get(2).getId());
+    }
+
+    @Test
+    public void ingestComments_ShouldCreateStreamedComments() throws Exception {
+        long before = commentRepo.count();
+        CompletableFuture<CommentBatchResult> result = new CompletableFuture<>();
+        CommentServiceStub stub = CommentServiceGrpc.newStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(credentials("sub1", "123")));
+
+        StreamObserver<CommentSimpleDto> comments = stub.ingestComments(new StreamObserver<CommentBatchResult>() {
+            @Override
+            public void onNext(CommentBatchResult value) {
+                result.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                result.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+        comments.onNext(CommentSimpleDto.newBuilder().setText("First of stream").setNewsId(1).build());
+        comments.onNext(CommentSimpleDto.newBuilder().setText("Second of stream").setNewsId(2).build());
+        comments.onNext(CommentSimpleDto.newBuilder().setText("Comment of missing news").setNewsId(100).build());
+        comments.onCompleted();
+
+        CommentBatchResult batchResult = result.get(10, TimeUnit.SECONDS);
+        assertEquals(3, batchResult.getResultsCount());
+        assertEquals(CommentOperationResult.Status.OK, batchResult.getResults(0).getStatus());
+        assertEquals(CommentOperationResult.Status.OK, batchResult.getResults(1).getStatus());
+        assertEquals(CommentOperationResult.Status.NOT_FOUND, batchResult.getResults(2).getStatus());
+        assertEquals(before + 2, commentRepo.count());
+    }
+
+    @Test
+    public void getUserBySubscriber_ShouldFailWithPermissionDenied() {
+        UserServiceBlockingStub stub = UserServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(credentials("sub1", "123")));
+
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> stub.getUser(IdRequest.newBuilder().setId(1).build()));
+
+        assertEquals(Status.Code.PERMISSION_DENIED, exception.getStatus().getCode());
+    }
+
+    @Test
+    public void getUserByAdmin_ShouldReturnUser() {
+        UserServiceBlockingStub stub = UserServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(credentials("admin", "123")));
+
+        assertEquals("sub1", stub.getUser(IdRequest.newBuilder().setId(6).build()).getUsername());
+    }
+
+    private NewsServiceBlockingStub newsStub(String username) {
+        return NewsServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(credentials(username, "123")));
+    }
+
+    private static Metadata credentials(String username, String password) {
+        Metadata metadata = new Metadata();
+        metadata.put(AuthenticationInterceptor.AUTHORIZATION, "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8)));
+        return metadata;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo;
+
+import com.example.demo.cache.CacheEvent;
+import com.example.demo.cache.InvalidationBus;
+import com.example.demo.cache.NegativeCaches;
+import com.example.demo.exception.news.NewsNotFoundException;
+import com.example.demo.facade.CommentCrudFacade;
+import com.example.demo.facade.NewsCrudFacade;
+import com.example.demo.repo.UserRepo;
+import com.google.protobuf.FieldMask;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import javax.persistence.EntityManagerFactory;
+
+import static com.example.demo.dto.NewsProto.NewsSimpleDto;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest(properties = "spring.cache.type=jcache")
+@Sql(value = {"/sql/user_list_before.sql", "/sql/news_list_before.sql", "/sql/comment_list_before.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = {"/sql/comment_list_after.sql", "/sql/news_list_after.sql", "/sql/user_list_after.sql"},
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@ActiveProfiles("test")
+public class NegativeCacheTest {
+    private static final FieldMask ALL_FIELDS = FieldMask.getDefaultInstance();
+
+    @Autowired
+    private NewsCrudFacade newsFacade;
+
+    @Autowired
+    private CommentCrudFacade commentFacade;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void repeatedFindOfMissingNews_ShouldNotReachDataStorage() {
+        assertFalse(newsFacade.findById(999L, ALL_FIELDS).isPresent());
+        long statements = statistics.getPrepareStatementCount();
+
+        assertFalse(newsFacade.findById(999L, ALL_FIELDS).isPresent());
+        assertFalse(newsFacade.findByIdWithPageComment(999L, 0, 10, ALL_FIELDS).isPresent());
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void foundObjects_ShouldNotBeCached() {
+        newsFacade.findById(1L, ALL_FIELDS);
+        commentFacade.findById(1L, ALL_FIELDS);
+        newsFacade.findByTitle("Puppies are threat", ALL_FIELDS);
+
+        assertNull(cacheManager.getCache(NegativeCaches.MISSING_NEWS).get(1L));
+        assertNull(cacheManager.getCache(NegativeCaches.MISSING_COMMENTS).get(1L));
+        assertNull(cacheManager.getCache(NegativeCaches.EMPTY_NEWS_SEARCHES).get("title:Puppies are threat"));
+    }
+
+    @Test
+    public void publishedNews_ShouldBeEvictedFromMissingNews() {
+        commentFacade.findById(999L, ALL_FIELDS);
+        newsFacade.findById(999L, ALL_FIELDS);
+        assertNotNull(cacheManager.getCache(NegativeCaches.MISSING_NEWS).get(999L));
+
+        invalidationBus.publish(CacheEvent.Entity.NEWS, 999L);
+
+        assertNull(cacheManager.getCache(NegativeCaches.MISSING_NEWS).get(999L));
+        assertNotNull(cacheManager.getCache(NegativeCaches.MISSING_COMMENTS).get(999L));
+    }
+
+    @Test
+    public void createdNews_ShouldBeFoundBySearchCachedAsEmpty() {
+        assertEquals(0, newsFacade.findByTitle("Breaking story", ALL_FIELDS).getNewsDtoCount());
+        assertEquals(0, newsFacade.findByTitle("Breaking story", ALL_FIELDS).getNewsDtoCount());
+
+        newsFacade.save(NewsSimpleDto.newBuilder()
+                .setTitle("Breaking story")
+                .setText("Text of breaking story")
+                .build(), userRepo.findById(4L).orElseThrow(IllegalStateException::new));
+
+        assertEquals(1, newsFacade.findByTitle("Breaking story", ALL_FIELDS).getNewsDtoCount());
+    }
+
+    @Test
+    public void notFoundException_ShouldNotCaptureStackTrace() {
+        assertEquals(0, new NewsNotFoundException(999L).getStackTrace().length);
+    }
+}
@@ -2,30 +2,46 @@ package com.example.demo;
 
 import com.example.demo.exception.news.NewsNotFoundException;
 import com.example.demo.exception.request.BadRequestParametersException;
+import com.example.demo.exception.request.NotEnoughRightsException;
+import com.example.demo.exception.request.PreconditionFailedException;
 import com.example.demo.facade.impl.NewsFacade;
 import com.example.demo.repo.NewsRepo;
+import com.google.protobuf.FieldMask;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import static com.example.demo.dto.CommentProto.CommentSimpleDto;
+import static com.example.demo.dto.NewsProto.NewsChanges;
+import static com.example.demo.dto.NewsProto.NewsComment;
 import static com.example.demo.dto.NewsProto.NewsDto;
 import static com.example.demo.dto.NewsProto.NewsSimpleDto;
 import static com.example.demo.dto.NewsProto.NewsSimpleDtoList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -55,13 +71,13 @@ public class NewsEndPointTest {
                 .andExpect(content().contentTypeCompatibleWith("application/x-protobuf;charset=UTF-8"))
                 .andReturn();
 
-        assertEquals(NewsSimpleDtoList.parseFrom(mvcResult.getResponse().getContentAsByteArray()), newsFacade.findAll());
+        assertEquals(NewsSimpleDtoList.parseFrom(mvcResult.getResponse().getContentAsByteArray()), newsFacade.findAll(FieldMask.getDefaultInstance()));
     }
 
 
     @Test
     public void getNewsById_ShouldReturnNewsWithId() throws Exception {
-        NewsDto newsDto = newsFacade.findById(1L).orElse(NewsDto.getDefaultInstance());
+        NewsDto newsDto = newsFacade.findById(1L, FieldMask.getDefaultInstance()).orElse(NewsDto.getDefaultInstance());
 
         MvcResult mvcResult = mockMvc.perform(get("/api/news/1"))
                 .andExpect(authenticated())
@@ -75,9 +91,9 @@ public class NewsEndPointTest {
 
     @Test
     public void getNewsByTitle_ShouldReturnNewsWithTitle() throws Exception {
-        NewsSimpleDtoList newsList = newsFacade.findByTitle("Puppies are threat");
+        NewsSimpleDtoList newsList = newsFacade.findByTitle("Puppies are threat", FieldMask.getDefaultInstance());
 
-        MvcResult mvcResult = mockMvc.perform(get("/api/news?title=Puppies are threat"))
+        MvcResult mvcResult = performSearch(get("/api/news?title=Puppies are threat"))
                 .andExpect(authenticated())
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith("application/x-protobuf;charset=UTF-8"))
@@ -91,9 +107,9 @@ public class NewsEndPointTest {
 
     @Test
     public void getNewsByTitleLike_ShouldReturnNewsWithTitleContains() throws Exception {
-        NewsSimpleDtoList newsList = newsFacade.findByTitleContains("Puppies");
+        NewsSimpleDtoList newsList = newsFacade.findByTitleContains("Puppies", FieldMask.getDefaultInstance());
 
-        MvcResult mvcResult = mockMvc.perform(get("/api/news?textLike=Puppies"))
+        MvcResult mvcResult = performSearch(get("/api/news?textLike=Puppies"))
                 .andExpect(authenticated())
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith("application/x-protobuf;charset=UTF-8"))
@@ -107,10 +123,10 @@ public class NewsEndPointTest {
 
     @Test
     public void getNewsByText_ShouldReturnNewsWithText() throws Exception {
-        NewsSimpleDtoList newsList = newsFacade.findByText("Title are the most dangerous than soy milk");
+        NewsSimpleDtoList newsList = newsFacade.findByText("Title are the most dangerous than soy milk", FieldMask.getDefaultInstance());
 
         MvcResult mvcResult =
-                mockMvc.perform(get("/api/news?text=Title are the most dangerous than soy milk"))
+                performSearch(get("/api/news?text=Title are the most dangerous than soy milk"))
                         .andExpect(authenticated())
                         .andExpect(status().isOk())
                         .andExpect(content().contentTypeCompatibleWith("application/x-protobuf;charset=UTF-8"))
@@ -124,9 +140,9 @@ public class NewsEndPointTest {
 
     @Test
     public void getNewsByTextLike_ShouldReturnNewsWithTextContains() throws Exception {
-        NewsSimpleDtoList newsList = newsFacade.findByTextContains("milk");
+        NewsSimpleDtoList newsList = newsFacade.findByTextContains("milk", FieldMask.getDefaultInstance());
 
-        MvcResult mvcResult = mockMvc.perform(get("/api/news?textLike=milk"))
+        MvcResult mvcResult = performSearch(get("/api/news?textLike=milk"))
                 .andExpect(authenticated())
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith("application/x-protobuf;charset=UTF-8"))
@@ -138,6 +154,103 @@ public class NewsEndPointTest {
                 NewsSimpleDtoList.parseFrom(mvcResult.getResponse().getContentAsByteArray()));
     }
 
+    @Test
+    public void getNewsListWithFields_ShouldReturnOnlyRequestedFields() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/api/news?fields=id,title"))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andReturn();
+
+        NewsSimpleDtoList newsList = NewsSimpleDtoList.parseFrom(mvcResult.getResponse().getContentAsByteArray());
+        assertEquals(16, newsList.getNewsDtoCount());
+        assertTrue(newsList.getNewsDtoList().stream()
+                .allMatch(news -> news.getId() != 0 && !news.getTitle().isEmpty()
+                        && news.getText().isEmpty() && news.getDate().isEmpty()));
+    }
+
+    @Test
+    public void getNewsByIdWithFields_ShouldReturnNewsWithoutComments() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/api/news/1?fields=title,text"))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andReturn();
+
+        NewsDto newsDto = NewsDto.parseFrom(mvcResult.getResponse().getContentAsByteArray());
+        assertEquals(NewsDto.newBuilder()
+                .setTitle("Puppies are threat")
+                .setText("Puppies are the most dangerous than soy milk")
+                .build(), newsDto);
+    }
+
+    @Test
+    @Sql(value = {"/sql/user_list_before.sql", "/sql/news_list_before.sql", "/sql/comment_list_before.sql"},
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = {"/sql/comment_list_after.sql", "/sql/news_list_after.sql", "/sql/user_list_after.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    public void getNewsByIdWithCommentFields_ShouldReturnNewestCommentsAndCount() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/api/news/2?fields=comments,comment_count,comments_cursor"))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andReturn();
+
+        NewsDto newsDto = NewsDto.parseFrom(mvcResult.getResponse().getContentAsByteArray());
+        assertEquals(3, newsDto.getCommentCount());
+        assertEquals(Arrays.asList(11L, 2L, 5L), newsDto.getCommentsList().stream()
+                .map(NewsComment::getId)
+                .collect(Collectors.toList()));
+        assertTrue(newsDto.getCommentsCursor().isEmpty());
+    }
+
+    @Test
+    @Sql(value = {"/sql/user_list_before.sql", "/sql/news_list_before.sql", "/sql/comment_list_before.sql"},
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = {"/sql/comment_list_after.sql", "/sql/news_list_after.sql", "/sql/user_list_after.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    public void getNewsList_ShouldReturnCommentCounts() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/api/news?ids=1,3,7&fields=id,comment_count"))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andReturn();
+
+        NewsSimpleDtoList newsList = NewsSimpleDtoList.parseFrom(mvcResult.getResponse().getContentAsByteArray());
+        assertEquals(Arrays.asList(3L, 3L, 0L), newsList.getNewsDtoList().stream()
+                .map(NewsSimpleDto::getCommentCount)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void getNewsWithUnknownFields_ShouldReturnBadRequestParametersException() throws Exception {
+        mockMvc.perform(get("/api/news?fields=id,unknown"))
+                .andExpect(authenticated())
+                .andExpect(status().isBadRequest())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof BadRequestParametersException));
+    }
+
+    @Test
+    public void getNewsByIds_ShouldReturnNewsInRequestedOrder() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/api/news?ids=3,-1,1,3"))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-protobuf;charset=UTF-8"))
+                .andReturn();
+
+        NewsSimpleDtoList newsList = NewsSimpleDtoList.parseFrom(mvcResult.getResponse().getContentAsByteArray());
+        assertEquals(2, newsList.getNewsDtoCount());
+        assertEquals(3L, newsList.getNewsDto(0).getId());
+        assertEquals("Title for edit", newsList.getNewsDto(0).getTitle());
+        assertEquals(1L, newsList.getNewsDto(1).getId());
+        assertEquals(Collections.singletonList(-1L), newsList.getMissingIdsList());
+        assertEquals(newsList, newsFacade.findByIds(Arrays.asList(3L, -1L, 1L), FieldMask.getDefaultInstance()));
+    }
+
+    @Test
+    public void getNewsByIdsWithEmptyId_ShouldReturnBadRequestParametersException() throws Exception {
+        mockMvc.perform(get("/api/news?ids=1,,2"))
+                .andExpect(authenticated())
+                .andExpect(status().isBadRequest())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof BadRequestParametersException));
+    }
+
     @Test
     public void getNewsByNonExistId_ShouldReturnNotFound() throws Exception {
         mockMvc.perform(get("/api/news/-1"))
@@ -220,6 +333,28 @@ public class NewsEndPointTest {
         assertTrue(newsRepo.findByTitle("Title for delete").isEmpty());
     }
 
+    @Test
+    @WithUserDetails("journo2")
+    public void updateForeignNews_ShouldReturnNotEnoughRightsException() throws Exception {
+        NewsSimpleDto newsDto = NewsSimpleDto.newBuilder()
+                .setId(3L)
+                .setTitle("Title for edit new")
+                .setText("123")
+                .setUserId(5L)
+                .build();
+
+        MockHttpServletRequestBuilder requestBuilder = put("/api/news/3")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(newsDto.toByteArray());
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(authenticated())
+                .andExpect(status().isForbidden())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof NotEnoughRightsException));
+
+        assertEquals(1, newsRepo.findByTitle("Title for edit").size());
+    }
+
     @Test
     public void deleteNonExistNews_ShouldReturnNewsNotFoundException() throws Exception {
         mockMvc.perform(delete("/api/news/-1"))
@@ -227,4 +362,213 @@ public class NewsEndPointTest {
                 .andExpect(status().isNotFound())
                 .andExpect(result -> assertTrue(result.getResolvedException() instanceof NewsNotFoundException));
     }
+
+    @Test
+    public void getNewsByIdWithActualETag_ShouldReturnNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/news/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0.0\""))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/news/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(authenticated())
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    public void getNewsByIdAfterUpdate_ShouldReturnNewETag() throws Exception {
+        String eTag = mockMvc.perform(get("/api/news/3"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/news/3")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(editedNews().toByteArray()))
+                .andExpect(status().isOk());
+
+        String newETag = mockMvc.perform(get("/api/news/3").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, newETag);
+    }
+
+    @Test
+    public void updateNewsWithActualIfMatch_ShouldReturnOk() throws Exception {
+        mockMvc.perform(put("/api/news/3")
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(editedNews().toByteArray()))
+                .andExpect(authenticated())
+                .andExpect(status().isOk());
+
+        assertEquals(1, newsRepo.findByTitle("Title for edit new").size());
+    }
+
+    @Test
+    @Sql(value = {"/sql/user_list_before.sql", "/sql/news_list_before.sql", "/sql/comment_list_before.sql"},
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = {"/sql/comment_list_after.sql", "/sql/news_list_after.sql", "/sql/user_list_after.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    public void updateNewsWithIfMatchAfterNewComment_ShouldReturnOk() throws Exception {
+        String eTag = mockMvc.perform(get("/api/news/3"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(post("/api/comment/")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(CommentSimpleDto.newBuilder().setText("Comment during edit").setNewsId(3L).build()
+                        .toByteArray()))
+                .andExpect(status().isCreated());
+        //Comment changes representation of news, but not its title and text
+        assertNotEquals(eTag, mockMvc.perform(get("/api/news/3"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG));
+
+        mockMvc.perform(put("/api/news/3")
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(editedNews().toByteArray()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/news/3")
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(editedNews().toByteArray()))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void updateNewsWithWeakIfMatch_ShouldReturnPreconditionFailedException() throws Exception {
+        mockMvc.perform(put("/api/news/3")
+                .header(HttpHeaders.IF_MATCH, "W/\"0.0\"")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(editedNews().toByteArray()))
+                .andExpect(authenticated())
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof PreconditionFailedException));
+
+        assertEquals(1, newsRepo.findByTitle("Title for edit").size());
+    }
+
+    @Test
+    public void updateNewsWithStaleIfMatch_ShouldReturnPreconditionFailedException() throws Exception {
+        mockMvc.perform(put("/api/news/3")
+                .header(HttpHeaders.IF_MATCH, "\"5\"")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(editedNews().toByteArray()))
+                .andExpect(authenticated())
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof PreconditionFailedException));
+
+        assertEquals(1, newsRepo.findByTitle("Title for edit").size());
+    }
+
+    @Test
+    public void getNewsListWithActualETag_ShouldReturnNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/news"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/news").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(authenticated())
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(delete("/api/news/6"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/news").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void getNewsChanges_ShouldReturnInsertedUpdatedAndDeletedNews() throws Exception {
+        NewsSimpleDto newsDto = NewsSimpleDto.newBuilder()
+                .setTitle("testnewsname")
+                .setText("123")
+                .setUserId(4L)
+                .build();
+        mockMvc.perform(post("/api/news/")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(newsDto.toByteArray()))
+                .andExpect(status().isCreated());
+        long token = changesSince(0L).getToken();
+
+        mockMvc.perform(put("/api/news/3")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(editedNews().toByteArray()))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/news/6"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/news/")
+                .contentType("application/x-protobuf;charset=UTF-8")
+                .content(newsDto.toBuilder().setTitle("Other testnewsname").build().toByteArray()))
+                .andExpect(status().isCreated());
+
+        NewsChanges changes = changesSince(token);
+        assertEquals(Collections.singletonList("Other testnewsname"), changes.getInsertedList().stream()
+                .map(NewsSimpleDto::getTitle)
+                .collect(Collectors.toList()));
+        assertEquals(Collections.singletonList("Title for edit new"), changes.getUpdatedList().stream()
+                .map(NewsSimpleDto::getTitle)
+                .collect(Collectors.toList()));
+        assertEquals(Collections.singletonList(6L), changes.getDeletedIdsList());
+        assertTrue(changes.getToken() > token);
+
+        NewsChanges noChanges = changesSince(changes.getToken());
+        assertEquals(NewsChanges.newBuilder().setToken(changes.getToken()).build(), noChanges);
+    }
+
+    @Test
+    public void getNewsChangesWithSize_ShouldReturnChangesByPages() throws Exception {
+        mockMvc.perform(delete("/api/news/6"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/news/7"))
+                .andExpect(status().isOk());
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/news/changes?size=1"))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-protobuf;charset=UTF-8"))
+                .andReturn();
+        NewsChanges firstPage = NewsChanges.parseFrom(mvcResult.getResponse().getContentAsByteArray());
+        assertEquals(Collections.singletonList(6L), firstPage.getDeletedIdsList());
+        assertTrue(firstPage.getHasMore());
+
+        mvcResult = mockMvc.perform(get("/api/news/changes?size=1&since=" + firstPage.getToken()))
+                .andReturn();
+        NewsChanges secondPage = NewsChanges.parseFrom(mvcResult.getResponse().getContentAsByteArray());
+        assertEquals(Collections.singletonList(7L), secondPage.getDeletedIdsList());
+    }
+
+    @Test
+    public void getNewsChangesWithNegativeToken_ShouldReturnBadRequestParametersException() throws Exception {
+        mockMvc.perform(get("/api/news/changes?since=-1"))
+                .andExpect(authenticated())
+                .andExpect(status().isBadRequest())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof BadRequestParametersException));
+    }
+
+    private NewsChanges changesSince(Long since) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/api/news/changes?since=" + since))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andReturn();
+        return NewsChanges.parseFrom(mvcResult.getResponse().getContentAsByteArray());
+    }
+
+    private static NewsSimpleDto editedNews() {
+        return NewsSimpleDto.newBuilder()
+                .setId(3L)
+                .setTitle("Title for edit new")
+                .setText("123")
+                .setUserId(4L)
+                .build();
+    }
+
+    //Searches are completed by search pool
+    private ResultActions performSearch(MockHttpServletRequestBuilder search) throws Exception {
+        MvcResult started = mockMvc.perform(search)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        started.getAsyncResult(5000);
+        return mockMvc.perform(asyncDispatch(started));
+    }
 }
@@ -0,0 +1,125 @@
+package com.example.demo;
+
+import com.example.demo.rx.RxNewsHandler;
+import com.example.demo.rx.RxServer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.demo.dto.CommentProto.CommentSimpleDto;
+import static com.example.demo.dto.NewsProto.NewsSimpleDto;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Sql(value = {"/sql/user_list_before.sql", "/sql/news_list_before.sql", "/sql/comment_list_before.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = {"/sql/comment_list_after.sql", "/sql/news_list_after.sql", "/sql/user_list_after.sql"},
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@ActiveProfiles("test")
+public class RxNewsEndPointTest {
+    @Autowired
+    private RxServer rxServer;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    public void setUp() {
+        webTestClient = WebTestClient.bindToServer().baseUrl("http://localhost:" + rxServer.getPort()).build();
+    }
+
+    @Test
+    public void getNews_ShouldStreamNewestNewsWithoutAuthentication() throws Exception {
+        byte[] body = webTestClient.get().uri("/api/rx/news?limit=3")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(RxNewsHandler.PROTOBUF)
+                .expectBody().returnResult().getResponseBody();
+
+        List<NewsSimpleDto> news = parseNews(body);
+        assertEquals(3, news.size());
+        assertEquals(16L, news.get(0).getId());
+        assertEquals(14L, news.get(2).getId());
+        assertEquals("Puppies12 are threat", news.get(0).getTitle());
+    }
+
+    @Test
+    public void getNewsBefore_ShouldContinueFromLastReceivedNews() throws Exception {
+        byte[] body = webTestClient.get().uri("/api/rx/news?before=3")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().returnResult().getResponseBody();
+
+        List<NewsSimpleDto> news = parseNews(body);
+        assertEquals(2, news.size());
+        assertEquals(2L, news.get(0).getId());
+        assertEquals(1L, news.get(1).getId());
+    }
+
+    @Test
+    public void getNewsWithWrongLimit_ShouldReturnBadRequest() {
+        webTestClient.get().uri("/api/rx/news?limit=0")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void getComments_ShouldStreamNewestCommentsOfNews() throws Exception {
+        byte[] body = webTestClient.get().uri("/api/rx/news/1/comments")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().returnResult().getResponseBody();
+
+        List<CommentSimpleDto> comments = new ArrayList<>();
+        InputStream input = new ByteArrayInputStream(body);
+        CommentSimpleDto comment;
+        while ((comment = CommentSimpleDto.parseDelimitedFrom(input)) != null) {
+            comments.add(comment);
+        }
+        assertEquals(3, comments.size());
+        assertEquals(12L, comments.get(0).getId());
+        assertEquals(1L, comments.get(2).getId());
+        assertTrue(comments.stream().allMatch(c -> c.getNewsId() == 1L));
+    }
+
+    @Test
+    public void getCommentsAsJsonLines_ShouldWriteOneCommentPerLine() {
+        String body = webTestClient.get().uri("/api/rx/news/2/comments?limit=2")
+                .accept(RxNewsHandler.NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(RxNewsHandler.NDJSON)
+                .expectBody(String.class).returnResult().getResponseBody();
+
+        String[] lines = body.trim().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"text\":\"Puppies7 are threat\""));
+    }
+
+    @Test
+    public void getCommentsOfMissingNews_ShouldReturnNotFound() {
+        webTestClient.get().uri("/api/rx/news/100/comments")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private static List<NewsSimpleDto> parseNews(byte[] body) throws IOException {
+        List<NewsSimpleDto> news = new ArrayList<>();
+        InputStream input = new ByteArrayInputStream(body);
+        NewsSimpleDto dto;
+        while ((dto = NewsSimpleDto.parseDelimitedFrom(input)) != null) {
+            news.add(dto);
+        }
+        return news;
+    }
+}
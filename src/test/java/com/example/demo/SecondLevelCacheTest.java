@@ -0,0 +1,115 @@
+package com.example.demo;
+
+import com.example.demo.entity.News;
+import com.example.demo.job.CounterReconciliationJob;
+import com.example.demo.repo.NewsRepo;
+import com.example.demo.repo.UserRepo;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true"})
+@Sql(value = {"/sql/user_list_before.sql", "/sql/news_list_before.sql", "/sql/comment_list_before.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = {"/sql/comment_list_after.sql", "/sql/news_list_after.sql", "/sql/user_list_after.sql"},
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@ActiveProfiles("test")
+public class SecondLevelCacheTest {
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private NewsRepo newsRepo;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CounterReconciliationJob counterReconciliationJob;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        //Fixtures are inserted by sql scripts, so cached state of previous tests is dropped
+        sessionFactory.getCache().unwrap(Cache.class).evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void repeatedFindByUsername_ShouldNotReachDataStorage() {
+        assertTrue(userRepo.findByUsername("journo1").isPresent());
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals("journo1", userRepo.findByUsername("journo1").map(user -> user.getUsername()).orElse(""));
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    public void repeatedFindUserById_ShouldReturnCachedUserWithRoles() {
+        assertTrue(userRepo.findById(1L).isPresent());
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(1, userRepo.findById(1L).map(user -> user.getRoles().size()).orElse(0));
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 2);
+    }
+
+    @Test
+    public void cacheHits_ShouldBePublishedAsMetrics() {
+        userRepo.findById(1L);
+        userRepo.findById(1L);
+
+        assertTrue(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", "com.example.demo.entity.User")
+                .tag("result", "hit")
+                .functionCounter()
+                .count() >= 1);
+    }
+
+    @Test
+    public void commentCounterUpdate_ShouldNotEvictCachedNews() {
+        assertTrue(newsRepo.findById(1L).isPresent());
+        newsRepo.addCommentCount(1L, 1);
+        long statements = statistics.getPrepareStatementCount();
+
+        assertTrue(newsRepo.findById(1L).isPresent());
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void reconcileDriftedCounter_ShouldEvictCachedNews() {
+        newsRepo.addCommentCount(1L, 5);
+        assertTrue(newsRepo.findById(1L).isPresent());
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        assertTrue(cache.containsEntity(News.class, 1L));
+
+        counterReconciliationJob.reconcile();
+
+        assertFalse(cache.containsEntity(News.class, 1L));
+    }
+}
@@ -6,6 +6,7 @@ import com.example.demo.exception.user.UserNotFoundException;
 import com.example.demo.exception.user.UsernameReservedException;
 import com.example.demo.facade.impl.UserFacade;
 import com.example.demo.repo.UserRepo;
+import com.google.protobuf.FieldMask;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -17,6 +18,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.util.Collections;
+
+import static com.example.demo.dto.CommentProto.CommentSimpleDtoList;
+import static com.example.demo.dto.NewsProto.NewsSimpleDtoList;
 import static com.example.demo.dto.UserProto.UserDto;
 import static com.example.demo.dto.UserProto.UserSimpleDto;
 import static com.example.demo.dto.UserProto.UserSimpleDtoList;
@@ -57,14 +62,14 @@ public class UserEndPointTest {
                 .andExpect(content().contentTypeCompatibleWith("application/x-protobuf;charset=UTF-8"))
                 .andReturn();
 
-        assertEquals(userFacade.findAll(),
+        assertEquals(userFacade.findAll(FieldMask.getDefaultInstance()),
                 UserSimpleDtoList.parseFrom(mvcResult.getResponse().getContentAsByteArray()));
     }
 
 
     @Test
     public void getUserById_ShouldReturnUserWithId() throws Exception {
-        UserDto userDto = userFacade.findById(1L).orElse(UserDto.getDefaultInstance());
+        UserDto userDto = userFacade.findById(1L, FieldMask.getDefaultInstance()).orElse(UserDto.getDefaultInstance());
 
         MvcResult mvcResult = mockMvc.perform(get("/api/user/1"))
                 .andExpect(authenticated())
@@ -75,6 +80,78 @@ public class UserEndPointTest {
         assertEquals(UserDto.parseFrom(mvcResult.getResponse().getContentAsByteArray()), userDto);
     }
 
+    @Test
+    public void getUsersByIds_ShouldReturnUsersWithRolesInRequestedOrder() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/api/user?ids=6,-1,4"))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-protobuf;charset=UTF-8"))
+                .andReturn();
+
+        UserSimpleDtoList userList = UserSimpleDtoList.parseFrom(mvcResult.getResponse().getContentAsByteArray());
+        assertEquals(2, userList.getUserDtoCount());
+        assertEquals("sub1", userList.getUserDto(0).getUsername());
+        assertEquals(Collections.singletonList(UserProto.Role.SUBSCRIBER), userList.getUserDto(0).getRolesList());
+        assertEquals("journo1", userList.getUserDto(1).getUsername());
+        assertEquals(Collections.singletonList(UserProto.Role.JOURNALIST), userList.getUserDto(1).getRolesList());
+        assertEquals(Collections.singletonList(-1L), userList.getMissingIdsList());
+    }
+
+    @Test
+    public void getUserById_ShouldReturnNewsAndCommentCounters() throws Exception {
+        MvcResult journalist = mockMvc.perform(get("/api/user/4"))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andReturn();
+        UserDto journalistDto = UserDto.parseFrom(journalist.getResponse().getContentAsByteArray());
+        assertEquals(10, journalistDto.getNewsCount());
+        assertEquals(0, journalistDto.getCommentCount());
+
+        MvcResult subscriber = mockMvc.perform(get("/api/user/6"))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andReturn();
+        UserDto subscriberDto = UserDto.parseFrom(subscriber.getResponse().getContentAsByteArray());
+        assertEquals(0, subscriberDto.getNewsCount());
+        assertEquals(8, subscriberDto.getCommentCount());
+    }
+
+    @Test
+    public void getUserNews_ShouldReturnNewsPagesByCursor() throws Exception {
+        MvcResult firstPage = mockMvc.perform(get("/api/user/4/news").param("size", "6"))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andReturn();
+        NewsSimpleDtoList first = NewsSimpleDtoList.parseFrom(firstPage.getResponse().getContentAsByteArray());
+        assertEquals(6, first.getNewsDtoCount());
+        assertFalse(first.getNextCursor().isEmpty());
+
+        MvcResult secondPage = mockMvc.perform(get("/api/user/4/news")
+                        .param("size", "6")
+                        .param("cursor", first.getNextCursor()))
+                .andExpect(status().isOk())
+                .andReturn();
+        NewsSimpleDtoList second = NewsSimpleDtoList.parseFrom(secondPage.getResponse().getContentAsByteArray());
+        assertEquals(4, second.getNewsDtoCount());
+        assertTrue(second.getNextCursor().isEmpty());
+        assertTrue(second.getNewsDtoList().stream().allMatch(news -> news.getUserId() == 4));
+    }
+
+    @Test
+    public void getUserComments_ShouldReturnCommentsFromNewest() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/api/user/6/comments").param("size", "3"))
+                .andExpect(authenticated())
+                .andExpect(status().isOk())
+                .andReturn();
+        CommentSimpleDtoList comments = CommentSimpleDtoList.parseFrom(mvcResult.getResponse().getContentAsByteArray());
+
+        assertEquals(3, comments.getCommentDtoCount());
+        assertEquals(11, comments.getCommentDto(0).getId());
+        assertEquals(2, comments.getCommentDto(1).getId());
+        assertEquals(12, comments.getCommentDto(2).getId());
+        assertFalse(comments.getNextCursor().isEmpty());
+    }
+
     @Test
     public void getUserByNonExistId_ShouldReturnNotFound() throws Exception {
         mockMvc.perform(get("/api/user/-1"))
@@ -204,6 +281,18 @@ public class UserEndPointTest {
         assertFalse(userRepo.existsByUsername("sub1"));
     }
 
+    @Test
+    public void deleteUserWithNews_ShouldDecreaseCommentCountersOfCommentators() throws Exception {
+        mockMvc.perform(delete("/api/user/4"))
+                .andExpect(authenticated())
+                .andExpect(status().isOk());
+
+        assertEquals(0, userFacade.findById(6L, FieldMask.getDefaultInstance())
+                .orElse(UserDto.getDefaultInstance()).getCommentCount());
+        assertEquals(0, userFacade.findById(7L, FieldMask.getDefaultInstance())
+                .orElse(UserDto.getDefaultInstance()).getCommentCount());
+    }
+
     @Test
     public void deleteNonExistUser_ShouldReturnUserNotFoundException() throws Exception {
         mockMvc.perform(delete("/api/user/-1"))
@@ -0,0 +1,86 @@
+package com.example.demo.unit.async;
+
+import com.example.demo.async.Bulkhead;
+import com.example.demo.config.BulkheadProperties;
+import com.example.demo.exception.request.BadRequestParametersException;
+import com.example.demo.exception.request.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BulkheadTest {
+    private final BulkheadProperties.Pool properties = new BulkheadProperties.Pool();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private Bulkhead bulkhead;
+
+    @BeforeEach
+    public void setUp() {
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        bulkhead = new Bulkhead("search", properties, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        bulkhead.destroy();
+    }
+
+    @Test
+    public void submit_ShouldExecuteRequestByThreadOfPool() throws InterruptedException {
+        DeferredResult<String> result = bulkhead.submit(() -> Thread.currentThread().getName());
+
+        assertTrue(((String) await(result)).startsWith("search-bulkhead-"));
+    }
+
+    @Test
+    public void failedRequest_ShouldCompleteResultWithException() throws InterruptedException {
+        DeferredResult<String> result = bulkhead.submit(() -> {
+            throw new BadRequestParametersException("Error in data");
+        });
+
+        assertTrue(await(result) instanceof BadRequestParametersException);
+    }
+
+    @Test
+    public void fullPool_ShouldRejectRequestAtOnce() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        DeferredResult<String> executed = bulkhead.submit(() -> {
+            awaitQuietly(release);
+            return "executed";
+        });
+        DeferredResult<String> queued = bulkhead.submit(() -> "queued");
+
+        assertThrows(ServiceUnavailableException.class, () -> bulkhead.submit(() -> "rejected"));
+        assertEquals(1.0, meterRegistry.get("app.bulkhead.rejected").tag("name", "search").counter().count());
+
+        release.countDown();
+        assertEquals("executed", await(executed));
+        assertEquals("queued", await(queued));
+    }
+
+    private static Object await(DeferredResult<?> result) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!result.hasResult() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return result.getResult();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.demo.unit.cache;
+
+import com.example.demo.cache.CacheEvent;
+import com.example.demo.cache.CacheInvalidationListener;
+import com.example.demo.cache.InvalidationBus;
+import com.example.demo.config.InvalidationProperties;
+import com.example.demo.config.ReplicaProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.example.demo.cache.CacheEvent.Entity;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class InvalidationBusTest {
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    private final CacheInvalidationListener listener = mock(CacheInvalidationListener.class);
+
+    private final InvalidationProperties properties = new InvalidationProperties();
+
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<ReplicaProperties> replicaProperties = mock(ObjectProvider.class);
+
+    private InvalidationBus invalidationBus;
+
+    @BeforeEach
+    public void setUp() {
+        invalidationBus = new InvalidationBus(jdbcTemplate, new DataSourceProperties(), properties,
+                Collections.singletonList(listener), replicaProperties);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.clear();
+        invalidationBus.stop();
+    }
+
+    @Test
+    public void decode_ShouldReturnEventForEachId() {
+        assertEquals(Arrays.asList(new CacheEvent(Entity.NEWS, 1L, 7), new CacheEvent(Entity.NEWS, 2L, 7)),
+                CacheEvent.decode("NEWS:1,2:7"));
+    }
+
+    @Test
+    public void decodeMalformedPayload_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> CacheEvent.decode("NEWS:1,2"));
+    }
+
+    @Test
+    public void coalesce_ShouldKeepLatestEventOfEachObject() {
+        assertEquals(Arrays.asList(new CacheEvent(Entity.NEWS, 1L, 9), new CacheEvent(Entity.USER, 1L, 8)),
+                Arrays.asList(InvalidationBus.coalesce(Arrays.asList(
+                        new CacheEvent(Entity.NEWS, 1L, 7),
+                        new CacheEvent(Entity.USER, 1L, 8),
+                        new CacheEvent(Entity.NEWS, 1L, 9),
+                        new CacheEvent(Entity.NEWS, 1L, 8))).toArray()));
+    }
+
+    @Test
+    public void changesOfTransaction_ShouldBeNotifiedOnceBeforeCommit() {
+        invalidationBus.publish(Entity.NEWS, 1L);
+        invalidationBus.publish(Entity.NEWS, Arrays.asList(2L, 1L));
+        verifyNoInteractions(jdbcTemplate);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+
+        verify(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class),
+                eq(InvalidationBus.CHANNEL), eq("NEWS:1,2"));
+    }
+
+    @Test
+    public void changesOfTransaction_ShouldBeEvictedLocallyAfterCommit() {
+        invalidationBus.publish(Entity.NEWS, 1L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+        verifyNoInteractions(listener);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(listener).evict(Collections.singletonList(new CacheEvent(Entity.NEWS, 1L, 0)));
+    }
+
+    @Test
+    public void changesOfTransactionWhenBusDisabled_ShouldBeEvictedLocallyAfterCommit() {
+        properties.setEnabled(false);
+
+        invalidationBus.publish(Entity.COMMENT, Arrays.asList(3L, 4L));
+        verifyNoInteractions(listener);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(listener).evict(Arrays.asList(new CacheEvent(Entity.COMMENT, 3L, 0),
+                new CacheEvent(Entity.COMMENT, 4L, 0)));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void changesOfRolledBackTransaction_ShouldNotBeEvicted() {
+        properties.setEnabled(false);
+
+        invalidationBus.publish(Entity.USER, 5L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(listener, never()).evict(any());
+        assertFalse(TransactionSynchronizationManager.hasResource(invalidationBus));
+    }
+
+    @Test
+    public void changesWithReplicas_ShouldBeEvictedAgainAfterReadYourWritesWindow() {
+        ReplicaProperties replicas = new ReplicaProperties();
+        replicas.getReplicas().add(new ReplicaProperties.Replica());
+        replicas.setReadYourWritesWindow(Duration.ofMillis(100));
+        when(replicaProperties.getIfAvailable()).thenReturn(replicas);
+        properties.setEnabled(false);
+        invalidationBus = new InvalidationBus(jdbcTemplate, new DataSourceProperties(), properties,
+                Collections.singletonList(listener), replicaProperties);
+
+        invalidationBus.publish(Entity.NEWS, 1L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        //Old state could be loaded from lagging replica right after first eviction
+        verify(listener).evict(Collections.singletonList(new CacheEvent(Entity.NEWS, 1L, 0)));
+        verify(listener, timeout(1000).times(2)).evict(Collections.singletonList(new CacheEvent(Entity.NEWS, 1L, 0)));
+    }
+}
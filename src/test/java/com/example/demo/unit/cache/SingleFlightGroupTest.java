@@ -0,0 +1,109 @@
+package com.example.demo.unit.cache;
+
+import com.example.demo.cache.SingleFlightGroup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SingleFlightGroupTest {
+    private final SingleFlightGroup group = new SingleFlightGroup();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private final CountDownLatch loadStarted = new CountDownLatch(1);
+
+    private final CountDownLatch loadAllowed = new CountDownLatch(1);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void concurrentCallsWithEqualKey_ShouldShareOneLoad() throws Exception {
+        Object value = new Object();
+        Future<Object> leader = submit("news-1", () -> {
+            loads.incrementAndGet();
+            loadStarted.countDown();
+            loadAllowed.await();
+            return value;
+        });
+        assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+        Future<Object> follower = submit("news-1", () -> {
+            loads.incrementAndGet();
+            return new Object();
+        });
+        waitForSharedCount(1);
+        loadAllowed.countDown();
+
+        assertSame(value, leader.get(5, TimeUnit.SECONDS));
+        assertSame(value, follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void callsWithDifferentKeys_ShouldLoadSeparately() throws Throwable {
+        assertEquals("news-1", group.execute("news-1", () -> "news-1"));
+        assertEquals("news-2", group.execute("news-2", () -> "news-2"));
+        assertEquals(0, group.getSharedCount());
+    }
+
+    @Test
+    public void exceptionOfLoad_ShouldBeThrownToAllCallers() throws Exception {
+        Future<Object> leader = submit("news-1", () -> {
+            loadStarted.countDown();
+            loadAllowed.await();
+            throw new IllegalStateException("Database is not available");
+        });
+        assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+        Future<Object> follower = submit("news-1", Object::new);
+        waitForSharedCount(1);
+        loadAllowed.countDown();
+
+        assertTrue(assertThrows(ExecutionException.class, leader::get).getCause() instanceof IllegalStateException);
+        assertTrue(assertThrows(ExecutionException.class, follower::get).getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void callAfterCompletedLoad_ShouldLoadAgain() throws Throwable {
+        group.execute("news-1", loads::incrementAndGet);
+        group.execute("news-1", loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+    }
+
+    //Callable can't throw Throwable, so only throwables, that are neither exceptions nor errors, are wrapped
+    private Future<Object> submit(String key, SingleFlightGroup.Loader<Object> loader) {
+        return executor.submit(() -> {
+            try {
+                return group.execute(key, loader);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private void waitForSharedCount(long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (group.getSharedCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, group.getSharedCount());
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.demo.unit.cache;
+
+import com.example.demo.cache.CacheEvent;
+import com.example.demo.cache.StaleWhileRevalidate;
+import com.example.demo.cache.StaleWhileRevalidateAspect;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class StaleWhileRevalidateAspectTest {
+    private final ConcurrentMapCache cache = new ConcurrentMapCache("staleReads");
+
+    private final DataSource dataSource = mock(DataSource.class);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private final ProceedingJoinPoint jp = mock(ProceedingJoinPoint.class);
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private final CountDownLatch loadAllowed = new CountDownLatch(1);
+
+    private StaleWhileRevalidateAspect aspect;
+
+    @BeforeEach
+    public void setUp() throws NoSuchMethodException {
+        aspect = new StaleWhileRevalidateAspect(cache, dataSource, executor, Duration.ofMillis(100));
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.toLongString()).thenReturn("findById(java.lang.Long)");
+        when(signature.getMethod()).thenReturn(getClass().getMethod("findById", Long.class));
+        when(jp.getSignature()).thenReturn(signature);
+        when(jp.getTarget()).thenReturn(this);
+        when(jp.getArgs()).thenReturn(new Object[]{1L});
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        loadAllowed.countDown();
+        aspect.destroy();
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void fastLoad_ShouldReturnFreshResult() throws Throwable {
+        when(jp.proceed()).thenReturn(Optional.of("old"), Optional.of("new"));
+
+        assertEquals(Optional.of("old"), aspect.serve(jp));
+        assertEquals(Optional.of("new"), aspect.serve(jp));
+
+        assertNull(response.getHeader("Warning"));
+    }
+
+    @Test
+    public void slowLoad_ShouldServeStaleResultAndRefreshItInBackground() throws Throwable {
+        when(jp.proceed()).thenReturn(Optional.of("old"))
+                .thenThrow(new QueryTimeoutException("Statement cancelled"))
+                .thenReturn(Optional.of("new"));
+        aspect.serve(jp);
+
+        assertEquals(Optional.of("old"), aspect.serve(jp));
+        assertEquals(StaleWhileRevalidateAspect.STALE_WARNING, response.getHeader("Warning"));
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(Optional.of("new"), cache.get(cache.getNativeCache().keySet().iterator().next()).get());
+    }
+
+    @Test
+    public void loadWithKeptResult_ShouldRunInCallingThreadWithLatencyBudget() throws Throwable {
+        Thread caller = Thread.currentThread();
+        when(jp.proceed()).thenReturn(Optional.of("old")).thenAnswer(invocation -> {
+            assertEquals(caller, Thread.currentThread());
+            return Optional.ofNullable(StaleWhileRevalidateAspect.currentBudget());
+        });
+        aspect.serve(jp);
+
+        assertEquals(Optional.of(Duration.ofMillis(100)), aspect.serve(jp));
+        assertNull(StaleWhileRevalidateAspect.currentBudget());
+        assertNull(response.getHeader("Warning"));
+    }
+
+    @Test
+    public void backgroundRefresh_ShouldReadWithSecurityContextOfCaller() throws Throwable {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new TestingAuthenticationToken("journalist", null));
+        AtomicReference<Authentication> refreshedBy = new AtomicReference<>();
+        when(jp.proceed()).thenReturn(Optional.of("old"))
+                .thenThrow(new QueryTimeoutException("Statement cancelled"))
+                .thenAnswer(invocation -> {
+                    refreshedBy.set(SecurityContextHolder.getContext().getAuthentication());
+                    return Optional.of("new");
+                });
+        aspect.serve(jp);
+        aspect.serve(jp);
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals("journalist", refreshedBy.get().getName());
+    }
+
+    @Test
+    public void failedDataStorage_ShouldServeStaleResult() throws Throwable {
+        when(jp.proceed()).thenReturn(Optional.of("old"))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+        aspect.serve(jp);
+
+        assertEquals(Optional.of("old"), aspect.serve(jp));
+        assertEquals(StaleWhileRevalidateAspect.STALE_WARNING, response.getHeader("Warning"));
+        assertTrue(StaleWhileRevalidateAspect.servedStale());
+    }
+
+    @Test
+    public void changedObject_ShouldNotBeServedFromStaleResult() throws Throwable {
+        when(jp.proceed()).thenReturn(Optional.of("old"))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+        aspect.serve(jp);
+
+        aspect.evict(Collections.singletonList(new CacheEvent(CacheEvent.Entity.NEWS, 1L, 1L)));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> aspect.serve(jp));
+        assertFalse(StaleWhileRevalidateAspect.servedStale());
+    }
+
+    @Test
+    public void changedOtherObject_ShouldKeepStaleResult() throws Throwable {
+        when(jp.proceed()).thenReturn(Optional.of("old"))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+        aspect.serve(jp);
+
+        aspect.evict(Arrays.asList(new CacheEvent(CacheEvent.Entity.NEWS, 2L, 1L),
+                new CacheEvent(CacheEvent.Entity.COMMENT, 1L, 1L)));
+
+        assertEquals(Optional.of("old"), aspect.serve(jp));
+    }
+
+    @Test
+    public void failedDataStorageWithoutKeptResult_ShouldThrowException() throws Throwable {
+        when(jp.proceed()).thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> aspect.serve(jp));
+    }
+
+    @Test
+    public void saturatedPool_ShouldServeStaleResultWithoutWaiting() throws Throwable {
+        when(jp.proceed()).thenReturn(Optional.of("old")).thenAnswer(invocation -> {
+            loadAllowed.await();
+            return Optional.of("new");
+        });
+        aspect.serve(jp);
+        saturatePool();
+
+        long start = System.nanoTime();
+        assertEquals(Optional.of("old"), aspect.serve(jp));
+
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(StaleWhileRevalidateAspect.STALE_WARNING, response.getHeader("Warning"));
+    }
+
+    @Test
+    public void missingObject_ShouldNotBeServedFromStaleResult() throws Throwable {
+        when(jp.proceed()).thenReturn(Optional.of("old"), Optional.empty());
+        aspect.serve(jp);
+
+        assertEquals(Optional.empty(), aspect.serve(jp));
+
+        assertTrue(cache.getNativeCache().isEmpty());
+    }
+
+    @StaleWhileRevalidate(CacheEvent.Entity.NEWS)
+    public Optional<String> findById(Long id) {
+        return Optional.empty();
+    }
+
+    private void saturatePool() throws SQLException {
+        HikariDataSource hikariDataSource = mock(HikariDataSource.class);
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(3);
+        when(hikariDataSource.getHikariPoolMXBean()).thenReturn(pool);
+        when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(hikariDataSource);
+    }
+}
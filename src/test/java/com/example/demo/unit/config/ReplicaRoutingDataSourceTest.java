@@ -0,0 +1,102 @@
+package com.example.demo.unit.config;
+
+import com.example.demo.config.ReplicaRoutingDataSource;
+import com.example.demo.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReplicaRoutingDataSourceTest {
+    private final Connection primaryConnection = mock(Connection.class);
+
+    private final Connection firstReplicaConnection = mock(Connection.class);
+
+    private final Connection secondReplicaConnection = mock(Connection.class);
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        routingDataSource = new ReplicaRoutingDataSource(dataSourceOf(primaryConnection),
+                Arrays.asList(dataSourceOf(firstReplicaConnection), dataSourceOf(secondReplicaConnection)),
+                Duration.ofMinutes(1));
+        routingDataSource.afterPropertiesSet();
+
+        User user = new User();
+        user.setId(4L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, Collections.emptyList()));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void readOnlyTransactions_ShouldBeRoutedToReplicasByTurns() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(firstReplicaConnection, routingDataSource.getConnection());
+        assertSame(secondReplicaConnection, routingDataSource.getConnection());
+        assertSame(firstReplicaConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    public void writeTransaction_ShouldBeRoutedToPrimary() throws SQLException {
+        assertSame(primaryConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    public void readAfterCommittedWrite_ShouldBeRoutedToPrimary() throws SQLException {
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(primaryConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    public void readAfterRolledBackWrite_ShouldBeRoutedToReplica() throws SQLException {
+        assertSame(primaryConnection, routingDataSource.getConnection());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(firstReplicaConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    public void readAfterWriteOfOtherUser_ShouldBeRoutedToReplica() throws SQLException {
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        User otherUser = new User();
+        otherUser.setId(5L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(otherUser, null, Collections.emptyList()));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(firstReplicaConnection, routingDataSource.getConnection());
+    }
+
+    private static DataSource dataSourceOf(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.demo.unit.controller;
 import com.example.demo.controller.CommentController;
 import com.example.demo.entity.User;
 import com.example.demo.facade.impl.CommentFacade;
+import com.google.protobuf.FieldMask;
 import org.junit.jupiter.api.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
@@ -10,11 +11,18 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -22,7 +30,9 @@ import static com.example.demo.dto.CommentProto.CommentDto;
 import static com.example.demo.dto.CommentProto.CommentSimpleDto;
 import static com.example.demo.dto.CommentProto.CommentSimpleDtoList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -41,8 +51,8 @@ public class CommentControllerTest {
 
     @Test
     public void getAllComment_ShouldReturnComment() {
-        when(commentFacade.findAll()).thenReturn(CommentSimpleDtoList.getDefaultInstance());
-        ResponseEntity<CommentSimpleDtoList> responseEntity = commentController.findAllComment();
+        when(commentFacade.findAll(FieldMask.getDefaultInstance())).thenReturn(CommentSimpleDtoList.getDefaultInstance());
+        ResponseEntity<CommentSimpleDtoList> responseEntity = commentController.findAllComment(FieldMask.getDefaultInstance());
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertTrue(Objects.requireNonNull(responseEntity.getBody()).isInitialized());
     }
@@ -50,26 +60,27 @@ public class CommentControllerTest {
     @Test
     public void getCommentById_ShouldReturnCommentById() {
         Long id = 1L;
-        when(commentFacade.findById(eq(id))).thenReturn(Optional.ofNullable(CommentDto.getDefaultInstance()));
-        ResponseEntity<CommentDto> responseEntity = commentController.findCommentById(id);
+        when(commentFacade.findVersion(eq(id))).thenReturn(Optional.of(3L));
+        when(commentFacade.findById(eq(id), eq(FieldMask.getDefaultInstance()))).thenReturn(Optional.ofNullable(CommentDto.getDefaultInstance()));
+        ResponseEntity<CommentDto> responseEntity = commentController.findCommentById(id, FieldMask.getDefaultInstance(), webRequest(null));
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertTrue(Objects.requireNonNull(responseEntity.getBody()).isInitialized());
     }
 
     @Test
-    public void getCommentByText_ShouldReturnCommentBy() {
+    public void getCommentByText_ShouldReturnCommentBy() throws InterruptedException {
         String text = "str";
-        when(commentFacade.findByText(eq(text))).thenReturn(CommentSimpleDtoList.getDefaultInstance());
-        ResponseEntity<CommentSimpleDtoList> responseEntity = commentController.findCommentByText(text);
+        when(commentFacade.findByText(eq(text), eq(FieldMask.getDefaultInstance()))).thenReturn(CommentSimpleDtoList.getDefaultInstance());
+        ResponseEntity<CommentSimpleDtoList> responseEntity = resultOf(commentController.findCommentByText(text, FieldMask.getDefaultInstance()));
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertTrue(Objects.requireNonNull(responseEntity.getBody()).isInitialized());
     }
 
     @Test
-    public void getCommentByTextContains_ShouldReturnComment() {
+    public void getCommentByTextContains_ShouldReturnComment() throws InterruptedException {
         String text = "str";
-        when(commentFacade.findByTextContains(eq(text))).thenReturn(CommentSimpleDtoList.getDefaultInstance());
-        ResponseEntity<CommentSimpleDtoList> responseEntity = commentController.findCommentByTextLike(text);
+        when(commentFacade.findByTextContains(eq(text), eq(FieldMask.getDefaultInstance()))).thenReturn(CommentSimpleDtoList.getDefaultInstance());
+        ResponseEntity<CommentSimpleDtoList> responseEntity = resultOf(commentController.findCommentByTextLike(text, FieldMask.getDefaultInstance()));
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertTrue(Objects.requireNonNull(responseEntity.getBody()).isInitialized());
     }
@@ -77,8 +88,8 @@ public class CommentControllerTest {
     @Test
     public void getById_ShouldReturnNotFound() {
         Long id = -1L;
-        when(commentFacade.findById(eq(id))).thenReturn(Optional.empty());
-        ResponseEntity<CommentDto> responseEntity = commentController.findCommentById(id);
+        when(commentFacade.findById(eq(id), eq(FieldMask.getDefaultInstance()))).thenReturn(Optional.empty());
+        ResponseEntity<CommentDto> responseEntity = commentController.findCommentById(id, FieldMask.getDefaultInstance(), webRequest(null));
         assertEquals(responseEntity.getStatusCode(), HttpStatus.NOT_FOUND);
     }
 
@@ -100,11 +111,33 @@ public class CommentControllerTest {
 
         CommentSimpleDto commentDto = CommentSimpleDto.getDefaultInstance();
 
-        ResponseEntity<Void> responseEntity = commentController.updateComment(id, commentDto, user);
-        Mockito.verify(commentFacade, times(1)).update(id, commentDto, user);
+        ResponseEntity<Void> responseEntity = commentController.updateComment(id, commentDto, user, null);
+        Mockito.verify(commentFacade, times(1)).update(id, commentDto, user, null);
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
     }
 
+    @Test
+    public void streamComments_ShouldReturnStreamOfFacade() {
+        Long newsId = 1L;
+        SseEmitter emitter = new SseEmitter();
+        when(commentFacade.subscribe(eq(newsId), eq(5L))).thenReturn(emitter);
+
+        ResponseEntity<SseEmitter> responseEntity = commentController.streamCommentsByNewsId(newsId, 5L);
+        assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
+        assertEquals(emitter, responseEntity.getBody());
+    }
+
+    @Test
+    public void waitForComments_ShouldReturnDeferredResultOfFacade() {
+        Long newsId = 1L;
+        Duration wait = Duration.ofSeconds(30);
+        DeferredResult<CommentSimpleDtoList> result = new DeferredResult<>();
+        when(commentFacade.waitForNewerByNewsId(eq(newsId), eq(5L), eq(10), eq(wait), any())).thenReturn(result);
+
+        assertSame(result, commentController.waitForCommentByNewsId(newsId, 5L, 10, wait,
+                FieldMask.getDefaultInstance()));
+    }
+
     @Test
     public void deleteComment_ShouldReturnOk() {
         Long id = 1L;
@@ -113,4 +146,22 @@ public class CommentControllerTest {
         Mockito.verify(commentFacade, times(1)).deleteById(id, user);
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
     }
-}
\ No newline at end of file
+
+    private static ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    //Searches are completed by search pool
+    @SuppressWarnings("unchecked")
+    private static <T> T resultOf(DeferredResult<T> result) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!result.hasResult() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return (T) result.getResult();
+    }
+}
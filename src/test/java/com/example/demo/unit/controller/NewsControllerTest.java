@@ -3,6 +3,8 @@ package com.example.demo.unit.controller;
 import com.example.demo.controller.NewsController;
 import com.example.demo.entity.User;
 import com.example.demo.facade.impl.NewsFacade;
+import com.example.demo.repo.projection.NewsVersion;
+import com.google.protobuf.FieldMask;
 import org.junit.jupiter.api.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
@@ -10,11 +12,18 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -25,6 +34,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
@@ -41,8 +51,8 @@ public class NewsControllerTest {
 
     @Test
     public void getAllNews_ShouldReturnNews() {
-        when(newsFacade.findAll()).thenReturn(NewsSimpleDtoList.getDefaultInstance());
-        ResponseEntity<NewsSimpleDtoList> responseEntity = newsController.findAllNews();
+        when(newsFacade.findAll(FieldMask.getDefaultInstance())).thenReturn(NewsSimpleDtoList.getDefaultInstance());
+        ResponseEntity<NewsSimpleDtoList> responseEntity = newsController.findAllNews(FieldMask.getDefaultInstance());
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertTrue(Objects.requireNonNull(responseEntity.getBody()).isInitialized());
     }
@@ -50,44 +60,66 @@ public class NewsControllerTest {
     @Test
     public void getNewsById_ShouldReturnNewsById() {
         Long id = 1L;
-        when(newsFacade.findById(eq(id))).thenReturn(Optional.ofNullable(NewsDto.getDefaultInstance()));
-        ResponseEntity<NewsDto> responseEntity = newsController.findNewsById(id);
+        NewsVersion version = version(1L, 3L);
+        when(newsFacade.findVersion(eq(id))).thenReturn(Optional.of(version));
+        when(newsFacade.findById(eq(id), eq(FieldMask.getDefaultInstance()))).thenReturn(Optional.ofNullable(NewsDto.getDefaultInstance()));
+        ResponseEntity<NewsDto> responseEntity = newsController.findNewsById(id, FieldMask.getDefaultInstance(), webRequest(null));
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertTrue(Objects.requireNonNull(responseEntity.getBody()).isInitialized());
     }
 
     @Test
-    public void getNewsByTitle_ShouldReturnNews() {
+    public void getNewsByIdWithActualETag_ShouldReturnNotModified() {
+        Long id = 1L;
+        NewsVersion version = version(1L, 3L);
+        when(newsFacade.findVersion(eq(id))).thenReturn(Optional.of(version));
+        ResponseEntity<NewsDto> responseEntity = newsController.findNewsById(id, FieldMask.getDefaultInstance(), webRequest("\"1.3\""));
+        assertEquals(responseEntity.getStatusCode(), HttpStatus.NOT_MODIFIED);
+        Mockito.verify(newsFacade, never()).findById(eq(id), eq(FieldMask.getDefaultInstance()));
+    }
+
+    @Test
+    public void getNewsByIds_ShouldReturnNews() {
+        List<Long> ids = Arrays.asList(1L, 2L);
+        when(newsFacade.findByIds(eq(ids), eq(FieldMask.getDefaultInstance())))
+                .thenReturn(NewsSimpleDtoList.getDefaultInstance());
+        ResponseEntity<NewsSimpleDtoList> responseEntity = newsController.findNewsByIds(ids, FieldMask.getDefaultInstance());
+        assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
+        assertTrue(Objects.requireNonNull(responseEntity.getBody()).isInitialized());
+    }
+
+    @Test
+    public void getNewsByTitle_ShouldReturnNews() throws InterruptedException {
         String text = "str";
-        when(newsFacade.findByTitle(eq(text))).thenReturn(NewsSimpleDtoList.getDefaultInstance());
-        ResponseEntity<NewsSimpleDtoList> responseEntity = newsController.findNewsByTitle(text);
+        when(newsFacade.findByTitle(eq(text), eq(FieldMask.getDefaultInstance()))).thenReturn(NewsSimpleDtoList.getDefaultInstance());
+        ResponseEntity<NewsSimpleDtoList> responseEntity = resultOf(newsController.findNewsByTitle(text, FieldMask.getDefaultInstance()));
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertTrue(Objects.requireNonNull(responseEntity.getBody()).isInitialized());
     }
 
     @Test
-    public void getNewsByTitleContains_ShouldReturnNews() {
+    public void getNewsByTitleContains_ShouldReturnNews() throws InterruptedException {
         String text = "str";
-        when(newsFacade.findByTitleContains(eq(text))).thenReturn(NewsSimpleDtoList.getDefaultInstance());
-        ResponseEntity<NewsSimpleDtoList> responseEntity = newsController.findNewsByTitleLike(text);
+        when(newsFacade.findByTitleContains(eq(text), eq(FieldMask.getDefaultInstance()))).thenReturn(NewsSimpleDtoList.getDefaultInstance());
+        ResponseEntity<NewsSimpleDtoList> responseEntity = resultOf(newsController.findNewsByTitleLike(text, FieldMask.getDefaultInstance()));
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertTrue(Objects.requireNonNull(responseEntity.getBody()).isInitialized());
     }
 
     @Test
-    public void getNewsByText_ShouldReturnNewsBy() {
+    public void getNewsByText_ShouldReturnNewsBy() throws InterruptedException {
         String text = "str";
-        when(newsFacade.findByText(eq(text))).thenReturn(NewsSimpleDtoList.getDefaultInstance());
-        ResponseEntity<NewsSimpleDtoList> responseEntity = newsController.findNewsByText(text);
+        when(newsFacade.findByText(eq(text), eq(FieldMask.getDefaultInstance()))).thenReturn(NewsSimpleDtoList.getDefaultInstance());
+        ResponseEntity<NewsSimpleDtoList> responseEntity = resultOf(newsController.findNewsByText(text, FieldMask.getDefaultInstance()));
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertTrue(Objects.requireNonNull(responseEntity.getBody()).isInitialized());
     }
 
     @Test
-    public void getNewsByTextContains_ShouldReturnNews() {
+    public void getNewsByTextContains_ShouldReturnNews() throws InterruptedException {
         String text = "str";
-        when(newsFacade.findByTextContains(eq(text))).thenReturn(NewsSimpleDtoList.getDefaultInstance());
-        ResponseEntity<NewsSimpleDtoList> responseEntity = newsController.findNewsByTextLike(text);
+        when(newsFacade.findByTextContains(eq(text), eq(FieldMask.getDefaultInstance()))).thenReturn(NewsSimpleDtoList.getDefaultInstance());
+        ResponseEntity<NewsSimpleDtoList> responseEntity = resultOf(newsController.findNewsByTextLike(text, FieldMask.getDefaultInstance()));
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertTrue(Objects.requireNonNull(responseEntity.getBody()).isInitialized());
     }
@@ -95,8 +127,8 @@ public class NewsControllerTest {
     @Test
     public void getById_ShouldReturnNotFound() {
         Long id = -1L;
-        when(newsFacade.findById(eq(id))).thenReturn(Optional.empty());
-        ResponseEntity<NewsDto> responseEntity = newsController.findNewsById(id);
+        when(newsFacade.findById(eq(id), eq(FieldMask.getDefaultInstance()))).thenReturn(Optional.empty());
+        ResponseEntity<NewsDto> responseEntity = newsController.findNewsById(id, FieldMask.getDefaultInstance(), webRequest(null));
         assertEquals(responseEntity.getStatusCode(), HttpStatus.NOT_FOUND);
     }
 
@@ -118,8 +150,20 @@ public class NewsControllerTest {
 
         NewsSimpleDto newsDto = NewsSimpleDto.getDefaultInstance();
 
-        ResponseEntity<Void> responseEntity = newsController.updateNews(id, newsDto, user);
-        Mockito.verify(newsFacade, times(1)).update(id, newsDto, user);
+        ResponseEntity<Void> responseEntity = newsController.updateNews(id, newsDto, user, null);
+        Mockito.verify(newsFacade, times(1)).update(id, newsDto, user, null);
+        assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
+    }
+
+    @Test
+    public void updateNewsWithIfMatch_ShouldPassExpectedVersion() {
+        Long id = 1L;
+        User user = mock(User.class);
+
+        NewsSimpleDto newsDto = NewsSimpleDto.getDefaultInstance();
+
+        ResponseEntity<Void> responseEntity = newsController.updateNews(id, newsDto, user, "\"3\"");
+        Mockito.verify(newsFacade, times(1)).update(id, newsDto, user, 3L);
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
     }
 
@@ -131,4 +175,29 @@ public class NewsControllerTest {
         Mockito.verify(newsFacade, times(1)).deleteById(id, user);
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
     }
-}
\ No newline at end of file
+
+    private static NewsVersion version(long editVersion, long version) {
+        NewsVersion newsVersion = mock(NewsVersion.class);
+        when(newsVersion.getEditVersion()).thenReturn(editVersion);
+        when(newsVersion.getVersion()).thenReturn(version);
+        return newsVersion;
+    }
+
+    private static ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    //Searches are completed by search pool
+    @SuppressWarnings("unchecked")
+    private static <T> T resultOf(DeferredResult<T> result) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!result.hasResult() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return (T) result.getResult();
+    }
+}
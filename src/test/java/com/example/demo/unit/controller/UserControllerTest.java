@@ -3,6 +3,7 @@ package com.example.demo.unit.controller;
 import com.example.demo.controller.UserController;
 import com.example.demo.entity.User;
 import com.example.demo.facade.impl.UserFacade;
+import com.google.protobuf.FieldMask;
 import org.junit.jupiter.api.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
@@ -41,8 +42,8 @@ public class UserControllerTest {
 
     @Test
     public void getAllUsers_ShouldReturnUsers() {
-        when(userFacade.findAll()).thenReturn(UserSimpleDtoList.getDefaultInstance());
-        ResponseEntity<UserSimpleDtoList> responseEntity = userController.findAllUser();
+        when(userFacade.findAll(FieldMask.getDefaultInstance())).thenReturn(UserSimpleDtoList.getDefaultInstance());
+        ResponseEntity<UserSimpleDtoList> responseEntity = userController.findAllUser(FieldMask.getDefaultInstance());
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertTrue(Objects.requireNonNull(responseEntity.getBody()).isInitialized());
     }
@@ -50,8 +51,8 @@ public class UserControllerTest {
     @Test
     public void getUserById_ShouldReturnUserById() {
         Long id = 1L;
-        when(userFacade.findById(eq(id))).thenReturn(Optional.ofNullable(UserDto.getDefaultInstance()));
-        ResponseEntity<UserDto> responseEntity = userController.findUserById(id);
+        when(userFacade.findById(eq(id), eq(FieldMask.getDefaultInstance()))).thenReturn(Optional.ofNullable(UserDto.getDefaultInstance()));
+        ResponseEntity<UserDto> responseEntity = userController.findUserById(id, FieldMask.getDefaultInstance());
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertTrue(Objects.requireNonNull(responseEntity.getBody()).isInitialized());
     }
@@ -59,8 +60,8 @@ public class UserControllerTest {
     @Test
     public void getById_ShouldReturnNotFound() {
         Long id = -1L;
-        when(userFacade.findById(eq(id))).thenReturn(Optional.empty());
-        ResponseEntity<UserDto> responseEntity = userController.findUserById(id);
+        when(userFacade.findById(eq(id), eq(FieldMask.getDefaultInstance()))).thenReturn(Optional.empty());
+        ResponseEntity<UserDto> responseEntity = userController.findUserById(id, FieldMask.getDefaultInstance());
         assertEquals(responseEntity.getStatusCode(), HttpStatus.NOT_FOUND);
     }
 
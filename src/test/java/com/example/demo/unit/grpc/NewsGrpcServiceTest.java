@@ -0,0 +1,80 @@
+package com.example.demo.unit.grpc;
+
+import com.example.demo.facade.NewsCrudFacade;
+import com.example.demo.grpc.NewsGrpcService;
+import com.example.demo.util.Cursor;
+import com.google.protobuf.FieldMask;
+import io.grpc.stub.ServerCallStreamObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.example.demo.dto.NewsProto.NewsSimpleDto;
+import static com.example.demo.dto.NewsProto.NewsSimpleDtoList;
+import static com.example.demo.dto.RpcProto.ListRequest;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class NewsGrpcServiceTest {
+    private final NewsCrudFacade newsFacade = mock(NewsCrudFacade.class);
+
+    @SuppressWarnings("unchecked")
+    private final ServerCallStreamObserver<NewsSimpleDto> observer = mock(ServerCallStreamObserver.class);
+
+    private final AtomicBoolean ready = new AtomicBoolean(true);
+
+    private Runnable onReady;
+
+    @BeforeEach
+    public void setUp() {
+        when(newsFacade.findAll(eq(0), anyInt(), any(FieldMask.class))).thenReturn(page(Cursor.MAX_PAGE_SIZE));
+        when(newsFacade.findAll(eq(1), anyInt(), any(FieldMask.class))).thenReturn(page(1));
+        when(observer.isReady()).thenAnswer(invocation -> ready.get());
+
+        new NewsGrpcService(newsFacade).listNews(ListRequest.getDefaultInstance(), observer);
+        ArgumentCaptor<Runnable> handler = ArgumentCaptor.forClass(Runnable.class);
+        verify(observer).setOnReadyHandler(handler.capture());
+        onReady = handler.getValue();
+    }
+
+    @Test
+    public void listNews_ShouldReadNextPageOnlyWhenClientIsReady() {
+        ready.set(false);
+        onReady.run();
+        verify(newsFacade, never()).findAll(anyInt(), anyInt(), any(FieldMask.class));
+
+        ready.set(true);
+        onReady.run();
+
+        verify(observer, times(Cursor.MAX_PAGE_SIZE + 1)).onNext(any(NewsSimpleDto.class));
+        verify(newsFacade).findAll(eq(1), anyInt(), any(FieldMask.class));
+        verify(observer).onCompleted();
+    }
+
+    @Test
+    public void listNews_ShouldStopSendingWhenClientIsNotReady() {
+        when(observer.isReady()).thenReturn(true, true, true, false);
+
+        onReady.run();
+
+        verify(observer, times(2)).onNext(any(NewsSimpleDto.class));
+        verify(newsFacade, never()).findAll(eq(1), anyInt(), any(FieldMask.class));
+        verify(observer, never()).onCompleted();
+    }
+
+    private static NewsSimpleDtoList page(int size) {
+        NewsSimpleDtoList.Builder builder = NewsSimpleDtoList.newBuilder();
+        for (int i = 0; i < size; i++) {
+            builder.addNewsDto(NewsSimpleDto.newBuilder().setId(i + 1));
+        }
+        return builder.build();
+    }
+}
@@ -1,10 +1,15 @@
 package com.example.demo.unit.service;
 
 import com.example.demo.entity.Comment;
-import com.example.demo.exception.comment.CommentNotFoundException;
+import com.example.demo.entity.News;
+import com.example.demo.entity.User;
 import com.example.demo.exception.request.BadRequestParametersException;
 import com.example.demo.repo.CommentRepo;
+import com.example.demo.repo.NewsRepo;
+import com.example.demo.repo.UserRepo;
+import com.example.demo.repo.projection.CommentHeadline;
 import com.example.demo.service.impl.CommentService;
+import com.example.demo.service.impl.NewsChangeService;
 import org.junit.jupiter.api.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -18,8 +23,12 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -34,6 +43,15 @@ public class CommentServiceTest {
     @MockBean
     private CommentRepo commentRepo;
 
+    @MockBean
+    private NewsRepo newsRepo;
+
+    @MockBean
+    private UserRepo userRepo;
+
+    @MockBean
+    private NewsChangeService newsChangeService;
+
     @Test
     public void findAllComment_ShouldReturnComment() {
         List<Comment> mockedList = mock(List.class);
@@ -65,9 +83,17 @@ public class CommentServiceTest {
 
     @Test
     public void createComment_Ok() {
+        User user = new User();
+        user.setId(6L);
+        News news = new News();
+        news.setId(1L);
         Comment commentMock = new Comment();
+        commentMock.setUser(user);
+        commentMock.setNews(news);
         commentComment.save(commentMock);
-        verify(commentRepo, times(1)).save(eq(commentMock));
+        verify(commentRepo, times(1)).saveAndFlush(eq(commentMock));
+        verify(userRepo, times(1)).addCommentCount(eq(6L), eq(1L));
+        verify(newsRepo, times(1)).addCommentCount(eq(1L), eq(1L));
     }
 
     @Test
@@ -76,20 +102,20 @@ public class CommentServiceTest {
         Comment comment = mock(Comment.class);
 
         when(comment.getId()).thenReturn(id);
-        when(commentRepo.existsById(eq(id))).thenReturn(true);
+        when(commentRepo.updateOwned(eq(id), any(), eq(4L), eq(false), anyLong(), anyBoolean())).thenReturn(1);
 
-        commentComment.update(id, comment);
-        verify(commentRepo, times(1)).save(eq(comment));
+        assertEquals(1, commentComment.update(id, comment, 4L, false));
+        verify(commentRepo, times(1)).updateOwned(eq(id), any(), eq(4L), eq(false), anyLong(), anyBoolean());
     }
 
     @Test
-    public void updateNonExistComment_ShouldReturnCommentNotFoundException() {
+    public void updateNotOwnedComment_ShouldReturnZero() {
         Long id = 1L;
         Comment comment = mock(Comment.class);
         when(comment.getId()).thenReturn(id);
-        when(commentRepo.existsById(comment.getId())).thenReturn(false);
+        when(commentRepo.updateOwned(eq(id), any(), eq(4L), eq(false), anyLong(), anyBoolean())).thenReturn(0);
 
-        assertThrows(CommentNotFoundException.class, () -> commentComment.update(id, comment));
+        assertEquals(0, commentComment.update(id, comment, 4L, false));
     }
 
     @Test
@@ -99,21 +125,35 @@ public class CommentServiceTest {
         when(comment.getId()).thenReturn(id);
         when(commentRepo.findById(eq(id))).thenReturn(Optional.of(comment));
 
-        assertThrows(BadRequestParametersException.class, () -> commentComment.update(2L, comment));
+        assertThrows(BadRequestParametersException.class, () -> commentComment.update(2L, comment, 4L, false));
     }
 
     @Test
     public void deleteComment_Ok() {
         Long id = 1L;
-        when(commentRepo.existsById(eq(id))).thenReturn(true);
-        commentComment.deleteById(id);
-        verify(commentRepo, times(1)).deleteById(eq(id));
+        CommentHeadline comment = mock(CommentHeadline.class);
+        when(comment.getUserId()).thenReturn(6L);
+        when(comment.getNewsId()).thenReturn(2L);
+        when(commentRepo.deleteOwned(eq(id), eq(4L), eq(true))).thenReturn(Optional.of(comment));
+        assertEquals(1, commentComment.deleteById(id, 4L, true));
+        verify(commentRepo, times(1)).deleteOwned(eq(id), eq(4L), eq(true));
+        verify(userRepo, times(1)).addCommentCount(eq(6L), eq(-1L));
+        verify(newsRepo, times(1)).addCommentCount(eq(2L), eq(-1L));
+    }
+
+    @Test
+    public void deleteCommentOfOtherUser_ShouldNotChangeCounters() {
+        Long id = 1L;
+        when(commentRepo.deleteOwned(eq(id), eq(4L), eq(false))).thenReturn(Optional.empty());
+        assertEquals(0, commentComment.deleteById(id, 4L, false));
+        verify(userRepo, never()).addCommentCount(any(), anyLong());
+        verify(newsRepo, never()).addCommentCount(any(), anyLong());
     }
 
     @Test
-    public void deleteNonExistComment_ShouldReturnCommentNotFoundException() {
+    public void deleteNonExistComment_ShouldReturnZero() {
         Long id = 1L;
-        when(commentRepo.findById(eq(id))).thenReturn(Optional.empty());
-        assertThrows(CommentNotFoundException.class, () -> commentComment.deleteById(id));
+        when(commentRepo.deleteOwned(eq(id), eq(4L), eq(true))).thenReturn(Optional.empty());
+        assertEquals(0, commentComment.deleteById(id, 4L, true));
     }
 }
@@ -1,9 +1,11 @@
 package com.example.demo.unit.service;
 
 import com.example.demo.entity.News;
-import com.example.demo.exception.news.NewsNotFoundException;
+import com.example.demo.entity.User;
 import com.example.demo.exception.request.BadRequestParametersException;
 import com.example.demo.repo.NewsRepo;
+import com.example.demo.repo.UserRepo;
+import com.example.demo.service.impl.NewsChangeService;
 import com.example.demo.service.impl.NewsService;
 import org.junit.jupiter.api.Test;
 import org.junit.runner.RunWith;
@@ -18,6 +20,9 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -34,6 +39,12 @@ public class NewsServiceTest {
     @MockBean
     private NewsRepo newsRepo;
 
+    @MockBean
+    private UserRepo userRepo;
+
+    @MockBean
+    private NewsChangeService newsChangeService;
+
     @Test
     public void findAllNews_ShouldReturnNews() {
         List<News> mockedList = mock(List.class);
@@ -79,9 +90,13 @@ public class NewsServiceTest {
 
     @Test
     public void createNews_Ok() {
+        User user = new User();
+        user.setId(4L);
         News newsMock = new News();
+        newsMock.setUser(user);
         newsNews.save(newsMock);
         verify(newsRepo, times(1)).save(eq(newsMock));
+        verify(userRepo, times(1)).addNewsCount(eq(4L), eq(1L));
     }
 
     @Test
@@ -90,20 +105,20 @@ public class NewsServiceTest {
         News news = mock(News.class);
 
         when(news.getId()).thenReturn(id);
-        when(newsRepo.existsById(eq(id))).thenReturn(true);
+        when(newsRepo.updateOwned(eq(id), any(), any(), eq(4L), eq(false), anyLong(), anyBoolean())).thenReturn(1);
 
-        newsNews.update(id, news);
-        verify(newsRepo, times(1)).save(eq(news));
+        assertEquals(1, newsNews.update(id, news, 4L, false));
+        verify(newsRepo, times(1)).updateOwned(eq(id), any(), any(), eq(4L), eq(false), anyLong(), anyBoolean());
     }
 
     @Test
-    public void updateNonExistNews_ShouldReturnNewsNotFoundException() {
+    public void updateNotOwnedNews_ShouldReturnZero() {
         Long id = 1L;
         News news = mock(News.class);
         when(news.getId()).thenReturn(id);
-        when(newsRepo.existsById(news.getId())).thenReturn(false);
+        when(newsRepo.updateOwned(eq(id), any(), any(), eq(4L), eq(false), anyLong(), anyBoolean())).thenReturn(0);
 
-        assertThrows(NewsNotFoundException.class, () -> newsNews.update(id, news));
+        assertEquals(0, newsNews.update(id, news, 4L, false));
     }
 
     @Test
@@ -113,21 +128,23 @@ public class NewsServiceTest {
         when(news.getId()).thenReturn(id);
         when(newsRepo.findById(eq(id))).thenReturn(Optional.of(news));
 
-        assertThrows(BadRequestParametersException.class, () -> newsNews.update(2L, news));
+        assertThrows(BadRequestParametersException.class, () -> newsNews.update(2L, news, 4L, false));
     }
 
     @Test
     public void deleteNews_Ok() {
         Long id = 1L;
-        when(newsRepo.existsById(eq(id))).thenReturn(true);
-        newsNews.deleteById(id);
-        verify(newsRepo, times(1)).deleteById(eq(id));
+        when(newsRepo.deleteOwned(eq(id), eq(4L), eq(true))).thenReturn(Optional.of(5L));
+        assertEquals(1, newsNews.deleteById(id, 4L, true));
+        verify(newsRepo, times(1)).deleteOwned(eq(id), eq(4L), eq(true));
+        verify(userRepo, times(1)).subtractCommentsOfOwnedNews(eq(id), eq(4L), eq(true));
+        verify(userRepo, times(1)).addNewsCount(eq(5L), eq(-1L));
     }
 
     @Test
-    public void deleteNonExistNews_ShouldReturnNewsNotFoundException() {
+    public void deleteNonExistNews_ShouldReturnZero() {
         Long id = 1L;
-        when(newsRepo.findById(eq(id))).thenReturn(Optional.empty());
-        assertThrows(NewsNotFoundException.class, () -> newsNews.deleteById(id));
+        when(newsRepo.deleteOwned(eq(id), eq(4L), eq(true))).thenReturn(Optional.empty());
+        assertEquals(0, newsNews.deleteById(id, 4L, true));
     }
 }
@@ -5,6 +5,7 @@ import com.example.demo.exception.request.BadRequestParametersException;
 import com.example.demo.exception.user.UserNotFoundException;
 import com.example.demo.exception.user.UsernameReservedException;
 import com.example.demo.repo.UserRepo;
+import com.example.demo.service.impl.NewsChangeService;
 import com.example.demo.service.impl.UserService;
 import org.junit.jupiter.api.Test;
 import org.junit.runner.RunWith;
@@ -35,6 +36,9 @@ public class UserServiceTest {
     @MockBean
     private UserRepo userRepo;
 
+    @MockBean
+    private NewsChangeService newsChangeService;
+
     @Test
     public void findAllUsers_ShouldReturnUsers() {
         List<User> mockedList = mock(List.class);
@@ -118,15 +122,16 @@ public class UserServiceTest {
     @Test
     public void deleteUser_Ok() {
         Long id = 1L;
-        when(userRepo.existsById(eq(id))).thenReturn(true);
+        when(userRepo.removeById(eq(id))).thenReturn(1);
         userService.deleteById(id);
-        verify(userRepo, times(1)).deleteById(eq(id));
+        verify(userRepo, times(1)).subtractCommentsOnNewsOf(eq(id));
+        verify(userRepo, times(1)).removeById(eq(id));
     }
 
     @Test
     public void deleteNonExistUser_ShouldReturnUserNotFoundException() {
         Long id = 1L;
-        when(userRepo.findById(eq(id))).thenReturn(Optional.empty());
+        when(userRepo.removeById(eq(id))).thenReturn(0);
         assertThrows(UserNotFoundException.class, () -> userService.deleteById(id));
     }
 }
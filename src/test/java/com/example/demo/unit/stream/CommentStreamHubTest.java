@@ -0,0 +1,99 @@
+package com.example.demo.unit.stream;
+
+import com.example.demo.cache.CacheEvent;
+import com.example.demo.config.CommentStreamProperties;
+import com.example.demo.stream.CommentStreamHub;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.demo.dto.CommentProto.CommentSimpleDto;
+import static com.example.demo.dto.CommentProto.CommentSimpleDtoList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommentStreamHubTest {
+    private static final long TIMEOUT = 2;
+
+    private final CommentStreamProperties properties = new CommentStreamProperties();
+
+    private final BlockingQueue<Long> reads = new LinkedBlockingQueue<>();
+
+    private CommentStreamHub hub;
+
+    @BeforeEach
+    public void setUp() {
+        hub = new CommentStreamHub(properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        hub.destroy();
+    }
+
+    @Test
+    public void eventOfNews_ShouldReadCommentsAfterLastCommentOfSubscriber() throws InterruptedException {
+        hub.subscribe(1L, 5L, after -> {
+            reads.add(after);
+            return after == 5L ? Collections.singletonList(comment(6L)) : Collections.emptyList();
+        });
+        assertEquals(5L, reads.poll(TIMEOUT, TimeUnit.SECONDS));
+
+        hub.evict(Collections.singletonList(new CacheEvent(CacheEvent.Entity.NEWS, 1L, 10)));
+
+        assertEquals(6L, reads.poll(TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void eventOfOtherObject_ShouldNotReadComments() throws InterruptedException {
+        hub.subscribe(1L, 5L, after -> {
+            reads.add(after);
+            return Collections.emptyList();
+        });
+        assertEquals(5L, reads.poll(TIMEOUT, TimeUnit.SECONDS));
+
+        hub.evict(Arrays.asList(new CacheEvent(CacheEvent.Entity.NEWS, 2L, 10),
+                new CacheEvent(CacheEvent.Entity.COMMENT, 1L, 10)));
+
+        assertNull(reads.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void eventOfNews_ShouldCompleteWaitingRequest() throws InterruptedException {
+        CommentSimpleDtoList found = CommentSimpleDtoList.newBuilder().addCommentDto(comment(6L)).build();
+        AtomicInteger checks = new AtomicInteger();
+        DeferredResult<CommentSimpleDtoList> result = hub.await(1L, Duration.ofSeconds(30),
+                () -> checks.incrementAndGet() > 1 ? found : CommentSimpleDtoList.getDefaultInstance());
+        assertFalse(result.hasResult());
+
+        hub.evict(Collections.singletonList(new CacheEvent(CacheEvent.Entity.NEWS, 1L, 10)));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT);
+        while (!result.hasResult() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(result.hasResult());
+        assertSame(found, result.getResult());
+    }
+
+    private static CommentSimpleDto comment(Long id) {
+        return CommentSimpleDto.newBuilder()
+                .setId(id)
+                .setText("Comment " + id)
+                .setNewsId(1L)
+                .build();
+    }
+}
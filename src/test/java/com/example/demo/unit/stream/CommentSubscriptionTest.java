@@ -0,0 +1,137 @@
+package com.example.demo.unit.stream;
+
+import com.example.demo.config.CommentStreamProperties;
+import com.example.demo.stream.CommentSubscription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static com.example.demo.config.CommentStreamProperties.SlowConsumerPolicy;
+import static com.example.demo.dto.CommentProto.CommentSimpleDto;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommentSubscriptionTest {
+    private final RecordingEmitter emitter = new RecordingEmitter();
+
+    private final CommentStreamProperties properties = new CommentStreamProperties();
+
+    private final AtomicInteger overflows = new AtomicInteger();
+
+    private final AtomicInteger closes = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        properties.setBufferSize(2);
+    }
+
+    @Test
+    public void offer_ShouldSendCommentsInOrder() {
+        CommentSubscription subscription = subscription();
+        subscription.start(Collections.emptyList());
+
+        subscription.offer(comment(1L));
+        subscription.offer(comment(2L));
+
+        assertEquals(Arrays.asList("1", "2"), emitter.sentIds());
+    }
+
+    @Test
+    public void start_ShouldSendMissedCommentsOnlyOnce() {
+        CommentSubscription subscription = subscription();
+        subscription.offer(comment(2L));
+        subscription.offer(comment(3L));
+
+        subscription.start(Arrays.asList(comment(1L), comment(2L)));
+
+        assertEquals(Arrays.asList("1", "2", "3"), emitter.sentIds());
+    }
+
+    @Test
+    public void fullBufferWithDropPolicy_ShouldDropOldestComment() {
+        CommentSubscription subscription = subscription();
+        subscription.offer(comment(1L));
+        subscription.offer(comment(2L));
+        subscription.offer(comment(3L));
+
+        subscription.start(Collections.emptyList());
+
+        assertEquals(Arrays.asList("2", "3"), emitter.sentIds());
+        assertEquals(1, overflows.get());
+        assertFalse(subscription.isClosed());
+    }
+
+    @Test
+    public void fullBufferWithDisconnectPolicy_ShouldCloseSubscription() {
+        properties.setSlowConsumerPolicy(SlowConsumerPolicy.DISCONNECT);
+        CommentSubscription subscription = subscription();
+        subscription.offer(comment(1L));
+        subscription.offer(comment(2L));
+        subscription.offer(comment(3L));
+
+        subscription.start(Collections.emptyList());
+
+        assertTrue(emitter.sentIds().isEmpty());
+        assertEquals(1, overflows.get());
+        assertEquals(1, closes.get());
+        assertTrue(subscription.isClosed());
+    }
+
+    @Test
+    public void failedSend_ShouldCloseSubscription() {
+        CommentSubscription subscription = subscription();
+        subscription.start(Collections.emptyList());
+        emitter.failing = true;
+
+        subscription.offer(comment(1L));
+        subscription.offer(comment(2L));
+
+        assertTrue(subscription.isClosed());
+        assertEquals(1, closes.get());
+    }
+
+    private CommentSubscription subscription() {
+        return new CommentSubscription(emitter, properties, Runnable::run, overflows::incrementAndGet,
+                closed -> closes.incrementAndGet(), 0L);
+    }
+
+    private static CommentSimpleDto comment(Long id) {
+        return CommentSimpleDto.newBuilder()
+                .setId(id)
+                .setText("Comment " + id)
+                .setNewsId(1L)
+                .build();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            events.add(builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+
+        private List<String> sentIds() {
+            return events.stream()
+                    .filter(event -> event.startsWith("id:"))
+                    .map(event -> event.substring("id:".length(), event.indexOf('\n')))
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.demo.unit.stream;
+
+import com.example.demo.config.NewsPushProperties;
+import com.example.demo.facade.NewsCrudFacade;
+import com.example.demo.stream.NewsPushHub;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+
+import static com.example.demo.dto.NewsProto.NewsChanges;
+import static com.example.demo.dto.NewsProto.NewsSimpleDto;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class NewsPushHubTest {
+    private static final long TIMEOUT = 2000;
+
+    private final NewsCrudFacade newsFacade = mock(NewsCrudFacade.class);
+
+    private final NewsPushProperties properties = new NewsPushProperties();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final NewsChanges changes = NewsChanges.newBuilder()
+            .addUpdated(NewsSimpleDto.newBuilder().setId(1L).setTitle("title").build())
+            .setToken(7L)
+            .build();
+
+    private NewsPushHub hub;
+
+    @BeforeEach
+    public void setUp() {
+        properties.setBatchWindow(Duration.ofMillis(10));
+        properties.setPollInterval(Duration.ofHours(1));
+        when(newsFacade.findChangesToken()).thenReturn(5L);
+        when(newsFacade.findChanges(eq(5L), anyInt(), any())).thenReturn(changes);
+        hub = new NewsPushHub(newsFacade, properties, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        hub.destroy();
+    }
+
+    @Test
+    public void changes_ShouldBeSerializedOnceForAllSessions() throws IOException {
+        WebSocketSession first = session("1");
+        WebSocketSession second = session("2");
+        hub.register(first);
+        hub.register(second);
+        verify(newsFacade, timeout(TIMEOUT)).findChangesToken();
+
+        hub.evict(Collections.emptyList());
+
+        BinaryMessage firstMessage = sentMessage(first);
+        BinaryMessage secondMessage = sentMessage(second);
+        assertArrayEquals(changes.toByteArray(), firstMessage.getPayload().array());
+        assertSame(firstMessage.getPayload().array(), secondMessage.getPayload().array());
+        verify(newsFacade).findChanges(eq(5L), anyInt(), any());
+    }
+
+    @Test
+    public void withoutChanges_ShouldNotReadChanges() {
+        hub.register(session("1"));
+        verify(newsFacade, timeout(TIMEOUT)).findChangesToken();
+
+        verify(newsFacade, after(100).never()).findChanges(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    public void failedSend_ShouldCloseOnlyFailedSession() throws IOException {
+        WebSocketSession healthy = session("1");
+        WebSocketSession broken = session("2");
+        doThrow(new IOException("Broken pipe")).when(broken).sendMessage(any());
+        hub.register(healthy);
+        hub.register(broken);
+        verify(newsFacade, timeout(TIMEOUT)).findChangesToken();
+
+        hub.evict(Collections.emptyList());
+
+        verify(broken, timeout(TIMEOUT)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        sentMessage(healthy);
+        verify(healthy, never()).close(any());
+        assertEquals(1.0, meterRegistry.get("app.news.push.terminated").counter().count());
+        assertEquals(1.0, meterRegistry.get("app.news.push.sessions").gauge().value());
+    }
+
+    private static WebSocketSession session(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+
+    private static BinaryMessage sentMessage(WebSocketSession session) throws IOException {
+        ArgumentCaptor<BinaryMessage> captor = ArgumentCaptor.forClass(BinaryMessage.class);
+        verify(session, timeout(TIMEOUT)).sendMessage(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -12,4 +12,13 @@ values (1, '2010-04-22', 'Puppies are threat', 6, 1),
        (11, '2020-04-22', 'Puppies7 are threat', 6, 2),
        (12, '2019-04-22', 'I already know that...', 6, 1),
        (13, '2018-04-22', 'Boring!', 6, 3),
-       (14, '2017-04-22', 'Puppies are nice)))', 7, 4);
\ No newline at end of file
+       (14, '2017-04-22', 'Puppies are nice)))', 7, 4);
+
+update app_user
+set comment_count = (select count(*) from comment where comment.user_id = app_user.id);
+
+update news
+set comment_count = (select count(*) from comment where comment.news_id = news.id);
+
+--Ids of fixture are set explicitly, so ids of created comments are allocated above them
+alter sequence comment_id_seq restart with 1000;
@@ -1 +1,2 @@
-delete from news;
\ No newline at end of file
+delete from news_change;
+delete from news;
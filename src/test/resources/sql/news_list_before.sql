@@ -14,4 +14,7 @@ values (1, '1990-04-22', 'Puppies are threat', 'Puppies are the most dangerous t
        (13, '1990-04-22', 'Monitors are threat', 'Monitors are the most dangerous than soy Oracle', 5),
        (14, '1990-04-22', 'Puppies are threat', 'Puppies10 are the most dangerous than soy milk', 5),
        (15, '1990-04-22', 'Puppies11 are threat', 'Puppies11 are the most dangerous than soy milk', 5),
-       (16, '1990-04-22', 'Puppies12 are threat', 'Puppies12 are the most dangerous than soy milk', 5);
\ No newline at end of file
+       (16, '1990-04-22', 'Puppies12 are threat', 'Puppies12 are the most dangerous than soy milk', 5);
+
+update app_user
+set news_count = (select count(*) from news where news.user_id = app_user.id);